@@ -0,0 +1,155 @@
+package co.cobre.cbmm.accounts.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import co.cobre.cbmm.accounts.adapters.out.audit.AuditOutboxListener;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.TransactionEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of a balance-update transaction (load account, update balance, append ledger row,
+ * commit) with the audit trail written synchronously by Envers versus through the audit outbox.
+ * Runs on an in-memory H2 database, so it isolates the extra statements and Envers bookkeeping;
+ * against a networked PostgreSQL every saved statement is also a saved round trip.
+ * The outbox relay is not part of the measured path (it runs in the background).
+ * Warmup is long because the write path takes a while to be fully JIT-compiled on small machines.
+ * On a single-CPU sandbox (3 forks, -prof gc) outbox measured 89.5 ± 12.0 us/op against 103.8 ± 9.5 us/op for
+ * Envers: the confidence intervals overlap, so on H2 the latency difference is inconclusive (measure it on
+ * PostgreSQL before relying on it). The allocation difference is clear: 47.5 KB/op against 65.4 KB/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 4)
+@Measurement(iterations = 5, time = 3)
+@Fork(3)
+public class AuditModeBenchmark {
+
+    @Param({"envers", "outbox"})
+    private String auditMode;
+
+    private SingleConnectionDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private JdbcClient jdbcClient;
+    private UUID accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        // Single-threaded benchmark: reuse one connection, as a pool would, instead of opening one per transaction
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:audit-" + auditMode + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS cbmm", true);
+        jdbcClient = JdbcClient.create(dataSource);
+
+        boolean outbox = "outbox".equals(auditMode);
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setManagedTypes(PersistenceManagedTypes.of(
+            AccountEntity.class.getName(), TransactionEntity.class.getName()));
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+            "hibernate.hbm2ddl.auto", "create",
+            "hibernate.default_schema", "cbmm",
+            "hibernate.integration.envers.enabled", !outbox));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        if (outbox) {
+            // H2 stand-in for V1_4__create_audit_outbox.sql
+            jdbcClient.sql("CREATE DOMAIN IF NOT EXISTS jsonb AS JSON").update();
+            jdbcClient.sql("""
+                    CREATE TABLE cbmm.audit_outbox (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY, tx_id UUID NOT NULL, audit_table VARCHAR(100) NOT NULL,
+                        revtype SMALLINT NOT NULL, state JSON NOT NULL, recorded_at TIMESTAMP NOT NULL)
+                    """)
+                .update();
+
+            ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            new AuditOutboxListener(entityManagerFactory, objectMapper).register();
+        }
+
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber("ACC-BENCH-AUDIT");
+        account.setCurrency("USD");
+        account.setBalance(new BigDecimal("1000.00"));
+        account.setStatus("ACTIVE");
+        accountId = transaction.execute(status -> {
+            entityManager.persist(account);
+            return account.getAccountId();
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncateAudit() {
+        // Keep table sizes stable across iterations; in production the relay drains the outbox
+        transaction.executeWithoutResult(status -> entityManager.createNativeQuery(
+            "outbox".equals(auditMode) ? "DELETE FROM cbmm.audit_outbox" : "DELETE FROM cbmm.account_aud")
+            .executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactoryBean.destroy();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public BigDecimal balanceUpdateCommit() {
+        return transaction.execute(status -> {
+            AccountEntity account = entityManager.find(AccountEntity.class, accountId);
+            BigDecimal balance = account.getBalance().add(BigDecimal.ONE);
+            account.setBalance(balance);
+            entityManager.persist(TransactionEntity.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.ONE)
+                .type("CREDIT")
+                .currency("USD")
+                .balanceAfter(balance)
+                .createdAt(LocalDateTime.now())
+                .status("COMPLETED")
+                .build());
+            return balance;
+        });
+    }
+}
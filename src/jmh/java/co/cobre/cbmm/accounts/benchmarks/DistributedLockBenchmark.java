@@ -0,0 +1,72 @@
+package co.cobre.cbmm.accounts.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContextAdapter;
+import co.cobre.cbmm.accounts.adapters.out.lock.InJvmLockAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockObservationAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of {@link DistributedLockService#executeWithLock} itself (metrics, contention tracking, JFR event)
+ * with Redis replaced by the in-JVM lock adapter (a ReentrantLock per key), so the numbers exclude the network round trips.
+ * {@code accounts} controls contention: with 4 threads, 1 account means every call competes for the same lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class DistributedLockBenchmark {
+
+    @Param({"1", "1000"})
+    private int accounts;
+
+    private DistributedLockService distributedLockService;
+    private String[] accountNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        distributedLockService = new DistributedLockService(
+            new InJvmLockAdapter(),
+            new ErrorMetricsService(registry, 100, 50),
+            new LockObservationAdapter(new PipelineMetricsService(registry), new LockContentionMetricsService(100)),
+            new JfrEventContextAdapter());
+
+        accountNumbers = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountNumbers[i] = String.format("ACC-BENCH-%06d", i);
+        }
+    }
+
+    @Benchmark
+    public Integer executeWithLock() {
+        String accountNumber = accountNumbers[ThreadLocalRandom.current().nextInt(accountNumbers.length)];
+        return distributedLockService.executeWithLock(accountNumber, () -> 1);
+    }
+}
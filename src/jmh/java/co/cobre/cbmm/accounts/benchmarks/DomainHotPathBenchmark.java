@@ -0,0 +1,100 @@
+package co.cobre.cbmm.accounts.benchmarks;
+
+import co.cobre.cbmm.accounts.adapters.config.JacksonConfig;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.CBMMEventEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.mapper.CBMMEventMapper;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.domain.model.Account;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU and allocation cost of the per-event domain and adapter steps that do not touch I/O:
+ * Kafka payload deserialization with the application ObjectMapper ({@link JacksonConfig}),
+ * {@link CBMMEventMapper} conversions, the {@link Account} record operations used by the balance update,
+ * and {@link Currency#fromCode}. Run with {@code -prof gc} to track {@code gc.alloc.rate.norm} (bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainHotPathBenchmark {
+
+    private static final String EVENT_JSON = """
+        {
+          "event_id": "cbmm_20250909_000123",
+          "event_type": "cross_border_money_movement",
+          "operation_date": "2025-09-09T15:32:10Z",
+          "origin": {"account_id": "ACC123456789", "currency": "COP", "amount": 15000000.50},
+          "destination": {"account_id": "ACC987654321", "currency": "USD", "amount": 3750.25}
+        }
+        """;
+
+    private static final BigDecimal DEBIT = new BigDecimal("250.75");
+
+    private ObjectReader eventReader;
+    private CBMMEventMapper mapper;
+    private CBMMEventDTO event;
+    private CBMMEventEntity entity;
+    private Account account;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        eventReader = new JacksonConfig().objectMapper().readerFor(CBMMEventDTO.class);
+        mapper = new CBMMEventMapper();
+        event = eventReader.readValue(EVENT_JSON);
+        entity = mapper.toEntity(event, "PENDING");
+        account = new Account(UUID.randomUUID(), "ACC123456789", Currency.COP, new BigDecimal("50000000.00"),
+            AccountStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now(), 7);
+    }
+
+    @Benchmark
+    public CBMMEventDTO deserializeEvent() throws IOException {
+        return eventReader.readValue(EVENT_JSON);
+    }
+
+    @Benchmark
+    public CBMMEventEntity mapperToEntity() {
+        return mapper.toEntity(event, "PENDING");
+    }
+
+    @Benchmark
+    public CBMMEventDTO mapperToDTO() {
+        return mapper.toDTO(entity);
+    }
+
+    @Benchmark
+    public Account accountWithBalance() {
+        return account.withBalance(account.balance().subtract(DEBIT));
+    }
+
+    @Benchmark
+    public boolean accountHasSufficientBalance() {
+        return account.hasSufficientBalance(DEBIT);
+    }
+
+    @Benchmark
+    public Currency currencyFromCode() {
+        return Currency.fromCode("cop");
+    }
+}
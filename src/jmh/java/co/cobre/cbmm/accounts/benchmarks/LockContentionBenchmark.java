@@ -0,0 +1,301 @@
+package co.cobre.cbmm.accounts.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import co.cobre.cbmm.accounts.adapters.config.RetryMetricsListener;
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContextAdapter;
+import co.cobre.cbmm.accounts.adapters.out.lock.AccountRowLockAdapter;
+import co.cobre.cbmm.accounts.adapters.out.lock.InJvmLockAdapter;
+import co.cobre.cbmm.accounts.adapters.out.lock.LeasedRedissonLockAdapter;
+import co.cobre.cbmm.accounts.adapters.out.lock.RedissonLockAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockObservationAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.persistence.AccountRepositoryAdapter;
+import co.cobre.cbmm.accounts.adapters.out.persistence.CBMMEventLegRepositoryAdapter;
+import co.cobre.cbmm.accounts.adapters.out.persistence.TransactionRepositoryAdapter;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.CBMMEventLegEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.TransactionEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.CBMMEventLegJpaRepository;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.TransactionJpaRepository;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO.AccountOperationDTO;
+import co.cobre.cbmm.accounts.application.service.AccountBalanceUpdateService;
+import co.cobre.cbmm.accounts.application.service.AsyncAccountProcessingService;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hot-account contention: every thread debits one of {@code accounts} accounts through the real
+ * {@link AsyncAccountProcessingService} write path, with the lock backend chosen by {@code strategy}
+ * (the lock.provider values) and {@link AccountBalanceUpdateService} wrapped like its Spring proxy: the
+ * production retry policy (optimistic-locking retries, 5 attempts, 100ms x2 backoff up to 1s, recorded by
+ * {@link RetryMetricsListener}) around one transaction per attempt. jvm/redis locks are acquired before the
+ * transaction starts and released after it commits; row locks are taken inside it.
+ * Runs on an in-memory H2 database with a connection pool, so row locks and @Version checks are real.
+ * The aux counters report completed events, lock timeouts, optimistic retries and failures per second;
+ * SampleTime gives the latency distribution, and each trial prints the retry counters and lock-wait percentiles.
+ * {@code redis} and {@code redis-lease} need a server: {@code -p strategy=redis,redis-lease -jvmArgsAppend -Dbench.redis.address=redis://localhost:6379}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class LockContentionBenchmark {
+
+    private static final String ACCOUNT_NUMBER_FORMAT = "ACC-HOT-%03d";
+    private static final int THREADS = 8;
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Param({"jvm", "row"})
+    private String strategy;
+
+    @Param({"1", "4"})
+    private int accounts;
+
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private RedissonClient redissonClient;
+    private SimpleMeterRegistry registry;
+    private PipelineMetricsService pipelineMetricsService;
+    private AsyncAccountProcessingService processingService;
+    private ExecutorService virtualThreadExecutor;
+    private String[] accountNumbers;
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final Map<String, AtomicInteger> attemptsByEvent = new ConcurrentHashMap<>();
+
+    /**
+     * Outcome counters, reported by JMH as rates next to the primary score
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long completed;
+        public long lockTimeouts;
+        public long optimisticRetries;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            completed = 0;
+            lockTimeouts = 0;
+            optimisticRetries = 0;
+            failed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.ERROR);
+
+        dataSource = new HikariDataSource();
+        // LOCK_TIMEOUT matches the 5s lock wait of DistributedLockService
+        dataSource.setJdbcUrl("jdbc:h2:mem:contention-" + strategy + "-" + accounts
+            + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=5000;INIT=CREATE SCHEMA IF NOT EXISTS cbmm");
+        dataSource.setMaximumPoolSize(THREADS + 2);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setManagedTypes(PersistenceManagedTypes.of(
+            AccountEntity.class.getName(), TransactionEntity.class.getName(), CBMMEventLegEntity.class.getName()));
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+            "hibernate.hbm2ddl.auto", "create",
+            "hibernate.default_schema", "cbmm",
+            "hibernate.integration.envers.enabled", false));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        AccountJpaRepository accountJpaRepository = repositoryFactory.getRepository(AccountJpaRepository.class);
+        TransactionJpaRepository transactionJpaRepository = repositoryFactory.getRepository(TransactionJpaRepository.class);
+        CBMMEventLegJpaRepository eventLegJpaRepository = repositoryFactory.getRepository(CBMMEventLegJpaRepository.class);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        // Bind the JDBC connection too, so the row-lock adapter runs inside the JPA transaction
+        transactionManager.setDataSource(dataSource);
+
+        registry = new SimpleMeterRegistry();
+        ErrorMetricsService errorMetricsService = new ErrorMetricsService(registry, 100, 50);
+        pipelineMetricsService = new PipelineMetricsService(registry);
+        JfrEventContextAdapter eventContext = new JfrEventContextAdapter();
+        DistributedLockService distributedLockService = new DistributedLockService(
+            lockPort(), errorMetricsService,
+            new LockObservationAdapter(pipelineMetricsService, new LockContentionMetricsService(100)), eventContext);
+        AccountBalanceUpdateService balanceUpdates = new AccountBalanceUpdateService(
+            new AccountRepositoryAdapter(accountJpaRepository),
+            new TransactionRepositoryAdapter(transactionJpaRepository),
+            distributedLockService, errorMetricsService, pipelineMetricsService, eventContext,
+            new CBMMEventLegRepositoryAdapter(eventLegJpaRepository));
+
+        // Same advice chain as the Spring proxy: @Retryable (retry.optimistic-locking defaults) wraps @Transactional
+        RetryTemplate retryTemplate = RetryTemplate.builder()
+            .maxAttempts(MAX_ATTEMPTS)
+            .exponentialBackoff(100, 2.0, 1000)
+            .retryOn(ObjectOptimisticLockingFailureException.class)
+            .withListener(new RetryMetricsListener(errorMetricsService))
+            .build();
+        ProxyFactory proxyFactory = new ProxyFactory(balanceUpdates);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(RetryInterceptorBuilder.stateless().retryOperations(retryTemplate).build());
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            CBMMEventDTO event = (CBMMEventDTO) invocation.getArguments()[0];
+            attemptsByEvent.computeIfAbsent(event.eventId(), id -> new AtomicInteger()).incrementAndGet();
+            return invocation.proceed();
+        });
+
+        virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        processingService = new AsyncAccountProcessingService((AccountBalanceUpdateService) proxyFactory.getProxy(),
+            distributedLockService, virtualThreadExecutor);
+
+        accountNumbers = new String[accounts];
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < accounts; i++) {
+            accountNumbers[i] = String.format(ACCOUNT_NUMBER_FORMAT, i);
+            jdbcClient.sql("""
+                    INSERT INTO cbmm.account (account_id, account_number, currency, balance, status, created_at, updated_at, version)
+                    VALUES (?, ?, 'USD', 1000000000.00, 'ACTIVE', ?, ?, 0)
+                    """)
+                .params(UUID.randomUUID(), accountNumbers[i], now, now)
+                .update();
+        }
+    }
+
+    private DistributedLockPort lockPort() {
+        return switch (strategy) {
+            case "jvm" -> new InJvmLockAdapter();
+            case "row" -> new AccountRowLockAdapter(new JdbcTemplate(dataSource));
+            case "redis" -> new RedissonLockAdapter(redissonClient());
+            case "redis-lease" -> {
+                LeasedRedissonLockAdapter adapter = new LeasedRedissonLockAdapter(redissonClient(), registry,
+                    Duration.ofMillis(20), Duration.ofSeconds(1), Duration.ofMillis(10));
+                adapter.start();
+                yield adapter;
+            }
+            default -> throw new IllegalArgumentException("Unknown lock strategy: " + strategy);
+        };
+    }
+
+    private RedissonClient redissonClient() {
+        Config config = new Config();
+        config.useSingleServer().setAddress(System.getProperty("bench.redis.address", "redis://localhost:6379"));
+        redissonClient = Redisson.create(config);
+        return redissonClient;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        double retries = registry.find("cbmm.accounts.retries.total").tag("success", "false").counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
+        StringBuilder lockWait = new StringBuilder();
+        for (ValueAtPercentile percentile : pipelineMetricsService.getTimer(Stage.LOCK_WAIT).takeSnapshot().percentileValues()) {
+            lockWait.append(String.format(" p%.0f=%.2fms", percentile.percentile() * 100,
+                percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        System.out.printf("%n[%s, %d accounts] optimistic retries (RetryMetricsListener): %.0f, lock wait:%s%n",
+            strategy, accounts, retries, lockWait);
+        Counter leaseAcquisitions = registry.find("cbmm.accounts.lock.lease.acquisitions.total").counter();
+        if (leaseAcquisitions != null) {
+            System.out.printf("[%s, %d accounts] Redis lease acquisitions: %.0f for %.0f local grants%n", strategy,
+                accounts, leaseAcquisitions.count(), registry.get("cbmm.accounts.lock.lease.grants.total").counter().count());
+        }
+
+        virtualThreadExecutor.close();
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+        entityManagerFactoryBean.destroy();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void debitHotAccount(Outcomes outcomes) {
+        CBMMEventDTO event = debit(accountNumbers[ThreadLocalRandom.current().nextInt(accounts)]);
+        try {
+            processingService.processOriginAccountAsync(event).join();
+            outcomes.completed++;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IllegalStateException && e.getCause().getMessage().startsWith("Could not acquire lock")) {
+                outcomes.lockTimeouts++;
+            } else {
+                outcomes.failed++;
+            }
+        } finally {
+            AtomicInteger attempts = attemptsByEvent.remove(event.eventId());
+            if (attempts != null) {
+                outcomes.optimisticRetries += attempts.get() - 1;
+            }
+        }
+    }
+
+    private CBMMEventDTO debit(String accountNumber) {
+        return new CBMMEventDTO("cbmm_contention_" + eventSequence.incrementAndGet(), "cross_border_money_movement",
+            ZonedDateTime.now(), new AccountOperationDTO(accountNumber, "USD", BigDecimal.ONE),
+            new AccountOperationDTO("ACC-HOT-DESTINATION", "USD", BigDecimal.ONE));
+    }
+}
@@ -0,0 +1,191 @@
+package co.cobre.cbmm.accounts.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import co.cobre.cbmm.accounts.adapters.out.persistence.AccountRepositoryAdapter;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.TransactionEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.query.AccountQueryAdapter;
+import co.cobre.cbmm.accounts.adapters.out.persistence.query.TransactionQueryAdapter;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.TransactionJpaRepository;
+import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
+import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the entity-based read path (managed entity -> domain record -> DTO, inside a read-only
+ * transaction) against the JDBC projection adapters that map rows straight into DTOs.
+ * Runs on an in-memory H2 database so the numbers isolate mapping and persistence-context cost.
+ * Run with {@code -prof gc} to compare {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final String ACCOUNT_NUMBER = "ACC-BENCH-001";
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private TransactionTemplate readOnlyTransaction;
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+    private AccountJpaRepository accountJpaRepository;
+    private TransactionJpaRepository transactionJpaRepository;
+    private AccountQueryAdapter accountQueryAdapter;
+    private TransactionQueryAdapter transactionQueryAdapter;
+    private UUID accountId;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:read-path;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE;"
+            + "INIT=CREATE SCHEMA IF NOT EXISTS cbmm");
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setManagedTypes(PersistenceManagedTypes.of(
+            AccountEntity.class.getName(), TransactionEntity.class.getName()));
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+            "hibernate.hbm2ddl.auto", "create",
+            "hibernate.default_schema", "cbmm"));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        accountJpaRepository = repositoryFactory.getRepository(AccountJpaRepository.class);
+        transactionJpaRepository = repositoryFactory.getRepository(TransactionJpaRepository.class);
+
+        readOnlyTransaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        readOnlyTransaction.setReadOnly(true);
+
+        accountRepositoryAdapter = new AccountRepositoryAdapter(accountJpaRepository);
+
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        accountQueryAdapter = new AccountQueryAdapter(jdbcClient);
+        transactionQueryAdapter = new TransactionQueryAdapter(jdbcClient, new JdbcTemplate(dataSource));
+
+        accountId = UUID.randomUUID();
+        seed(jdbcClient);
+
+        pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Benchmark
+    public AccountDTO accountEntityPath() {
+        return readOnlyTransaction.execute(status -> accountRepositoryAdapter.findByAccountNumber(ACCOUNT_NUMBER)
+            .map(account -> new AccountDTO(
+                account.accountId(),
+                account.accountNumber(),
+                account.currency().getCode(),
+                account.balance(),
+                account.status().name(),
+                account.createdAt(),
+                account.updatedAt(),
+                account.version()))
+            .orElseThrow());
+    }
+
+    @Benchmark
+    public AccountDTO accountProjectionPath() {
+        return accountQueryAdapter.findAccountByNumber(ACCOUNT_NUMBER).orElseThrow();
+    }
+
+    /**
+     * The entity read the transaction page used to go through: account existence check, then a page of managed entities
+     */
+    @Benchmark
+    public Page<TransactionResponseDTO> transactionsEntityPath() {
+        return readOnlyTransaction.execute(status -> {
+            accountJpaRepository.findById(accountId).orElseThrow();
+            return transactionJpaRepository.findByAccountId(accountId, pageable)
+                .map(entity -> new TransactionResponseDTO(
+                    entity.getTransactionId(),
+                    entity.getAccountId(),
+                    entity.getAmount(),
+                    TransactionType.valueOf(entity.getType()),
+                    entity.getCurrency(),
+                    entity.getBalanceAfter(),
+                    entity.getCreatedAt(),
+                    TransactionStatus.valueOf(entity.getStatus())));
+        });
+    }
+
+    @Benchmark
+    public Page<TransactionResponseDTO> transactionsProjectionPath() {
+        return transactionQueryAdapter.findByAccountId(accountId, pageable);
+    }
+
+    private void seed(JdbcClient jdbcClient) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcClient.sql("""
+                INSERT INTO cbmm.account (account_id, account_number, currency, balance, status, created_at, updated_at, version)
+                VALUES (?, ?, 'USD', 1000.00, 'ACTIVE', ?, ?, 0)
+                """)
+            .params(accountId, ACCOUNT_NUMBER, now, now)
+            .update();
+
+        // Enough rows that every page size is full and the count query is always needed
+        BigDecimal balance = new BigDecimal("1000.00");
+        for (int i = 0; i < 500; i++) {
+            balance = balance.add(BigDecimal.TEN);
+            jdbcClient.sql("""
+                    INSERT INTO cbmm.transaction (transaction_id, account_id, amount, type, currency, balance_after, created_at, status)
+                    VALUES (?, ?, 10.00, 'CREDIT', 'USD', ?, ?, 'COMPLETED')
+                    """)
+                .params(UUID.randomUUID(), accountId, balance, now.minusSeconds(i))
+                .update();
+        }
+    }
+}
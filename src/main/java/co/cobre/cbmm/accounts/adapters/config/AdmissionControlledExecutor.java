@@ -0,0 +1,120 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Virtual-thread executor with semaphore-based admission control for database-bound tasks
+ * Every task gets its own virtual thread, but only {@code permits} of them run at a time; the rest
+ * park on the semaphore (cheap, no carrier thread held) instead of piling up on the connection pool,
+ * where they would time out. Tasks beyond {@code maxQueued} waiting ones are rejected up front.
+ * Tasks run on a virtual thread of their own, or on a given executor (not closed with this one).
+ */
+@Slf4j
+public class AdmissionControlledExecutor implements Executor, AutoCloseable {
+
+    private final Executor delegate;
+    private final boolean ownsDelegate;
+    private final Semaphore permits;
+    private final int maxQueued;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public AdmissionControlledExecutor(String name, int permits, int maxQueued, MeterRegistry meterRegistry) {
+        this(name, permits, maxQueued, meterRegistry, Executors.newVirtualThreadPerTaskExecutor(), true);
+    }
+
+    public AdmissionControlledExecutor(String name, int permits, int maxQueued, MeterRegistry meterRegistry,
+                                       Executor delegate) {
+        this(name, permits, maxQueued, meterRegistry, delegate, false);
+    }
+
+    private AdmissionControlledExecutor(String name, int permits, int maxQueued, MeterRegistry meterRegistry,
+                                        Executor delegate, boolean ownsDelegate) {
+        this.delegate = delegate;
+        this.ownsDelegate = ownsDelegate;
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be at least 1");
+        }
+        this.permits = new Semaphore(permits, true);
+        this.maxQueued = maxQueued;
+
+        this.waitTimer = Timer.builder("db.admission.wait")
+            .description("Time tasks wait for an admission permit")
+            .tag("executor", name)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("db.admission.rejected")
+            .description("Tasks rejected because the admission queue was full")
+            .tag("executor", name)
+            .register(meterRegistry);
+        Gauge.builder("db.admission.queued", queued, AtomicInteger::get)
+            .description("Tasks waiting for an admission permit")
+            .tag("executor", name)
+            .register(meterRegistry);
+        Gauge.builder("db.admission.in_flight", inFlight, AtomicInteger::get)
+            .description("Tasks currently admitted")
+            .tag("executor", name)
+            .register(meterRegistry);
+        Gauge.builder("db.admission.permits", this.permits, Semaphore::availablePermits)
+            .description("Admission permits currently available")
+            .tag("executor", name)
+            .register(meterRegistry);
+
+        log.info("Admission-controlled executor '{}' created: {} permits, max {} queued", name, permits, maxQueued);
+    }
+
+    /**
+     * @throws RejectedExecutionException when {@code maxQueued} tasks are already waiting
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Admission queue full (" + maxQueued + " tasks waiting)");
+        }
+
+        long enqueuedAt = System.nanoTime();
+        delegate.execute(() -> {
+            permits.acquireUninterruptibly();
+            queued.decrementAndGet();
+            inFlight.incrementAndGet();
+            waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        });
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void close() {
+        if (ownsDelegate && delegate instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+}
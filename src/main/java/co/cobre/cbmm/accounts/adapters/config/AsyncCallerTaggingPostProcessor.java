@@ -0,0 +1,63 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.scheduling.annotation.Async;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names the @Async method submitting a task, for the caller tag of {@link InstrumentedExecutor}
+ * Adds an advisor in front of the @Async interceptor of every proxy with @Async methods: it binds
+ * {@code Class.method} to the calling thread while the async interceptor submits the task, so the executor
+ * reads the caller from a thread local instead of walking the stack. Not ordered, so it runs after
+ * AsyncAnnotationBeanPostProcessor and the advisor it adds ends up outermost.
+ */
+public class AsyncCallerTaggingPostProcessor implements BeanPostProcessor {
+
+    private static final Pointcut ASYNC_METHODS = new ComposablePointcut(new AnnotationMatchingPointcut(Async.class, true))
+        .union(new AnnotationMatchingPointcut(null, Async.class, true));
+
+    private final Advisor advisor = new DefaultPointcutAdvisor(ASYNC_METHODS, new CallerInterceptor());
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof Advised advised && !advised.isFrozen()
+                && AopUtils.canApply(ASYNC_METHODS, AopUtils.getTargetClass(bean))) {
+            advised.addAdvisor(0, advisor);
+        }
+        return bean;
+    }
+
+    private static final class CallerInterceptor implements MethodInterceptor {
+
+        private final Map<Method, String> callers = new ConcurrentHashMap<>();
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            String caller = callers.computeIfAbsent(invocation.getMethod(),
+                method -> method.getDeclaringClass().getSimpleName() + "." + method.getName());
+            String previous = InstrumentedExecutor.ASYNC_CALLER.get();
+            InstrumentedExecutor.ASYNC_CALLER.set(caller);
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous == null) {
+                    InstrumentedExecutor.ASYNC_CALLER.remove();
+                } else {
+                    InstrumentedExecutor.ASYNC_CALLER.set(previous);
+                }
+            }
+        }
+    }
+}
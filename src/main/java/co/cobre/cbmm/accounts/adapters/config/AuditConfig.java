@@ -0,0 +1,22 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Audit trail mode
+ * - envers (default): Envers writes revinfo / *_aud synchronously inside every business transaction
+ * - outbox: Envers is switched off; a compact record goes to cbmm.audit_outbox in the same transaction
+ *   and AuditOutboxRelay ships it to the same audit tables in the background
+ */
+@Configuration
+@ConditionalOnProperty(name = "audit.mode", havingValue = "outbox")
+public class AuditConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer disableEnversCustomizer() {
+        return properties -> properties.put("hibernate.integration.envers.enabled", false);
+    }
+}
@@ -0,0 +1,41 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import co.cobre.cbmm.accounts.application.service.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit for CBMM event processing
+ * The limit follows measured latency and overload errors instead of a static setting,
+ * so it opens up off-peak and backs off before Postgres is overloaded at peak.
+ * Unless set, the max limit is derived from the connection pool size like the databaseTaskExecutor permits:
+ * an event holds at most {@code connectionsPerTask} connections at once, so more events in flight than
+ * database.pool.max-size / connections-per-task only queue on the pool.
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter eventProcessingLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.event-processing.initial-limit:10}") int initialLimit,
+            @Value("${concurrency-limit.event-processing.min-limit:1}") int minLimit,
+            @Value("${concurrency-limit.event-processing.max-limit:0}") int configuredMaxLimit,
+            @Value("${database.pool.max-size:20}") int maxPoolSize,
+            @Value("${database.admission.connections-per-task:2}") int connectionsPerTask,
+            @Value("${concurrency-limit.event-processing.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${concurrency-limit.event-processing.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${concurrency-limit.event-processing.max-wait:30s}") Duration maxWait) {
+        int maxLimit = configuredMaxLimit > 0
+            ? configuredMaxLimit
+            : Math.max(minLimit, maxPoolSize / connectionsPerTask);
+        return new AdaptiveConcurrencyLimiter("event-processing",
+            new AdaptiveConcurrencyLimiter.Settings(Math.min(initialLimit, maxLimit), minLimit, maxLimit,
+                backoffRatio, latencyTolerance, maxWait),
+            meterRegistry);
+    }
+}
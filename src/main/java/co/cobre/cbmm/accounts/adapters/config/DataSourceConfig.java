@@ -1,19 +1,23 @@
 package co.cobre.cbmm.accounts.adapters.config;
 
+import co.cobre.cbmm.accounts.adapters.out.metrics.jdbc.ProfilingHikariDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.context.annotation.Scope;
-
-import javax.sql.DataSource;
+import org.springframework.context.annotation.Profile;
 
 /**
  * Configuración de DataSource para la aplicación.
  * Esta configuración NO se aplica en el perfil 'test'.
  */
 @Configuration
+@Profile("!perf")
 public class DataSourceConfig {
 
     /** Nombre de la clase driver de la base de datos. */
@@ -32,19 +36,47 @@ public class DataSourceConfig {
     @Value("${database.password}")
     private String password;
 
+    /** Tamaño máximo del pool de conexiones (también dimensiona el control de admisión). */
+    @Value("${database.pool.max-size:20}")
+    private int maxPoolSize;
+
+    /** Conexiones idle mínimas del pool. */
+    @Value("${database.pool.min-idle:10}")
+    private int minIdle;
+
+    /** Tiempo máximo de espera (ms) para obtener una conexión del pool. */
+    @Value("${database.pool.connection-timeout:5000}")
+    private long connectionTimeout;
+
+    /** Conexiones instrumentadas para contar sentencias, filas y tiempo JDBC por operación (QueryProfiler). */
+    @Value("${jdbc.profiling.enabled:false}")
+    private boolean profilingEnabled;
+
     /**
-     * Bean principal de DataSource.
+     * Bean principal de DataSource: pool HikariCP con tamaño explícito e instrumentado con Micrometer
+     * (hikaricp.connections.acquire = tiempo de espera por conexión, hikaricp.connections.pending = hilos esperando).
+     * Con jdbc.profiling.enabled las conexiones se entregan envueltas por el perfilador JDBC.
      *
+     * @param meterRegistry registro de métricas, si está disponible.
      * @return El DataSource configurado para la aplicación.
      */
     @Bean
     @Primary
-    public DataSource dataSource() {
-        return DataSourceBuilder.create()
+    public HikariDataSource dataSource(ObjectProvider<MeterRegistry> meterRegistry) {
+        Class<? extends HikariDataSource> type = profilingEnabled ? ProfilingHikariDataSource.class : HikariDataSource.class;
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(type)
                 .driverClassName(driverClassName)
                 .url(url)
                 .username(username)
                 .password(password)
                 .build();
+        dataSource.setPoolName("ms-accounts-pool");
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        dataSource.setMinimumIdle(Math.min(minIdle, maxPoolSize));
+        dataSource.setConnectionTimeout(connectionTimeout);
+        meterRegistry.ifAvailable(registry ->
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return dataSource;
     }
 }
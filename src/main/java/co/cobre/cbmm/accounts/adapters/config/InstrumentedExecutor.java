@@ -0,0 +1,147 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.TagCardinalityLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor decorator that measures every task, tagged by executor and caller
+ * - cbmm.accounts.executor.submitted: tasks submitted (rate = submission rate)
+ * - cbmm.accounts.executor.in_flight: tasks submitted and not finished (queued + running)
+ * - cbmm.accounts.executor.queue.wait: time from submission until the task starts
+ * - cbmm.accounts.executor.task.duration: task run time (histogram)
+ * - cbmm.accounts.executor.rejected: tasks the delegate refused
+ * Workloads submitting directly name themselves through a {@link #tagged} view (account legs, Kafka dispatch,
+ * batch events). With caller tagging (executor.metrics.caller-tagging), tasks of @Async methods are tagged with
+ * the method (e.g. BalanceSnapshotService.backfillOnStartup), bound by {@link AsyncCallerTaggingPostProcessor}
+ * around the proxy call; any other direct submission is tagged {@code direct}.
+ */
+@Slf4j
+public class InstrumentedExecutor implements Executor, AutoCloseable {
+
+    private static final String UNKNOWN_CALLER = "unknown";
+    private static final String DIRECT_CALLER = "direct";
+
+    /** @Async method submitting on this thread, see {@link AsyncCallerTaggingPostProcessor} */
+    static final ThreadLocal<String> ASYNC_CALLER = new ThreadLocal<>();
+
+    private final String name;
+    private final Executor delegate;
+    private final MeterRegistry meterRegistry;
+    private final boolean callerTagging;
+    private final TagCardinalityLimiter callerTagLimiter;
+    private final Map<String, CallerMeters> metersByCaller = new ConcurrentHashMap<>();
+
+    public InstrumentedExecutor(String name, Executor delegate, MeterRegistry meterRegistry,
+                                boolean callerTagging, int maxCallers) {
+        this.name = name;
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.callerTagging = callerTagging;
+        this.callerTagLimiter = new TagCardinalityLimiter(maxCallers, maxCallers, meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        execute(metersFor(callerTagging ? currentCaller() : UNKNOWN_CALLER), task);
+    }
+
+    /**
+     * View of this executor whose tasks are all tagged with {@code caller}, whatever thread submits them
+     * Meant for the few named workloads sharing the executor, so the caller tags stay bounded.
+     */
+    public Executor tagged(String caller) {
+        CallerMeters meters = metersFor(caller);
+        return task -> execute(meters, task);
+    }
+
+    private void execute(CallerMeters meters, Runnable task) {
+        meters.submitted.increment();
+        meters.inFlight.incrementAndGet();
+
+        long submittedAt = System.nanoTime();
+        try {
+            delegate.execute(() -> {
+                long startedAt = System.nanoTime();
+                meters.queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    meters.duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    meters.inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            meters.inFlight.decrementAndGet();
+            meters.rejected.increment();
+            throw e;
+        }
+    }
+
+    public Executor getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        } else if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private CallerMeters metersFor(String caller) {
+        String tag = callerTagLimiter.limit("cbmm.accounts.executor", "caller", caller);
+        return metersByCaller.computeIfAbsent(tag, CallerMeters::new);
+    }
+
+    private static String currentCaller() {
+        String caller = ASYNC_CALLER.get();
+        return caller != null ? caller : DIRECT_CALLER;
+    }
+
+    private final class CallerMeters {
+        private final Counter submitted;
+        private final Counter rejected;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Timer queueWait;
+        private final Timer duration;
+
+        private CallerMeters(String caller) {
+            this.submitted = Counter.builder("cbmm.accounts.executor.submitted")
+                .description("Tasks submitted to the executor")
+                .tags("executor", name, "caller", caller)
+                .register(meterRegistry);
+            this.rejected = Counter.builder("cbmm.accounts.executor.rejected")
+                .description("Tasks rejected by the executor")
+                .tags("executor", name, "caller", caller)
+                .register(meterRegistry);
+            Gauge.builder("cbmm.accounts.executor.in_flight", inFlight, AtomicInteger::get)
+                .description("Tasks submitted and not yet finished")
+                .tags("executor", name, "caller", caller)
+                .register(meterRegistry);
+            this.queueWait = Timer.builder("cbmm.accounts.executor.queue.wait")
+                .description("Time from submission until the task starts running")
+                .tags("executor", name, "caller", caller)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+            this.duration = Timer.builder("cbmm.accounts.executor.task.duration")
+                .description("Task run time")
+                .tags("executor", name, "caller", caller)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrStatementListener;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks Hibernate's JDBC statement execution into JFR (co.cobre.cbmm.DbStatement events)
+ * The listener only allocates an event while a recording with the event enabled is running
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jfrStatementCustomizer() {
+        return properties -> {
+            properties.put("hibernate.session.events.auto", JfrStatementListener.class.getName());
+            properties.put("hibernate.session_factory.statement_inspector", new JfrStatementListener.SqlCapture());
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package co.cobre.cbmm.accounts.adapters.config;
 
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -54,7 +55,8 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+        KafkaPartitionOwnership partitionOwnership) {
         ConcurrentKafkaListenerContainerFactory<String, String> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
@@ -62,6 +64,9 @@ public class KafkaConsumerConfig {
         // Enable manual acknowledgment
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
 
+        // Tracks assigned partitions for key-affinity mode and drains their work before they are revoked
+        factory.getContainerProperties().setConsumerRebalanceListener(partitionOwnership);
+
         log.info("Kafka listener container factory configured with manual acknowledgment");
         return factory;
     }
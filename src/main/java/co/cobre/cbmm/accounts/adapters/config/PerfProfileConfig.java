@@ -0,0 +1,22 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import co.cobre.cbmm.accounts.adapters.out.inmemory.InMemoryTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Perf profile: every driven port is served by the in-memory adapters (adapters.out.inmemory) and locks by
+ * the in-JVM lock adapter, so the use-case layer runs without PostgreSQL, Redis or Kafka.
+ * The infrastructure auto-configurations are excluded in application-perf.yml.
+ */
+@Configuration
+@Profile("perf")
+public class PerfProfileConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+}
@@ -6,11 +6,13 @@ import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 /**
  * Redisson configuration for distributed locks
  */
 @Configuration
+@Profile("!perf")
 public class RedissonConfig {
 
     @Value("${spring.data.redis.host:localhost}")
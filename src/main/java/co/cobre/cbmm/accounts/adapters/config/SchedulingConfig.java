@@ -0,0 +1,12 @@
+package co.cobre.cbmm.accounts.adapters.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (e.g. end-of-day balance snapshots)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,13 +1,21 @@
 package co.cobre.cbmm.accounts.adapters.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration for Virtual Threads (Project Loom) and Retry Logic
@@ -19,27 +27,115 @@ import java.util.concurrent.Executors;
 @EnableRetry
 public class VirtualThreadConfig {
 
+    @Value("${executor.metrics.caller-tagging:true}")
+    private boolean callerTagging;
+
+    @Value("${executor.metrics.max-callers:50}")
+    private int maxCallers;
+
+    /**
+     * Binds the submitting @Async method for the caller tag of the instrumented executors
+     * Static so it is registered before the beans it post-processes.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "executor.metrics.caller-tagging", havingValue = "true", matchIfMissing = true)
+    public static AsyncCallerTaggingPostProcessor asyncCallerTaggingPostProcessor() {
+        return new AsyncCallerTaggingPostProcessor();
+    }
+
     /**
      * Executor that uses Virtual Threads for async operations
      * Virtual threads are lightweight and can handle millions of concurrent operations
      */
-    @Bean(name = "virtualThreadExecutor")
-    public Executor virtualThreadExecutor() {
-        return Executors.newVirtualThreadPerTaskExecutor();
+    @Bean(name = "virtualThreadExecutor", destroyMethod = "close")
+    public InstrumentedExecutor virtualThreadExecutor(MeterRegistry meterRegistry) {
+        return new InstrumentedExecutor("virtualThreadExecutor", Executors.newVirtualThreadPerTaskExecutor(),
+            meterRegistry, callerTagging, maxCallers);
+    }
+
+    /**
+     * virtualThreadExecutor view for the account legs of CBMM events (caller tag {@code account-leg}), behind the
+     * database admission shared by every event source (Kafka, sequential or parallel, and batch files)
+     * A leg is one transaction, so it takes one permit; the pool keeps database.admission.reserved-connections
+     * outside admission for the event persist/status transactions, REST requests and background jobs. Nothing
+     * holds a connection while its legs wait for a permit, so permits cannot deadlock. Legs are already bounded
+     * upstream (event concurrency limit, batch admission), so their queue is not.
+     */
+    @Bean(name = "accountLegExecutor", destroyMethod = "close")
+    public AdmissionControlledExecutor accountLegExecutor(
+            @Qualifier("virtualThreadExecutor") InstrumentedExecutor virtualThreadExecutor,
+            @Value("${database.pool.max-size:20}") int maxPoolSize,
+            @Value("${database.admission.reserved-connections:4}") int reservedConnections,
+            MeterRegistry meterRegistry) {
+        int permits = Math.max(1, maxPoolSize - reservedConnections);
+        return new AdmissionControlledExecutor("account-leg", permits, Integer.MAX_VALUE, meterRegistry,
+            virtualThreadExecutor.tagged("account-leg"));
+    }
+
+    /**
+     * virtualThreadExecutor view for records dispatched by the parallel Kafka consumer (caller tag {@code event-dispatch})
+     */
+    @Bean(name = "eventDispatchExecutor")
+    public Executor eventDispatchExecutor(@Qualifier("virtualThreadExecutor") InstrumentedExecutor virtualThreadExecutor) {
+        return virtualThreadExecutor.tagged("event-dispatch");
+    }
+
+    /**
+     * databaseTaskExecutor view for batch file events, measured like the other executors
+     * (executor=databaseTaskExecutor, caller tag {@code batch-event}); databaseTaskExecutor owns the threads
+     */
+    @Bean(name = "batchEventExecutor")
+    public Executor batchEventExecutor(@Qualifier("databaseTaskExecutor") AdmissionControlledExecutor databaseTaskExecutor,
+                                       MeterRegistry meterRegistry) {
+        return new InstrumentedExecutor("databaseTaskExecutor", databaseTaskExecutor, meterRegistry, callerTagging, maxCallers)
+            .tagged("batch-event");
+    }
+
+    /**
+     * Virtual-thread executor for batch file events
+     * Caps the batch events in flight from the connection pool size (database.pool.max-size, the same property
+     * that sizes the Hikari pool): an event holds at most {@code connectionsPerTask} connections at once (2: it
+     * is persisted in its own transaction, then its origin and destination legs run theirs concurrently). The
+     * legs themselves go through the admission of accountLegExecutor, shared with Kafka events.
+     */
+    @Bean(name = "databaseTaskExecutor", destroyMethod = "close")
+    public AdmissionControlledExecutor databaseTaskExecutor(
+            @Value("${database.pool.max-size:20}") int maxPoolSize,
+            MeterRegistry meterRegistry,
+            @Value("${database.admission.connections-per-task:2}") int connectionsPerTask,
+            @Value("${database.admission.max-queued:10000}") int maxQueued) {
+        int permits = Math.max(1, maxPoolSize / connectionsPerTask);
+        return new AdmissionControlledExecutor("database", permits, maxQueued, meterRegistry);
     }
 
     /**
      * Legacy thread pool executor (for comparison/fallback)
+     * Besides the per-task metrics, pool and queue saturation are exported (executor.pool.size,
+     * executor.active, executor.queued, executor.queue.remaining... tagged name=platformThreadExecutor)
      */
-    @Bean(name = "platformThreadExecutor")
-    public Executor platformThreadExecutor() {
+    @Bean(name = "platformThreadExecutor", destroyMethod = "close")
+    public InstrumentedExecutor platformThreadExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(50);
         executor.setQueueCapacity(500);
         executor.setThreadNamePrefix("platform-thread-");
         executor.initialize();
-        return executor;
+
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        new ExecutorServiceMetrics(pool, "platformThreadExecutor", List.of()).bindTo(meterRegistry);
+        Gauge.builder("cbmm.accounts.executor.pool.saturation", pool,
+                p -> (double) p.getActiveCount() / p.getMaximumPoolSize())
+            .description("Active threads / maximum pool size")
+            .tag("executor", "platformThreadExecutor")
+            .register(meterRegistry);
+        Gauge.builder("cbmm.accounts.executor.queue.saturation", pool,
+                p -> (double) p.getQueue().size() / (p.getQueue().size() + p.getQueue().remainingCapacity()))
+            .description("Queued tasks / queue capacity")
+            .tag("executor", "platformThreadExecutor")
+            .register(meterRegistry);
+
+        return new InstrumentedExecutor("platformThreadExecutor", executor, meterRegistry, callerTagging, maxCallers);
     }
 }
 
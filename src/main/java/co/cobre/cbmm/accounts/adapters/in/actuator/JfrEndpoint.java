@@ -0,0 +1,46 @@
+package co.cobre.cbmm.accounts.adapters.in.actuator;
+
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Continuous JFR recording control
+ * - GET  /actuator/jfr                         recording status
+ * - POST /actuator/jfr {"action": "start"}      start the low-overhead continuous recording
+ * - POST /actuator/jfr {"action": "dump"}       dump the buffered recording to a local .jfr file
+ * - POST /actuator/jfr {"action": "stop"}       stop and discard the recording
+ */
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return jfrRecordingService.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(String action) {
+        try {
+            return switch (action) {
+                case "start" -> jfrRecordingService.start();
+                case "dump" -> jfrRecordingService.dump();
+                case "stop" -> jfrRecordingService.stop();
+                default -> throw new InvalidEndpointRequestException(
+                    "Unknown action '" + action + "' (expected start, dump or stop)", "Unknown action");
+            };
+        } catch (IllegalStateException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+}
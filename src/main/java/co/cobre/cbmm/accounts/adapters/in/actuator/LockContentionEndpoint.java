@@ -0,0 +1,65 @@
+package co.cobre.cbmm.accounts.adapters.in.actuator;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService.AccountLockStats;
+import co.cobre.cbmm.accounts.adapters.out.metrics.SpaceSavingTopK;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hot accounts and distributed lock contention: GET /actuator/lockcontention?limit=20
+ * lock_attempts is a Space-Saving estimate that may over-count by up to count_error; wait/hold
+ * percentiles and timeouts cover the time since the account entered the top-K
+ */
+@Component
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final LockContentionMetricsService lockContentionMetricsService;
+
+    @ReadOperation
+    public Map<String, Object> lockContention(@Nullable Integer limit) {
+        int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+
+        List<Map<String, Object>> accounts = lockContentionMetricsService.hottestAccounts(size).stream()
+            .map(LockContentionEndpoint::describe)
+            .toList();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("tracked_capacity", lockContentionMetricsService.getTrackedCapacity());
+        response.put("total_lock_attempts", lockContentionMetricsService.getTotalLockAttempts());
+        response.put("accounts", accounts);
+        return response;
+    }
+
+    private static Map<String, Object> describe(SpaceSavingTopK.Entry<String, AccountLockStats> entry) {
+        AccountLockStats stats = entry.value();
+
+        Map<String, Object> account = new LinkedHashMap<>();
+        account.put("account_id", entry.key());
+        account.put("lock_attempts", entry.count());
+        account.put("count_error", entry.error());
+        account.put("timeouts", stats.getTimeouts());
+        account.put("wait_p50_ms", round(stats.waitPercentileMillis(0.5)));
+        account.put("wait_p99_ms", round(stats.waitPercentileMillis(0.99)));
+        account.put("wait_max_ms", round(stats.maxWaitMillis()));
+        account.put("hold_p50_ms", round(stats.holdPercentileMillis(0.5)));
+        account.put("hold_p99_ms", round(stats.holdPercentileMillis(0.99)));
+        account.put("hold_max_ms", round(stats.maxHoldMillis()));
+        return account;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
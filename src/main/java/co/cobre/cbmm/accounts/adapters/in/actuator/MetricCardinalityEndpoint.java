@@ -0,0 +1,65 @@
+package co.cobre.cbmm.accounts.adapters.in.actuator;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.TagCardinalityLimiter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.TagCardinalityLimiter.DimensionSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Error metric cardinality: GET /actuator/metriccardinality?limit=10
+ * Per (metric, tag): distinct values kept, whether the cap was hit, and the heavy hitters among the
+ * values folded into "other" (or observed ids such as account numbers and event ids)
+ */
+@Component
+@Endpoint(id = "metriccardinality")
+@RequiredArgsConstructor
+public class MetricCardinalityEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final ErrorMetricsService errorMetricsService;
+
+    @ReadOperation
+    public Map<String, Object> metricCardinality(@Nullable Integer limit) {
+        TagCardinalityLimiter limiter = errorMetricsService.getTagCardinalityLimiter();
+        int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+
+        List<Map<String, Object>> dimensions = limiter.snapshot(size).stream()
+            .sorted(Comparator.comparing(DimensionSnapshot::metric).thenComparing(DimensionSnapshot::tag))
+            .map(MetricCardinalityEndpoint::describe)
+            .toList();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("max_values_per_tag", limiter.getMaxValuesPerTag());
+        response.put("dimensions", dimensions);
+        return response;
+    }
+
+    private static Map<String, Object> describe(DimensionSnapshot snapshot) {
+        Map<String, Object> dimension = new LinkedHashMap<>();
+        dimension.put("metric", snapshot.metric());
+        dimension.put("tag", snapshot.tag());
+        dimension.put("distinct_values", snapshot.distinctValues());
+        dimension.put("overflowed", snapshot.overflowed());
+        dimension.put("sketched_total", snapshot.sketchedTotal());
+        dimension.put("heavy_hitters", snapshot.heavyHitters().stream()
+            .map(entry -> {
+                Map<String, Object> hitter = new LinkedHashMap<>();
+                hitter.put("value", entry.key());
+                hitter.put("count", entry.count());
+                hitter.put("count_error", entry.error());
+                return hitter;
+            })
+            .toList());
+        return dimension;
+    }
+}
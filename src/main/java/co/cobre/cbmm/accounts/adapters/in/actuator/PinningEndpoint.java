@@ -0,0 +1,59 @@
+package co.cobre.cbmm.accounts.adapters.in.actuator;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.PinningAggregator;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PinningAggregator.PinningSite;
+import co.cobre.cbmm.accounts.adapters.out.metrics.SpaceSavingTopK;
+import co.cobre.cbmm.accounts.adapters.out.metrics.VirtualThreadPinningMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Virtual thread pinning report: GET /actuator/pinning?limit=20
+ * Sites ordered by pinned events, each with its stack; empty unless diagnostics.pinning.enabled=true
+ */
+@Component
+@Endpoint(id = "pinning")
+@RequiredArgsConstructor
+public class PinningEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+    @ReadOperation
+    public Map<String, Object> pinning(@Nullable Integer limit) {
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("enabled", monitor != null);
+        if (monitor == null) {
+            return response;
+        }
+
+        PinningAggregator aggregator = monitor.getAggregator();
+        int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        response.put("threshold", monitor.getThreshold().toString());
+        response.put("total_pinned_events", aggregator.getTotalPinnedEvents());
+        response.put("sites", aggregator.topSites(size).stream().map(PinningEndpoint::describe).toList());
+        return response;
+    }
+
+    private static Map<String, Object> describe(SpaceSavingTopK.Entry<String, PinningSite> entry) {
+        PinningSite pinningSite = entry.value();
+
+        Map<String, Object> site = new LinkedHashMap<>();
+        site.put("site", pinningSite.getLabel());
+        site.put("count", pinningSite.getCount());
+        site.put("total_ms", Math.round(pinningSite.getTotalMillis() * 100) / 100.0);
+        site.put("max_ms", Math.round(pinningSite.getMaxMillis() * 100) / 100.0);
+        site.put("stack", pinningSite.getFrames());
+        return site;
+    }
+}
@@ -0,0 +1,63 @@
+package co.cobre.cbmm.accounts.adapters.in.actuator;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live per-stage latency breakdown of the CBMM event pipeline: GET /actuator/pipeline
+ * Percentiles are the decaying values published by the stage timers; share is each stage's
+ * total time relative to the end-to-end event time
+ */
+@Component
+@Endpoint(id = "pipeline")
+@RequiredArgsConstructor
+public class PipelineLatencyEndpoint {
+
+    private final PipelineMetricsService pipelineMetricsService;
+
+    @ReadOperation
+    public Map<String, Object> pipeline() {
+        double eventTotalMs = pipelineMetricsService.getTimer(Stage.EVENT_TOTAL).totalTime(TimeUnit.MILLISECONDS);
+
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            stages.put(stage.getTagValue(), describe(pipelineMetricsService.getTimer(stage), eventTotalMs));
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("stages", stages);
+        return response;
+    }
+
+    private Map<String, Object> describe(Timer timer, double eventTotalMs) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        Map<String, Object> stage = new LinkedHashMap<>();
+        stage.put("count", snapshot.count());
+        stage.put("mean_ms", round(snapshot.mean(TimeUnit.MILLISECONDS)));
+        stage.put("max_ms", round(snapshot.max(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            stage.put("p" + Math.round(percentile.percentile() * 100) + "_ms",
+                round(percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        double totalMs = snapshot.total(TimeUnit.MILLISECONDS);
+        stage.put("total_ms", round(totalMs));
+        stage.put("share_pct", eventTotalMs > 0 ? round(totalMs * 100 / eventTotalMs) : 0.0);
+        return stage;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,50 @@
+package co.cobre.cbmm.accounts.adapters.in.messaging;
+
+import co.cobre.cbmm.accounts.application.service.AdaptiveConcurrencyLimiter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pauses the CBMM events listener while the event-processing concurrency limit is saturated
+ * and resumes it once a slot frees up, so partitions stop being fetched instead of records
+ * piling up behind the limit (and the consumer risking max.poll.interval.ms)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaBackpressureController {
+
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final AdaptiveConcurrencyLimiter eventProcessingLimiter;
+
+    @PostConstruct
+    void register() {
+        eventProcessingLimiter.addSaturationListener(saturated -> applyBackpressure());
+    }
+
+    /**
+     * Notifications may arrive out of order from different threads; always act on the current state
+     */
+    void applyBackpressure() {
+        MessageListenerContainer container =
+            kafkaListenerEndpointRegistry.getListenerContainer(KafkaEventConsumer.LISTENER_ID);
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+
+        if (eventProcessingLimiter.isSaturated()) {
+            if (!container.isPauseRequested()) {
+                log.info("Event processing saturated (limit: {}), pausing Kafka listener",
+                    eventProcessingLimiter.getLimit());
+                container.pause();
+            }
+        } else if (container.isPauseRequested()) {
+            log.info("Event processing below limit, resuming Kafka listener");
+            container.resume();
+        }
+    }
+}
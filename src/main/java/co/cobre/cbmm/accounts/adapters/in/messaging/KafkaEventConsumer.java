@@ -1,10 +1,15 @@
 package co.cobre.cbmm.accounts.adapters.in.messaging;
 
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership.Claim;
 import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
 import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
 import co.cobre.cbmm.accounts.domain.exception.DuplicateEventException;
 import co.cobre.cbmm.accounts.domain.exception.EventProcessingException;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService.OwnershipScope;
 import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,46 +22,93 @@ import org.springframework.stereotype.Component;
 
 /**
  * Kafka consumer for CBMM events with OpenTelemetry metrics
+ * Records are processed on the consumer thread (event-consumer.mode=sequential) or dispatched to
+ * {@link ParallelEventDispatcher} (event-consumer.mode=parallel), chained on the origin account of their event
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaEventConsumer {
 
+    /** Listener container id, used to pause/resume consumption under backpressure */
+    public static final String LISTENER_ID = "cbmm-events-listener";
+
     private final ProcessCBMMEventPort processCBMMEventPort;
     private final ObjectMapper objectMapper;
     private final ErrorMetricsService errorMetricsService;
+    private final PipelineMetricsService pipelineMetricsService;
+    private final KafkaPartitionOwnership partitionOwnership;
+    private final ParallelEventDispatcher parallelEventDispatcher;
 
     @KafkaListener(
+        id = LISTENER_ID,
         topics = "${spring.kafka.topics.cbmm-events}",
         groupId = "${spring.kafka.consumer.group-id}",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "kafkaListenerContainerFactory",
+        autoStartup = "${spring.kafka.listener.auto-startup:true}"
     )
     public void consumeCBMMEvent(
         @Payload String message,
         @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
         @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
         @Header(KafkaHeaders.OFFSET) long offset,
+        @Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String key,
         Acknowledgment acknowledgment
     ) {
-        log.info("Received message from topic: {}, partition: {}, offset: {}", topic, partition, offset);
+        log.debug("Received message from topic: {}, partition: {}, offset: {}", topic, partition, offset);
         log.debug("Message content: {}", message);
 
-        try {
-            // Parse JSON to DTO
-            CBMMEventDTO event = objectMapper.readValue(message, CBMMEventDTO.class);
+        if (parallelEventDispatcher.isEnabled()) {
+            // Processed on a virtual thread after the previous event of its origin account (parsed here, the record
+            // key may be anything); acknowledged once every earlier offset of the partition is done
+            CBMMEventDTO event = parseForDispatch(message);
+            if (event == null) {
+                // Malformed: its handler fails to parse it again and it is given up on like in sequential mode
+                parallelEventDispatcher.dispatch(topic, partition, offset, null, acknowledgment,
+                    claim -> handle(message, topic, key, claim));
+            } else {
+                parallelEventDispatcher.dispatch(topic, partition, offset, event.origin().accountId(), acknowledgment,
+                    claim -> process(event, topic, key, claim));
+            }
+            return;
+        }
 
-            log.info("Parsed CBMM event: {}", event.eventId());
+        try (Claim claim = partitionOwnership.claim(topic, partition)) {
+            handle(message, topic, key, claim);
+        }
 
-            // Process event
-            processCBMMEventPort.processCBMMEvent(event);
+        // Acknowledge message after successful processing (or a duplicate, to avoid reprocessing)
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
 
-            // Acknowledge message after successful processing
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
+    /**
+     * Parse and process one record; returns normally once it is processed or found to be a duplicate
+     */
+    private void handle(String message, String topic, String key, Claim claim) {
+        CBMMEventDTO event;
+        try {
+            event = parse(message);
+        } catch (Exception e) {
+            throw failed(topic, e);
+        }
+        process(event, topic, key, claim);
+    }
+
+    /**
+     * Process one parsed record; returns normally once it is processed or found to be a duplicate
+     */
+    private void process(CBMMEventDTO event, String topic, String key, Claim claim) {
+        try {
+            // Process event (in key-affinity mode, the origin debit of an owned partition's record skips the lock)
+            long processStart = System.nanoTime();
+            try (OwnershipScope ignored = claim.ownOrigin(key, event)) {
+                processCBMMEventPort.processCBMMEvent(event);
             }
+            pipelineMetricsService.record(Stage.EVENT_TOTAL, processStart);
 
-            log.info("Successfully processed and acknowledged CBMM event: {}", event.eventId());
+            log.debug("Successfully processed CBMM event: {}", event.eventId());
 
         } catch (DuplicateEventException e) {
             log.warn("Duplicate event detected: {}", e.getMessage());
@@ -64,20 +116,41 @@ public class KafkaEventConsumer {
             // Record metric
             errorMetricsService.recordDuplicateEventError(e.getEventId());
 
-            // Acknowledge duplicate events to avoid reprocessing
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-            }
-
         } catch (Exception e) {
-            log.error("Error processing CBMM event from topic {}: {}", topic, e.getMessage(), e);
+            throw failed(topic, e);
+        }
+    }
 
-            // Record metric
-            errorMetricsService.recordKafkaError(topic, "unknown", e);
+    private CBMMEventDTO parse(String message) throws JsonProcessingException {
+        // Parse JSON to DTO
+        long parseStart = System.nanoTime();
+        CBMMEventDTO event = objectMapper.readValue(message, CBMMEventDTO.class);
+        pipelineMetricsService.record(Stage.JSON_PARSE, parseStart);
+
+        log.debug("Parsed CBMM event: {}", event.eventId());
+        return event;
+    }
 
-            // Don't acknowledge - message will be retried based on Kafka configuration
-            throw new EventProcessingException("unknown", e.getMessage(), e);
+    /**
+     * The event of a record about to be dispatched, null if it is malformed or has no origin account
+     */
+    private CBMMEventDTO parseForDispatch(String message) {
+        try {
+            CBMMEventDTO event = parse(message);
+            return event.origin() != null && event.origin().accountId() != null ? event : null;
+        } catch (Exception e) {
+            return null;
         }
     }
+
+    private EventProcessingException failed(String topic, Exception e) {
+        log.error("Error processing CBMM event from topic {}: {}", topic, e.getMessage(), e);
+
+        // Record metric
+        errorMetricsService.recordKafkaError(topic, "unknown", e);
+
+        // Don't acknowledge - message will be retried based on Kafka configuration
+        return new EventProcessingException("unknown", e.getMessage(), e);
+    }
 }
 
@@ -0,0 +1,204 @@
+package co.cobre.cbmm.accounts.adapters.in.messaging;
+
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.application.logging.LogMarkers;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService.OwnershipScope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Partition assignment of the CBMM events consumer and the records in flight on each partition
+ * Every record is claimed from delivery until it is handled, on whatever thread handles it. As the container's
+ * rebalance listener, before revoked partitions' offsets are committed it stops treating them as owned, waits
+ * (up to event-consumer.drain-timeout) for their claimed records to finish and then notifies the revocation
+ * listeners, so the next owner never processes an account this consumer is still processing and the
+ * acknowledgments of finished records make it into that commit.
+ * Key-affinity mode (event-consumer.key-affinity.enabled): when producers key cbmm-events-topic by origin
+ * account, the consumer a partition is assigned to is the only one debiting that partition's origin accounts,
+ * so origin debits of records whose key is their origin account run without the distributed lock
+ * ({@link DistributedLockService#ownAccount}). Destination credits, which may belong to any partition, and
+ * records keyed otherwise keep locking.
+ */
+@Component
+@Slf4j
+public class KafkaPartitionOwnership implements ConsumerAwareRebalanceListener {
+
+    private static final OwnershipScope NOT_OWNED = () -> { };
+
+    private final boolean keyAffinity;
+    private final Duration drainTimeout;
+    private final Set<TopicPartition> assigned = ConcurrentHashMap.newKeySet();
+    private final Map<TopicPartition, Integer> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Condition drained = drainLock.newCondition();
+    private final List<RevocationListener> revocationListeners = new CopyOnWriteArrayList<>();
+    private final Counter ownedDebits;
+    private final Counter lockedDebits;
+
+    public KafkaPartitionOwnership(MeterRegistry meterRegistry,
+                                   @Value("${event-consumer.key-affinity.enabled:false}") boolean keyAffinity,
+                                   @Value("${event-consumer.drain-timeout:30s}") Duration drainTimeout) {
+        this.keyAffinity = keyAffinity;
+        this.drainTimeout = drainTimeout;
+        this.ownedDebits = debitCounter(meterRegistry, "skipped");
+        this.lockedDebits = debitCounter(meterRegistry, "taken");
+    }
+
+    private static Counter debitCounter(MeterRegistry meterRegistry, String lock) {
+        return Counter.builder("cbmm.accounts.kafka.affinity.debits.total")
+            .description("Origin debits of Kafka records, by whether partition ownership replaced the lock")
+            .tag("lock", lock)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Claim a delivered record until the returned claim is closed, once the record has been handled
+     */
+    public Claim claim(String topic, int partition) {
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        drainLock.lock();
+        try {
+            inFlight.merge(topicPartition, 1, Integer::sum);
+        } finally {
+            drainLock.unlock();
+        }
+        return new RecordClaim(topicPartition);
+    }
+
+    /**
+     * Register a listener for partitions this consumer no longer owns (revoked, after draining, or lost)
+     */
+    public void addRevocationListener(RevocationListener listener) {
+        revocationListeners.add(listener);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        assigned.addAll(partitions);
+        // Rebalances are rare: keep the line even though this package's success path is sampled
+        log.info(LogMarkers.ALWAYS, "Partitions assigned: {} (key affinity {})", partitions, keyAffinity ? "on" : "off");
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        assigned.removeAll(partitions);
+        if (!awaitDrained(partitions)) {
+            log.warn("Revoked partitions {} still had claimed records after {}; the next owner may overlap with them " +
+                "(version checks still apply)", partitions, drainTimeout);
+        }
+        revocationListeners.forEach(listener -> listener.onRevoked(partitions));
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        // Already owned by someone else: nothing to hand over, just stop owning
+        assigned.removeAll(partitions);
+        revocationListeners.forEach(listener -> listener.onRevoked(partitions));
+    }
+
+    /**
+     * Claimed, unfinished records of a partition (0 if none)
+     */
+    public int inFlight(TopicPartition partition) {
+        return inFlight.getOrDefault(partition, 0);
+    }
+
+    private void release(TopicPartition partition) {
+        drainLock.lock();
+        try {
+            if (inFlight.merge(partition, -1, (count, decrement) -> count + decrement == 0 ? null : count + decrement) == null) {
+                drained.signalAll();
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private boolean awaitDrained(Collection<TopicPartition> partitions) {
+        long remaining = drainTimeout.toNanos();
+        drainLock.lock();
+        try {
+            while (partitions.stream().anyMatch(inFlight::containsKey)) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = drained.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * A delivered record, in flight until closed
+     */
+    public interface Claim extends AutoCloseable {
+
+        /**
+         * In key-affinity mode, make the current thread the owner of the event's origin account if the record's
+         * partition is still assigned and the record is keyed by that account, until the returned scope is closed
+         */
+        OwnershipScope ownOrigin(String key, CBMMEventDTO event);
+
+        @Override
+        void close();
+    }
+
+    @FunctionalInterface
+    public interface RevocationListener {
+        void onRevoked(Collection<TopicPartition> partitions);
+    }
+
+    private final class RecordClaim implements Claim {
+
+        private final TopicPartition partition;
+        private boolean closed;
+
+        private RecordClaim(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public OwnershipScope ownOrigin(String key, CBMMEventDTO event) {
+            if (!keyAffinity) {
+                return NOT_OWNED;
+            }
+            String originAccount = event.origin() != null ? event.origin().accountId() : null;
+            if (originAccount == null || !originAccount.equals(key) || !assigned.contains(partition)) {
+                lockedDebits.increment();
+                return NOT_OWNED;
+            }
+            ownedDebits.increment();
+            return DistributedLockService.ownAccount(originAccount);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(partition);
+            }
+        }
+    }
+}
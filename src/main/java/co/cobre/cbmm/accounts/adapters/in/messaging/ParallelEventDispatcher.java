@@ -0,0 +1,382 @@
+package co.cobre.cbmm.accounts.adapters.in.messaging;
+
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership.Claim;
+import co.cobre.cbmm.accounts.application.logging.LogMarkers;
+import co.cobre.cbmm.accounts.application.service.ConcurrencyLimitedEventProcessingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Account-level parallel consumption of CBMM events (event-consumer.mode=parallel)
+ * Each record is handed to a virtual thread as soon as it is polled. Records with the same origin account run one
+ * after another in the order they were polled, whatever their record key and partition (records whose origin
+ * account is unknown, malformed ones, are ordered per partition); records of different origin accounts run
+ * concurrently and may finish out of order. A partition's offset is only acknowledged up to its highest
+ * contiguous finished record, so a restart or rebalance redelivers every record that may not have been processed. A partition reaching max-in-flight-per-partition dispatched but
+ * uncommitted records is paused on the listener container and resumed once commits bring it back under the
+ * limit, so the consumer thread never blocks (the records of the poll already in hand still get dispatched).
+ * A record failing on a transient error is retried in place, 10 attempts with exponential backoff
+ * (event-consumer.parallel.retry-backoff doubling up to retry-max-backoff), and then given up on, so it never holds
+ * the partition's commit back; one failing deterministically (malformed JSON, business rejection) is given up on at
+ * once. Given-up records are acknowledged and counted (cbmm.accounts.kafka.parallel.given_up); their event stays
+ * FAILED and the legs that committed are not applied again if it is redelivered.
+ * A record that could not run at all (executor rejected it, interrupted during backoff) is never acknowledged,
+ * so its partition commits no further and it is redelivered after a restart or rebalance.
+ */
+@Component
+@Slf4j
+public class ParallelEventDispatcher {
+
+    static final int MAX_ATTEMPTS = 10;
+
+    private final KafkaPartitionOwnership partitionOwnership;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final Executor executor;
+    private final ExponentialBackOff retryBackOff;
+    private final boolean enabled;
+    private final int maxInFlightPerPartition;
+    private final Map<TopicPartition, PartitionState> partitions = new ConcurrentHashMap<>();
+    private final Map<ChainKey, CompletableFuture<Void>> chainTails = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger completedUncommitted = new AtomicInteger();
+    private final DistributionSummary commitGap;
+    private final Counter givenUpNotRetryable;
+    private final Counter givenUpRetriesExhausted;
+
+    public ParallelEventDispatcher(KafkaPartitionOwnership partitionOwnership,
+                                   KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                                   MeterRegistry meterRegistry,
+                                   @Qualifier("eventDispatchExecutor") Executor executor,
+                                   @Value("${event-consumer.mode:sequential}") String mode,
+                                   @Value("${event-consumer.parallel.max-in-flight-per-partition:100}") int maxInFlightPerPartition,
+                                   @Value("${event-consumer.parallel.retry-backoff:100ms}") Duration retryBackoff,
+                                   @Value("${event-consumer.parallel.retry-max-backoff:5s}") Duration retryMaxBackoff) {
+        this.partitionOwnership = partitionOwnership;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.executor = executor;
+        this.retryBackOff = new ExponentialBackOff(retryBackoff.toMillis(), 2.0);
+        this.retryBackOff.setMaxInterval(retryMaxBackoff.toMillis());
+        this.enabled = "parallel".equalsIgnoreCase(mode);
+        this.maxInFlightPerPartition = maxInFlightPerPartition;
+
+        Gauge.builder("cbmm.accounts.kafka.parallel.in_flight", inFlight, AtomicInteger::get)
+            .description("Records dispatched in parallel whose offset is not committed yet")
+            .register(meterRegistry);
+        Gauge.builder("cbmm.accounts.kafka.parallel.completed_uncommitted", completedUncommitted, AtomicInteger::get)
+            .description("Finished records waiting for an earlier offset of their partition before being committed")
+            .register(meterRegistry);
+        this.commitGap = DistributionSummary.builder("cbmm.accounts.kafka.parallel.commit_gap")
+            .description("Finished-but-uncommitted records of a partition each time one of its records finishes")
+            .register(meterRegistry);
+        this.givenUpNotRetryable = givenUpCounter(meterRegistry, "not_retryable");
+        this.givenUpRetriesExhausted = givenUpCounter(meterRegistry, "retries_exhausted");
+
+        if (enabled) {
+            partitionOwnership.addRevocationListener(this::revoke);
+            log.info(LogMarkers.ALWAYS, "Parallel Kafka consumption enabled (max in flight per partition: {})", maxInFlightPerPartition);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hand a polled record to a virtual thread, after the previous record of the same origin account, and acknowledge
+     * it once it and every earlier record of its partition have finished. Called from the consumer thread; pauses
+     * the partition once it has max-in-flight-per-partition uncommitted records.
+     *
+     * @param originAccountId origin account of the record's event, null if unknown (the record is then ordered
+     *                        after the previous one of its partition whose account was unknown too)
+     */
+    public void dispatch(String topic, int partition, long offset, String originAccountId,
+                         Acknowledgment acknowledgment, Consumer<Claim> handler) {
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        PartitionState state = partitions.computeIfAbsent(topicPartition, PartitionState::new);
+        Pending pending = state.add(offset, acknowledgment);
+        Claim claim = partitionOwnership.claim(topic, partition);
+        Runnable work = () -> {
+            try {
+                if (handleWithRetries(topicPartition, offset, handler, claim)) {
+                    state.complete(pending);
+                }
+            } finally {
+                claim.close();
+            }
+        };
+
+        ChainKey chainKey = originAccountId != null
+            ? new ChainKey(null, originAccountId)
+            : new ChainKey(topicPartition, null);
+        CompletableFuture<Void> run;
+        try {
+            // handle: the next record of the account runs whatever happened to the previous one
+            run = chainTails.compute(chainKey, (ignored, tail) -> tail == null
+                ? CompletableFuture.runAsync(work, executor)
+                : tail.handle((result, error) -> null).thenRunAsync(work, executor));
+        } catch (RejectedExecutionException e) {
+            // Nothing was dispatched: undo and let the container's error handler redeliver the record
+            state.discard(pending);
+            claim.close();
+            throw e;
+        }
+        run.whenComplete((result, error) -> {
+            chainTails.remove(chainKey, run);
+            if (error != null) {
+                claim.close();
+                log.error("Record {}@{} did not finish and stays unacknowledged: {}", topicPartition, offset, error.toString());
+            }
+        });
+    }
+
+    /**
+     * @return true once the record was handled or given up on, false if interrupted while backing off
+     */
+    private boolean handleWithRetries(TopicPartition partition, long offset, Consumer<Claim> handler, Claim claim) {
+        BackOffExecution backOff = retryBackOff.start();
+        for (int attempt = 1; ; attempt++) {
+            long delay;
+            try {
+                handler.accept(claim);
+                return true;
+            } catch (Exception e) {
+                if (!isRetryable(e)) {
+                    log.error("Giving up on record {}@{}, not retryable ({}): {}",
+                        partition, offset, rootCause(e).getClass().getSimpleName(), e.getMessage());
+                    givenUpNotRetryable.increment();
+                    return true;
+                }
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("Giving up on record {}@{} after {} attempts ({}): {}",
+                        partition, offset, attempt, rootCause(e).getClass().getSimpleName(), e.getMessage());
+                    givenUpRetriesExhausted.increment();
+                    return true;
+                }
+                delay = backOff.nextBackOff();
+                log.debug("Retrying record {}@{} in {} ms (attempt {} failed: {})", partition, offset, delay, attempt, e.getMessage());
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted retrying record {}@{}; it stays unacknowledged", partition, offset);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Malformed records and business rejections fail the same way on every attempt
+     */
+    private static boolean isRetryable(Throwable e) {
+        if (ConcurrencyLimitedEventProcessingService.isBusinessOutcome(e)) {
+            return false;
+        }
+        for (Throwable current = e; current != null && current.getCause() != current; current = current.getCause()) {
+            if (current instanceof JsonProcessingException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * One counter per reason, registered up front; the root exception is only logged, it is unbounded as a tag
+     */
+    private static Counter givenUpCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cbmm.accounts.kafka.parallel.given_up")
+            .description("Records acknowledged without being processed, by reason")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Pause or resume fetching a partition on the listener container (no-op while it is not running)
+     */
+    private void setPaused(TopicPartition partition, boolean paused) {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(KafkaEventConsumer.LISTENER_ID);
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+        if (paused) {
+            container.pausePartition(partition);
+        } else {
+            container.resumePartition(partition);
+        }
+    }
+
+    /**
+     * Forget partitions this consumer no longer owns: their records still running finish, but are not acknowledged
+     */
+    private void revoke(Collection<TopicPartition> revoked) {
+        revoked.forEach(partition -> {
+            PartitionState state = partitions.remove(partition);
+            if (state != null) {
+                state.revoke();
+            }
+        });
+    }
+
+    private final class PartitionState {
+
+        private final TopicPartition partition;
+        // Guards the fields below; a ReentrantLock rather than synchronized so waiting virtual threads don't pin
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+        private int completed;
+        private boolean paused;
+        private boolean revoked;
+
+        private PartitionState(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        Pending add(long offset, Acknowledgment acknowledgment) {
+            Pending record = new Pending(offset, acknowledgment);
+            lock.lock();
+            try {
+                pending.addLast(record);
+                inFlight.incrementAndGet();
+                if (!paused && !revoked && pending.size() >= maxInFlightPerPartition) {
+                    paused = true;
+                    setPaused(partition, true);
+                    log.debug("Pausing {} at {} uncommitted records", partition, pending.size());
+                }
+            } finally {
+                lock.unlock();
+            }
+            return record;
+        }
+
+        /**
+         * Acknowledge the highest contiguous finished offset; acknowledging under the lock keeps commits in order
+         */
+        void complete(Pending record) {
+            lock.lock();
+            try {
+                record.done = true;
+                if (revoked) {
+                    return;
+                }
+                completed++;
+                completedUncommitted.incrementAndGet();
+
+                Pending committed = null;
+                int popped = 0;
+                while (!pending.isEmpty() && pending.peekFirst().done) {
+                    committed = pending.pollFirst();
+                    popped++;
+                }
+                if (committed != null) {
+                    completed -= popped;
+                    completedUncommitted.addAndGet(-popped);
+                    inFlight.addAndGet(-popped);
+                    acknowledge(committed);
+                    if (paused && pending.size() < maxInFlightPerPartition) {
+                        paused = false;
+                        setPaused(partition, false);
+                        log.debug("Resuming {} at {} uncommitted records", partition, pending.size());
+                    }
+                }
+                commitGap.record(completed);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Take back a record that was never dispatched; it is the last one added
+         */
+        void discard(Pending record) {
+            lock.lock();
+            try {
+                if (!revoked && pending.removeLastOccurrence(record)) {
+                    inFlight.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void revoke() {
+            lock.lock();
+            try {
+                revoked = true;
+                inFlight.addAndGet(-pending.size());
+                completedUncommitted.addAndGet(-completed);
+                pending.clear();
+                if (paused) {
+                    // A paused partition stays paused if it is assigned back; the new state starts unpaused
+                    paused = false;
+                    setPaused(partition, false);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void acknowledge(Pending committed) {
+            if (committed.acknowledgment == null) {
+                return;
+            }
+            try {
+                committed.acknowledgment.acknowledge();
+                log.debug("Acknowledged {} up to offset {}", partition, committed.offset);
+            } catch (RuntimeException e) {
+                // Commits are cumulative: the next acknowledgment of the partition covers this offset too
+                log.warn("Failed to acknowledge {} up to offset {}: {}", partition, committed.offset, e.getMessage());
+            }
+        }
+    }
+
+    private static final class Pending {
+
+        private final long offset;
+        private final Acknowledgment acknowledgment;
+        private boolean done;
+
+        private Pending(long offset, Acknowledgment acknowledgment) {
+            this.offset = offset;
+            this.acknowledgment = acknowledgment;
+        }
+    }
+
+    /**
+     * Records run one after another per origin account, or per partition when the account is unknown
+     */
+    private record ChainKey(TopicPartition partition, String originAccountId) {
+    }
+}
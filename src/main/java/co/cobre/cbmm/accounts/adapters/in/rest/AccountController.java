@@ -1,7 +1,9 @@
 package co.cobre.cbmm.accounts.adapters.in.rest;
 
 import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+import co.cobre.cbmm.accounts.application.dto.BalanceDTO;
 import co.cobre.cbmm.accounts.ports.in.GetAccountPort;
+import co.cobre.cbmm.accounts.ports.in.GetBalancePort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,10 +13,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 /**
  * REST controller for account operations (Driving Adapter)
  * Uses the driving ports to interact with the application layer
@@ -27,10 +35,13 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
 
     private final GetAccountPort getAccountPort;
+    private final GetBalancePort getBalancePort;
 
     @Operation(
         summary = "Get account by account number",
-        description = "Returns the account information for the specified account number"
+        description = "Returns the account information for the specified account number. " +
+            "Responses carry a strong ETag derived from the account version; " +
+            "send it back in If-None-Match to get 304 Not Modified while the account is unchanged."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -38,6 +49,10 @@ public class AccountController {
             description = "Account retrieved successfully",
             content = @Content(schema = @Schema(implementation = AccountDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Account not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Account not found"
@@ -52,10 +67,59 @@ public class AccountController {
         @Parameter(description = "Account number", example = "ACC-2024-001", required = true)
         @PathVariable
         @NotBlank(message = "Account number cannot be blank")
-        String accountNumber
+        String accountNumber,
+
+        @Parameter(description = "ETag of a previously fetched representation")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+        String ifNoneMatch
     ) {
+        // Answer conditional requests from the version alone, without loading the account
+        if (ifNoneMatch != null) {
+            Optional<String> currentETag = getAccountPort.getAccountVersion(accountNumber).map(ETags::forAccount);
+            if (currentETag.isPresent() && ETags.matches(ifNoneMatch, currentETag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+            }
+        }
+
         AccountDTO account = getAccountPort.getAccountByNumber(accountNumber);
-        return ResponseEntity.ok(account);
+        return ResponseEntity.ok()
+            .eTag(ETags.forAccount(account.version()))
+            .body(account);
     }
-}
 
+    @Operation(
+        summary = "Get account balance as of an instant",
+        description = "Returns the balance the account had at the given instant (current time if omitted). " +
+            "Computed from the nearest daily balance snapshot plus the transactions recorded after it."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Balance retrieved successfully",
+            content = @Content(schema = @Schema(implementation = BalanceDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid instant, or the account did not exist yet at that instant"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Account not found"
+        )
+    })
+    @GetMapping("/{accountNumber}/balance")
+    public ResponseEntity<BalanceDTO> getBalance(
+        @Parameter(description = "Account number", example = "ACC-2024-001", required = true)
+        @PathVariable
+        @NotBlank(message = "Account number cannot be blank")
+        String accountNumber,
+
+        @Parameter(description = "Instant of the balance (ISO-8601), defaults to now", example = "2024-06-30T23:59:59")
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime asOf
+    ) {
+        LocalDateTime instant = asOf != null ? asOf : LocalDateTime.now();
+        return ResponseEntity.ok(getBalancePort.getBalanceAsOf(accountNumber, instant));
+    }
+}
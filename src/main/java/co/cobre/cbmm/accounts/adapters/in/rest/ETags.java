@@ -0,0 +1,54 @@
+package co.cobre.cbmm.accounts.adapters.in.rest;
+
+import co.cobre.cbmm.accounts.domain.model.TransactionWatermark;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Helper for building strong ETags and evaluating If-None-Match headers
+ * ETags are derived from cheap lookups (account version, transaction watermark)
+ * so conditional requests can be answered without loading or serializing the resource
+ */
+final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private ETags() {
+    }
+
+    /**
+     * ETag for an account representation, derived from its optimistic locking version
+     */
+    static String forAccount(Integer version) {
+        return "\"v" + version + "\"";
+    }
+
+    /**
+     * ETag for a page of the transaction history, derived from the latest transaction
+     * and the page coordinates (the ledger is append-only, so a new row always moves the watermark)
+     */
+    static String forTransactionPage(TransactionWatermark watermark, int page, int size, Sort.Direction direction) {
+        return "\"" + watermark.transactionId() + ":" + watermark.createdAt() +
+            ":" + page + ":" + size + ":" + direction.name() + "\"";
+    }
+
+    /**
+     * Evaluate an If-None-Match header against the current ETag (weak comparison, RFC 9110 13.1.2)
+     */
+    static boolean matches(String ifNoneMatch, String currentETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(tag) || tag.equals(currentETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
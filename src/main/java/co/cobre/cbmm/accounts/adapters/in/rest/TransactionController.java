@@ -2,8 +2,9 @@ package co.cobre.cbmm.accounts.adapters.in.rest;
 
 import co.cobre.cbmm.accounts.application.dto.PageResponseDTO;
 import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
-import co.cobre.cbmm.accounts.domain.model.Transaction;
+import co.cobre.cbmm.accounts.ports.in.ExportTransactionsPort;
 import co.cobre.cbmm.accounts.ports.in.GetTransactionsPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,10 +18,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for transaction query operations
@@ -32,12 +42,19 @@ import java.util.UUID;
 @Tag(name = "Transactions", description = "Transaction query endpoints")
 public class TransactionController {
 
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
     private final GetTransactionsPort getTransactionsPort;
+    private final ExportTransactionsPort exportTransactionsPort;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{accountId}/transactions")
     @Operation(
         summary = "Get account transactions",
-        description = "Retrieves all transactions for an account with pagination, ordered by creation date (newest first)"
+        description = "Retrieves all transactions for an account with pagination, ordered by creation date (newest first). " +
+            "Responses carry a strong ETag derived from the latest transaction of the account; " +
+            "send it back in If-None-Match to get 304 Not Modified while no new transaction was recorded."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -45,6 +62,7 @@ public class TransactionController {
             description = "Transactions retrieved successfully",
             content = @Content(schema = @Schema(implementation = PageResponseDTO.class))
         ),
+        @ApiResponse(responseCode = "304", description = "History not modified since the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Invalid parameters"),
         @ApiResponse(responseCode = "404", description = "Account not found")
     })
@@ -59,7 +77,10 @@ public class TransactionController {
         @RequestParam(defaultValue = "20") int size,
 
         @Parameter(description = "Sort direction (ASC or DESC)", example = "DESC")
-        @RequestParam(defaultValue = "DESC") Sort.Direction sortDirection
+        @RequestParam(defaultValue = "DESC") Sort.Direction sortDirection,
+
+        @Parameter(description = "ETag of a previously fetched page")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         log.info("Retrieving transactions for account: {}, page: {}, size: {}, sort: {}",
             accountId, page, size, sortDirection);
@@ -72,22 +93,99 @@ public class TransactionController {
             throw new IllegalArgumentException("Page size must be between 1 and 100");
         }
 
+        // Resolve the watermark before reading the page, so the ETag can never be newer than the content
+        Optional<String> currentETag = getTransactionsPort.getLatestWatermark(accountId)
+            .map(watermark -> ETags.forTransactionPage(watermark, page, size, sortDirection));
+
+        if (currentETag.isPresent() && ETags.matches(ifNoneMatch, currentETag.get())) {
+            log.debug("Transactions for account {} not modified, ETag: {}", accountId, currentETag.get());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+        }
+
         // Create pageable with sorting by createdAt
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, "createdAt"));
 
         // Get transactions
-        Page<Transaction> transactionPage = getTransactionsPort.getTransactionsByAccountId(accountId, pageable);
-
-        // Map to response DTOs
-        Page<TransactionResponseDTO> responsePage = transactionPage.map(TransactionResponseDTO::from);
+        Page<TransactionResponseDTO> transactionPage = getTransactionsPort.getTransactionsByAccountId(accountId, pageable);
 
         // Create paginated response
-        PageResponseDTO<TransactionResponseDTO> response = PageResponseDTO.from(responsePage);
+        PageResponseDTO<TransactionResponseDTO> response = PageResponseDTO.from(transactionPage);
 
         log.info("Retrieved {} transactions for account: {} (total: {})",
             response.content().size(), accountId, response.totalElements());
 
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        currentETag.ifPresent(builder::eTag);
+        return builder.body(response);
     }
-}
 
+    @GetMapping("/{accountId}/transactions/export")
+    @Operation(
+        summary = "Export account transactions",
+        description = "Streams the full transaction history of an account in chronological order as NDJSON or CSV, " +
+            "optionally limited to a creation date range [from, to). Rows are read through a server-side cursor " +
+            "and written as they arrive; the response is gzip-compressed when the client sends Accept-Encoding: gzip."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid format or date range"),
+        @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+        @Parameter(description = "Account ID", required = true)
+        @PathVariable UUID accountId,
+
+        @Parameter(description = "Output format (ndjson or csv)", example = "ndjson")
+        @RequestParam(defaultValue = "ndjson") String format,
+
+        @Parameter(description = "Inclusive lower bound on creation date", example = "2024-01-01T00:00:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+        @Parameter(description = "Exclusive upper bound on creation date", example = "2025-01-01T00:00:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        log.info("Exporting transactions for account: {}, format: {}, from: {}, to: {}", accountId, format, from, to);
+
+        // Validate everything up front: once streaming starts the status can no longer change
+        TransactionExportFormat exportFormat = TransactionExportFormat.from(format);
+        exportTransactionsPort.validateExport(accountId, from, to);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) : outputStream;
+            try (TransactionExportFormat.RowWriter writer = exportFormat.open(target, objectMapper)) {
+                exportTransactionsPort.exportTransactions(accountId, from, to, writer::write);
+            }
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("transactions-" + accountId + "." + exportFormat.fileExtension())
+                .build()
+                .toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.body(body);
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
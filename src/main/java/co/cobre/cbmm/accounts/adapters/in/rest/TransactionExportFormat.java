@@ -0,0 +1,136 @@
+package co.cobre.cbmm.accounts.adapters.in.rest;
+
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Output formats of the transaction history export
+ * Each format writes rows incrementally, so nothing but the current row is kept in memory
+ */
+enum TransactionExportFormat {
+
+    /**
+     * Newline-delimited JSON, one transaction per line, same field names as the REST API
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson") {
+        @Override
+        RowWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            ObjectWriter writer = objectMapper.writerFor(TransactionResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+            return new RowWriter() {
+                @Override
+                public void write(TransactionResponseDTO row) {
+                    try {
+                        writer.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void close() throws IOException {
+                    generator.close();
+                }
+            };
+        }
+    },
+
+    /**
+     * Comma-separated values with a header line; every column is an identifier, number,
+     * code or ISO timestamp, so no value ever needs quoting
+     */
+    CSV(MediaType.parseMediaType("text/csv"), "csv") {
+        private static final String HEADER =
+            "transaction_id,account_id,amount,type,currency,balance_after,created_at,status\n";
+
+        @Override
+        RowWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+
+            return new RowWriter() {
+                @Override
+                public void write(TransactionResponseDTO row) {
+                    try {
+                        writer.append(row.transactionId().toString()).append(',')
+                            .append(row.accountId().toString()).append(',')
+                            .append(row.amount().toPlainString()).append(',')
+                            .append(row.type().name()).append(',')
+                            .append(row.currency()).append(',')
+                            .append(row.balanceAfter().toPlainString()).append(',')
+                            .append(row.createdAt().toString()).append(',')
+                            .append(row.status().name()).append('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void close() throws IOException {
+                    // Flush only: the underlying stream belongs to the caller
+                    writer.flush();
+                }
+            };
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    TransactionExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    String fileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Open a row writer on top of the given stream
+     */
+    abstract RowWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException;
+
+    /**
+     * Resolve a format from a request parameter (case-insensitive)
+     */
+    static TransactionExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    /**
+     * Incremental writer for exported rows; closing flushes buffered output without closing the stream
+     */
+    interface RowWriter extends Closeable {
+
+        void write(TransactionResponseDTO row);
+    }
+}
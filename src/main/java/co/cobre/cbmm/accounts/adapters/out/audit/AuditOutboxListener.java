@@ -0,0 +1,174 @@
+package co.cobre.cbmm.accounts.adapters.out.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.HibernateException;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.Audited;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate listener capturing changes of @Audited entities into the audit outbox (audit.mode=outbox)
+ * Changes are buffered per session and written with a single JDBC batch right before the transaction
+ * completes, on the same connection, so the outbox row commits (or rolls back) with the change itself.
+ * The relay later turns them into revinfo / *_aud rows, keeping Envers' table layout.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.mode", havingValue = "outbox")
+@RequiredArgsConstructor
+@Slf4j
+public class AuditOutboxListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    /** Envers revision types */
+    static final int REVTYPE_ADD = 0;
+    static final int REVTYPE_MOD = 1;
+    static final int REVTYPE_DEL = 2;
+
+    private static final String AUDIT_TABLE_SUFFIX = "_aud";
+
+    private static final String INSERT_SQL = """
+        INSERT INTO cbmm.audit_outbox (tx_id, audit_table, revtype, state, recorded_at)
+        VALUES (?, ?, ?, CAST(? AS jsonb), ?)
+        """;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+
+    private final Map<SharedSessionContractImplementor, List<AuditRecord>> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        log.info("Audit mode 'outbox': audit records are written to cbmm.audit_outbox");
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getSession(), event.getPersister(), event.getId(), event.getState(), REVTYPE_ADD);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getSession(), event.getPersister(), event.getId(), event.getState(), REVTYPE_MOD);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getSession(), event.getPersister(), event.getId(), event.getDeletedState(), REVTYPE_DEL);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(EventSource session, EntityPersister persister, Object id, Object[] state, int revType) {
+        if (!persister.getMappedClass().isAnnotationPresent(Audited.class)
+            || !(persister instanceof AbstractEntityPersister entityPersister)) {
+            return;
+        }
+
+        // Column-keyed state, the same columns Envers writes into the audit table
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put(entityPersister.getIdentifierColumnNames()[0], id);
+        String[] propertyNames = entityPersister.getPropertyNames();
+        for (int i = 0; i < propertyNames.length; i++) {
+            String[] columnNames = entityPersister.getPropertyColumnNames(i);
+            if (columnNames.length == 1) {
+                columns.put(columnNames[0], normalize(state[i]));
+            }
+        }
+
+        String auditTable = entityPersister.getTableName() + AUDIT_TABLE_SUFFIX;
+        pending.computeIfAbsent(session, this::startBuffer)
+            .add(new AuditRecord(auditTable, revType, toJson(columns)));
+    }
+
+    /**
+     * First change of a transaction: hook the flush into Hibernate's completion cycle
+     */
+    private List<AuditRecord> startBuffer(SharedSessionContractImplementor session) {
+        EventSource eventSource = (EventSource) session;
+        eventSource.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::flush);
+        eventSource.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> pending.remove(s));
+        return new ArrayList<>();
+    }
+
+    private void flush(SharedSessionContractImplementor session) {
+        List<AuditRecord> records = pending.remove(session);
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        UUID txId = UUID.randomUUID();
+        Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now());
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                for (AuditRecord record : records) {
+                    statement.setObject(1, txId);
+                    statement.setString(2, record.auditTable());
+                    statement.setInt(3, record.revType());
+                    statement.setString(4, record.state());
+                    statement.setTimestamp(5, recordedAt);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    private Object normalize(Object value) {
+        // TIMESTAMP columns hold the instant in the JVM zone, as Hibernate stores it
+        if (value instanceof ZonedDateTime zoned) {
+            return zoned.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        return value;
+    }
+
+    private String toJson(Map<String, Object> columns) {
+        try {
+            return objectMapper.writeValueAsString(columns);
+        } catch (JsonProcessingException e) {
+            throw new HibernateException("Could not serialize audit record", e);
+        }
+    }
+
+    record AuditRecord(String auditTable, int revType, String state) {
+    }
+}
@@ -0,0 +1,239 @@
+package co.cobre.cbmm.accounts.adapters.out.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Background relay moving audit records from cbmm.audit_outbox into revinfo / *_aud
+ * Each originating transaction becomes one revision, exactly like Envers would have written it, so batches
+ * are made of whole transactions: the transactions of the oldest batch-size records are claimed with a
+ * transaction-scoped advisory lock per tx_id and all of their records are relayed, even those past batch-size.
+ * Several instances can run the relay; a transaction claimed by one is skipped by the others, and each batch
+ * is inserted, and removed from the outbox, in a single transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.mode", havingValue = "outbox")
+@Slf4j
+public class AuditOutboxRelay {
+
+    /** Must match the INCREMENT BY of cbmm.revinfo_seq (pooled optimizer, like Envers) */
+    private static final int REVISION_BLOCK_SIZE = 50;
+
+    private static final Pattern AUDIT_TABLE = Pattern.compile("[a-z_]+\\.[a-z_]+_aud");
+
+    /** Advisory lock namespace (first key) of the per-transaction claims */
+    private static final int CLAIM_LOCK_NAMESPACE = 0x41554449;
+
+    private static final String CANDIDATE_TX_SQL = """
+        SELECT DISTINCT tx_id
+        FROM (SELECT tx_id FROM cbmm.audit_outbox ORDER BY id LIMIT ?) oldest
+        """;
+
+    private static final String CLAIM_TX_SQL = """
+        SELECT t.tx_id
+        FROM unnest(?) AS t(tx_id)
+        WHERE pg_try_advisory_xact_lock(?, hashtext(t.tx_id::text))
+        """;
+
+    // Records of a transaction commit together, so a claimed tx_id always reads back complete
+    // (or not at all, if another instance relayed it before the claim)
+    private static final String CLAIMED_ROWS_SQL = """
+        SELECT id, tx_id, audit_table, recorded_at
+        FROM cbmm.audit_outbox
+        WHERE tx_id = ANY(?)
+        ORDER BY id
+        """;
+
+    private static final String NEXT_REVISION_BLOCKS_SQL =
+        "SELECT nextval('cbmm.revinfo_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_REVINFO_SQL = "INSERT INTO cbmm.revinfo (rev, revtstmp) VALUES (?, ?)";
+
+    // Outbox state is keyed by column name, so the audit row is rebuilt straight from the JSON
+    private static final String INSERT_AUDIT_SQL = """
+        INSERT INTO %1$s
+        SELECT (jsonb_populate_record(NULL::%1$s,
+                    o.state || jsonb_build_object('rev', r.rev, 'revtype', o.revtype))).*
+        FROM cbmm.audit_outbox o
+        JOIN unnest(?, ?) AS r(id, rev) ON r.id = o.id
+        """;
+
+    private static final String DELETE_SQL = "DELETE FROM cbmm.audit_outbox WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayedCounter;
+    private final int batchSize;
+
+    public AuditOutboxRelay(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${audit.outbox.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayedCounter = Counter.builder("audit.outbox.relayed")
+            .description("Audit records moved from the outbox to the audit tables")
+            .register(meterRegistry);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Drain the outbox, one batch per transaction, until nothing is left that this instance can claim
+     * @return number of audit records relayed
+     */
+    @Scheduled(fixedDelayString = "${audit.outbox.relay-interval:1000}")
+    public int relay() {
+        int total = 0;
+        int relayed;
+        do {
+            Integer batch = transactionTemplate.execute(status -> relayBatch());
+            relayed = batch != null ? batch : 0;
+            total += relayed;
+        } while (relayed > 0);
+
+        if (total > 0) {
+            log.debug("Relayed {} audit records", total);
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        List<OutboxRow> rows = claimTransactions();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // One revision per originating transaction
+        Map<UUID, Integer> revisions = new LinkedHashMap<>();
+        Map<Integer, Timestamp> revisionTimes = new LinkedHashMap<>();
+        List<Integer> allocated = allocateRevisions(countTransactions(rows));
+        for (OutboxRow row : rows) {
+            revisions.computeIfAbsent(row.txId(), txId -> {
+                Integer rev = allocated.get(revisions.size());
+                revisionTimes.put(rev, row.recordedAt());
+                return rev;
+            });
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_REVINFO_SQL, new ArrayList<>(revisionTimes.entrySet()), revisionTimes.size(),
+            (ps, revision) -> {
+                ps.setInt(1, revision.getKey());
+                ps.setLong(2, revision.getValue().toLocalDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            });
+
+        Map<String, List<OutboxRow>> byTable = new LinkedHashMap<>();
+        for (OutboxRow row : rows) {
+            byTable.computeIfAbsent(validateAuditTable(row.auditTable()), table -> new ArrayList<>()).add(row);
+        }
+        byTable.forEach((table, tableRows) -> insertAuditRows(table, tableRows, revisions));
+
+        Long[] ids = rows.stream().map(OutboxRow::id).toArray(Long[]::new);
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(DELETE_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            return statement;
+        });
+
+        relayedCounter.increment(rows.size());
+        return rows.size();
+    }
+
+    /**
+     * Claim the transactions of the oldest batch-size records not claimed by another instance
+     * @return every outbox record of the claimed transactions
+     */
+    private List<OutboxRow> claimTransactions() {
+        List<UUID> candidates = jdbcTemplate.queryForList(CANDIDATE_TX_SQL, UUID.class, batchSize);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        UUID[] candidateIds = candidates.toArray(UUID[]::new);
+        List<UUID> claimed = jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(CLAIM_TX_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", candidateIds));
+            statement.setInt(2, CLAIM_LOCK_NAMESPACE);
+            return statement;
+        }, (rs, rowNum) -> rs.getObject("tx_id", UUID.class));
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+        UUID[] claimedIds = claimed.toArray(UUID[]::new);
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(CLAIMED_ROWS_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", claimedIds));
+            return statement;
+        }, (rs, rowNum) -> new OutboxRow(
+            rs.getLong("id"),
+            rs.getObject("tx_id", UUID.class),
+            rs.getString("audit_table"),
+            rs.getTimestamp("recorded_at")
+        ));
+    }
+
+    private void insertAuditRows(String table, List<OutboxRow> rows, Map<UUID, Integer> revisions) {
+        Long[] ids = rows.stream().map(OutboxRow::id).toArray(Long[]::new);
+        Integer[] revs = rows.stream().map(row -> revisions.get(row.txId())).toArray(Integer[]::new);
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(INSERT_AUDIT_SQL.formatted(table));
+            Array idArray = connection.createArrayOf("bigint", ids);
+            Array revArray = connection.createArrayOf("integer", revs);
+            statement.setArray(1, idArray);
+            statement.setArray(2, revArray);
+            return statement;
+        });
+    }
+
+    /**
+     * Reserve revision numbers from cbmm.revinfo_seq
+     * Each nextval value v reserves the block (v - 50, v], the same interpretation Hibernate's pooled
+     * optimizer uses, so revisions never collide with Envers when switching modes
+     */
+    private List<Integer> allocateRevisions(int count) {
+        int blocks = (count + REVISION_BLOCK_SIZE - 1) / REVISION_BLOCK_SIZE;
+        List<Long> highs = jdbcTemplate.queryForList(NEXT_REVISION_BLOCKS_SQL, Long.class, blocks);
+
+        List<Integer> revisions = new ArrayList<>(blocks * REVISION_BLOCK_SIZE);
+        for (Long high : highs) {
+            for (long rev = Math.max(1, high - REVISION_BLOCK_SIZE + 1); rev <= high; rev++) {
+                revisions.add(Math.toIntExact(rev));
+            }
+        }
+        // The very first block of the sequence (value 1) only holds a single revision
+        if (revisions.size() < count) {
+            revisions.addAll(allocateRevisions(count - revisions.size()));
+        }
+        return revisions;
+    }
+
+    private static int countTransactions(List<OutboxRow> rows) {
+        return (int) rows.stream().map(OutboxRow::txId).distinct().count();
+    }
+
+    private static String validateAuditTable(String table) {
+        if (!AUDIT_TABLE.matcher(table).matches()) {
+            throw new IllegalStateException("Unexpected audit table in outbox: " + table);
+        }
+        return table;
+    }
+
+    private record OutboxRow(long id, UUID txId, String auditTable, Timestamp recordedAt) {
+    }
+}
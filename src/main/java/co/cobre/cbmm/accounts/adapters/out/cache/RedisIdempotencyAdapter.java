@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -14,6 +15,7 @@ import java.time.Duration;
  * Uses Redisson for distributed cache operations
  */
 @Component
+@Profile("!perf")
 @RequiredArgsConstructor
 @Slf4j
 public class RedisIdempotencyAdapter implements IdempotencyPort {
@@ -42,7 +44,7 @@ public class RedisIdempotencyAdapter implements IdempotencyPort {
         String value = String.format("processed_at:%d", System.currentTimeMillis());
         bucket.set(value, Duration.ofSeconds(ttlSeconds));
 
-        log.info("Marked event {} as processed with TTL {} seconds", eventId, ttlSeconds);
+        log.debug("Marked event {} as processed with TTL {} seconds", eventId, ttlSeconds);
     }
 }
 
@@ -0,0 +1,123 @@
+package co.cobre.cbmm.accounts.adapters.out.inmemory;
+
+import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+import co.cobre.cbmm.accounts.domain.model.Account;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.AccountRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory adapter implementing AccountRepositoryPort and AccountQueryPort (perf profile)
+ * Accounts live in a ConcurrentHashMap keyed by id plus a number -> id index. Saves compare the
+ * version like JPA's @Version does, so optimistic-locking retries still happen under contention.
+ * Seeded at startup with perf.accounts.count accounts named with perf.accounts.number-format; account i
+ * holds perf.accounts.currencies[i % size], the same rule the synthetic workload generator uses.
+ */
+@Component
+@Profile("perf")
+@Slf4j
+public class InMemoryAccountAdapter implements AccountRepositoryPort, AccountQueryPort {
+
+    private final ConcurrentHashMap<UUID, Account> accountsById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UUID> idsByNumber = new ConcurrentHashMap<>();
+
+    public InMemoryAccountAdapter(@Value("${perf.accounts.count:1000}") int count,
+                                  @Value("${perf.accounts.number-format:ACC-PERF-%06d}") String numberFormat,
+                                  @Value("${perf.accounts.currencies:USD}") List<Currency> currencies,
+                                  @Value("${perf.accounts.initial-balance:1000000000}") BigDecimal initialBalance) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            open(new Account(UUID.randomUUID(), String.format(numberFormat, i), currencies.get(i % currencies.size()),
+                initialBalance, AccountStatus.ACTIVE, now, now, 0));
+        }
+        log.info("InMemoryAccountAdapter seeded with {} accounts ({}, currencies {})", count, numberFormat, currencies);
+    }
+
+    /**
+     * Add an account as is (no version check)
+     */
+    public void open(Account account) {
+        accountsById.put(account.accountId(), account);
+        idsByNumber.put(account.accountNumber(), account.accountId());
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        UUID accountId = idsByNumber.get(accountNumber);
+        return accountId == null ? Optional.empty() : findById(accountId);
+    }
+
+    @Override
+    public Optional<Account> findById(UUID accountId) {
+        return Optional.ofNullable(accountsById.get(accountId));
+    }
+
+    @Override
+    public Optional<Integer> findVersionByAccountNumber(String accountNumber) {
+        return findByAccountNumber(accountNumber).map(Account::version);
+    }
+
+    @Override
+    public Optional<String> findAccountNumberById(UUID accountId) {
+        return findById(accountId).map(Account::accountNumber);
+    }
+
+    @Override
+    public Account save(Account account) {
+        if (!idsByNumber.containsKey(account.accountNumber())) {
+            UUID accountId = account.accountId() != null ? account.accountId() : UUID.randomUUID();
+            Account created = new Account(accountId, account.accountNumber(), account.currency(), account.balance(),
+                account.status(), account.createdAt(), account.updatedAt(), 0);
+            open(created);
+            return created;
+        }
+        return accountsById.compute(account.accountId(), (id, current) -> {
+            if (current != null && account.version() != null && !current.version().equals(account.version())) {
+                throw new ObjectOptimisticLockingFailureException(Account.class, id);
+            }
+            int version = current == null ? 0 : current.version() + 1;
+            return copyWithVersion(account, version);
+        });
+    }
+
+    @Override
+    public Optional<AccountDTO> findAccountByNumber(String accountNumber) {
+        return findByAccountNumber(accountNumber).map(account -> new AccountDTO(
+            account.accountId(),
+            account.accountNumber(),
+            account.currency().getCode(),
+            account.balance(),
+            account.status().name(),
+            account.createdAt(),
+            account.updatedAt(),
+            account.version()));
+    }
+
+    @Override
+    public boolean existsById(UUID accountId) {
+        return accountsById.containsKey(accountId);
+    }
+
+    @Override
+    public List<UUID> findAllAccountIds() {
+        return List.copyOf(accountsById.keySet());
+    }
+
+    private static Account copyWithVersion(Account account, int version) {
+        return new Account(account.accountId(), account.accountNumber(), account.currency(), account.balance(),
+            account.status(), account.createdAt(), account.updatedAt(), version);
+    }
+}
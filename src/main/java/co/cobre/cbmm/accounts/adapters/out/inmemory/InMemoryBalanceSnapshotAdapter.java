@@ -0,0 +1,115 @@
+package co.cobre.cbmm.accounts.adapters.out.inmemory;
+
+import co.cobre.cbmm.accounts.domain.model.BalanceSnapshot;
+import co.cobre.cbmm.accounts.domain.model.Transaction;
+import co.cobre.cbmm.accounts.ports.out.BalanceSnapshotPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory adapter implementing BalanceSnapshotPort (perf profile)
+ * Snapshots are derived from InMemoryTransactionAdapter with the same rules as the SQL version:
+ * a day is snapshotted with the balance after its last transaction.
+ */
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+public class InMemoryBalanceSnapshotAdapter implements BalanceSnapshotPort {
+
+    private final InMemoryTransactionAdapter transactions;
+    private final ConcurrentHashMap<UUID, ConcurrentSkipListMap<LocalDate, BalanceSnapshot>> snapshotsByAccount =
+        new ConcurrentHashMap<>();
+    private final ReentrantLock backfillLock = new ReentrantLock();
+    private LocalDate backfillCompletedUntil = LocalDate.EPOCH;
+    private LocalDateTime backfillLockedUntil;
+
+    @Override
+    public Optional<BalanceSnapshot> findLatestBefore(UUID accountId, LocalDate day) {
+        ConcurrentSkipListMap<LocalDate, BalanceSnapshot> snapshots = snapshotsByAccount.get(accountId);
+        return Optional.ofNullable(snapshots).map(map -> map.lowerEntry(day)).map(Map.Entry::getValue);
+    }
+
+    @Override
+    public int snapshotDay(LocalDate day) {
+        int written = 0;
+        for (UUID accountId : transactions.accountsWithActivityOn(day)) {
+            BalanceSnapshot snapshot = endOfDay(accountId, day, day.plusDays(1)).get(day);
+            if (snapshot != null) {
+                snapshots(accountId).put(day, snapshot);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public int snapshotAccountDays(UUID accountId, LocalDate fromDay, LocalDate untilDay) {
+        int written = 0;
+        for (BalanceSnapshot snapshot : endOfDay(accountId, fromDay, untilDay).values()) {
+            if (snapshots(accountId).putIfAbsent(snapshot.snapshotDate(), snapshot) == null) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public Optional<LocalDate> claimBackfill(LocalDate untilDay, Duration claimTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        backfillLock.lock();
+        try {
+            if (!backfillCompletedUntil.isBefore(untilDay)
+                    || (backfillLockedUntil != null && !backfillLockedUntil.isBefore(now))) {
+                return Optional.empty();
+            }
+            backfillLockedUntil = now.plus(claimTimeout);
+            return Optional.of(backfillCompletedUntil);
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    @Override
+    public void completeBackfill(LocalDate untilDay) {
+        backfillLock.lock();
+        try {
+            backfillCompletedUntil = untilDay;
+            backfillLockedUntil = null;
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    /**
+     * Balance after the last transaction of each day with activity in [fromDay, untilDay)
+     */
+    private Map<LocalDate, BalanceSnapshot> endOfDay(UUID accountId, LocalDate fromDay, LocalDate untilDay) {
+        Map<LocalDate, BalanceSnapshot> lastByDay = new LinkedHashMap<>();
+        List<Transaction> chronological = transactions.chronological(accountId);
+        for (Transaction transaction : chronological) {
+            LocalDate day = transaction.createdAt().toLocalDate();
+            if (!day.isBefore(fromDay) && day.isBefore(untilDay)) {
+                lastByDay.put(day, new BalanceSnapshot(accountId, day, transaction.balanceAfter(),
+                    transaction.transactionId(), transaction.createdAt()));
+            }
+        }
+        return lastByDay;
+    }
+
+    private ConcurrentSkipListMap<LocalDate, BalanceSnapshot> snapshots(UUID accountId) {
+        return snapshotsByAccount.computeIfAbsent(accountId, id -> new ConcurrentSkipListMap<>());
+    }
+}
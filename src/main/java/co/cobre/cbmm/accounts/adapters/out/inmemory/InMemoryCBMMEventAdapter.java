@@ -0,0 +1,75 @@
+package co.cobre.cbmm.accounts.adapters.out.inmemory;
+
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory adapter implementing CBMMEventRepositoryPort (perf profile)
+ * Keeps every event with its status; a second save of the same event id fails like the unique constraint does.
+ */
+@Component
+@Profile("perf")
+public class InMemoryCBMMEventAdapter implements CBMMEventRepositoryPort {
+
+    /**
+     * Stored event with its processing status
+     */
+    public record StoredEvent(CBMMEventDTO event, String status, Integer retryCount, LocalDateTime updatedAt) {
+    }
+
+    private static final Set<String> IN_FLIGHT_STATUSES = Set.of("PENDING", "PROCESSING", "RETRYING");
+
+    private final ConcurrentHashMap<String, StoredEvent> eventsById = new ConcurrentHashMap<>();
+
+    @Override
+    public CBMMEventDTO save(CBMMEventDTO event) {
+        if (eventsById.putIfAbsent(event.eventId(), new StoredEvent(event, "PENDING", 0, LocalDateTime.now())) != null) {
+            throw new DuplicateKeyException("CBMM event already stored: " + event.eventId());
+        }
+        return event;
+    }
+
+    @Override
+    public void updateStatus(String eventId, String status, Integer retryCount) {
+        eventsById.computeIfPresent(eventId, (id, stored) -> new StoredEvent(stored.event(), status, retryCount, LocalDateTime.now()));
+    }
+
+    @Override
+    public Optional<Integer> reclaim(String eventId, Duration claimTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(claimTimeout);
+        AtomicReference<Integer> retryCount = new AtomicReference<>();
+        eventsById.computeIfPresent(eventId, (id, stored) -> {
+            boolean abandoned = IN_FLIGHT_STATUSES.contains(stored.status()) && stored.updatedAt().isBefore(staleBefore);
+            if (!"FAILED".equals(stored.status()) && !abandoned) {
+                return stored;
+            }
+            retryCount.set(stored.retryCount() + 1);
+            return new StoredEvent(stored.event(), "RETRYING", retryCount.get(), now);
+        });
+        return Optional.ofNullable(retryCount.get());
+    }
+
+    @Override
+    public Optional<String> findStatus(String eventId) {
+        return find(eventId).map(StoredEvent::status);
+    }
+
+    public Optional<StoredEvent> find(String eventId) {
+        return Optional.ofNullable(eventsById.get(eventId));
+    }
+
+    public int size() {
+        return eventsById.size();
+    }
+}
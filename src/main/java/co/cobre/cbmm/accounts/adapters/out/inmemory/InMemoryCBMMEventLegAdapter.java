@@ -0,0 +1,36 @@
+package co.cobre.cbmm.accounts.adapters.out.inmemory;
+
+import co.cobre.cbmm.accounts.ports.out.CBMMEventLegRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory adapter implementing CBMMEventLegRepositoryPort (perf profile)
+ * Marks are not undone on rollback (see InMemoryTransactionManager); the leg marks itself after its last write.
+ */
+@Component
+@Profile("perf")
+public class InMemoryCBMMEventLegAdapter implements CBMMEventLegRepositoryPort {
+
+    private final Set<String> appliedLegs = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean isApplied(String eventId, Leg leg) {
+        return appliedLegs.contains(key(eventId, leg));
+    }
+
+    @Override
+    public void markApplied(String eventId, Leg leg) {
+        if (!appliedLegs.add(key(eventId, leg))) {
+            throw new DuplicateKeyException("CBMM event leg already applied: " + eventId + " " + leg);
+        }
+    }
+
+    private static String key(String eventId, Leg leg) {
+        return eventId + '|' + leg;
+    }
+}
@@ -0,0 +1,37 @@
+package co.cobre.cbmm.accounts.adapters.out.inmemory;
+
+import co.cobre.cbmm.accounts.ports.out.IdempotencyPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory adapter implementing IdempotencyPort (perf profile)
+ * Stores the expiry (System.nanoTime based) of each processed event id; expired ids are treated as
+ * not processed and dropped when looked up.
+ */
+@Component
+@Profile("perf")
+public class InMemoryIdempotencyAdapter implements IdempotencyPort {
+
+    private final ConcurrentHashMap<String, Long> expiryNanosByEventId = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEventProcessed(String eventId) {
+        Long expiresAt = expiryNanosByEventId.get(eventId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt > 0) {
+            expiryNanosByEventId.remove(eventId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void markEventAsProcessed(String eventId, long ttlSeconds) {
+        expiryNanosByEventId.put(eventId, System.nanoTime() + ttlSeconds * 1_000_000_000L);
+    }
+}
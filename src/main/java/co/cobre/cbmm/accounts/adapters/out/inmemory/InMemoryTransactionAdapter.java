@@ -0,0 +1,148 @@
+package co.cobre.cbmm.accounts.adapters.out.inmemory;
+
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.model.Transaction;
+import co.cobre.cbmm.accounts.domain.model.TransactionWatermark;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * In-memory adapter implementing TransactionRepositoryPort and TransactionQueryPort (perf profile)
+ * Each account has an append-only lock-free queue of transactions in insertion order; saves are
+ * O(1) and reads copy the queue, which is fine because reads are not on the event hot path.
+ */
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+public class InMemoryTransactionAdapter implements TransactionRepositoryPort, TransactionQueryPort {
+
+    private static final Comparator<Transaction> CHRONOLOGICAL =
+        Comparator.comparing(Transaction::createdAt).thenComparing(Transaction::transactionId);
+
+    private final InMemoryAccountAdapter accounts;
+    private final ConcurrentHashMap<UUID, ConcurrentLinkedQueue<Transaction>> transactionsByAccount =
+        new ConcurrentHashMap<>();
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        Transaction saved = new Transaction(
+            transaction.transactionId() != null ? transaction.transactionId() : UUID.randomUUID(),
+            transaction.accountId(),
+            transaction.amount(),
+            transaction.type(),
+            transaction.currency(),
+            transaction.balanceAfter(),
+            transaction.createdAt() != null ? transaction.createdAt() : LocalDateTime.now(),
+            transaction.status());
+        transactionsByAccount.computeIfAbsent(saved.accountId(), id -> new ConcurrentLinkedQueue<>()).add(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<TransactionWatermark> findLatestWatermark(UUID accountId) {
+        return chronological(accountId).stream()
+            .reduce((first, second) -> second)
+            .map(latest -> new TransactionWatermark(latest.transactionId(), latest.createdAt()));
+    }
+
+    @Override
+    public Page<TransactionResponseDTO> findByAccountId(UUID accountId, Pageable pageable) {
+        requireAccount(accountId);
+        return page(accountId, pageable).map(TransactionResponseDTO::from);
+    }
+
+    @Override
+    public long streamByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to,
+                                  Consumer<TransactionResponseDTO> consumer) {
+        long count = 0;
+        for (Transaction transaction : chronological(accountId)) {
+            if ((from == null || !transaction.createdAt().isBefore(from))
+                && (to == null || transaction.createdAt().isBefore(to))) {
+                consumer.accept(TransactionResponseDTO.from(transaction));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Optional<TransactionResponseDTO> findLatestBetween(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        return chronological(accountId).stream()
+            .filter(transaction -> (from == null || !transaction.createdAt().isBefore(from))
+                && !transaction.createdAt().isAfter(to))
+            .reduce((first, second) -> second)
+            .map(TransactionResponseDTO::from);
+    }
+
+    @Override
+    public Optional<TransactionResponseDTO> findFirstAfter(UUID accountId, LocalDateTime after) {
+        return chronological(accountId).stream()
+            .filter(transaction -> transaction.createdAt().isAfter(after))
+            .findFirst()
+            .map(TransactionResponseDTO::from);
+    }
+
+    /**
+     * Transactions of an account in chronological order
+     */
+    List<Transaction> chronological(UUID accountId) {
+        ConcurrentLinkedQueue<Transaction> transactions = transactionsByAccount.get(accountId);
+        if (transactions == null) {
+            return List.of();
+        }
+        List<Transaction> sorted = new ArrayList<>(transactions);
+        sorted.sort(CHRONOLOGICAL);
+        return sorted;
+    }
+
+    /**
+     * Accounts with at least one transaction on {@code day}
+     */
+    List<UUID> accountsWithActivityOn(LocalDate day) {
+        return transactionsByAccount.entrySet().stream()
+            .filter(entry -> entry.getValue().stream()
+                .anyMatch(transaction -> transaction.createdAt().toLocalDate().equals(day)))
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    private Page<Transaction> page(UUID accountId, Pageable pageable) {
+        List<Transaction> transactions = chronological(accountId);
+        Sort.Order createdAt = pageable.getSort().getOrderFor("createdAt");
+        if (createdAt == null || createdAt.isDescending()) {
+            transactions = transactions.reversed();
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(transactions, pageable, transactions.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), transactions.size());
+        int to = Math.min(from + pageable.getPageSize(), transactions.size());
+        return new PageImpl<>(transactions.subList(from, to), pageable, transactions.size());
+    }
+
+    private void requireAccount(UUID accountId) {
+        if (!accounts.existsById(accountId)) {
+            throw new AccountNotFoundException(accountId.toString());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package co.cobre.cbmm.accounts.adapters.out.inmemory;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction manager for the perf profile, where no adapter is transactional
+ * Keeps the @Transactional semantics the application relies on (propagation, synchronizations such as the
+ * commit timers and JFR event-id bindings) but commits and rollbacks do nothing: in-memory writes are
+ * visible immediately and are not undone on rollback.
+ * Delegates instead of extending AbstractPlatformTransactionManager, whose final methods would break the
+ * class-based proxy created by the adapter aspects.
+ */
+public class InMemoryTransactionManager implements PlatformTransactionManager {
+
+    private final NoOpTransactionManager delegate = new NoOpTransactionManager();
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+        return delegate.getTransaction(definition);
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {
+        delegate.commit(status);
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) {
+        delegate.rollback(status);
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new NoOpTransaction(TransactionSynchronizationManager.hasResource(this));
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((NoOpTransaction) transaction).existing();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return TransactionSynchronizationManager.unbindResource(this);
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            TransactionSynchronizationManager.bindResource(this, suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            // Nothing to commit
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            // Nothing to roll back
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(this);
+        }
+    }
+
+    private record NoOpTransaction(boolean existing) {
+    }
+}
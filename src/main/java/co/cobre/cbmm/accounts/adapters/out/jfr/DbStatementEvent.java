@@ -0,0 +1,25 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDBC statement or batch executed by Hibernate (duration = execution time)
+ */
+@Name("co.cobre.cbmm.DbStatement")
+@Label("CBMM DB Statement")
+@Category({"CBMM", "Database"})
+@Description("JDBC statement executed through Hibernate")
+public class DbStatementEvent extends jdk.jfr.Event {
+
+    @Label("Event ID")
+    public String eventId;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Batch")
+    public boolean batch;
+}
@@ -0,0 +1,26 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * End-to-end processing of one CBMM event (duration = whole use case, including account processing)
+ */
+@Name("co.cobre.cbmm.EventProcessing")
+@Label("CBMM Event Processing")
+@Category({"CBMM", "Accounts"})
+@Description("Processing of one CBMM event")
+public class EventProcessingEvent extends jdk.jfr.Event {
+
+    @Label("Event ID")
+    public String eventId;
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Outcome")
+    @Description("completed or the simple name of the exception thrown")
+    public String outcome;
+}
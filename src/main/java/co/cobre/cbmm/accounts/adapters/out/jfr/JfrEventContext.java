@@ -0,0 +1,90 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * CBMM event id bound to the current thread, copied into every JFR event recorded on it
+ * so the whole timeline of a slow cbmm_event can be filtered by its id, along with the longest account
+ * lock wait of the event so far (its legs wait in parallel, so the longest wait is what the event spent waiting)
+ */
+public final class JfrEventContext {
+
+    private static final ThreadLocal<String> CURRENT_EVENT_ID = new ThreadLocal<>();
+    private static final ThreadLocal<LongAccumulator> CURRENT_LOCK_WAIT = new ThreadLocal<>();
+
+    private JfrEventContext() {
+    }
+
+    /**
+     * Bind {@code eventId} to the current thread until the returned scope is closed
+     */
+    public static Scope bind(String eventId) {
+        return bind(eventId, CURRENT_LOCK_WAIT.get());
+    }
+
+    /**
+     * Bind {@code eventId} and the accumulator of its lock waits ({@link #newLockWait}) until the returned scope is closed
+     */
+    public static Scope bind(String eventId, LongAccumulator lockWait) {
+        String previous = CURRENT_EVENT_ID.get();
+        LongAccumulator previousLockWait = CURRENT_LOCK_WAIT.get();
+        CURRENT_EVENT_ID.set(eventId);
+        CURRENT_LOCK_WAIT.set(lockWait);
+        return () -> {
+            restore(CURRENT_EVENT_ID, previous);
+            restore(CURRENT_LOCK_WAIT, previousLockWait);
+        };
+    }
+
+    /**
+     * Bind {@code eventId} until the current transaction completes, so statements flushed at commit
+     * (after the @Transactional method returned) are still attributed to the event
+     */
+    public static void bindToCurrentTransaction(String eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Scope scope = bind(eventId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                scope.close();
+            }
+        });
+    }
+
+    public static String currentEventId() {
+        return CURRENT_EVENT_ID.get();
+    }
+
+    /**
+     * Lock wait accumulator of the bound event, null outside an event
+     */
+    public static LongAccumulator currentLockWait() {
+        return CURRENT_LOCK_WAIT.get();
+    }
+
+    /**
+     * Accumulator keeping the longest lock wait (nanoseconds) of an event
+     */
+    public static LongAccumulator newLockWait() {
+        return new LongAccumulator(Math::max, 0L);
+    }
+
+    private static <T> void restore(ThreadLocal<T> threadLocal, T previous) {
+        if (previous == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(previous);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
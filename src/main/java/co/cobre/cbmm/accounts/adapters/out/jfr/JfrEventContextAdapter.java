@@ -0,0 +1,62 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.jdbc.QueryProfiler;
+import co.cobre.cbmm.accounts.ports.out.EventContextPort;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * Event context kept in {@link JfrEventContext}; the processing of each event is recorded as a JFR
+ * EventProcessing event, and propagated operations also keep their {@link QueryProfiler} attribution
+ */
+@Component
+public class JfrEventContextAdapter implements EventContextPort {
+
+    @Override
+    public EventScope open(String eventId, String eventType) {
+        EventProcessingEvent jfrEvent = new EventProcessingEvent();
+        jfrEvent.begin();
+        LongAccumulator lockWait = JfrEventContext.newLockWait();
+        JfrEventContext.Scope scope = JfrEventContext.bind(eventId, lockWait);
+        return new EventScope() {
+            @Override
+            public long lockWaitNanos() {
+                return lockWait.get();
+            }
+
+            @Override
+            public void end(String outcome) {
+                scope.close();
+                jfrEvent.end();
+                if (jfrEvent.shouldCommit()) {
+                    jfrEvent.eventId = eventId;
+                    jfrEvent.eventType = eventType;
+                    jfrEvent.outcome = outcome;
+                    jfrEvent.commit();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void bindToCurrentTransaction(String eventId) {
+        JfrEventContext.bindToCurrentTransaction(eventId);
+    }
+
+    @Override
+    public <T> Supplier<T> propagate(Supplier<T> operation) {
+        String eventId = JfrEventContext.currentEventId();
+        LongAccumulator lockWait = JfrEventContext.currentLockWait();
+        Supplier<T> profiled = QueryProfiler.propagate(operation);
+        if (eventId == null) {
+            return profiled;
+        }
+        return () -> {
+            try (JfrEventContext.Scope ignored = JfrEventContext.bind(eventId, lockWait)) {
+                return profiled.get();
+            }
+        };
+    }
+}
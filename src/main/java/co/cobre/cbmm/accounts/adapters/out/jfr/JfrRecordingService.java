@@ -0,0 +1,165 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * On-demand continuous JFR recording (no agent required)
+ * Uses the JDK "default" settings (~1% overhead) plus the CBMM events, keeps a bounded ring buffer on disk
+ * (max age / max size) and dumps it to a local .jfr file on request, keeping only the newest max-dumps files.
+ * While no recording runs, the CBMM events are disabled and cost a single enabled check.
+ */
+@Service
+@Slf4j
+public class JfrRecordingService {
+
+    private static final String RECORDING_NAME = "ms-accounts-continuous";
+    private static final String FILE_PREFIX = "ms-accounts-";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final String settings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Duration dbStatementThreshold;
+    private final int maxDumps;
+
+    private Recording recording;
+
+    public JfrRecordingService(@Value("${jfr.directory:${java.io.tmpdir}/jfr}") Path directory,
+                               @Value("${jfr.settings:default}") String settings,
+                               @Value("${jfr.max-age:30m}") Duration maxAge,
+                               @Value("${jfr.max-size:256MB}") DataSize maxSize,
+                               @Value("${jfr.db-statement-threshold:0ms}") Duration dbStatementThreshold,
+                               @Value("${jfr.max-dumps:5}") int maxDumps) {
+        this.directory = directory;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.dbStatementThreshold = dbStatementThreshold;
+        this.maxDumps = maxDumps;
+    }
+
+    /**
+     * Start the continuous recording (no-op if it is already running)
+     */
+    public synchronized Map<String, Object> start() {
+        if (isRunning()) {
+            return status();
+        }
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSize.toBytes());
+            newRecording.enable(EventProcessingEvent.class);
+            newRecording.enable(PipelineStageEvent.class);
+            newRecording.enable(LockAcquisitionEvent.class);
+            newRecording.enable(DbStatementEvent.class).withThreshold(dbStatementThreshold);
+            newRecording.start();
+            recording = newRecording;
+            log.info("JFR recording '{}' started (settings: {}, max age: {}, max size: {})",
+                RECORDING_NAME, settings, maxAge, maxSize);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load JFR settings '" + settings + "'", e);
+        }
+        return status();
+    }
+
+    /**
+     * Write everything currently buffered to a new file in the JFR directory, then delete the oldest dumps beyond
+     * max-dumps; the recording keeps running
+     */
+    public synchronized Map<String, Object> dump() {
+        if (!isRunning()) {
+            throw new IllegalStateException("No JFR recording is running");
+        }
+        Path file = directory.resolve(FILE_PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+        try {
+            Files.createDirectories(directory);
+            recording.dump(file);
+            deleteOldDumps();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump JFR recording to " + file, e);
+        }
+        log.info("JFR recording '{}' dumped to {}", RECORDING_NAME, file);
+
+        Map<String, Object> response = status();
+        response.put("file", file.toAbsolutePath().toString());
+        return response;
+    }
+
+    /**
+     * Stop and discard the recording (dump first to keep its data)
+     */
+    public synchronized Map<String, Object> stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info("JFR recording '{}' stopped", RECORDING_NAME);
+        }
+        return status();
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("name", RECORDING_NAME);
+        status.put("state", recording != null ? recording.getState().name() : RecordingState.CLOSED.name());
+        status.put("settings", settings);
+        status.put("max_age", maxAge.toString());
+        status.put("max_size_bytes", maxSize.toBytes());
+        status.put("directory", directory.toAbsolutePath().toString());
+        status.put("max_dumps", maxDumps);
+        if (recording != null && recording.getStartTime() != null) {
+            status.put("started_at", recording.getStartTime().toString());
+        }
+        return status;
+    }
+
+    /**
+     * File names sort by their timestamp, so everything before the newest max-dumps files goes
+     */
+    private void deleteOldDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files
+                .filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+                .filter(path -> path.getFileName().toString().endsWith(".jfr"))
+                .sorted()
+                .toList();
+        }
+        for (Path old : dumps.subList(0, Math.max(0, dumps.size() - maxDumps))) {
+            Files.deleteIfExists(old);
+            log.info("Deleted old JFR dump {}", old);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+}
@@ -0,0 +1,78 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import jdk.jfr.EventType;
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Emits a {@link DbStatementEvent} for every JDBC statement/batch Hibernate executes
+ * Hibernate creates one listener per session (hibernate.session.events.auto), so the event in flight is
+ * plain state; the SQL comes from the session-factory-wide {@link SqlCapture} inspector, which only keeps
+ * it while the event type is enabled in a running recording.
+ */
+public class JfrStatementListener implements SessionEventListener {
+
+    private static final EventType DB_STATEMENT = EventType.getEventType(DbStatementEvent.class);
+
+    private transient DbStatementEvent current;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        begin(false);
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        commit();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        begin(true);
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        commit();
+    }
+
+    private void begin(boolean batch) {
+        if (!DB_STATEMENT.isEnabled()) {
+            return;
+        }
+        DbStatementEvent event = new DbStatementEvent();
+        event.batch = batch;
+        event.begin();
+        current = event;
+    }
+
+    private void commit() {
+        DbStatementEvent event = current;
+        if (event == null) {
+            return;
+        }
+        current = null;
+        event.end();
+        if (event.shouldCommit()) {
+            event.sql = SqlCapture.LAST_SQL.get();
+            event.eventId = JfrEventContext.currentEventId();
+            event.commit();
+        }
+    }
+
+    /**
+     * Remembers the last SQL prepared on the current thread (only while DB statement events are enabled)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (DB_STATEMENT.isEnabled()) {
+                LAST_SQL.set(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Distributed lock acquisition attempt (duration = time waiting for the lock)
+ */
+@Name("co.cobre.cbmm.LockAcquisition")
+@Label("CBMM Lock Acquisition")
+@Category({"CBMM", "Accounts"})
+@Description("Wait for a distributed account lock")
+public class LockAcquisitionEvent extends jdk.jfr.Event {
+
+    @Label("Event ID")
+    public String eventId;
+
+    @Label("Lock Key")
+    public String lockKey;
+
+    @Label("Outcome")
+    @Description("acquired, timeout or interrupted")
+    public String outcome;
+}
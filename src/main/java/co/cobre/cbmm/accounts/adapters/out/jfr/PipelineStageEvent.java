@@ -0,0 +1,29 @@
+package co.cobre.cbmm.accounts.adapters.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One timed pipeline stage (same stages as cbmm.accounts.pipeline.stage.duration)
+ * Stages are timed by the caller, so the event is committed at the end of the stage and
+ * carries the stage duration as a field
+ */
+@Name("co.cobre.cbmm.PipelineStage")
+@Label("CBMM Pipeline Stage")
+@Category({"CBMM", "Accounts"})
+@Description("Latency of one stage of the CBMM event pipeline")
+public class PipelineStageEvent extends jdk.jfr.Event {
+
+    @Label("Event ID")
+    public String eventId;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Stage Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long stageDuration;
+}
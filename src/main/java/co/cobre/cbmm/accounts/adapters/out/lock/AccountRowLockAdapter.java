@@ -0,0 +1,22 @@
+package co.cobre.cbmm.accounts.adapters.out.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Database adapter implementing DistributedLockPort with a row lock on the account (lock.provider=row):
+ * {@code SELECT ... FOR UPDATE} inside the caller's transaction, held until it ends
+ * An unknown account matches no row: the lock fails with AccountNotFoundException instead of locking nothing.
+ */
+@Component
+@ConditionalOnProperty(name = "lock.provider", havingValue = "row")
+public class AccountRowLockAdapter extends TransactionScopedLockAdapter {
+
+    private static final String LOCK_ACCOUNT_SQL =
+        "SELECT account_id FROM cbmm.account WHERE account_number = ? FOR UPDATE";
+
+    public AccountRowLockAdapter(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate, LOCK_ACCOUNT_SQL);
+    }
+}
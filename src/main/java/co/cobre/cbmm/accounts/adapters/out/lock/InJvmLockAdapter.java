@@ -0,0 +1,115 @@
+package co.cobre.cbmm.accounts.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-JVM adapter implementing DistributedLockPort (lock.provider=jvm): one reentrant, owner-tracked lock per key
+ * Only correct with a single instance; meant for the perf profile and tests. Locks are semaphores, so they park
+ * virtual threads without pinning them and an async owner can release from any thread; async waits park a
+ * virtual thread. Leases are not supported (locks are held until unlocked).
+ * Locks are never evicted, so the map grows with the number of distinct keys (accounts).
+ */
+@Component
+@ConditionalOnProperty(name = "lock.provider", havingValue = "jvm")
+public class InJvmLockAdapter implements DistributedLockPort {
+
+    private final ConcurrentHashMap<String, OwnedLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        return lockFor(lockKey).tryAcquire(Thread.currentThread().threadId(), waitTime, unit);
+    }
+
+    @Override
+    public boolean unlock(String lockKey) {
+        OwnedLock lock = locks.get(lockKey);
+        return lock != null && lock.release(Thread.currentThread().threadId());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime,
+                                                   TimeUnit unit) {
+        OwnedLock lock = lockFor(lockKey);
+        if (lock.tryAcquireNow(ownerId)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        CompletableFuture<Boolean> acquired = new CompletableFuture<>();
+        Thread.ofVirtual().name("jvm-lock-wait").start(() -> {
+            try {
+                acquired.complete(lock.tryAcquire(ownerId, waitTime, unit));
+            } catch (InterruptedException e) {
+                acquired.completeExceptionally(new CompletionException(e));
+            }
+        });
+        return acquired;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> unlockAsync(String lockKey, long ownerId) {
+        OwnedLock lock = locks.get(lockKey);
+        return CompletableFuture.completedFuture(lock != null && lock.release(ownerId));
+    }
+
+    private OwnedLock lockFor(String lockKey) {
+        return locks.computeIfAbsent(lockKey, key -> new OwnedLock());
+    }
+
+    /**
+     * Binary semaphore plus owner id and hold count; holds is only touched by the current owner
+     */
+    private static final class OwnedLock {
+
+        private static final long NO_OWNER = Long.MIN_VALUE;
+
+        private final Semaphore permit = new Semaphore(1);
+        private volatile long owner = NO_OWNER;
+        private int holds;
+
+        boolean tryAcquireNow(long ownerId) {
+            if (owner == ownerId) {
+                holds++;
+                return true;
+            }
+            if (!permit.tryAcquire()) {
+                return false;
+            }
+            own(ownerId);
+            return true;
+        }
+
+        boolean tryAcquire(long ownerId, long waitTime, TimeUnit unit) throws InterruptedException {
+            if (tryAcquireNow(ownerId)) {
+                return true;
+            }
+            if (!permit.tryAcquire(waitTime, unit)) {
+                return false;
+            }
+            own(ownerId);
+            return true;
+        }
+
+        boolean release(long ownerId) {
+            if (owner != ownerId) {
+                return false;
+            }
+            if (--holds == 0) {
+                owner = NO_OWNER;
+                permit.release();
+            }
+            return true;
+        }
+
+        private void own(long ownerId) {
+            holds = 1;
+            owner = ownerId;
+        }
+    }
+}
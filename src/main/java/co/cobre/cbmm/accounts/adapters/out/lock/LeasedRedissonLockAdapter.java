@@ -0,0 +1,382 @@
+package co.cobre.cbmm.accounts.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Redis adapter implementing DistributedLockPort with node-level leases (lock.provider=redis-lease)
+ * The first local request for an account takes its Redisson RLock on behalf of this node, renewed by the
+ * Redisson watchdog, and the node then hands the lock to its own callers one at a time without going back
+ * to Redis. The lease is released when no local caller has needed it for lock.lease.idle-release, after
+ * lock.lease.max-hold, or when another node publishes a release request on {@link #RELEASE_REQUEST_TOPIC}
+ * because it could not take the lock right away; the releasing node then waits lock.lease.contention-yield
+ * before competing for it again. A burst on one account thus costs one Redis acquisition and release instead
+ * of one per leg. Callers' lease times are ignored: the lease lives as long as this node (watchdog timeout)
+ * and a caller holds the lock until it unlocks.
+ */
+@Component
+@ConditionalOnProperty(name = "lock.provider", havingValue = "redis-lease")
+@Slf4j
+public class LeasedRedissonLockAdapter implements DistributedLockPort {
+
+    /** Channel carrying "{@code <nodeId> <lockKey>}" release requests from nodes waiting for a leased lock */
+    public static final String RELEASE_REQUEST_TOPIC = "account:lock:lease-release";
+
+    private static final long NO_OWNER = Long.MIN_VALUE;
+    /** Redis owner ids of the leases start here, far from thread ids and callers' async owner ids */
+    private static final long LEASE_OWNER_BASE = Long.MIN_VALUE / 2;
+
+    private final RedissonClient redissonClient;
+    private final RTopic releaseRequests;
+    private final long idleReleaseNanos;
+    private final long maxHoldNanos;
+    private final long contentionYieldNanos;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong leaseOwnerIds = new AtomicLong();
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter redisAcquisitions;
+    private final Counter localGrants;
+    private Integer listenerId;
+
+    public LeasedRedissonLockAdapter(RedissonClient redissonClient,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${lock.lease.idle-release:20ms}") Duration idleRelease,
+                                     @Value("${lock.lease.max-hold:1s}") Duration maxHold,
+                                     @Value("${lock.lease.contention-yield:10ms}") Duration contentionYield) {
+        this.redissonClient = redissonClient;
+        this.releaseRequests = redissonClient.getTopic(RELEASE_REQUEST_TOPIC);
+        this.idleReleaseNanos = idleRelease.toNanos();
+        this.maxHoldNanos = maxHold.toNanos();
+        this.contentionYieldNanos = contentionYield.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.redisAcquisitions = Counter.builder("cbmm.accounts.lock.lease.acquisitions.total")
+            .description("Account lock leases acquired from Redis")
+            .register(meterRegistry);
+        this.localGrants = Counter.builder("cbmm.accounts.lock.lease.grants.total")
+            .description("Account locks handed to local callers under a lease")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerId = releaseRequests.addListener(String.class, (channel, message) -> onReleaseRequest(message));
+        log.info("Account lock leasing enabled (node {})", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listenerId != null) {
+            releaseRequests.removeListener(listenerId);
+        }
+        leases.values().forEach(lease -> lease.requestRelease("shutdown"));
+    }
+
+    @Override
+    public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        long ownerId = Thread.currentThread().threadId();
+        CompletableFuture<Boolean> acquired = tryLockAsync(lockKey, ownerId, waitTime, leaseTime, unit);
+        try {
+            return acquired.get();
+        } catch (InterruptedException e) {
+            // The request stays queued: give the lock back if it is granted after we stopped waiting
+            acquired.thenAccept(granted -> {
+                if (granted) {
+                    unlockAsync(lockKey, ownerId);
+                }
+            });
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public boolean unlock(String lockKey) {
+        return unlockAsync(lockKey, Thread.currentThread().threadId()).join();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime,
+                                                   TimeUnit unit) {
+        while (true) {
+            CompletableFuture<Boolean> acquired = leases.computeIfAbsent(lockKey, Lease::new)
+                .acquire(ownerId, unit.toNanos(waitTime));
+            if (acquired != null) {
+                return acquired;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> unlockAsync(String lockKey, long ownerId) {
+        Lease lease = leases.get(lockKey);
+        return CompletableFuture.completedFuture(lease != null && lease.release(ownerId));
+    }
+
+    private void onReleaseRequest(String message) {
+        int separator = message.indexOf(' ');
+        if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        Lease lease = leases.get(message.substring(separator + 1));
+        if (lease != null) {
+            lease.requestRelease("contention");
+        }
+    }
+
+    private enum Phase { RELEASED, ACQUIRING, HELD, RELEASING }
+
+    private record Waiter(long ownerId, CompletableFuture<Boolean> granted) {
+    }
+
+    /**
+     * Node-side state of one account lock; all fields are guarded by {@code state}, and futures are completed
+     * and Redis called only after it is unlocked (never while holding it, so nothing parks inside)
+     */
+    private final class Lease {
+
+        private final String lockKey;
+        private final ReentrantLock state = new ReentrantLock();
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private Phase phase = Phase.RELEASED;
+        private boolean retired;
+        private long leaseOwner;
+        private long heldSince;
+        private boolean releaseRequested;
+        private long yieldUntil;
+        private long lastWaitNanos;
+        private long holder = NO_OWNER;
+        private int holds;
+        private long idleGeneration;
+
+        Lease(String lockKey) {
+            this.lockKey = lockKey;
+        }
+
+        /**
+         * @return the caller's future, or null if this lease was just retired and the caller must look it up again
+         */
+        CompletableFuture<Boolean> acquire(long ownerId, long waitNanos) {
+            Waiter waiter = new Waiter(ownerId, new CompletableFuture<>());
+            CompletableFuture<Boolean> result = locked(after -> {
+                if (retired) {
+                    return null;
+                }
+                if (holder == ownerId) {
+                    holds++;
+                    return CompletableFuture.completedFuture(true);
+                }
+                if (phase == Phase.HELD && holder == NO_OWNER && waiters.isEmpty() && grantable()) {
+                    grant(ownerId);
+                    return CompletableFuture.completedFuture(true);
+                }
+                waiters.add(waiter);
+                lastWaitNanos = waitNanos;
+                if (phase == Phase.RELEASED) {
+                    startAcquisition(after);
+                } else if (phase == Phase.HELD && holder == NO_OWNER) {
+                    beginRelease(releaseRequested ? "contention" : "max_hold", after);
+                }
+                return waiter.granted();
+            });
+            if (result == waiter.granted()) {
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS).execute(() -> expire(waiter));
+            }
+            return result;
+        }
+
+        boolean release(long ownerId) {
+            return locked(after -> {
+                if (holder != ownerId) {
+                    return false;
+                }
+                if (--holds > 0) {
+                    return true;
+                }
+                holder = NO_OWNER;
+                if (!grantable()) {
+                    beginRelease(releaseRequested ? "contention" : "max_hold", after);
+                } else {
+                    grantNext(after);
+                }
+                return true;
+            });
+        }
+
+        void requestRelease(String reason) {
+            locked(after -> {
+                if (phase == Phase.HELD) {
+                    releaseRequested = true;
+                    if (holder == NO_OWNER && waiters.isEmpty()) {
+                        beginRelease(reason, after);
+                    }
+                }
+                return null;
+            });
+        }
+
+        private void expire(Waiter waiter) {
+            locked(after -> {
+                if (waiters.remove(waiter)) {
+                    after.add(() -> waiter.granted().complete(false));
+                }
+                return null;
+            });
+        }
+
+        private boolean grantable() {
+            return !releaseRequested && System.nanoTime() - heldSince < maxHoldNanos;
+        }
+
+        private void grant(long ownerId) {
+            holder = ownerId;
+            holds = 1;
+            idleGeneration++;
+            localGrants.increment();
+        }
+
+        private void grantNext(List<Runnable> after) {
+            Waiter next = waiters.poll();
+            if (next != null) {
+                grant(next.ownerId());
+                after.add(() -> next.granted().complete(true));
+                return;
+            }
+            long generation = ++idleGeneration;
+            after.add(() -> CompletableFuture.delayedExecutor(idleReleaseNanos, TimeUnit.NANOSECONDS)
+                .execute(() -> releaseIfIdle(generation)));
+        }
+
+        private void releaseIfIdle(long generation) {
+            locked(after -> {
+                if (phase == Phase.HELD && holder == NO_OWNER && generation == idleGeneration) {
+                    beginRelease("idle", after);
+                }
+                return null;
+            });
+        }
+
+        private void startAcquisition(List<Runnable> after) {
+            phase = Phase.ACQUIRING;
+            long owner = LEASE_OWNER_BASE - leaseOwnerIds.incrementAndGet();
+            long waitNanos = lastWaitNanos;
+            long yieldNanos = yieldUntil - System.nanoTime();
+            after.add(() -> {
+                RLock lock = redissonClient.getLock(lockKey);
+                CompletableFuture<Void> start = yieldNanos > 0
+                    ? CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(yieldNanos, TimeUnit.NANOSECONDS))
+                    : CompletableFuture.completedFuture(null);
+                start.thenCompose(ignored -> lock.tryLockAsync(0, -1, TimeUnit.NANOSECONDS, owner).toCompletableFuture())
+                    .thenCompose(acquired -> {
+                        if (acquired) {
+                            return CompletableFuture.completedFuture(true);
+                        }
+                        // Held by another node: ask it to hand over, then wait with a watchdog-renewed lease
+                        releaseRequests.publishAsync(nodeId + " " + lockKey);
+                        return lock.tryLockAsync(waitNanos, -1, TimeUnit.NANOSECONDS, owner).toCompletableFuture();
+                    })
+                    .whenComplete((acquired, error) -> onAcquired(owner, Boolean.TRUE.equals(acquired), error));
+            });
+        }
+
+        private void onAcquired(long owner, boolean acquired, Throwable error) {
+            List<Waiter> failed = new ArrayList<>();
+            locked(after -> {
+                if (acquired) {
+                    phase = Phase.HELD;
+                    leaseOwner = owner;
+                    heldSince = System.nanoTime();
+                    releaseRequested = false;
+                    redisAcquisitions.increment();
+                    grantNext(after);
+                } else {
+                    phase = Phase.RELEASED;
+                    failed.addAll(waiters);
+                    waiters.clear();
+                    retire();
+                }
+                return null;
+            });
+            for (Waiter waiter : failed) {
+                if (error != null) {
+                    waiter.granted().completeExceptionally(error);
+                } else {
+                    waiter.granted().complete(false);
+                }
+            }
+        }
+
+        private void beginRelease(String reason, List<Runnable> after) {
+            phase = Phase.RELEASING;
+            idleGeneration++;
+            long owner = leaseOwner;
+            boolean yield = !reason.equals("idle");
+            meterRegistry.counter("cbmm.accounts.lock.lease.releases.total", "reason", reason).increment();
+            after.add(() -> redissonClient.getLock(lockKey).unlockAsync(owner).toCompletableFuture()
+                .whenComplete((ignored, error) -> onReleased(yield, error)));
+        }
+
+        private void onReleased(boolean yield, Throwable error) {
+            if (error != null) {
+                log.warn("Lease on {} was not held at release (watchdog could not renew it?): {}",
+                    lockKey, error.getMessage());
+            }
+            locked(after -> {
+                phase = Phase.RELEASED;
+                if (yield) {
+                    yieldUntil = System.nanoTime() + contentionYieldNanos;
+                }
+                if (waiters.isEmpty()) {
+                    retire();
+                } else {
+                    startAcquisition(after);
+                }
+                return null;
+            });
+        }
+
+        private void retire() {
+            if (waiters.isEmpty()) {
+                retired = true;
+                leases.remove(lockKey, this);
+            }
+        }
+
+        private <T> T locked(Function<List<Runnable>, T> body) {
+            List<Runnable> after = new ArrayList<>(1);
+            T result;
+            state.lock();
+            try {
+                result = body.apply(after);
+            } finally {
+                state.unlock();
+            }
+            after.forEach(Runnable::run);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package co.cobre.cbmm.accounts.adapters.out.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL adapter implementing DistributedLockPort with transaction-level advisory locks
+ * (lock.provider=advisory): {@code pg_advisory_xact_lock(hashtext(accountNumber))} inside the caller's
+ * transaction, released automatically on commit or rollback
+ * Unlike row locks it does not touch the account row, so it also serializes accounts not created yet.
+ * REST transactions and event legs both lock the account number, so they exclude each other across instances.
+ * hashtext is 32-bit: two accounts may share a lock, which only adds serialization, never loses it.
+ */
+@Component
+@ConditionalOnProperty(name = "lock.provider", havingValue = "advisory")
+public class PostgresAdvisoryLockAdapter extends TransactionScopedLockAdapter {
+
+    private static final String ADVISORY_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    public PostgresAdvisoryLockAdapter(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate, ADVISORY_LOCK_SQL);
+    }
+}
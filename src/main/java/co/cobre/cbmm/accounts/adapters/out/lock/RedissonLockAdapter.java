@@ -0,0 +1,51 @@
+package co.cobre.cbmm.accounts.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis adapter implementing DistributedLockPort with Redisson RLocks (lock.provider=redis, the default)
+ * The async methods use Redisson's async API with the owner id as the lock's thread id: waiting takes no thread.
+ */
+@Component
+@ConditionalOnProperty(name = "lock.provider", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedissonLockAdapter implements DistributedLockPort {
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        return redissonClient.getLock(lockKey).tryLock(waitTime, leaseTime, unit);
+    }
+
+    @Override
+    public boolean unlock(String lockKey) {
+        RLock lock = redissonClient.getLock(lockKey);
+        if (!lock.isHeldByCurrentThread()) {
+            return false;
+        }
+        lock.unlock();
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime,
+                                                   TimeUnit unit) {
+        return redissonClient.getLock(lockKey).tryLockAsync(waitTime, leaseTime, unit, ownerId).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> unlockAsync(String lockKey, long ownerId) {
+        // Fails with IllegalMonitorStateException if ownerId does not hold the lock (e.g. the lease expired)
+        return redissonClient.getLock(lockKey).unlockAsync(ownerId).toCompletableFuture()
+            .handle((result, error) -> error == null);
+    }
+}
@@ -0,0 +1,84 @@
+package co.cobre.cbmm.accounts.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base for DistributedLockPort adapters whose lock is a database lock taken inside the caller's transaction
+ * (one statement binding the account number, returning a row once the lock is held) and released by PostgreSQL
+ * when that transaction commits or rolls back. The next holder therefore always reads the committed balance
+ * (no optimistic-locking retries), unlock is a no-op and there is no lease to expire. A statement returning no
+ * row locked nothing (no such account) and fails with AccountNotFoundException instead of letting the caller
+ * run unlocked. The wait time is enforced with a JDBC query timeout (whole seconds). Requires an active
+ * transaction, so there is no async variant: callers lock inside the transaction with tryLock
+ * (see {@link #transactionScoped()}).
+ */
+public abstract class TransactionScopedLockAdapter implements DistributedLockPort {
+
+    private static final ResultSetExtractor<Boolean> LOCKED_ROW = ResultSet::next;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lockSql;
+
+    protected TransactionScopedLockAdapter(JdbcTemplate jdbcTemplate, String lockSql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lockSql = lockSql;
+    }
+
+    @Override
+    public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Transaction-scoped locks need an active transaction: " + lockKey);
+        }
+        String accountNumber = lockKey.startsWith(ACCOUNT_LOCK_PREFIX)
+            ? lockKey.substring(ACCOUNT_LOCK_PREFIX.length())
+            : lockKey;
+        int timeoutSeconds = (int) Math.max(1, (unit.toMillis(waitTime) + 999) / 1000);
+        try {
+            Boolean locked = jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(lockSql);
+                statement.setQueryTimeout(timeoutSeconds);
+                statement.setString(1, accountNumber);
+                return statement;
+            }, LOCKED_ROW);
+            if (!Boolean.TRUE.equals(locked)) {
+                throw new AccountNotFoundException(accountNumber);
+            }
+            return true;
+        } catch (TransientDataAccessException e) {
+            // Lock wait timed out (lock timeout or query cancelled)
+            return false;
+        }
+    }
+
+    @Override
+    public boolean unlock(String lockKey) {
+        return false;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime,
+                                                   TimeUnit unit) {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException(
+            "Transaction-scoped locks are taken inside the transaction: " + lockKey));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> unlockAsync(String lockKey, long ownerId) {
+        return CompletableFuture.completedFuture(false);
+    }
+
+    @Override
+    public boolean transactionScoped() {
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package co.cobre.cbmm.accounts.adapters.out.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import co.cobre.cbmm.accounts.application.logging.LogMarkers;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that keeps only a fraction ({@code rate}, 0..1) of the INFO-and-below lines of the
+ * configured loggers (comma-separated name prefixes). Runs before the event is built, so a dropped line
+ * costs a random number and no formatting, encoding or I/O.
+ * WARN/ERROR, lines with a throwable and lines marked {@link LogMarkers#ALWAYS} are never sampled.
+ * Declared once per group of loggers in logback-spring.xml.
+ */
+public class SuccessPathSamplingFilter extends TurboFilter {
+
+    private String[] loggerPrefixes = new String[0];
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (rate >= 1.0 || level == null || level.isGreaterOrEqual(Level.WARN) || t != null) {
+            return FilterReply.NEUTRAL;
+        }
+        if (marker != null && marker.contains(LogMarkers.ALWAYS)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(","))
+            .map(String::trim)
+            .filter(prefix -> !prefix.isEmpty())
+            .toArray(String[]::new);
+    }
+
+    public void setRate(double rate) {
+        this.rate = Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    public double getRate() {
+        return rate;
+    }
+}
@@ -4,6 +4,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -12,6 +13,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Service for recording OpenTelemetry metrics for errors and exceptions
  * Implements best practices for metrics collection and reporting
+ * Tag values pass through a {@link TagCardinalityLimiter}, so the number of counters stays bounded
  */
 @Service
 @Slf4j
@@ -19,14 +21,18 @@ public class ErrorMetricsService {
 
     private final MeterRegistry meterRegistry;
     private final ConcurrentHashMap<String, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final TagCardinalityLimiter tagCardinalityLimiter;
 
     private static final String ERROR_COUNTER_NAME = "cbmm.accounts.errors.total";
     private static final String RETRY_COUNTER_NAME = "cbmm.accounts.retries.total";
     private static final String LOCK_FAILURE_NAME = "cbmm.accounts.lock.failures.total";
     private static final String PERSISTENCE_ERROR_NAME = "cbmm.accounts.persistence.errors.total";
 
-    public ErrorMetricsService(MeterRegistry meterRegistry) {
+    public ErrorMetricsService(MeterRegistry meterRegistry,
+                               @Value("${error-metrics.cardinality.max-values-per-tag:100}") int maxValuesPerTag,
+                               @Value("${error-metrics.cardinality.heavy-hitters:50}") int heavyHitters) {
         this.meterRegistry = meterRegistry;
+        this.tagCardinalityLimiter = new TagCardinalityLimiter(maxValuesPerTag, heavyHitters, meterRegistry);
         log.info("ErrorMetricsService initialized with MeterRegistry: {}", meterRegistry.getClass().getSimpleName());
     }
 
@@ -163,6 +169,7 @@ public class ErrorMetricsService {
         );
 
         counter.increment();
+        tagCardinalityLimiter.observe(ERROR_COUNTER_NAME, "account.number", accountNumber);
 
         log.debug("Recorded insufficient balance error: account={}, currency={}",
             accountNumber, currency);
@@ -179,15 +186,21 @@ public class ErrorMetricsService {
         );
 
         counter.increment();
+        tagCardinalityLimiter.observe(ERROR_COUNTER_NAME, "event.id", eventId);
 
         log.debug("Recorded duplicate event error: eventId={}", eventId);
     }
 
 
+    public TagCardinalityLimiter getTagCardinalityLimiter() {
+        return tagCardinalityLimiter;
+    }
+
     /**
-     * Get or create a counter with specific tags
+     * Get or create a counter with specific tags (values over the cardinality limit become "other")
      */
-    private Counter getOrCreateCounter(String name, String... tags) {
+    private Counter getOrCreateCounter(String name, String... rawTags) {
+        String[] tags = limitCardinality(name, rawTags);
         String key = buildKey(name, tags);
 
         return errorCounters.computeIfAbsent(key, k ->
@@ -198,6 +211,14 @@ public class ErrorMetricsService {
         );
     }
 
+    private String[] limitCardinality(String name, String... tags) {
+        String[] limited = tags.clone();
+        for (int i = 1; i < limited.length; i += 2) {
+            limited[i] = tagCardinalityLimiter.limit(name, limited[i - 1], limited[i]);
+        }
+        return limited;
+    }
+
     /**
      * Build cache key from metric name and tags
      */
@@ -0,0 +1,143 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-account lock contention analytics for DistributedLockService
+ * Only the hottest accounts (by lock attempts) are tracked, in a bounded Space-Saving top-K, so memory
+ * and cardinality stay fixed no matter how many accounts exist. Account ids are never used as meter tags.
+ */
+@Service
+@Slf4j
+public class LockContentionMetricsService {
+
+    private final SpaceSavingTopK<String, AccountLockStats> hotAccounts;
+
+    public LockContentionMetricsService(@Value("${lock-contention.top-k:100}") int topK) {
+        this.hotAccounts = new SpaceSavingTopK<>(topK, AccountLockStats::new);
+        log.info("LockContentionMetricsService initialized tracking the top {} accounts", topK);
+    }
+
+    /**
+     * Record a lock acquisition attempt and how long it waited
+     * @param acquired false if the attempt timed out
+     */
+    public void recordWait(String accountId, long waitNanos, boolean acquired) {
+        AccountLockStats stats = hotAccounts.offer(accountId);
+        stats.waits.record(waitNanos);
+        if (!acquired) {
+            stats.timeouts.increment();
+        }
+    }
+
+    /**
+     * Record how long a lock was held; ignored if the account is no longer tracked
+     */
+    public void recordHold(String accountId, long holdNanos) {
+        AccountLockStats stats = hotAccounts.peek(accountId);
+        if (stats != null) {
+            stats.holds.record(holdNanos);
+        }
+    }
+
+    /**
+     * Hottest accounts by lock attempts, highest first
+     */
+    public List<SpaceSavingTopK.Entry<String, AccountLockStats>> hottestAccounts(int limit) {
+        return hotAccounts.top(limit);
+    }
+
+    public long getTotalLockAttempts() {
+        return hotAccounts.getTotal();
+    }
+
+    public int getTrackedCapacity() {
+        return hotAccounts.getCapacity();
+    }
+
+    /**
+     * Wait/hold distributions and timeouts of one account since it entered the top-K
+     */
+    public static final class AccountLockStats {
+
+        private final LatencyHistogram waits = new LatencyHistogram();
+        private final LatencyHistogram holds = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        public double waitPercentileMillis(double percentile) {
+            return waits.percentileMillis(percentile);
+        }
+
+        public double maxWaitMillis() {
+            return waits.maxMillis();
+        }
+
+        public double holdPercentileMillis(double percentile) {
+            return holds.percentileMillis(percentile);
+        }
+
+        public double maxHoldMillis() {
+            return holds.maxMillis();
+        }
+    }
+
+    /**
+     * Fixed exponential buckets (50µs x 1.25^i, up to ~1 min): constant memory, ~25% relative error
+     */
+    private static final class LatencyHistogram {
+
+        private static final double FIRST_BOUND_MICROS = 50.0;
+        private static final double GROWTH = 1.25;
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            double micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            int bucket = micros <= FIRST_BOUND_MICROS
+                ? 0
+                : (int) Math.ceil(Math.log(micros / FIRST_BOUND_MICROS) / Math.log(GROWTH));
+            counts.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * Upper bound of the bucket holding the given percentile (capped at the observed max)
+         */
+        double percentileMillis(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += counts.get(i);
+            }
+            if (total == 0) {
+                return 0.0;
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return Math.min(FIRST_BOUND_MICROS * Math.pow(GROWTH, i) / 1000.0, maxMillis());
+                }
+            }
+            return maxMillis();
+        }
+
+        double maxMillis() {
+            return max.get() / 1_000_000.0;
+        }
+    }
+}
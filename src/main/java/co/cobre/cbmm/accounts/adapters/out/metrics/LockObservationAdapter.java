@@ -0,0 +1,65 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics;
+
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContext;
+import co.cobre.cbmm.accounts.adapters.out.jfr.LockAcquisitionEvent;
+import co.cobre.cbmm.accounts.ports.out.LockObservationPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Lock observation through the pipeline timers (lock_wait / lock_hold), the per-account contention top-K
+ * and a JFR LockAcquisition event per wait; waits are also added to the event that started them, so its
+ * latency sample for the concurrency limit can leave them out
+ */
+@Component
+@RequiredArgsConstructor
+public class LockObservationAdapter implements LockObservationPort {
+
+    private final PipelineMetricsService pipelineMetricsService;
+    private final LockContentionMetricsService lockContentionMetricsService;
+
+    @Override
+    public Wait startWait(String accountId, String lockKey) {
+        long waitStart = System.nanoTime();
+        // Captured on the calling thread: an async wait ends on a pool thread outside the event context
+        LongAccumulator eventLockWait = JfrEventContext.currentLockWait();
+        LockAcquisitionEvent lockEvent = new LockAcquisitionEvent();
+        lockEvent.begin();
+        return new Wait() {
+            @Override
+            public void end(boolean acquired) {
+                long waitNanos = System.nanoTime() - waitStart;
+                pipelineMetricsService.record(Stage.LOCK_WAIT, waitStart);
+                lockContentionMetricsService.recordWait(accountId, waitNanos, acquired);
+                if (eventLockWait != null) {
+                    eventLockWait.accumulate(waitNanos);
+                }
+                commit(lockEvent, lockKey, acquired ? "acquired" : "timeout");
+            }
+
+            @Override
+            public void interrupted() {
+                commit(lockEvent, lockKey, "interrupted");
+            }
+        };
+    }
+
+    @Override
+    public void recordHold(String accountId, long holdStartNanos) {
+        pipelineMetricsService.record(Stage.LOCK_HOLD, holdStartNanos);
+        lockContentionMetricsService.recordHold(accountId, System.nanoTime() - holdStartNanos);
+    }
+
+    private static void commit(LockAcquisitionEvent event, String lockKey, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.eventId = JfrEventContext.currentEventId();
+            event.lockKey = lockKey;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates jdk.VirtualThreadPinned events by stack trace
+ * A pinned stack starts with several JDK frames (carrier park, LockSupport, AQS, socket read...), so a site
+ * is identified by the {@value #SITE_FRAMES} frames from the first frame outside the JDK on; that frame is
+ * its label (the code that blocked while pinned, e.g. inside a synchronized block or a native call). The
+ * site keeps the leading JDK frames too, for context. Sites are kept in a bounded Space-Saving top-K, and
+ * the per-site timer tag goes through a cardinality limit.
+ */
+public class PinningAggregator {
+
+    public static final String TIMER_NAME = "cbmm.accounts.virtual_threads.pinned";
+
+    private static final int SITE_FRAMES = 8;
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final SpaceSavingTopK<String, PinningSite> sites;
+    private final TagCardinalityLimiter siteTagLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public PinningAggregator(int maxSites, int maxSiteTags, MeterRegistry meterRegistry) {
+        this.sites = new SpaceSavingTopK<>(maxSites, PinningSite::new);
+        this.siteTagLimiter = new TagCardinalityLimiter(maxSiteTags, maxSites, meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Record one jdk.VirtualThreadPinned event
+     */
+    public void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = stackTrace == null
+            ? List.of()
+            : stackTrace.getFrames().stream().map(PinningAggregator::format).toList();
+        record(frames, event.getDuration());
+    }
+
+    /**
+     * Record a pinning of {@code duration} with the given stack (top frame first)
+     */
+    public void record(List<String> frames, Duration duration) {
+        int start = 0;
+        while (start < frames.size() && isJdkFrame(frames.get(start))) {
+            start++;
+        }
+        if (start == frames.size()) {
+            // JDK frames only: fall back to the top of the stack
+            start = 0;
+        }
+        int end = Math.min(start + SITE_FRAMES, frames.size());
+        String label = frames.isEmpty() ? "unknown" : frames.get(start);
+
+        PinningSite site = sites.offer(String.join("\n", frames.subList(start, end)));
+        site.record(label, frames.subList(0, end), duration.toNanos());
+
+        String tag = siteTagLimiter.limit(TIMER_NAME, "site", label);
+        timers.computeIfAbsent(tag, value -> Timer.builder(TIMER_NAME)
+                .description("Time virtual threads stayed pinned to their carrier while blocked")
+                .tag("site", value)
+                .register(meterRegistry))
+            .record(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Pinning sites by number of pinned events, highest first
+     */
+    public List<SpaceSavingTopK.Entry<String, PinningSite>> topSites(int limit) {
+        return sites.top(limit);
+    }
+
+    public long getTotalPinnedEvents() {
+        return sites.getTotal();
+    }
+
+    private static boolean isJdkFrame(String frame) {
+        return JDK_PACKAGES.stream().anyMatch(frame::startsWith);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Count and durations of one pinning site
+     */
+    public static final class PinningSite {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile String label;
+        private volatile List<String> frames = List.of();
+
+        private void record(String siteLabel, List<String> siteFrames, long nanos) {
+            if (label == null) {
+                label = siteLabel;
+                frames = List.copyOf(siteFrames);
+            }
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public List<String> getFrames() {
+            return frames;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getTotalMillis() {
+            return totalNanos.sum() / 1_000_000.0;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+    }
+}
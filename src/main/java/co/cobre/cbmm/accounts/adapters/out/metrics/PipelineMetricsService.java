@@ -0,0 +1,91 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics;
+
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContext;
+import co.cobre.cbmm.accounts.adapters.out.jfr.PipelineStageEvent;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-stage latency timers for the CBMM event pipeline
+ * KafkaEventConsumer -> ProcessCBMMEventUseCase -> AsyncAccountProcessingService -> DistributedLockService
+ * -> AccountBalanceUpdateService
+ * All timers are registered once at startup (no per-call meter lookup) and publish a histogram plus
+ * p50/p95/p99. Callers take {@code System.nanoTime()} at the start of a stage and call {@link #record}.
+ * Each stage is also emitted as a JFR event while a recording is running.
+ */
+@Service
+@Slf4j
+public class PipelineMetricsService implements PipelineTimingPort {
+
+    private static final String TIMER_NAME = "cbmm.accounts.pipeline.stage.duration";
+    /** Smallest histogram bucket: json_parse, idempotency_check and an uncontended lock_wait take microseconds */
+    private static final Duration MINIMUM_EXPECTED_DURATION = Duration.ofNanos(10_000);
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+    public PipelineMetricsService(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder(TIMER_NAME)
+                .description("Latency of one stage of the CBMM event processing pipeline")
+                .tag("stage", stage.getTagValue())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED_DURATION)
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry));
+        }
+        log.info("PipelineMetricsService initialized with {} stage timers", timers.size());
+    }
+
+    @Override
+    public void record(Stage stage, long startNanos) {
+        record(stage, timers.get(stage), System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void recordCommitOfCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Timer commitTimer = timers.get(Stage.COMMIT);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStart;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStart = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                record(Stage.COMMIT, commitTimer, System.nanoTime() - commitStart);
+            }
+        });
+    }
+
+    public Timer getTimer(Stage stage) {
+        return timers.get(stage);
+    }
+
+    private static void record(Stage stage, Timer timer, long durationNanos) {
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+
+        PipelineStageEvent event = new PipelineStageEvent();
+        if (event.isEnabled()) {
+            event.eventId = JfrEventContext.currentEventId();
+            event.stage = stage.getTagValue();
+            event.stageDuration = durationNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Bounded heavy-hitter tracker (Space-Saving, Metwally et al.)
+ * Keeps at most {@code capacity} keys. An untracked key replaces the key with the smallest count and
+ * inherits that count as its error, so any key seen more than total/capacity times is guaranteed to be
+ * tracked and its count is over-estimated by at most {@code error}. Each key carries a value (stats)
+ * created by {@code valueFactory}; the value of an evicted key is discarded, so late updates to it are lost.
+ * Keys are kept in a Stream-Summary: a list of count buckets in ascending order, each holding its keys in
+ * arrival order, so counting an occurrence and evicting the minimum are O(1) and the lock is held only for a
+ * few pointer updates.
+ *
+ * @param <K> tracked key (account id, tag value...)
+ * @param <V> per-key state
+ */
+public class SpaceSavingTopK<K, V> {
+
+    private final int capacity;
+    private final Supplier<V> valueFactory;
+    private final Map<K, Slot<K, V>> slots;
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Bucket with the lowest count (eviction end) and with the highest count */
+    private Bucket<K, V> minBucket;
+    private Bucket<K, V> maxBucket;
+    private long total;
+
+    public SpaceSavingTopK(int capacity, Supplier<V> valueFactory) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.valueFactory = valueFactory;
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Count one occurrence of {@code key}
+     * @return the key's state, freshly created if the key was not tracked
+     */
+    public V offer(K key) {
+        lock.lock();
+        try {
+            total++;
+            Slot<K, V> slot = slots.get(key);
+            if (slot == null) {
+                slot = admit(key);
+            }
+            increment(slot);
+            return slot.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * State of {@code key} if it is currently tracked, without counting an occurrence
+     */
+    public V peek(K key) {
+        lock.lock();
+        try {
+            Slot<K, V> slot = slots.get(key);
+            return slot != null ? slot.value : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether {@code key} is currently tracked
+     */
+    public boolean contains(K key) {
+        lock.lock();
+        try {
+            return slots.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tracked keys by estimated count, highest first
+     */
+    public List<Entry<K, V>> top(int limit) {
+        lock.lock();
+        try {
+            List<Entry<K, V>> top = new ArrayList<>(Math.min(limit, slots.size()));
+            for (Bucket<K, V> bucket = maxBucket; bucket != null && top.size() < limit; bucket = bucket.prev) {
+                for (Slot<K, V> slot = bucket.first; slot != null && top.size() < limit; slot = slot.next) {
+                    top.add(new Entry<>(slot.key, bucket.count, slot.error, slot.value));
+                }
+            }
+            return top;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Occurrences offered since creation (tracked or not)
+     */
+    public long getTotal() {
+        lock.lock();
+        try {
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Track {@code key} with count 0 (before its first increment), in place of a key with the minimum count
+     * if full; the new key then starts from that count, which becomes its error
+     */
+    private Slot<K, V> admit(K key) {
+        Slot<K, V> slot = new Slot<>(key, valueFactory.get());
+        if (slots.size() >= capacity) {
+            Slot<K, V> evicted = minBucket.first;
+            slots.remove(evicted.key);
+            slot.error = minBucket.count;
+            attach(minBucket, slot);
+            detach(evicted);
+        } else if (minBucket == null || minBucket.count != 0) {
+            attach(insertBucket(null, 0), slot);
+        } else {
+            attach(minBucket, slot);
+        }
+        slots.put(key, slot);
+        return slot;
+    }
+
+    /**
+     * Move {@code slot} to the bucket of the next count, creating it right after its current bucket if needed
+     */
+    private void increment(Slot<K, V> slot) {
+        Bucket<K, V> from = slot.bucket;
+        Bucket<K, V> to = from.next;
+        if (to == null || to.count != from.count + 1) {
+            to = insertBucket(from, from.count + 1);
+        }
+        detach(slot);
+        attach(to, slot);
+    }
+
+    /**
+     * Insert a bucket for {@code count} after {@code previous} (at the head of the list if null)
+     */
+    private Bucket<K, V> insertBucket(Bucket<K, V> previous, long count) {
+        Bucket<K, V> bucket = new Bucket<>(count);
+        bucket.prev = previous;
+        bucket.next = previous != null ? previous.next : minBucket;
+        if (bucket.next != null) {
+            bucket.next.prev = bucket;
+        } else {
+            maxBucket = bucket;
+        }
+        if (previous != null) {
+            previous.next = bucket;
+        } else {
+            minBucket = bucket;
+        }
+        return bucket;
+    }
+
+    private void attach(Bucket<K, V> bucket, Slot<K, V> slot) {
+        slot.bucket = bucket;
+        slot.prev = bucket.last;
+        slot.next = null;
+        if (bucket.last != null) {
+            bucket.last.next = slot;
+        } else {
+            bucket.first = slot;
+        }
+        bucket.last = slot;
+    }
+
+    /**
+     * Remove {@code slot} from its bucket, unlinking the bucket once empty
+     */
+    private void detach(Slot<K, V> slot) {
+        Bucket<K, V> bucket = slot.bucket;
+        if (slot.prev != null) {
+            slot.prev.next = slot.next;
+        } else {
+            bucket.first = slot.next;
+        }
+        if (slot.next != null) {
+            slot.next.prev = slot.prev;
+        } else {
+            bucket.last = slot.prev;
+        }
+        slot.prev = null;
+        slot.next = null;
+        slot.bucket = null;
+
+        if (bucket.first == null) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                minBucket = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            } else {
+                maxBucket = bucket.prev;
+            }
+        }
+    }
+
+    /**
+     * Snapshot of one tracked key
+     * @param count estimated occurrences (never under-estimated)
+     * @param error maximum over-estimation of {@code count}
+     */
+    public record Entry<K, V>(K key, long count, long error, V value) {
+    }
+
+    private static final class Bucket<K, V> {
+        private final long count;
+        private Bucket<K, V> prev;
+        private Bucket<K, V> next;
+        private Slot<K, V> first;
+        private Slot<K, V> last;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+
+    private static final class Slot<K, V> {
+        private final K key;
+        private final V value;
+        private long error;
+        private Bucket<K, V> bucket;
+        private Slot<K, V> prev;
+        private Slot<K, V> next;
+
+        private Slot(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
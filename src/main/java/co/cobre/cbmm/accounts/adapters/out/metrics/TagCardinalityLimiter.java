@@ -0,0 +1,124 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of distinct values per (metric, tag) so error counters cannot grow without bound
+ * The first {@code maxValuesPerTag} values of a tag are kept as-is; later ones are folded into
+ * {@value #OTHER}. Folded values are not lost: they go to a Space-Saving top-K per tag, which keeps
+ * the heavy hitters with bounded error. Hitting a cap logs a warning once and counts every folded value
+ * in {@code cbmm.accounts.metrics.cardinality.overflow}. High-cardinality identifiers that are never
+ * tags (account numbers, event ids) can be fed to the same sketches with {@link #observe}.
+ */
+@Slf4j
+public class TagCardinalityLimiter {
+
+    public static final String OTHER = "other";
+
+    private static final String OVERFLOW_COUNTER_NAME = "cbmm.accounts.metrics.cardinality.overflow";
+
+    private final int maxValuesPerTag;
+    private final int topK;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Dimension> dimensions = new ConcurrentHashMap<>();
+
+    public TagCardinalityLimiter(int maxValuesPerTag, int topK, MeterRegistry meterRegistry) {
+        if (maxValuesPerTag < 1) {
+            throw new IllegalArgumentException("maxValuesPerTag must be at least 1");
+        }
+        this.maxValuesPerTag = maxValuesPerTag;
+        this.topK = topK;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return {@code value} if it is (or can still be) one of the tag's distinct values, {@value #OTHER} otherwise
+     */
+    public String limit(String metric, String tag, String value) {
+        Dimension dimension = dimension(metric, tag);
+        if (dimension.values.contains(value)) {
+            return value;
+        }
+        synchronized (dimension) {
+            if (dimension.values.contains(value) || dimension.values.size() < maxValuesPerTag) {
+                dimension.values.add(value);
+                return value;
+            }
+        }
+
+        if (dimension.overflowed.compareAndSet(false, true)) {
+            log.warn("Metric {} reached {} distinct values for tag {}; further values are reported as '{}'",
+                metric, maxValuesPerTag, tag, OTHER);
+        }
+        dimension.overflowCounter.increment();
+        dimension.heavyHitters.offer(value);
+        return OTHER;
+    }
+
+    /**
+     * Count an identifier that is not used as a tag (only kept in the heavy-hitter sketch)
+     */
+    public void observe(String metric, String dimensionName, String value) {
+        if (value != null) {
+            dimension(metric, dimensionName).heavyHitters.offer(value);
+        }
+    }
+
+    /**
+     * Current state of every (metric, tag) seen so far
+     */
+    public List<DimensionSnapshot> snapshot(int heavyHitterLimit) {
+        return dimensions.values().stream()
+            .map(dimension -> new DimensionSnapshot(
+                dimension.metric,
+                dimension.tag,
+                dimension.values.size(),
+                dimension.overflowed.get(),
+                dimension.heavyHitters.getTotal(),
+                dimension.heavyHitters.top(heavyHitterLimit)))
+            .toList();
+    }
+
+    public int getMaxValuesPerTag() {
+        return maxValuesPerTag;
+    }
+
+    private Dimension dimension(String metric, String tag) {
+        return dimensions.computeIfAbsent(metric + "|" + tag, key -> new Dimension(metric, tag));
+    }
+
+    /**
+     * @param distinctValues values kept as tags (at most maxValuesPerTag)
+     * @param sketchedTotal occurrences folded into {@value #OTHER} (or observed, for non-tag dimensions)
+     */
+    public record DimensionSnapshot(String metric, String tag, int distinctValues, boolean overflowed,
+                                    long sketchedTotal, List<SpaceSavingTopK.Entry<String, Void>> heavyHitters) {
+    }
+
+    private final class Dimension {
+        private final String metric;
+        private final String tag;
+        private final Set<String> values = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final SpaceSavingTopK<String, Void> heavyHitters = new SpaceSavingTopK<>(topK, () -> null);
+        private final Counter overflowCounter;
+
+        private Dimension(String metric, String tag) {
+            this.metric = metric;
+            this.tag = tag;
+            this.overflowCounter = Counter.builder(OVERFLOW_COUNTER_NAME)
+                .description("Tag values folded into 'other' by the cardinality limit")
+                .tag("metric", metric)
+                .tag("tag", tag)
+                .register(meterRegistry);
+        }
+    }
+}
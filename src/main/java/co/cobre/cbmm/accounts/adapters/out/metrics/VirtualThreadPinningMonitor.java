@@ -0,0 +1,63 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Diagnostic mode: streams jdk.VirtualThreadPinned JFR events in-process and aggregates them by stack trace
+ * Pinning (blocking inside synchronized or native frames) keeps the carrier thread busy, so a few pinning
+ * sites on hot paths (Redisson, JDBC driver, retry) silently cap virtual-thread concurrency.
+ * Enabled with diagnostics.pinning.enabled=true; results in /actuator/pinning and
+ * cbmm.accounts.virtual_threads.pinned.
+ */
+@Component
+@ConditionalOnProperty(name = "diagnostics.pinning.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final PinningAggregator aggregator;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.pinning.threshold:20ms}") Duration threshold,
+                                       @Value("${diagnostics.pinning.max-sites:100}") int maxSites,
+                                       @Value("${diagnostics.pinning.max-site-tags:20}") int maxSiteTags) {
+        this.threshold = threshold;
+        this.aggregator = new PinningAggregator(maxSites, maxSiteTags, meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, aggregator::record);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold: {})", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public PinningAggregator getAggregator() {
+        return aggregator;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+}
@@ -0,0 +1,19 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * HikariCP pool whose connections report to {@link QueryProfiler}
+ * Subclassing keeps the bean a HikariDataSource (pool sizing, Hikari metrics), so only the connection
+ * handed out is wrapped
+ */
+public class ProfilingHikariDataSource extends HikariDataSource {
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return ProfilingJdbcProxies.connection(super.getConnection());
+    }
+}
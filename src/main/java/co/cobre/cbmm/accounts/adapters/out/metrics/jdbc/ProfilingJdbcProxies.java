@@ -0,0 +1,112 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * JDK dynamic proxies around Connection / Statement / ResultSet that feed {@link QueryProfiler}
+ * Statements are timed and counted only while a profiling scope is active; otherwise every call is a
+ * plain delegation. Rows are update counts plus result-set rows actually read.
+ */
+public final class ProfilingJdbcProxies {
+
+    private ProfilingJdbcProxies() {
+    }
+
+    public static Connection connection(Connection target) {
+        return proxy(Connection.class, target, new ConnectionHandler(target));
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingJdbcProxies.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ProfilingJdbcProxies.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+            return switch (method.getName()) {
+                case "prepareCall" -> proxy(CallableStatement.class, (CallableStatement) result,
+                    new StatementHandler(result, sql));
+                case "prepareStatement" -> proxy(PreparedStatement.class, (PreparedStatement) result,
+                    new StatementHandler(result, sql));
+                case "createStatement" -> proxy(Statement.class, (Statement) result, new StatementHandler(result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private record StatementHandler(Object target, String preparedSql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute") || !QueryProfiler.isActive()) {
+                Object result = ProfilingJdbcProxies.invoke(target, method, args);
+                return "getResultSet".equals(name) && result != null && QueryProfiler.isActive()
+                    ? resultSet((ResultSet) result)
+                    : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : preparedSql;
+            long start = System.nanoTime();
+            Object result = ProfilingJdbcProxies.invoke(target, method, args);
+            QueryProfiler.recordStatement(sql, System.nanoTime() - start);
+
+            if (result instanceof ResultSet resultSet) {
+                return resultSet(resultSet);
+            }
+            if (result instanceof Integer count) {
+                QueryProfiler.recordRows(count);
+            } else if (result instanceof Long count) {
+                QueryProfiler.recordRows(count);
+            } else if (result instanceof int[] counts) {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                QueryProfiler.recordRows(total);
+            } else if (result instanceof long[] counts) {
+                long total = 0;
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+                QueryProfiler.recordRows(total);
+            }
+            return result;
+        }
+
+        private static ResultSet resultSet(ResultSet target) {
+            return proxy(ResultSet.class, target, new ResultSetHandler(target));
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ProfilingJdbcProxies.invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                QueryProfiler.recordRows(1);
+            }
+            return result;
+        }
+    }
+}
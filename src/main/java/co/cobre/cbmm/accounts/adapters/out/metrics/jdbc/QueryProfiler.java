@@ -0,0 +1,149 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics.jdbc;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Attributes JDBC statements, rows and time to the logical operation in progress (a use case, a Kafka record...)
+ * Scopes nest: a statement counts for the innermost scope and all its parents. The current scope is a plain
+ * thread local: work handed to another thread is only attributed to the operation when it is wrapped with
+ * {@link #propagate} on the submitting thread (threads created inside a scope do not keep it alive);
+ * statements recorded after a scope closes are ignored.
+ */
+public final class QueryProfiler {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryProfiler() {
+    }
+
+    /**
+     * Open a scope for {@code operation} on the current thread; close it to get its totals
+     */
+    public static Scope open(String operation) {
+        Scope scope = new Scope(operation, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Attribute {@code operation} to the current scope on whichever thread runs it; call on the submitting thread
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> operation) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return operation;
+        }
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                return operation.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Whether statements executed now would be attributed to an operation
+     */
+    static boolean isActive() {
+        Scope scope = CURRENT.get();
+        return scope != null && !scope.closed;
+    }
+
+    static void recordStatement(String sql, long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.recordStatement(sql, nanos);
+        }
+    }
+
+    static void recordRows(long rows) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.recordRows(rows);
+        }
+    }
+
+    /**
+     * Statement, row and time totals of one logical operation
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private static final int MAX_CAPTURED_SQL = 200;
+
+        private final String operation;
+        private final Scope parent;
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final Queue<String> capturedSql = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger captured = new AtomicInteger();
+        private volatile boolean closed;
+
+        private Scope(String operation, Scope parent) {
+            this.operation = operation;
+            this.parent = parent;
+        }
+
+        private void recordStatement(String sql, long statementNanos) {
+            if (closed) {
+                return;
+            }
+            statements.increment();
+            nanos.add(statementNanos);
+            if (sql != null && captured.incrementAndGet() <= MAX_CAPTURED_SQL) {
+                capturedSql.add(sql);
+            }
+        }
+
+        private void recordRows(long count) {
+            if (!closed && count > 0) {
+                rows.add(count);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * SQL of the first statements executed in the scope, in order (for budget failure messages)
+         */
+        public List<String> getCapturedSql() {
+            return List.copyOf(capturedSql);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package co.cobre.cbmm.accounts.adapters.out.metrics.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link QueryProfiler} scope per use case call and per Kafka record and exports its totals
+ * - cbmm.accounts.jdbc.statements: statements per operation
+ * - cbmm.accounts.jdbc.rows: rows read/affected per operation
+ * - cbmm.accounts.jdbc.time: JDBC time per operation
+ * Runs outside the transaction interceptor, so statements flushed at commit are included
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "jdbc.profiling.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class QueryProfilingAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OperationMeters> metersByOperation = new ConcurrentHashMap<>();
+
+    @Around("execution(public * co.cobre.cbmm.accounts.application.usecase..*(..))"
+        + " || execution(* co.cobre.cbmm.accounts.adapters.in.messaging.KafkaEventConsumer.consumeCBMMEvent(..))")
+    public Object profile(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+
+        QueryProfiler.Scope scope = QueryProfiler.open(operation);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            metersByOperation.computeIfAbsent(operation, OperationMeters::new).record(scope);
+        }
+    }
+
+    private final class OperationMeters {
+        private final DistributionSummary statements;
+        private final DistributionSummary rows;
+        private final Timer time;
+
+        private OperationMeters(String operation) {
+            this.statements = DistributionSummary.builder("cbmm.accounts.jdbc.statements")
+                .description("JDBC statements executed per operation")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            this.rows = DistributionSummary.builder("cbmm.accounts.jdbc.rows")
+                .description("Rows read or affected per operation")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            this.time = Timer.builder("cbmm.accounts.jdbc.time")
+                .description("Time spent executing JDBC statements per operation")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        }
+
+        private void record(QueryProfiler.Scope scope) {
+            statements.record(scope.getStatements());
+            rows.record(scope.getRows());
+            time.record(scope.getNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
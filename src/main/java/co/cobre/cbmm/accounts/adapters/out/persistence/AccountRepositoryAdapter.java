@@ -8,6 +8,7 @@ import co.cobre.cbmm.accounts.domain.model.Currency;
 import co.cobre.cbmm.accounts.ports.out.AccountRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -17,6 +18,7 @@ import java.util.UUID;
  * JPA adapter implementing the AccountRepositoryPort (Driven Adapter)
  */
 @Component
+@Profile("!perf")
 @RequiredArgsConstructor
 @Slf4j
 public class AccountRepositoryAdapter implements AccountRepositoryPort {
@@ -39,6 +41,20 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
             .map(this::mapToDomain);
     }
 
+    @Override
+    public Optional<Integer> findVersionByAccountNumber(String accountNumber) {
+        log.debug("Finding version for account number: {}", accountNumber);
+
+        return accountJpaRepository.findVersionByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public Optional<String> findAccountNumberById(UUID accountId) {
+        log.debug("Finding account number for account ID: {}", accountId);
+
+        return accountJpaRepository.findAccountNumberById(accountId);
+    }
+
     @Override
     public Account save(Account account) {
         log.debug("Saving account: {}", account.accountNumber());
@@ -63,7 +79,7 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
 
         AccountEntity savedEntity = accountJpaRepository.save(entity);
 
-        log.info("Account saved successfully: {} - New balance: {}, Version: {}",
+        log.debug("Account saved successfully: {} - New balance: {}, Version: {}",
             savedEntity.getAccountNumber(), savedEntity.getBalance(), savedEntity.getVersion());
         return mapToDomain(savedEntity);
     }
@@ -0,0 +1,77 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence;
+
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.BalanceSnapshotEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.BalanceSnapshotJpaRepository;
+import co.cobre.cbmm.accounts.domain.model.BalanceSnapshot;
+import co.cobre.cbmm.accounts.ports.out.BalanceSnapshotPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPA adapter implementing the BalanceSnapshotPort (Driven Adapter)
+ */
+@Component
+@Profile("!perf")
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceSnapshotRepositoryAdapter implements BalanceSnapshotPort {
+
+    private final BalanceSnapshotJpaRepository balanceSnapshotJpaRepository;
+
+    @Override
+    public Optional<BalanceSnapshot> findLatestBefore(UUID accountId, LocalDate day) {
+        log.debug("Finding latest balance snapshot of account {} before {}", accountId, day);
+
+        return balanceSnapshotJpaRepository
+            .findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(accountId, day)
+            .map(this::mapToDomain);
+    }
+
+    @Override
+    @Transactional
+    public int snapshotDay(LocalDate day) {
+        return balanceSnapshotJpaRepository.upsertDay(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    @Transactional
+    public int snapshotAccountDays(UUID accountId, LocalDate fromDay, LocalDate untilDay) {
+        return balanceSnapshotJpaRepository.insertAccountDays(
+            accountId, fromDay.atStartOfDay(), untilDay.atStartOfDay());
+    }
+
+    @Override
+    @Transactional
+    public Optional<LocalDate> claimBackfill(LocalDate untilDay, Duration claimTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        if (balanceSnapshotJpaRepository.claimBackfill(untilDay, now, now.plus(claimTimeout)) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(balanceSnapshotJpaRepository.findBackfillCompletedUntil());
+    }
+
+    @Override
+    @Transactional
+    public void completeBackfill(LocalDate untilDay) {
+        balanceSnapshotJpaRepository.completeBackfill(untilDay);
+    }
+
+    private BalanceSnapshot mapToDomain(BalanceSnapshotEntity entity) {
+        return new BalanceSnapshot(
+            entity.getAccountId(),
+            entity.getSnapshotDate(),
+            entity.getBalance(),
+            entity.getLastTransactionId(),
+            entity.getLastTransactionAt()
+        );
+    }
+}
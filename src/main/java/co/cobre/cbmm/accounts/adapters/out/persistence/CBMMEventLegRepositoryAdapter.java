@@ -0,0 +1,34 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence;
+
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.CBMMEventLegJpaRepository;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventLegRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA adapter implementing the CBMMEventLegRepositoryPort (Driven Adapter)
+ * Joins the caller's transaction, so a leg is only recorded if its balance update commits
+ */
+@Component
+@Profile("!perf")
+@RequiredArgsConstructor
+@Slf4j
+public class CBMMEventLegRepositoryAdapter implements CBMMEventLegRepositoryPort {
+
+    private final CBMMEventLegJpaRepository cbmmEventLegJpaRepository;
+
+    @Override
+    public boolean isApplied(String eventId, Leg leg) {
+        return cbmmEventLegJpaRepository.existsByEventIdAndLeg(eventId, leg.name());
+    }
+
+    @Override
+    public void markApplied(String eventId, Leg leg) {
+        cbmmEventLegJpaRepository.insert(eventId, leg.name(), LocalDateTime.now());
+        log.debug("CBMM event {} leg {} recorded as applied", eventId, leg);
+    }
+}
@@ -7,14 +7,21 @@ import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
 import co.cobre.cbmm.accounts.ports.out.CBMMEventRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository Adapter for CBMM Event persistence (Driven Adapter)
  * Implements the CBMMEventRepositoryPort using JPA
  */
 @Component
+@Profile("!perf")
 @RequiredArgsConstructor
 @Slf4j
 public class CBMMEventRepositoryAdapter implements CBMMEventRepositoryPort {
@@ -30,7 +37,7 @@ public class CBMMEventRepositoryAdapter implements CBMMEventRepositoryPort {
         CBMMEventEntity entity = mapper.toEntity(event, "PENDING");
         CBMMEventEntity saved = jpaRepository.save(entity);
 
-        log.info("CBMM event saved successfully: {}", saved.getEventId());
+        log.debug("CBMM event saved successfully: {}", saved.getEventId());
         return mapper.toDTO(saved);
     }
 
@@ -43,8 +50,37 @@ public class CBMMEventRepositoryAdapter implements CBMMEventRepositoryPort {
         jpaRepository.findByEventId(eventId).ifPresent(entity -> {
             mapper.updateStatus(entity, status, retryCount);
             jpaRepository.save(entity);
-            log.info("CBMM event status updated: eventId={}, newStatus={}", eventId, status);
+            log.debug("CBMM event status updated: eventId={}, newStatus={}", eventId, status);
         });
     }
+
+    @Override
+    @Transactional
+    public Optional<Integer> reclaim(String eventId, Duration claimTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        int reclaimed = jpaRepository.reclaim(eventId,
+            CBMMEventEntity.EventStatus.RETRYING,
+            CBMMEventEntity.EventStatus.FAILED,
+            List.of(CBMMEventEntity.EventStatus.PENDING, CBMMEventEntity.EventStatus.PROCESSING,
+                CBMMEventEntity.EventStatus.RETRYING),
+            now.minus(claimTimeout),
+            now);
+        if (reclaimed == 0) {
+            return Optional.empty();
+        }
+        // The conditional update made this transaction the only one taking the event back; the retry count goes
+        // through the entity so the takeover gets its audit revision (Envers or audit outbox) like any other change
+        CBMMEventEntity entity = jpaRepository.findByEventId(eventId).orElseThrow();
+        entity.setRetryCount(entity.getRetryCount() + 1);
+        int retryCount = jpaRepository.saveAndFlush(entity).getRetryCount();
+        log.debug("CBMM event {} taken back for retry (retry {})", eventId, retryCount);
+        return Optional.of(retryCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findStatus(String eventId) {
+        return jpaRepository.findByEventId(eventId).map(entity -> entity.getStatus().name());
+    }
 }
 
@@ -1,33 +1,32 @@
 package co.cobre.cbmm.accounts.adapters.out.persistence;
 
 import co.cobre.cbmm.accounts.adapters.out.persistence.entity.TransactionEntity;
-import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
 import co.cobre.cbmm.accounts.adapters.out.persistence.repository.TransactionJpaRepository;
-import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
 import co.cobre.cbmm.accounts.domain.model.Transaction;
 import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
 import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import co.cobre.cbmm.accounts.domain.model.TransactionWatermark;
 import co.cobre.cbmm.accounts.ports.out.TransactionRepositoryPort;
 import co.cobre.cbmm.accounts.domain.model.Currency;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * JPA adapter implementing the TransactionRepositoryPort (Driven Adapter)
  */
 @Component
+@Profile("!perf")
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
 
     private final TransactionJpaRepository transactionJpaRepository;
-    private final AccountJpaRepository accountJpaRepository;
 
     @Override
     public Transaction save(Transaction transaction) {
@@ -36,22 +35,16 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
         TransactionEntity entity = mapToEntity(transaction);
         TransactionEntity savedEntity = transactionJpaRepository.save(entity);
 
-        log.info("Transaction saved successfully: {}", savedEntity.getTransactionId());
+        log.debug("Transaction saved successfully: {}", savedEntity.getTransactionId());
         return mapToDomain(savedEntity);
     }
 
     @Override
-    public Page<Transaction> findByAccountIdPaginated(UUID accountId, Pageable pageable) {
-        log.debug("Finding transactions for account {} with pagination: page={}, size={}",
-            accountId, pageable.getPageNumber(), pageable.getPageSize());
-        if (accountJpaRepository.findById(accountId).isEmpty()) {
-            throw new AccountNotFoundException(accountId.toString());
-        }
+    public Optional<TransactionWatermark> findLatestWatermark(UUID accountId) {
+        log.debug("Finding transaction watermark for account {}", accountId);
 
-
-        Page<TransactionEntity> entityPage = transactionJpaRepository.findByAccountId(accountId, pageable);
-
-        return entityPage.map(this::mapToDomain);
+        return transactionJpaRepository.findFirstByAccountIdOrderByCreatedAtDescTransactionIdDesc(accountId)
+            .map(projection -> new TransactionWatermark(projection.getTransactionId(), projection.getCreatedAt()));
     }
 
     private Transaction mapToDomain(TransactionEntity entity) {
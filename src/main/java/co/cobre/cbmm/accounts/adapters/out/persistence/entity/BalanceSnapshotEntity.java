@@ -0,0 +1,64 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the daily balance snapshot table
+ */
+@Entity
+@Table(name = "balance_snapshot", schema = "cbmm")
+@IdClass(BalanceSnapshotEntity.BalanceSnapshotId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceSnapshotEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Id
+    @Column(name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(name = "balance", nullable = false, precision = 18, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private UUID lastTransactionId;
+
+    @Column(name = "last_transaction_at", nullable = false)
+    private LocalDateTime lastTransactionAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Composite primary key (account, day)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class BalanceSnapshotId implements Serializable {
+        private UUID accountId;
+        private LocalDate snapshotDate;
+    }
+}
@@ -0,0 +1,45 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the applied legs of CBMM events
+ */
+@Entity
+@Table(name = "cbmm_event_leg", schema = "cbmm")
+@IdClass(CBMMEventLegEntity.CBMMEventLegId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CBMMEventLegEntity {
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Id
+    @Column(name = "leg", length = 20)
+    private String leg;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    /**
+     * Composite primary key (event, leg)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class CBMMEventLegId implements Serializable {
+        private String eventId;
+        private String leg;
+    }
+}
@@ -0,0 +1,14 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Spring Data interface projection with only the columns needed for the transaction watermark
+ */
+public interface TransactionWatermarkProjection {
+
+    UUID getTransactionId();
+
+    LocalDateTime getCreatedAt();
+}
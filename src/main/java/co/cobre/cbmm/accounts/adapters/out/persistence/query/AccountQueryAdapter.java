@@ -0,0 +1,73 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence.query;
+
+import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter implementing the AccountQueryPort (Driven Adapter)
+ * Maps result set rows directly into AccountDTO, bypassing the persistence context and Envers
+ */
+@Component
+@Profile("!perf")
+@RequiredArgsConstructor
+@Slf4j
+public class AccountQueryAdapter implements AccountQueryPort {
+
+    private static final String FIND_BY_ACCOUNT_NUMBER_SQL = """
+        SELECT account_id, account_number, currency, balance, status, created_at, updated_at, version
+        FROM cbmm.account
+        WHERE account_number = ?
+        """;
+
+    private static final String FIND_ALL_IDS_SQL = "SELECT account_id FROM cbmm.account";
+    private static final String EXISTS_BY_ID_SQL = "SELECT EXISTS (SELECT 1 FROM cbmm.account WHERE account_id = ?)";
+
+    private static final RowMapper<AccountDTO> ACCOUNT_ROW_MAPPER = (rs, rowNum) -> new AccountDTO(
+        rs.getObject(1, UUID.class),
+        rs.getString(2),
+        rs.getString(3),
+        rs.getBigDecimal(4),
+        rs.getString(5),
+        rs.getObject(6, LocalDateTime.class),
+        rs.getObject(7, LocalDateTime.class),
+        rs.getInt(8)
+    );
+
+    private final JdbcClient jdbcClient;
+
+    @Override
+    public Optional<AccountDTO> findAccountByNumber(String accountNumber) {
+        log.debug("Querying account by number: {}", accountNumber);
+
+        return jdbcClient.sql(FIND_BY_ACCOUNT_NUMBER_SQL)
+            .param(accountNumber)
+            .query(ACCOUNT_ROW_MAPPER)
+            .optional();
+    }
+
+    @Override
+    public boolean existsById(UUID accountId) {
+        return Boolean.TRUE.equals(jdbcClient.sql(EXISTS_BY_ID_SQL)
+            .param(accountId)
+            .query(Boolean.class)
+            .single());
+    }
+
+    @Override
+    public List<UUID> findAllAccountIds() {
+        return jdbcClient.sql(FIND_ALL_IDS_SQL)
+            .query(UUID.class)
+            .list();
+    }
+}
@@ -0,0 +1,193 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence.query;
+
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
+import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * JDBC adapter implementing the TransactionQueryPort (Driven Adapter)
+ * Maps result set rows directly into TransactionResponseDTO, bypassing the persistence context
+ */
+@Component
+@Profile("!perf")
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionQueryAdapter implements TransactionQueryPort {
+
+    private static final String SORT_PROPERTY = "createdAt";
+
+    private static final String SELECT_PAGE_SQL = """
+        SELECT transaction_id, account_id, amount, type, currency, balance_after, created_at, status
+        FROM cbmm.transaction
+        WHERE account_id = ?
+        ORDER BY created_at %1$s, transaction_id %1$s
+        LIMIT ? OFFSET ?
+        """;
+    private static final String SELECT_PAGE_DESC_SQL = SELECT_PAGE_SQL.formatted("DESC");
+    private static final String SELECT_PAGE_ASC_SQL = SELECT_PAGE_SQL.formatted("ASC");
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM cbmm.transaction WHERE account_id = ?";
+    private static final String SELECT_HISTORY_SQL = """
+        SELECT transaction_id, account_id, amount, type, currency, balance_after, created_at, status
+        FROM cbmm.transaction
+        WHERE account_id = ?""";
+
+    private static final String SELECT_LATEST_SQL = """
+        SELECT transaction_id, account_id, amount, type, currency, balance_after, created_at, status
+        FROM cbmm.transaction
+        WHERE account_id = ? AND created_at >= ? AND created_at <= ?
+        ORDER BY created_at DESC, transaction_id DESC
+        LIMIT 1
+        """;
+
+    private static final String SELECT_FIRST_AFTER_SQL = """
+        SELECT transaction_id, account_id, amount, type, currency, balance_after, created_at, status
+        FROM cbmm.transaction
+        WHERE account_id = ? AND created_at > ?
+        ORDER BY created_at, transaction_id
+        LIMIT 1
+        """;
+
+    /**
+     * Lower bound used when a range is open; older than any row of the ledger
+     */
+    private static final LocalDateTime OPEN_RANGE_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Rows fetched per round trip while streaming; bounds the memory held by the driver
+     */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String ACCOUNT_EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM cbmm.account WHERE account_id = ?)";
+
+    private static final RowMapper<TransactionResponseDTO> TRANSACTION_ROW_MAPPER = (rs, rowNum) -> new TransactionResponseDTO(
+        rs.getObject(1, UUID.class),
+        rs.getObject(2, UUID.class),
+        rs.getBigDecimal(3),
+        TransactionType.valueOf(rs.getString(4)),
+        rs.getString(5),
+        rs.getBigDecimal(6),
+        rs.getObject(7, LocalDateTime.class),
+        TransactionStatus.valueOf(rs.getString(8))
+    );
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<TransactionResponseDTO> findByAccountId(UUID accountId, Pageable pageable) {
+        log.debug("Querying transactions for account {} with pagination: page={}, size={}",
+            accountId, pageable.getPageNumber(), pageable.getPageSize());
+
+        List<TransactionResponseDTO> content = jdbcClient.sql(selectPageSql(pageable.getSort()))
+            .params(accountId, pageable.getPageSize(), pageable.getOffset())
+            .query(TRANSACTION_ROW_MAPPER)
+            .list();
+
+        // Only an empty page needs to tell "no transactions" apart from "no account"
+        if (content.isEmpty() && !accountExists(accountId)) {
+            throw new AccountNotFoundException(accountId.toString());
+        }
+
+        // The count query is skipped when the page alone determines the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByAccountId(accountId));
+    }
+
+    @Override
+    public long streamByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to,
+                                  Consumer<TransactionResponseDTO> consumer) {
+        log.debug("Streaming transactions for account {} from {} to {}", accountId, from, to);
+
+        StringBuilder sql = new StringBuilder(SELECT_HISTORY_SQL);
+        List<Object> params = new ArrayList<>(3);
+        params.add(accountId);
+        if (from != null) {
+            sql.append(" AND created_at >= ?");
+            params.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND created_at < ?");
+            params.add(to);
+        }
+        sql.append(" ORDER BY created_at, transaction_id");
+
+        // Forward-only cursor with a fixed fetch size: the driver never holds more than one batch of rows
+        AtomicLong rowCount = new AtomicLong();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            new ArgumentPreparedStatementSetter(params.toArray()).setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) rs ->
+            consumer.accept(TRANSACTION_ROW_MAPPER.mapRow(rs, (int) rowCount.getAndIncrement())));
+
+        return rowCount.get();
+    }
+
+    @Override
+    public Optional<TransactionResponseDTO> findLatestBetween(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        return jdbcClient.sql(SELECT_LATEST_SQL)
+            .params(accountId, from != null ? from : OPEN_RANGE_START, to)
+            .query(TRANSACTION_ROW_MAPPER)
+            .optional();
+    }
+
+    @Override
+    public Optional<TransactionResponseDTO> findFirstAfter(UUID accountId, LocalDateTime after) {
+        return jdbcClient.sql(SELECT_FIRST_AFTER_SQL)
+            .params(accountId, after)
+            .query(TRANSACTION_ROW_MAPPER)
+            .optional();
+    }
+
+    private String selectPageSql(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORT_PROPERTY.equals(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+        }
+
+        Sort.Order order = sort.getOrderFor(SORT_PROPERTY);
+        return order != null && order.isAscending() ? SELECT_PAGE_ASC_SQL : SELECT_PAGE_DESC_SQL;
+    }
+
+    private long countByAccountId(UUID accountId) {
+        return jdbcClient.sql(COUNT_SQL)
+            .param(accountId)
+            .query(Long.class)
+            .single();
+    }
+
+    private boolean accountExists(UUID accountId) {
+        return Boolean.TRUE.equals(jdbcClient.sql(ACCOUNT_EXISTS_SQL)
+            .param(accountId)
+            .query(Boolean.class)
+            .single());
+    }
+}
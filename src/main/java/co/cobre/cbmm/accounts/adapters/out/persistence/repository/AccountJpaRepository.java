@@ -2,6 +2,8 @@ package co.cobre.cbmm.accounts.adapters.out.persistence.repository;
 
 import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -19,5 +21,21 @@ public interface AccountJpaRepository extends JpaRepository<AccountEntity, UUID>
      * @return optional account entity
      */
     Optional<AccountEntity> findByAccountNumber(String accountNumber);
+
+    /**
+     * Find only the version of an account (served by the covering index idx_account_number_version)
+     * @param accountNumber the account number
+     * @return optional version
+     */
+    @Query("SELECT a.version FROM AccountEntity a WHERE a.accountNumber = :accountNumber")
+    Optional<Integer> findVersionByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Find only the account number of an account, without bringing the entity into the persistence context
+     * @param accountId the account ID
+     * @return optional account number
+     */
+    @Query("SELECT a.accountNumber FROM AccountEntity a WHERE a.accountId = :accountId")
+    Optional<String> findAccountNumberById(@Param("accountId") UUID accountId);
 }
 
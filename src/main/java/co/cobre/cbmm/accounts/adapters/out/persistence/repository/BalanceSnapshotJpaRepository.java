@@ -0,0 +1,104 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence.repository;
+
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.BalanceSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPA Repository for balance snapshot entities
+ */
+@Repository
+public interface BalanceSnapshotJpaRepository
+    extends JpaRepository<BalanceSnapshotEntity, BalanceSnapshotEntity.BalanceSnapshotId> {
+
+    /**
+     * Find the most recent snapshot of an account taken strictly before a day
+     * @param accountId the account ID
+     * @param day exclusive upper bound on the snapshot date
+     * @return optional snapshot
+     */
+    Optional<BalanceSnapshotEntity> findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+        UUID accountId, LocalDate day);
+
+    /**
+     * Snapshot one day for every account with activity on it, in a single set-based statement
+     * The balance is the balance_after of the last transaction of the day; re-running replaces the row
+     * @return number of snapshots written
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO cbmm.balance_snapshot
+            (account_id, snapshot_date, balance, last_transaction_id, last_transaction_at, created_at)
+        SELECT DISTINCT ON (t.account_id)
+            t.account_id, :day, t.balance_after, t.transaction_id, t.created_at, CURRENT_TIMESTAMP
+        FROM cbmm.transaction t
+        WHERE t.created_at >= :dayStart AND t.created_at < :dayEnd
+        ORDER BY t.account_id, t.created_at DESC, t.transaction_id DESC
+        ON CONFLICT (account_id, snapshot_date) DO UPDATE
+            SET balance = EXCLUDED.balance,
+                last_transaction_id = EXCLUDED.last_transaction_id,
+                last_transaction_at = EXCLUDED.last_transaction_at
+        """, nativeQuery = true)
+    int upsertDay(@Param("day") LocalDate day,
+                  @Param("dayStart") LocalDateTime dayStart,
+                  @Param("dayEnd") LocalDateTime dayEnd);
+
+    /**
+     * Snapshot every day with activity of one account within [from, until), keeping existing rows
+     * @return number of snapshots written
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO cbmm.balance_snapshot
+            (account_id, snapshot_date, balance, last_transaction_id, last_transaction_at, created_at)
+        SELECT DISTINCT ON (CAST(t.created_at AS DATE))
+            t.account_id, CAST(t.created_at AS DATE), t.balance_after, t.transaction_id, t.created_at, CURRENT_TIMESTAMP
+        FROM cbmm.transaction t
+        WHERE t.account_id = :accountId AND t.created_at >= :from AND t.created_at < :until
+        ORDER BY CAST(t.created_at AS DATE), t.created_at DESC, t.transaction_id DESC
+        ON CONFLICT (account_id, snapshot_date) DO NOTHING
+        """, nativeQuery = true)
+    int insertAccountDays(@Param("accountId") UUID accountId,
+                          @Param("from") LocalDateTime from,
+                          @Param("until") LocalDateTime until);
+
+    /**
+     * Claim the backfill until {@code lockedUntil}, unless it is complete up to {@code untilDay} or another
+     * instance holds an unexpired claim
+     * @return 1 if claimed, 0 otherwise
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE cbmm.balance_snapshot_backfill
+        SET locked_until = :lockedUntil
+        WHERE id = 1 AND completed_until < :untilDay AND (locked_until IS NULL OR locked_until < :now)
+        """, nativeQuery = true)
+    int claimBackfill(@Param("untilDay") LocalDate untilDay,
+                      @Param("now") LocalDateTime now,
+                      @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Day from which snapshots may be missing (every earlier day is snapshotted)
+     */
+    @Query(value = "SELECT completed_until FROM cbmm.balance_snapshot_backfill WHERE id = 1", nativeQuery = true)
+    LocalDate findBackfillCompletedUntil();
+
+    /**
+     * Move the backfill watermark to {@code untilDay} and release the claim
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE cbmm.balance_snapshot_backfill
+        SET completed_until = :untilDay, locked_until = NULL
+        WHERE id = 1
+        """, nativeQuery = true)
+    int completeBackfill(@Param("untilDay") LocalDate untilDay);
+}
@@ -2,11 +2,13 @@ package co.cobre.cbmm.accounts.adapters.out.persistence.repository;
 
 import co.cobre.cbmm.accounts.adapters.out.persistence.entity.CBMMEventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +37,26 @@ public interface CBMMEventJpaRepository extends JpaRepository<CBMMEventEntity, S
         @Param("maxRetries") Integer maxRetries
     );
 
+    /**
+     * Move an event to RETRYING if it is FAILED, or in one of {@code inFlight} and not updated since
+     * {@code staleBefore}; a single statement, so two redeliveries cannot both take it back
+     * Bulk updates bypass the audit trail: the caller completes the takeover through the entity.
+     * @return 1 if taken back, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE CBMMEventEntity e
+        SET e.status = :retrying, e.updatedAt = :now, e.version = e.version + 1
+        WHERE e.eventId = :eventId
+          AND (e.status = :failed OR (e.status IN :inFlight AND e.updatedAt < :staleBefore))
+        """)
+    int reclaim(@Param("eventId") String eventId,
+                @Param("retrying") CBMMEventEntity.EventStatus retrying,
+                @Param("failed") CBMMEventEntity.EventStatus failed,
+                @Param("inFlight") Collection<CBMMEventEntity.EventStatus> inFlight,
+                @Param("staleBefore") LocalDateTime staleBefore,
+                @Param("now") LocalDateTime now);
+
     /**
      * Find events by operation date range
      */
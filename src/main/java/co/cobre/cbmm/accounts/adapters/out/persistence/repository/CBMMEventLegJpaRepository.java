@@ -0,0 +1,36 @@
+package co.cobre.cbmm.accounts.adapters.out.persistence.repository;
+
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.CBMMEventLegEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Repository for the applied legs of CBMM events
+ */
+@Repository
+public interface CBMMEventLegJpaRepository
+    extends JpaRepository<CBMMEventLegEntity, CBMMEventLegEntity.CBMMEventLegId> {
+
+    /**
+     * Check if a leg of an event is recorded
+     */
+    boolean existsByEventIdAndLeg(String eventId, String leg);
+
+    /**
+     * Record a leg of an event; a plain insert (not a merge), so recording it twice violates the primary key
+     * @return number of rows inserted
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO cbmm.cbmm_event_leg (event_id, leg, applied_at)
+        VALUES (:eventId, :leg, :appliedAt)
+        """, nativeQuery = true)
+    int insert(@Param("eventId") String eventId,
+               @Param("leg") String leg,
+               @Param("appliedAt") LocalDateTime appliedAt);
+}
@@ -1,12 +1,14 @@
 package co.cobre.cbmm.accounts.adapters.out.persistence.repository;
 
 import co.cobre.cbmm.accounts.adapters.out.persistence.entity.TransactionEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.projection.TransactionWatermarkProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -22,5 +24,12 @@ public interface TransactionJpaRepository extends JpaRepository<TransactionEntit
      * @return page of transactions
      */
     Page<TransactionEntity> findByAccountId(UUID accountId, Pageable pageable);
+
+    /**
+     * Find the id and creation date of the latest transaction of an account
+     * @param accountId the account ID
+     * @return optional watermark projection
+     */
+    Optional<TransactionWatermarkProjection> findFirstByAccountIdOrderByCreatedAtDescTransactionIdDesc(UUID accountId);
 }
 
@@ -0,0 +1,32 @@
+package co.cobre.cbmm.accounts.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the balance of an account at a point in time
+ */
+@Schema(description = "Account balance at a point in time")
+public record BalanceDTO(
+
+    @Schema(description = "Account number", example = "ACC-2024-001")
+    String accountNumber,
+
+    @Schema(description = "Currency code", example = "USD")
+    String currency,
+
+    @Schema(description = "Balance at the requested instant", example = "1500.50")
+    BigDecimal balance,
+
+    @Schema(description = "Instant the balance refers to", example = "2024-06-30T23:59:59")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime asOf,
+
+    @Schema(description = "Day of the snapshot the balance was derived from, absent if none was used", example = "2024-06-29")
+    LocalDate snapshotDate
+) {
+}
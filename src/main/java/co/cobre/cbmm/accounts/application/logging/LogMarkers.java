@@ -0,0 +1,16 @@
+package co.cobre.cbmm.accounts.application.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Markers understood by the logging setup in logback-spring.xml
+ */
+public final class LogMarkers {
+
+    /** Never sampled by the success-path sampling filter: business rejections, slow events and other lines that must be kept */
+    public static final Marker ALWAYS = MarkerFactory.getMarker("ALWAYS");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,313 @@
+package co.cobre.cbmm.accounts.application.service;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.exception.InactiveAccountException;
+import co.cobre.cbmm.accounts.domain.exception.InsufficientBalanceException;
+import co.cobre.cbmm.accounts.domain.exception.InvalidCurrencyException;
+import co.cobre.cbmm.accounts.domain.model.Account;
+import co.cobre.cbmm.accounts.domain.model.Transaction;
+import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
+import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import co.cobre.cbmm.accounts.ports.out.AccountRepositoryPort;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventLegRepositoryPort;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventLegRepositoryPort.Leg;
+import co.cobre.cbmm.accounts.ports.out.EventContextPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import co.cobre.cbmm.accounts.ports.out.TransactionRepositoryPort;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Balance update of one leg of a CBMM event (origin debit, destination credit), one transaction per attempt
+ * Called by AsyncAccountProcessingService with the account lock already held (the nested executeWithLock then
+ * just runs); with transaction-scoped lock backends the lock is taken here, inside the transaction.
+ * Each leg is recorded as applied in its own transaction and skipped when the event is processed again, so a
+ * retry after only one leg committed never debits or credits an account twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountBalanceUpdateService {
+
+    private final AccountRepositoryPort accountRepository;
+    private final TransactionRepositoryPort transactionRepository;
+    private final DistributedLockService distributedLockService;
+    private final ErrorMetricsService errorMetricsService;
+    private final PipelineTimingPort pipelineTimingPort;
+    private final EventContextPort eventContextPort;
+    private final CBMMEventLegRepositoryPort eventLegRepository;
+
+    /**
+     * Debit the origin account of the event
+     * Retries on optimistic locking failures with exponential backoff, each attempt in a new transaction
+     * Retry parameters are configured in application.yml under retry.optimistic-locking
+     */
+    @Transactional
+    @Retryable(
+        retryFor = {ObjectOptimisticLockingFailureException.class},
+        maxAttemptsExpression = "#{${retry.optimistic-locking.max-attempts}}",
+        backoff = @Backoff(
+            delayExpression = "#{${retry.optimistic-locking.initial-delay}}",
+            multiplierExpression = "#{${retry.optimistic-locking.multiplier}}",
+            maxDelayExpression = "#{${retry.optimistic-locking.max-delay}}"
+        )
+    )
+    public UUID debitOrigin(CBMMEventDTO event) {
+        log.debug("Processing origin account in thread: {}", Thread.currentThread());
+
+        try {
+            eventContextPort.bindToCurrentTransaction(event.eventId());
+            pipelineTimingPort.recordCommitOfCurrentTransaction();
+            return processOriginAccount(event);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Optimistic locking failure for origin account {}, will retry: {}",
+                event.origin().accountId(), e.getMessage());
+
+            // Record metric
+            errorMetricsService.recordOptimisticLockingFailure("Account", "processOriginAccount");
+
+            throw e; // Re-throw to trigger @Retryable
+        } catch (RuntimeException e) {
+            log.error("Error in async origin account processing: {}", e.getMessage());
+
+            // Record metric
+            errorMetricsService.recordError("async_processing_error", "processOriginAccount", e);
+
+            throw e;
+        }
+    }
+
+    /**
+     * Credit the destination account of the event
+     * Retries on optimistic locking failures with exponential backoff, each attempt in a new transaction
+     * Retry parameters are configured in application.yml under retry.optimistic-locking
+     */
+    @Transactional
+    @Retryable(
+        retryFor = {ObjectOptimisticLockingFailureException.class},
+        maxAttemptsExpression = "#{${retry.optimistic-locking.max-attempts}}",
+        backoff = @Backoff(
+            delayExpression = "#{${retry.optimistic-locking.initial-delay}}",
+            multiplierExpression = "#{${retry.optimistic-locking.multiplier}}",
+            maxDelayExpression = "#{${retry.optimistic-locking.max-delay}}"
+        )
+    )
+    public UUID creditDestination(CBMMEventDTO event) {
+        log.debug("Processing destination account in thread: {}", Thread.currentThread());
+
+        try {
+            eventContextPort.bindToCurrentTransaction(event.eventId());
+            pipelineTimingPort.recordCommitOfCurrentTransaction();
+            return processDestinationAccount(event);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Optimistic locking failure for destination account {}, will retry: {}",
+                event.destination().accountId(), e.getMessage());
+
+            // Record metric
+            errorMetricsService.recordOptimisticLockingFailure("Account", "processDestinationAccount");
+
+            throw e; // Re-throw to trigger @Retryable
+        } catch (RuntimeException e) {
+            log.error("Error in async destination account processing: {}", e.getMessage());
+
+            // Record metric
+            errorMetricsService.recordError("async_processing_error", "processDestinationAccount", e);
+
+            throw e;
+        }
+    }
+
+    private UUID processOriginAccount(CBMMEventDTO event) {
+        String accountNumber = event.origin().accountId();
+        BigDecimal amount = event.origin().amount();
+        String currencyCode = event.origin().currency();
+
+        log.debug("Processing origin account: {} - Debit: {} {}", accountNumber, amount, currencyCode);
+
+        return distributedLockService.executeWithLock(accountNumber, () -> {
+            try {
+                long readStart = System.nanoTime();
+                Account account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> {
+                        errorMetricsService.recordError("account_not_found", "processOriginAccount",
+                            new AccountNotFoundException(accountNumber));
+                        return new AccountNotFoundException(accountNumber);
+                    });
+                pipelineTimingPort.record(Stage.DB_READ, readStart);
+
+                if (eventLegRepository.isApplied(event.eventId(), Leg.ORIGIN)) {
+                    log.info("Origin debit of event {} already applied, skipping", event.eventId());
+                    return account.accountId();
+                }
+
+                if (!account.isActive()) {
+                    errorMetricsService.recordError("inactive_account", "processOriginAccount",
+                        new InactiveAccountException(accountNumber));
+                    throw new InactiveAccountException(accountNumber);
+                }
+
+                if (!account.currency().getCode().equals(currencyCode)) {
+                    errorMetricsService.recordValidationError("currency_mismatch", "origin.currency");
+                    throw new InvalidCurrencyException(
+                        String.format("Origin account currency mismatch. Expected: %s, Got: %s",
+                            account.currency().getCode(), currencyCode)
+                    );
+                }
+
+                if (!account.hasSufficientBalance(amount)) {
+                    errorMetricsService.recordInsufficientBalanceError(accountNumber, currencyCode);
+                    throw new InsufficientBalanceException(accountNumber, account.balance(), amount);
+                }
+
+                BigDecimal newBalance = account.balance().subtract(amount);
+                log.debug("Origin account {} - Current balance: {}, New balance: {}",
+                    accountNumber, account.balance(), newBalance);
+
+                // Create updated account - version will be handled by JPA @Version
+                Account updatedAccount = new Account(
+                    account.accountId(),
+                    account.accountNumber(),
+                    account.currency(),
+                    newBalance,
+                    account.status(),
+                    account.createdAt(),
+                    LocalDateTime.now(),
+                    account.version() // Keep current version, JPA will increment it
+                );
+                long writeStart = System.nanoTime();
+                accountRepository.save(updatedAccount);
+
+                Transaction transaction = new Transaction(
+                    null,
+                    account.accountId(),
+                    amount,
+                    TransactionType.DEBIT,
+                    Currency.fromCode(currencyCode),
+                    newBalance,
+                    LocalDateTime.now(),
+                    TransactionStatus.COMPLETED
+                );
+
+                transactionRepository.save(transaction);
+                eventLegRepository.markApplied(event.eventId(), Leg.ORIGIN);
+                pipelineTimingPort.record(Stage.DB_WRITE, writeStart);
+                log.debug("Origin debit transaction completed for account: {}", accountNumber);
+
+                return account.accountId();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                errorMetricsService.recordOptimisticLockingFailure("Account", "processOriginAccount");
+                throw e;
+            } catch (RuntimeException e) {
+                // Any other runtime exception
+                if (!(e instanceof AccountNotFoundException ||
+                      e instanceof InactiveAccountException ||
+                      e instanceof InvalidCurrencyException ||
+                      e instanceof InsufficientBalanceException)) {
+                    errorMetricsService.recordError("origin_account_processing_error", "processOriginAccount", e);
+                }
+                throw e;
+            }
+        });
+    }
+
+    private UUID processDestinationAccount(CBMMEventDTO event) {
+        String accountNumber = event.destination().accountId();
+        BigDecimal amount = event.destination().amount();
+        String currencyCode = event.destination().currency();
+
+        log.debug("Processing destination account: {} - Credit: {} {}", accountNumber, amount, currencyCode);
+
+        return distributedLockService.executeWithLock(accountNumber, () -> {
+            try {
+                long readStart = System.nanoTime();
+                Account account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> {
+                        errorMetricsService.recordError("account_not_found", "processDestinationAccount",
+                            new AccountNotFoundException(accountNumber));
+                        return new AccountNotFoundException(accountNumber);
+                    });
+                pipelineTimingPort.record(Stage.DB_READ, readStart);
+
+                if (eventLegRepository.isApplied(event.eventId(), Leg.DESTINATION)) {
+                    log.info("Destination credit of event {} already applied, skipping", event.eventId());
+                    return account.accountId();
+                }
+
+                if (!account.isActive()) {
+                    errorMetricsService.recordError("inactive_account", "processDestinationAccount",
+                        new InactiveAccountException(accountNumber));
+                    throw new InactiveAccountException(accountNumber);
+                }
+
+                if (!account.currency().getCode().equals(currencyCode)) {
+                    errorMetricsService.recordValidationError("currency_mismatch", "destination.currency");
+                    throw new InvalidCurrencyException(
+                        String.format("Destination account currency mismatch. Expected: %s, Got: %s",
+                            account.currency().getCode(), currencyCode)
+                    );
+                }
+
+                BigDecimal newBalance = account.balance().add(amount);
+                log.debug("Destination account {} - Current balance: {}, New balance: {}",
+                    accountNumber, account.balance(), newBalance);
+
+                // Create updated account - version will be handled by JPA @Version
+                Account updatedAccount = new Account(
+                    account.accountId(),
+                    account.accountNumber(),
+                    account.currency(),
+                    newBalance,
+                    account.status(),
+                    account.createdAt(),
+                    LocalDateTime.now(),
+                    account.version() // Keep current version, JPA will increment it
+                );
+                long writeStart = System.nanoTime();
+                accountRepository.save(updatedAccount);
+
+                Transaction transaction = new Transaction(
+                    null,
+                    account.accountId(),
+                    amount,
+                    TransactionType.CREDIT,
+                    Currency.fromCode(currencyCode),
+                    newBalance,
+                    LocalDateTime.now(),
+                    TransactionStatus.COMPLETED
+                );
+
+                transactionRepository.save(transaction);
+                eventLegRepository.markApplied(event.eventId(), Leg.DESTINATION);
+                pipelineTimingPort.record(Stage.DB_WRITE, writeStart);
+                log.debug("Destination credit transaction completed for account: {}", accountNumber);
+
+                return account.accountId();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                errorMetricsService.recordOptimisticLockingFailure("Account", "processDestinationAccount");
+                throw e;
+            } catch (RuntimeException e) {
+                // Any other runtime exception
+                if (!(e instanceof AccountNotFoundException ||
+                      e instanceof InactiveAccountException ||
+                      e instanceof InvalidCurrencyException)) {
+                    errorMetricsService.recordError("destination_account_processing_error", "processDestinationAccount", e);
+                }
+                throw e;
+            }
+        });
+    }
+}
@@ -0,0 +1,252 @@
+package co.cobre.cbmm.accounts.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Adaptive in-flight limit (AIMD with a latency gradient, in the style of Netflix concurrency-limits)
+ * - Additive increase: +1 for every successful call made while at least half the limit was in use
+ * - Multiplicative decrease: limit * backoffRatio on a dropped call (overload failure) or when the call's
+ *   latency exceeds latencyTolerance times the long-term baseline (a slow EWMA of successful calls)
+ * Latency samples leave out the time the call spent waiting for account locks: contention on a hot account
+ * is not overload, and admitting fewer events would not shorten it. At most one decrease is applied per
+ * latency window: calls that started before the last decrease saw the old limit and are not counted again.
+ * Callers over the limit wait up to maxWait and are then rejected. Saturation changes are published to
+ * listeners, so sources that can stop pulling work (Kafka) pause instead of blocking.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    /** Weight of a new sample in the long-term latency baseline */
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final String name;
+    private final Settings settings;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotAvailable = lock.newCondition();
+    private final List<Consumer<Boolean>> saturationListeners = new CopyOnWriteArrayList<>();
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyNanos;
+    private boolean saturated;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.limit = settings.initialLimit();
+
+        Gauge.builder("cbmm.accounts.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Current adaptive in-flight limit")
+            .tag("limiter", name)
+            .register(meterRegistry);
+        Gauge.builder("cbmm.accounts.concurrency.in_flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("Calls currently in flight")
+            .tag("limiter", name)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("cbmm.accounts.concurrency.rejected.total")
+            .description("Calls rejected after waiting maxWait for the limit")
+            .tag("limiter", name)
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("cbmm.accounts.concurrency.dropped.total")
+            .description("Calls that failed with an overload error and reduced the limit")
+            .tag("limiter", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Wait for an in-flight slot
+     * @return start time (System.nanoTime) to pass back to {@link #release}
+     * @throws RejectedExecutionException if no slot frees up within maxWait
+     */
+    public long acquire() {
+        boolean becameSaturated;
+        lock.lock();
+        try {
+            long remaining = settings.maxWait().toNanos();
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0L) {
+                    rejectedCounter.increment();
+                    throw new RejectedExecutionException(String.format(
+                        "Concurrency limit '%s' reached (limit: %d, in flight: %d)", name, (int) limit, inFlight));
+                }
+                remaining = slotAvailable.awaitNanos(remaining);
+            }
+            inFlight++;
+            becameSaturated = updateSaturation();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for concurrency limit '" + name + "'", e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (becameSaturated) {
+            notifySaturation(true);
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Release a slot and feed the call's outcome into the limit
+     * @param startNanos value returned by {@link #acquire}
+     * @param dropped true if the call failed because the system is overloaded
+     */
+    public void release(long startNanos, boolean dropped) {
+        release(startNanos, 0L, dropped);
+    }
+
+    /**
+     * Release a slot and feed the call's outcome into the limit
+     * @param startNanos value returned by {@link #acquire}
+     * @param lockWaitNanos time the call spent waiting for account locks, left out of its latency sample
+     * @param dropped true if the call failed because the system is overloaded
+     */
+    public void release(long startNanos, long lockWaitNanos, boolean dropped) {
+        long now = System.nanoTime();
+        long latencyNanos = Math.max(0L, now - startNanos - lockWaitNanos);
+        boolean saturationChanged;
+        boolean nowSaturated;
+
+        lock.lock();
+        try {
+            boolean utilized = inFlight * 2 >= limit;
+            inFlight--;
+
+            if (dropped) {
+                droppedCounter.increment();
+                decrease(startNanos, now);
+            } else {
+                boolean slow = baselineLatencyNanos > 0
+                    && latencyNanos > baselineLatencyNanos * settings.latencyTolerance();
+                baselineLatencyNanos = baselineLatencyNanos == 0
+                    ? latencyNanos
+                    : baselineLatencyNanos + BASELINE_SMOOTHING * (latencyNanos - baselineLatencyNanos);
+
+                if (slow) {
+                    decrease(startNanos, now);
+                } else if (utilized) {
+                    limit = Math.min(settings.maxLimit(), limit + 1);
+                }
+            }
+
+            boolean wasSaturated = saturated;
+            updateSaturation();
+            saturationChanged = wasSaturated != saturated;
+            nowSaturated = saturated;
+            slotAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (saturationChanged) {
+            notifySaturation(nowSaturated);
+        }
+    }
+
+    /**
+     * Register a listener called with true when the limiter becomes saturated and false when it frees up
+     */
+    public void addSaturationListener(Consumer<Boolean> listener) {
+        saturationListeners.add(listener);
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isSaturated() {
+        lock.lock();
+        try {
+            return saturated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(long startNanos, long now) {
+        if (decreased && startNanos - lastDecreaseNanos < 0) {
+            return;
+        }
+        decreased = true;
+        lastDecreaseNanos = now;
+        double previous = limit;
+        limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+        if ((int) previous != (int) limit) {
+            log.debug("Concurrency limit '{}' decreased: {} -> {}", name, (int) previous, (int) limit);
+        }
+    }
+
+    /**
+     * @return true if the limiter just became saturated
+     */
+    private boolean updateSaturation() {
+        boolean wasSaturated = saturated;
+        saturated = inFlight >= (int) limit;
+        return saturated && !wasSaturated;
+    }
+
+    private void notifySaturation(boolean isSaturated) {
+        for (Consumer<Boolean> listener : saturationListeners) {
+            try {
+                listener.accept(isSaturated);
+            } catch (Exception e) {
+                log.warn("Saturation listener of concurrency limit '{}' failed: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Limiter tuning
+     * @param initialLimit starting in-flight limit
+     * @param minLimit lower bound for the limit
+     * @param maxLimit upper bound for the limit
+     * @param backoffRatio multiplier applied on overload (e.g. 0.9)
+     * @param latencyTolerance latency above baseline * tolerance counts as overload (e.g. 2.0)
+     * @param maxWait how long a caller waits for a slot before being rejected
+     */
+    public record Settings(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                           double latencyTolerance, Duration maxWait) {
+
+        public Settings {
+            if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException(String.format(
+                    "Invalid limits: initial=%d, min=%d, max=%d", initialLimit, minLimit, maxLimit));
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            if (latencyTolerance < 1) {
+                throw new IllegalArgumentException("latencyTolerance must be at least 1");
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package co.cobre.cbmm.accounts.application.service;
+
+import co.cobre.cbmm.accounts.domain.model.BalanceSnapshot;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.BalanceSnapshotPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service maintaining the daily balance snapshots
+ * - End of day: one set-based statement snapshots the previous day for every account with activity
+ * - Backfill: on startup, the days missing since the backfill watermark are snapshotted; only one instance
+ *   backfills at a time. The very first backfill catches every account up from its latest snapshot, in parallel
+ *   per account; later ones snapshot each missing day with the set-based end-of-day statement
+ * Both are idempotent, so running them more than once is harmless
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceSnapshotService {
+
+    private final BalanceSnapshotPort balanceSnapshotPort;
+    private final AccountQueryPort accountQueryPort;
+
+    @Value("${balance-snapshot.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    @Value("${balance-snapshot.backfill.parallelism:4}")
+    private int backfillParallelism;
+
+    @Value("${balance-snapshot.backfill.claim-timeout:1h}")
+    private Duration backfillClaimTimeout;
+
+    /**
+     * Snapshot the day that just ended
+     */
+    @Scheduled(cron = "${balance-snapshot.cron:0 5 0 * * *}")
+    public void snapshotPreviousDay() {
+        snapshotDay(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * Snapshot one day for every account with transactions on it
+     * @return number of snapshots written
+     */
+    public int snapshotDay(LocalDate day) {
+        log.info("Taking balance snapshots for {}", day);
+
+        int written = balanceSnapshotPort.snapshotDay(day);
+
+        log.info("Balance snapshots for {} written: {}", day, written);
+        return written;
+    }
+
+    @Async("virtualThreadExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillEnabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * Bring the snapshots of every account up to yesterday, unless already done or running on another instance
+     * The watermark only moves when every day before today is snapshotted; after a failure the claim expires
+     * (balance-snapshot.backfill.claim-timeout) and the next start retries
+     * @return number of snapshots written
+     */
+    public int backfill() {
+        LocalDate today = LocalDate.now();
+        Optional<LocalDate> missingFrom = balanceSnapshotPort.claimBackfill(today, backfillClaimTimeout);
+        if (missingFrom.isEmpty()) {
+            log.info("Balance snapshot backfill skipped: up to date or running on another instance");
+            return 0;
+        }
+
+        LocalDate fromDay = missingFrom.get();
+        BackfillResult result = LocalDate.EPOCH.equals(fromDay)
+            ? backfillAccounts(today)
+            : backfillDays(fromDay, today);
+        if (result.failed() == 0) {
+            balanceSnapshotPort.completeBackfill(today);
+        }
+        return result.written();
+    }
+
+    /**
+     * Snapshot each day in [fromDay, untilDay) for every account with activity on it
+     */
+    private BackfillResult backfillDays(LocalDate fromDay, LocalDate untilDay) {
+        log.info("Starting balance snapshot backfill from {} to {}", fromDay, untilDay);
+
+        int written = 0;
+        for (LocalDate day = fromDay; day.isBefore(untilDay); day = day.plusDays(1)) {
+            written += balanceSnapshotPort.snapshotDay(day);
+        }
+
+        log.info("Balance snapshot backfill finished: {} snapshots written", written);
+        return new BackfillResult(written, 0);
+    }
+
+    /**
+     * Catch every account up from its latest snapshot
+     * Accounts are processed in parallel on virtual threads; the number of concurrent
+     * statements is capped so the backfill never takes over the connection pool
+     */
+    private BackfillResult backfillAccounts(LocalDate today) {
+        List<UUID> accountIds = accountQueryPort.findAllAccountIds();
+        log.info("Starting balance snapshot backfill for {} accounts (parallelism: {})",
+            accountIds.size(), backfillParallelism);
+
+        Semaphore permits = new Semaphore(backfillParallelism);
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (UUID accountId : accountIds) {
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        written.addAndGet(backfillAccount(accountId, today));
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.error("Balance snapshot backfill failed for account {}: {}", accountId, e.getMessage(), e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        log.info("Balance snapshot backfill finished: {} snapshots written, {} accounts failed",
+            written.get(), failed.get());
+        return new BackfillResult(written.get(), failed.get());
+    }
+
+    private int backfillAccount(UUID accountId, LocalDate today) {
+        // Resume after the latest snapshot; a first run covers the whole history
+        LocalDate fromDay = balanceSnapshotPort.findLatestBefore(accountId, today)
+            .map(BalanceSnapshot::snapshotDate)
+            .map(day -> day.plusDays(1))
+            .orElse(LocalDate.EPOCH);
+
+        if (!fromDay.isBefore(today)) {
+            return 0;
+        }
+        return balanceSnapshotPort.snapshotAccountDays(accountId, fromDay, today);
+    }
+
+    private record BackfillResult(int written, int failed) {
+    }
+}
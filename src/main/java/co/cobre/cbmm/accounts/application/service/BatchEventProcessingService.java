@@ -5,8 +5,8 @@ import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
 import co.cobre.cbmm.accounts.domain.exception.FileParsingException;
 import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -17,18 +17,28 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Service for batch processing of CBMM events from files
  * Supports JSON and JSONL (JSON Lines) formats
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class BatchEventProcessingService {
 
     private final ProcessCBMMEventPort processCBMMEventPort;
     private final ObjectMapper objectMapper;
+    private final Executor batchEventExecutor;
+
+    public BatchEventProcessingService(ProcessCBMMEventPort processCBMMEventPort,
+                                       ObjectMapper objectMapper,
+                                       @Qualifier("batchEventExecutor") Executor batchEventExecutor) {
+        this.processCBMMEventPort = processCBMMEventPort;
+        this.objectMapper = objectMapper;
+        this.batchEventExecutor = batchEventExecutor;
+    }
 
     /**
      * Parse event file and extract CBMM events
@@ -122,7 +132,8 @@ public class BatchEventProcessingService {
 
     /**
      * Process batch of events concurrently
-     * Uses Virtual Threads for high throughput
+     * Uses Virtual Threads for high throughput; admission is capped from the connection pool size,
+     * so a large batch queues cheaply instead of timing out on connection checkout
      */
     public BatchProcessingResponseDTO processBatch(List<CBMMEventDTO> events) {
         String batchId = "batch_" + UUID.randomUUID().toString().substring(0, 8);
@@ -133,9 +144,7 @@ public class BatchEventProcessingService {
         // Process events concurrently using CompletableFuture
         List<CompletableFuture<BatchProcessingResponseDTO.EventProcessingResult>> futures =
             events.stream()
-                .map(event -> CompletableFuture.supplyAsync(
-                    () -> processEvent(event)
-                ))
+                .map(this::submitEvent)
                 .toList();
 
         // Wait for all to complete
@@ -168,6 +177,21 @@ public class BatchEventProcessingService {
         return response;
     }
 
+    private CompletableFuture<BatchProcessingResponseDTO.EventProcessingResult> submitEvent(CBMMEventDTO event) {
+        try {
+            return CompletableFuture.supplyAsync(() -> processEvent(event), batchEventExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Event {} rejected by admission control: {}", event.eventId(), e.getMessage());
+
+            return CompletableFuture.completedFuture(new BatchProcessingResponseDTO.EventProcessingResult(
+                event.eventId(),
+                false,
+                "Event rejected, too many events waiting to be processed",
+                e.getMessage()
+            ));
+        }
+    }
+
     /**
      * Process single event and return result
      */
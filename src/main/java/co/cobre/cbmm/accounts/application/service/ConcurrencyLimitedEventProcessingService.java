@@ -0,0 +1,116 @@
+package co.cobre.cbmm.accounts.application.service;
+
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.application.logging.LogMarkers;
+import co.cobre.cbmm.accounts.application.usecase.ProcessCBMMEventUseCase;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.exception.DuplicateEventException;
+import co.cobre.cbmm.accounts.domain.exception.InactiveAccountException;
+import co.cobre.cbmm.accounts.domain.exception.InsufficientBalanceException;
+import co.cobre.cbmm.accounts.domain.exception.InvalidCurrencyException;
+import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
+import co.cobre.cbmm.accounts.ports.out.EventContextPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point for CBMM event processing (Kafka consumer and batch files) behind an adaptive concurrency limit
+ * Business outcomes (duplicates, validation, balance...) count as successful samples; any other failure
+ * (timeouts, connection or lock acquisition errors, exhausted optimistic-locking retries) is an overload
+ * signal and lowers the limit. Time spent waiting for account locks is left out of the latency sample.
+ * Each event is also recorded as a JFR event (with its id bound to the thread for the nested JFR events)
+ * and logged as a single summary line: successes at INFO (sampled in logback-spring.xml), business rejections
+ * always, failures and events slower than logging.event-summary.slow-threshold at WARN.
+ */
+@Service
+@Primary
+@Slf4j
+public class ConcurrencyLimitedEventProcessingService implements ProcessCBMMEventPort {
+
+    private static final Set<Class<? extends Throwable>> BUSINESS_EXCEPTIONS = Set.of(
+        DuplicateEventException.class,
+        AccountNotFoundException.class,
+        InactiveAccountException.class,
+        InsufficientBalanceException.class,
+        InvalidCurrencyException.class,
+        IllegalArgumentException.class
+    );
+
+    private final ProcessCBMMEventUseCase processCBMMEventUseCase;
+    private final AdaptiveConcurrencyLimiter eventProcessingLimiter;
+    private final EventContextPort eventContextPort;
+    private final Duration slowEventThreshold;
+
+    public ConcurrencyLimitedEventProcessingService(ProcessCBMMEventUseCase processCBMMEventUseCase,
+                                                    AdaptiveConcurrencyLimiter eventProcessingLimiter,
+                                                    EventContextPort eventContextPort,
+                                                    @Value("${logging.event-summary.slow-threshold:1s}") Duration slowEventThreshold) {
+        this.processCBMMEventUseCase = processCBMMEventUseCase;
+        this.eventProcessingLimiter = eventProcessingLimiter;
+        this.eventContextPort = eventContextPort;
+        this.slowEventThreshold = slowEventThreshold;
+    }
+
+    @Override
+    public void processCBMMEvent(CBMMEventDTO event) {
+        long start = eventProcessingLimiter.acquire();
+        long processingStart = System.nanoTime();
+        boolean dropped = false;
+        String outcome = "completed";
+        EventContextPort.EventScope eventScope = eventContextPort.open(event.eventId(), event.eventType());
+        try {
+            processCBMMEventUseCase.processCBMMEvent(event);
+        } catch (RuntimeException e) {
+            dropped = !isBusinessOutcome(e);
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long lockWaitNanos = eventScope.lockWaitNanos();
+            eventScope.end(outcome);
+            eventProcessingLimiter.release(start, lockWaitNanos, dropped);
+            logSummary(event, outcome, dropped, System.nanoTime() - processingStart);
+        }
+    }
+
+    private void logSummary(CBMMEventDTO event, String outcome, boolean dropped, long durationNanos) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (dropped) {
+            log.warn("CBMM event failed: eventId={}, type={}, outcome={}, durationMs={}",
+                event.eventId(), event.eventType(), outcome, durationMs);
+        } else if (durationNanos > slowEventThreshold.toNanos()) {
+            log.warn("Slow CBMM event: eventId={}, type={}, outcome={}, durationMs={}, origin={}, destination={}",
+                event.eventId(), event.eventType(), outcome, durationMs, event.origin(), event.destination());
+        } else if (!"completed".equals(outcome)) {
+            log.info(LogMarkers.ALWAYS, "CBMM event rejected: eventId={}, type={}, outcome={}, durationMs={}",
+                event.eventId(), event.eventType(), outcome, durationMs);
+        } else {
+            log.info("CBMM event processed: eventId={}, type={}, outcome={}, durationMs={}",
+                event.eventId(), event.eventType(), outcome, durationMs);
+        }
+    }
+
+    /**
+     * Whether {@code e} is a business outcome, deterministic for the event (processing it again fails the same way)
+     * Account processing runs on other threads, so business exceptions may arrive wrapped
+     * (CompletionException, ExecutionException); look through the cause chain
+     */
+    public static boolean isBusinessOutcome(Throwable e) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            for (Class<? extends Throwable> type : BUSINESS_EXCEPTIONS) {
+                if (type.isInstance(current)) {
+                    return true;
+                }
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+}
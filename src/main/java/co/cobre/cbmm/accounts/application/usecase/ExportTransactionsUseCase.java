@@ -0,0 +1,56 @@
+package co.cobre.cbmm.accounts.application.usecase;
+
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.ports.in.ExportTransactionsPort;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting the transaction history of an account
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportTransactionsUseCase implements ExportTransactionsPort {
+
+    private final AccountQueryPort accountQueryPort;
+    private final TransactionQueryPort transactionQueryPort;
+
+    @Override
+    public void validateExport(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+
+        if (!accountQueryPort.existsById(accountId)) {
+            throw new AccountNotFoundException(accountId.toString());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTransactions(UUID accountId, LocalDateTime from, LocalDateTime to,
+                                   Consumer<TransactionResponseDTO> sink) {
+        validateRange(from, to);
+        log.info("Exporting transactions for account: {}, from: {}, to: {}", accountId, from, to);
+
+        // The read-only transaction keeps the server-side cursor open while rows are streamed
+        long exported = transactionQueryPort.streamByAccountId(accountId, from, to, sink);
+
+        log.info("Exported {} transactions for account: {}", exported, accountId);
+        return exported;
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range start must be before its end");
+        }
+    }
+}
@@ -2,48 +2,44 @@ package co.cobre.cbmm.accounts.application.usecase;
 
 import co.cobre.cbmm.accounts.application.dto.AccountDTO;
 import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
-import co.cobre.cbmm.accounts.domain.model.Account;
 import co.cobre.cbmm.accounts.ports.in.GetAccountPort;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
 import co.cobre.cbmm.accounts.ports.out.AccountRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * Use case for getting account information
+ * Reads go through the query port, which projects rows straight into DTOs
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class GetAccountUseCase implements GetAccountPort {
 
+    private final AccountQueryPort accountQueryPort;
     private final AccountRepositoryPort accountRepositoryPort;
 
     @Override
     public AccountDTO getAccountByNumber(String accountNumber) {
         log.info("Getting account information for account number: {}", accountNumber);
 
-        Account account = accountRepositoryPort.findByAccountNumber(accountNumber)
+        AccountDTO account = accountQueryPort.findAccountByNumber(accountNumber)
             .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
         log.info("Account found: {}", account.accountNumber());
 
-        return mapToDTO(account);
+        return account;
     }
 
-    private AccountDTO mapToDTO(Account account) {
-        return new AccountDTO(
-            account.accountId(),
-            account.accountNumber(),
-            account.currency().getCode(),
-            account.balance(),
-            account.status().name(),
-            account.createdAt(),
-            account.updatedAt(),
-            account.version()
-        );
+    @Override
+    public Optional<Integer> getAccountVersion(String accountNumber) {
+        log.debug("Getting account version for account number: {}", accountNumber);
+
+        return accountRepositoryPort.findVersionByAccountNumber(accountNumber);
     }
 }
 
@@ -0,0 +1,81 @@
+package co.cobre.cbmm.accounts.application.usecase;
+
+import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+import co.cobre.cbmm.accounts.application.dto.BalanceDTO;
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.model.BalanceSnapshot;
+import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import co.cobre.cbmm.accounts.ports.in.GetBalancePort;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.BalanceSnapshotPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Use case for "balance as of" queries
+ * Starts from the nearest end-of-day snapshot and only looks at transactions recorded after it,
+ * so with up-to-date snapshots the scan is bounded by the transactions of a single day
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetBalanceUseCase implements GetBalancePort {
+
+    private final AccountQueryPort accountQueryPort;
+    private final BalanceSnapshotPort balanceSnapshotPort;
+    private final TransactionQueryPort transactionQueryPort;
+
+    @Override
+    public BalanceDTO getBalanceAsOf(String accountNumber, LocalDateTime asOf) {
+        log.info("Getting balance of account {} as of {}", accountNumber, asOf);
+
+        AccountDTO account = accountQueryPort.findAccountByNumber(accountNumber)
+            .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+
+        if (asOf.isBefore(account.createdAt())) {
+            throw new IllegalArgumentException("Account " + accountNumber + " did not exist at " + asOf);
+        }
+
+        // Every transaction up to the end of the snapshot day is already reflected in the snapshot,
+        // so only the transactions recorded after that day need to be looked at
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotPort.findLatestBefore(account.accountId(), asOf.toLocalDate());
+        LocalDateTime scanFrom = snapshot.map(s -> s.snapshotDate().plusDays(1).atStartOfDay()).orElse(null);
+
+        Optional<TransactionResponseDTO> lastTransaction =
+            transactionQueryPort.findLatestBetween(account.accountId(), scanFrom, asOf);
+
+        BigDecimal balance;
+        if (lastTransaction.isPresent()) {
+            balance = lastTransaction.get().balanceAfter();
+        } else if (snapshot.isPresent()) {
+            balance = snapshot.get().balance();
+        } else {
+            balance = openingBalance(account, asOf);
+        }
+
+        LocalDate snapshotDate = snapshot.map(BalanceSnapshot::snapshotDate).orElse(null);
+        log.debug("Balance of account {} as of {}: {} (snapshot: {})", accountNumber, asOf, balance, snapshotDate);
+
+        return new BalanceDTO(account.accountNumber(), account.currency(), balance, asOf, snapshotDate);
+    }
+
+    /**
+     * Balance before the first transaction of the account: undo the first transaction after asOf,
+     * or the current balance when the account never moved
+     */
+    private BigDecimal openingBalance(AccountDTO account, LocalDateTime asOf) {
+        return transactionQueryPort.findFirstAfter(account.accountId(), asOf)
+            .map(first -> first.type() == TransactionType.CREDIT
+                ? first.balanceAfter().subtract(first.amount())
+                : first.balanceAfter().add(first.amount()))
+            .orElse(account.balance());
+    }
+}
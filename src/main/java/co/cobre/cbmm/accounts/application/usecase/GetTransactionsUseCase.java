@@ -1,7 +1,9 @@
 package co.cobre.cbmm.accounts.application.usecase;
 
-import co.cobre.cbmm.accounts.domain.model.Transaction;
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.domain.model.TransactionWatermark;
 import co.cobre.cbmm.accounts.ports.in.GetTransactionsPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
 import co.cobre.cbmm.accounts.ports.out.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,20 +23,28 @@ import java.util.UUID;
 @Slf4j
 public class GetTransactionsUseCase implements GetTransactionsPort {
 
+    private final TransactionQueryPort transactionQueryPort;
     private final TransactionRepositoryPort transactionRepository;
 
     @Override
-    @Transactional(readOnly = true)
-    public Page<Transaction> getTransactionsByAccountId(UUID accountId, Pageable pageable) {
+    public Page<TransactionResponseDTO> getTransactionsByAccountId(UUID accountId, Pageable pageable) {
         log.info("Retrieving transactions for account: {}, page: {}, size: {}",
             accountId, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Transaction> transactions = transactionRepository.findByAccountIdPaginated(accountId, pageable);
+        Page<TransactionResponseDTO> transactions = transactionQueryPort.findByAccountId(accountId, pageable);
 
         log.info("Found {} transactions for account: {} (total: {})",
             transactions.getNumberOfElements(), accountId, transactions.getTotalElements());
 
         return transactions;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TransactionWatermark> getLatestWatermark(UUID accountId) {
+        log.debug("Retrieving transaction watermark for account: {}", accountId);
+
+        return transactionRepository.findLatestWatermark(accountId);
+    }
 }
 
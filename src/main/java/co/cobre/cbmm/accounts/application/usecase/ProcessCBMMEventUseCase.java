@@ -7,18 +7,26 @@ import co.cobre.cbmm.accounts.domain.exception.EventPersistenceException;
 import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
 import co.cobre.cbmm.accounts.ports.out.CBMMEventRepositoryPort;
 import co.cobre.cbmm.accounts.ports.out.IdempotencyPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Use case for processing CBMM events from Kafka
  * Uses Virtual Threads for parallel processing of origin and destination accounts
+ * Not transactional: the event row and each status change commit in their own short transaction
+ * (CBMMEventRepositoryPort) and each account leg in its own, so no DB connection is checked out while the
+ * legs wait for their account locks. A FAILED event stays recorded and is picked up again on redelivery, as is one
+ * left PENDING/PROCESSING/RETRYING by a consumer that died mid-flight once it is older than the claim timeout.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,53 +36,56 @@ public class ProcessCBMMEventUseCase implements ProcessCBMMEventPort {
     private final IdempotencyPort idempotencyPort;
     private final AsyncAccountProcessingService asyncAccountProcessingService;
     private final CBMMEventRepositoryPort cbmmEventRepositoryPort;
+    private final PipelineTimingPort pipelineTimingPort;
+
+    @Value("${cbmm-event.claim-timeout:5m}")
+    private Duration claimTimeout;
 
     private static final long EVENT_TTL_SECONDS = 86400;
 
     @Override
-    @Transactional
     public void processCBMMEvent(CBMMEventDTO event) {
-        log.info("Processing CBMM event: {} - Type: {}", event.eventId(), event.eventType());
+        log.debug("Processing CBMM event: {} - Type: {}", event.eventId(), event.eventType());
 
-        if (idempotencyPort.isEventProcessed(event.eventId())) {
+        long idempotencyStart = System.nanoTime();
+        boolean alreadyProcessed = idempotencyPort.isEventProcessed(event.eventId());
+        pipelineTimingPort.record(Stage.IDEMPOTENCY_CHECK, idempotencyStart);
+        if (alreadyProcessed) {
             log.warn("Event {} already processed, skipping", event.eventId());
             throw new DuplicateEventException(event.eventId());
         }
 
-        try {
-            cbmmEventRepositoryPort.save(event);
-            log.info("CBMM event {} persisted with PENDING status", event.eventId());
-        } catch (Exception e) {
-            log.error("Failed to persist CBMM event {}: {}", event.eventId(), e.getMessage());
-            throw EventPersistenceException.forEvent(event.eventId(), e);
-        }
+        int retryCount = persistEvent(event);
 
         try {
-            cbmmEventRepositoryPort.updateStatus(event.eventId(), "PROCESSING", 0);
+            cbmmEventRepositoryPort.updateStatus(event.eventId(), "PROCESSING", retryCount);
 
             validateEvent(event);
 
             log.debug("Starting parallel processing with Virtual Threads for event: {}", event.eventId());
 
             CompletableFuture<UUID> originFuture = asyncAccountProcessingService.processOriginAccountAsync(event);
-            CompletableFuture<UUID> destinationFuture = asyncAccountProcessingService.processDestinationAccountAsync(event);
+            // A self-transfer credits the account the origin leg debits, maybe without its lock (key affinity): one after the other
+            CompletableFuture<UUID> destinationFuture = isSelfTransfer(event)
+                ? originFuture.thenCompose(ignored -> asyncAccountProcessingService.processDestinationAccountAsync(event))
+                : asyncAccountProcessingService.processDestinationAccountAsync(event);
 
             CompletableFuture.allOf(originFuture, destinationFuture).join();
 
             UUID originAccountId = originFuture.join();
             UUID destinationAccountId = destinationFuture.join();
 
-            cbmmEventRepositoryPort.updateStatus(event.eventId(), "COMPLETED", 0);
+            cbmmEventRepositoryPort.updateStatus(event.eventId(), "COMPLETED", retryCount);
             idempotencyPort.markEventAsProcessed(event.eventId(), EVENT_TTL_SECONDS);
 
-            log.info("CBMM event {} processed successfully with Virtual Threads. Origin: {}, Destination: {}",
+            log.debug("CBMM event {} processed successfully with Virtual Threads. Origin: {}, Destination: {}",
                 event.eventId(), originAccountId, destinationAccountId);
 
         } catch (Exception e) {
             log.error("Error processing CBMM event {}: {}", event.eventId(), e.getMessage(), e);
 
             try {
-                cbmmEventRepositoryPort.updateStatus(event.eventId(), "FAILED", 0);
+                cbmmEventRepositoryPort.updateStatus(event.eventId(), "FAILED", retryCount);
             } catch (Exception updateEx) {
                 log.error("Failed to update event status to FAILED: {}", updateEx.getMessage());
             }
@@ -83,6 +94,60 @@ public class ProcessCBMMEventUseCase implements ProcessCBMMEventPort {
         }
     }
 
+    /**
+     * Store the event as PENDING, or take back a FAILED or abandoned one being redelivered
+     *
+     * @return the event's retry count (0 for a new event)
+     */
+    private int persistEvent(CBMMEventDTO event) {
+        long persistStart = System.nanoTime();
+        try {
+            cbmmEventRepositoryPort.save(event);
+            pipelineTimingPort.record(Stage.EVENT_PERSIST, persistStart);
+            log.debug("CBMM event {} persisted with PENDING status", event.eventId());
+            return 0;
+        } catch (Exception e) {
+            Optional<Integer> retryCount = reclaim(event.eventId());
+            if (retryCount.isPresent()) {
+                pipelineTimingPort.record(Stage.EVENT_PERSIST, persistStart);
+                log.info("CBMM event {} failed or was abandoned before, retrying (retry {})",
+                    event.eventId(), retryCount.get());
+                return retryCount.get();
+            }
+            if (isCompleted(event.eventId())) {
+                log.warn("Event {} already completed, skipping", event.eventId());
+                throw new DuplicateEventException(event.eventId());
+            }
+            log.error("Failed to persist CBMM event {}: {}", event.eventId(), e.getMessage());
+            throw EventPersistenceException.forEvent(event.eventId(), e);
+        }
+    }
+
+    private Optional<Integer> reclaim(String eventId) {
+        try {
+            return cbmmEventRepositoryPort.reclaim(eventId, claimTimeout);
+        } catch (Exception e) {
+            log.debug("Could not take back CBMM event {}: {}", eventId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether the event is stored as COMPLETED (idempotency key expired or lost, e.g. Redis flushed)
+     */
+    private boolean isCompleted(String eventId) {
+        try {
+            return cbmmEventRepositoryPort.findStatus(eventId).filter("COMPLETED"::equals).isPresent();
+        } catch (Exception e) {
+            log.debug("Could not read status of CBMM event {}: {}", eventId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isSelfTransfer(CBMMEventDTO event) {
+        return event.origin().accountId() != null && event.origin().accountId().equals(event.destination().accountId());
+    }
+
     private void validateEvent(CBMMEventDTO event) {
         if (event.eventId() == null || event.eventId().isBlank()) {
             throw new IllegalArgumentException("Event ID cannot be null or empty");
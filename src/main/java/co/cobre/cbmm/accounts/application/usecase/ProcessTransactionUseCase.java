@@ -22,6 +22,8 @@ import java.util.UUID;
 
 /**
  * Use case for processing transactions with distributed locks
+ * The lock is keyed by account number, like the event path's, so REST and event updates of an account
+ * exclude each other; the account is read only once the lock is held.
  */
 @Service
 @RequiredArgsConstructor
@@ -41,7 +43,10 @@ public class ProcessTransactionUseCase implements ProcessTransactionPort {
 
         log.info("Processing credit transaction for account: {}, amount: {}", accountId, amount);
 
-        return distributedLockService.executeWithLock(accountId.toString(), () -> {
+        String accountNumber = accountRepository.findAccountNumberById(accountId)
+            .orElseThrow(() -> new AccountNotFoundException(accountId.toString()));
+
+        return distributedLockService.executeWithLock(accountNumber, () -> {
             // 1. Find account
             Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException(accountId.toString()));
@@ -87,7 +92,10 @@ public class ProcessTransactionUseCase implements ProcessTransactionPort {
 
         log.info("Processing debit transaction for account: {}, amount: {}", accountId, amount);
 
-        return distributedLockService.executeWithLock(accountId.toString(), () -> {
+        String accountNumber = accountRepository.findAccountNumberById(accountId)
+            .orElseThrow(() -> new AccountNotFoundException(accountId.toString()));
+
+        return distributedLockService.executeWithLock(accountNumber, () -> {
             // 1. Find account
             Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException(accountId.toString()));
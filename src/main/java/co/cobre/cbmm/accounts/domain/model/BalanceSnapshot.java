@@ -0,0 +1,29 @@
+package co.cobre.cbmm.accounts.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * End-of-day balance of an account, taken after the last transaction of a day with activity
+ */
+public record BalanceSnapshot(
+    UUID accountId,
+    LocalDate snapshotDate,
+    BigDecimal balance,
+    UUID lastTransactionId,
+    LocalDateTime lastTransactionAt
+) {
+    public BalanceSnapshot {
+        if (accountId == null) {
+            throw new IllegalArgumentException("Account ID cannot be null");
+        }
+        if (snapshotDate == null) {
+            throw new IllegalArgumentException("Snapshot date cannot be null");
+        }
+        if (balance == null) {
+            throw new IllegalArgumentException("Balance cannot be null");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package co.cobre.cbmm.accounts.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain value object identifying the most recent transaction of an account
+ * The ledger is append-only, so any new transaction moves the watermark
+ */
+public record TransactionWatermark(
+    UUID transactionId,
+    LocalDateTime createdAt
+) {
+
+    public TransactionWatermark {
+        if (transactionId == null) {
+            throw new IllegalArgumentException("Transaction ID cannot be null");
+        }
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Created at cannot be null");
+        }
+    }
+}
@@ -1,34 +1,66 @@
 package co.cobre.cbmm.accounts.domain.service;
 
 import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import co.cobre.cbmm.accounts.ports.out.EventContextPort;
+import co.cobre.cbmm.accounts.ports.out.LockObservationPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 /**
- * Service for managing distributed locks using Redis with OpenTelemetry metrics
- * Prevents race conditions when updating account balances
+ * Service for managing distributed locks with OpenTelemetry metrics
+ * Prevents race conditions when updating account balances; the lock backend is a DistributedLockPort
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DistributedLockService {
 
-    private final RedissonClient redissonClient;
+    private final DistributedLockPort distributedLockPort;
     private final ErrorMetricsService errorMetricsService;
+    private final LockObservationPort lockObservationPort;
+    private final EventContextPort eventContextPort;
 
-    private static final String ACCOUNT_LOCK_PREFIX = "account:lock:";
     private static final long DEFAULT_WAIT_TIME = 5L;
     private static final long DEFAULT_LEASE_TIME = 10L;
     private static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.SECONDS;
 
+    /** Owner ids of async acquisitions; negative so they never collide with thread ids */
+    private static final AtomicLong ASYNC_OWNER_IDS = new AtomicLong();
+    /** Key of the lock executeWithLockAsync holds for the operation running on this thread */
+    private static final ThreadLocal<String> HELD_ASYNC_LOCK = new ThreadLocal<>();
+    /** Account this thread owns exclusively through another mechanism (Kafka partition assignment) */
+    private static final ThreadLocal<String> OWNED_ACCOUNT = new ThreadLocal<>();
+
+    /**
+     * Declare that the current thread owns {@code accountId} exclusively until the returned scope is closed
+     * (e.g. its Kafka partition is assigned to this consumer and every update of it comes through that partition):
+     * {@link #executeWithLockUnlessOwnedAsync} calls for it from this thread run without taking the lock.
+     * Updates of the account coming from elsewhere still take the lock, so against those only the
+     * account's optimistic version check serializes.
+     */
+    public static OwnershipScope ownAccount(String accountId) {
+        String previous = OWNED_ACCOUNT.get();
+        OWNED_ACCOUNT.set(accountId);
+        return () -> {
+            if (previous == null) {
+                OWNED_ACCOUNT.remove();
+            } else {
+                OWNED_ACCOUNT.set(previous);
+            }
+        };
+    }
+
     /**
      * Execute an operation with a distributed lock on an account
+     * Inside {@link #executeWithLockAsync} the lock is already held and the operation just runs.
      *
      * @param accountId The account ID to lock
      * @param operation The operation to execute
@@ -37,37 +69,38 @@ public class DistributedLockService {
      * @throws IllegalStateException if lock cannot be acquired
      */
     public <T> T executeWithLock(String accountId, Supplier<T> operation) {
-        String lockKey = ACCOUNT_LOCK_PREFIX + accountId;
-        RLock lock = redissonClient.getLock(lockKey);
+        String lockKey = DistributedLockPort.ACCOUNT_LOCK_PREFIX + accountId;
+        if (lockKey.equals(HELD_ASYNC_LOCK.get())) {
+            return operation.get();
+        }
+        LockObservationPort.Wait wait = lockObservationPort.startWait(accountId, lockKey);
 
         try {
             log.debug("Attempting to acquire lock for account: {}", accountId);
 
-            boolean isLocked = lock.tryLock(DEFAULT_WAIT_TIME, DEFAULT_LEASE_TIME, DEFAULT_TIME_UNIT);
-
-            if (!isLocked) {
-                log.error("Failed to acquire lock for account: {}", accountId);
-
-                // Record metric
-                errorMetricsService.recordDistributedLockFailure(lockKey, "timeout");
-
-                throw new IllegalStateException("Could not acquire lock for account: " + accountId +
-                    ". Another transaction may be in progress.");
+            boolean isLocked;
+            try {
+                isLocked = distributedLockPort.tryLock(lockKey, DEFAULT_WAIT_TIME, DEFAULT_LEASE_TIME, DEFAULT_TIME_UNIT);
+            } catch (RuntimeException e) {
+                // The backend rejected the lock (e.g. a row lock on an unknown account): nothing is held
+                wait.end(false);
+                throw e;
             }
+            recordAcquisition(accountId, lockKey, wait, isLocked);
 
-            log.debug("Lock acquired for account: {}", accountId);
-
+            long holdStart = System.nanoTime();
             try {
                 return operation.get();
             } finally {
-                if (lock.isHeldByCurrentThread()) {
-                    lock.unlock();
+                lockObservationPort.recordHold(accountId, holdStart);
+                if (distributedLockPort.unlock(lockKey)) {
                     log.debug("Lock released for account: {}", accountId);
                 }
             }
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            wait.interrupted();
             log.error("Thread interrupted while waiting for lock on account: {}", accountId, e);
 
             // Record metric
@@ -76,5 +109,99 @@ public class DistributedLockService {
             throw new IllegalStateException("Lock acquisition interrupted for account: " + accountId, e);
         }
     }
-}
 
+    /**
+     * Execute an operation with a distributed lock on an account, waiting for the lock without holding a thread
+     * The operation runs on {@code executor} only once the lock is held, so a transaction it opens checks out its
+     * DB connection after the wait, and the lock is released after the operation (and its commit) has completed.
+     * Transaction-scoped backends can only lock inside the transaction: the operation just runs on the executor
+     * and takes the lock through its own {@link #executeWithLock}.
+     *
+     * @param accountId The account ID to lock
+     * @param operation The operation to execute; it may call executeWithLock for the same account
+     * @param executor  The executor running the operation
+     * @param <T> The return type
+     * @return A future with the result of the operation, failed with IllegalStateException if the lock cannot be acquired
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(String accountId, Supplier<T> operation, Executor executor) {
+        return executeAsync(accountId, operation, executor, false);
+    }
+
+    /**
+     * Same as {@link #executeWithLockAsync}, except that an account the calling thread owns ({@link #ownAccount})
+     * is not locked at all. Only for the update the ownership was declared for (the origin debit of the owned
+     * record): any other update of the account, even one of the same record, must lock.
+     */
+    public <T> CompletableFuture<T> executeWithLockUnlessOwnedAsync(String accountId, Supplier<T> operation, Executor executor) {
+        return executeAsync(accountId, operation, executor, accountId.equals(OWNED_ACCOUNT.get()));
+    }
+
+    private <T> CompletableFuture<T> executeAsync(String accountId, Supplier<T> operation, Executor executor, boolean owned) {
+        String lockKey = DistributedLockPort.ACCOUNT_LOCK_PREFIX + accountId;
+        // The operation runs on another thread: keep its statements attributed to the caller's operation
+        Supplier<T> task = eventContextPort.propagate(operation);
+        if (owned) {
+            log.debug("Account {} owned by the caller, running without lock", accountId);
+            return CompletableFuture.supplyAsync(() -> {
+                HELD_ASYNC_LOCK.set(lockKey);
+                try {
+                    return task.get();
+                } finally {
+                    HELD_ASYNC_LOCK.remove();
+                }
+            }, executor);
+        }
+        if (distributedLockPort.transactionScoped()) {
+            return CompletableFuture.supplyAsync(task, executor);
+        }
+        long ownerId = -ASYNC_OWNER_IDS.incrementAndGet();
+
+        log.debug("Attempting to acquire lock asynchronously for account: {}", accountId);
+        LockObservationPort.Wait wait = lockObservationPort.startWait(accountId, lockKey);
+        return distributedLockPort.tryLockAsync(lockKey, ownerId, DEFAULT_WAIT_TIME, DEFAULT_LEASE_TIME, DEFAULT_TIME_UNIT)
+            .thenApplyAsync(isLocked -> {
+                recordAcquisition(accountId, lockKey, wait, isLocked);
+
+                long holdStart = System.nanoTime();
+                HELD_ASYNC_LOCK.set(lockKey);
+                try {
+                    return task.get();
+                } finally {
+                    HELD_ASYNC_LOCK.remove();
+                    lockObservationPort.recordHold(accountId, holdStart);
+                    distributedLockPort.unlockAsync(lockKey, ownerId).whenComplete((released, error) -> {
+                        if (Boolean.TRUE.equals(released)) {
+                            log.debug("Lock released for account: {}", accountId);
+                        } else {
+                            log.warn("Lock for account {} was not held at release (lease expired?)", accountId);
+                        }
+                    });
+                }
+            }, executor);
+    }
+
+    private void recordAcquisition(String accountId, String lockKey, LockObservationPort.Wait wait, boolean isLocked) {
+        wait.end(isLocked);
+
+        if (!isLocked) {
+            log.error("Failed to acquire lock for account: {}", accountId);
+
+            // Record metric
+            errorMetricsService.recordDistributedLockFailure(lockKey, "timeout");
+
+            throw new IllegalStateException("Could not acquire lock for account: " + accountId +
+                ". Another transaction may be in progress.");
+        }
+
+        log.debug("Lock acquired for account: {}", accountId);
+    }
+
+    /**
+     * Scope of an {@link #ownAccount} declaration
+     */
+    @FunctionalInterface
+    public interface OwnershipScope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,34 @@
+package co.cobre.cbmm.accounts.ports.in;
+
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Driving port for exporting the full transaction history of an account
+ */
+public interface ExportTransactionsPort {
+
+    /**
+     * Validate an export request before any output is produced
+     * @param accountId the account ID
+     * @param from inclusive lower bound on creation date, or null for no bound
+     * @param to exclusive upper bound on creation date, or null for no bound
+     * @throws co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException if the account does not exist
+     * @throws IllegalArgumentException if the date range is empty
+     */
+    void validateExport(UUID accountId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Stream the transactions of an account in chronological order into the given sink
+     * Rows are handed over one at a time, so memory does not depend on the size of the history
+     * @param accountId the account ID
+     * @param from inclusive lower bound on creation date, or null for no bound
+     * @param to exclusive upper bound on creation date, or null for no bound
+     * @param sink consumer receiving each transaction
+     * @return number of exported transactions
+     */
+    long exportTransactions(UUID accountId, LocalDateTime from, LocalDateTime to, Consumer<TransactionResponseDTO> sink);
+}
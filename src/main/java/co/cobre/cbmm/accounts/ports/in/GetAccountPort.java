@@ -2,6 +2,8 @@ package co.cobre.cbmm.accounts.ports.in;
 
 import co.cobre.cbmm.accounts.application.dto.AccountDTO;
 
+import java.util.Optional;
+
 /**
  * Driving port for getting account information
  */
@@ -13,5 +15,13 @@ public interface GetAccountPort {
      * @return account information
      */
     AccountDTO getAccountByNumber(String accountNumber);
+
+    /**
+     * Get the current version of an account without loading it
+     * Used to answer conditional requests (If-None-Match)
+     * @param accountNumber the account number
+     * @return optional version, empty if the account does not exist
+     */
+    Optional<Integer> getAccountVersion(String accountNumber);
 }
 
@@ -0,0 +1,21 @@
+package co.cobre.cbmm.accounts.ports.in;
+
+import co.cobre.cbmm.accounts.application.dto.BalanceDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Driving port for historical balance queries
+ */
+public interface GetBalancePort {
+
+    /**
+     * Get the balance of an account as it was at a given instant
+     * @param accountNumber the account number
+     * @param asOf the instant (inclusive)
+     * @return balance information
+     * @throws co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException if the account does not exist
+     * @throws IllegalArgumentException if the account did not exist yet at that instant
+     */
+    BalanceDTO getBalanceAsOf(String accountNumber, LocalDateTime asOf);
+}
@@ -1,9 +1,11 @@
 package co.cobre.cbmm.accounts.ports.in;
 
-import co.cobre.cbmm.accounts.domain.model.Transaction;
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.domain.model.TransactionWatermark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -18,6 +20,15 @@ public interface GetTransactionsPort {
      * @param pageable pagination information
      * @return page of transactions ordered by creation date descending
      */
-    Page<Transaction> getTransactionsByAccountId(UUID accountId, Pageable pageable);
+    Page<TransactionResponseDTO> getTransactionsByAccountId(UUID accountId, Pageable pageable);
+
+    /**
+     * Get the watermark (latest transaction) of an account
+     * Used to answer conditional requests (If-None-Match) on the transaction history
+     *
+     * @param accountId the account ID
+     * @return optional watermark, empty if the account has no transactions
+     */
+    Optional<TransactionWatermark> getLatestWatermark(UUID accountId);
 }
 
@@ -0,0 +1,34 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Driven port for read-only account queries
+ * Implementations project rows straight into DTOs, without managed entities or domain mapping
+ */
+public interface AccountQueryPort {
+
+    /**
+     * Find account information by account number
+     * @param accountNumber the account number
+     * @return optional account information
+     */
+    Optional<AccountDTO> findAccountByNumber(String accountNumber);
+
+    /**
+     * Check whether an account exists
+     * @param accountId the account ID
+     * @return true if the account exists
+     */
+    boolean existsById(UUID accountId);
+
+    /**
+     * Find the IDs of all accounts
+     * @return list of account IDs
+     */
+    List<UUID> findAllAccountIds();
+}
@@ -24,6 +24,20 @@ public interface AccountRepositoryPort {
      */
     Optional<Account> findById(UUID accountId);
 
+    /**
+     * Find the current version of an account without loading it
+     * @param accountNumber the account number
+     * @return optional version
+     */
+    Optional<Integer> findVersionByAccountNumber(String accountNumber);
+
+    /**
+     * Find the account number of an account without loading it
+     * @param accountId the account ID
+     * @return optional account number
+     */
+    Optional<String> findAccountNumberById(UUID accountId);
+
     /**
      * Save or update an account
      * @param account the account to save
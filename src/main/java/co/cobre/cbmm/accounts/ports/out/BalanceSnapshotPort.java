@@ -0,0 +1,55 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+import co.cobre.cbmm.accounts.domain.model.BalanceSnapshot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Driven port for daily balance snapshots
+ */
+public interface BalanceSnapshotPort {
+
+    /**
+     * Find the most recent snapshot of an account taken strictly before a day
+     * @param accountId the account ID
+     * @param day exclusive upper bound on the snapshot date
+     * @return optional snapshot
+     */
+    Optional<BalanceSnapshot> findLatestBefore(UUID accountId, LocalDate day);
+
+    /**
+     * Snapshot one day for every account with transactions on that day (idempotent)
+     * @param day the day to snapshot
+     * @return number of snapshots written
+     */
+    int snapshotDay(LocalDate day);
+
+    /**
+     * Snapshot every day with activity of one account, from the given day up to (excluding) another
+     * Days that already have a snapshot are left untouched
+     * @param accountId the account ID
+     * @param fromDay first day to snapshot
+     * @param untilDay first day not to snapshot
+     * @return number of snapshots written
+     */
+    int snapshotAccountDays(UUID accountId, LocalDate fromDay, LocalDate untilDay);
+
+    /**
+     * Claim the backfill of the days before {@code untilDay} for this instance, for at most {@code claimTimeout}
+     * Only one instance holds the claim at a time; an expired claim (crashed instance) can be taken over
+     * @param untilDay first day not to backfill
+     * @param claimTimeout how long the claim lasts unless completed
+     * @return the first day that may be missing snapshots ({@link LocalDate#EPOCH} if the backfill never
+     *         completed), or empty if every day before untilDay is done or another instance holds the claim
+     */
+    Optional<LocalDate> claimBackfill(LocalDate untilDay, Duration claimTimeout);
+
+    /**
+     * Record that every day before {@code untilDay} is snapshotted and release the claim
+     * @param untilDay first day not backfilled
+     */
+    void completeBackfill(LocalDate untilDay);
+}
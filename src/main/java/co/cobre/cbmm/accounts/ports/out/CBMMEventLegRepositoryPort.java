@@ -0,0 +1,35 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+/**
+ * Port recording which legs of a CBMM event have been applied (Driven Port)
+ * A leg is marked in the same transaction as its balance update, so a retried or redelivered event can skip
+ * the legs that already committed instead of debiting or crediting the account again
+ */
+public interface CBMMEventLegRepositoryPort {
+
+    /**
+     * Leg of a CBMM event
+     */
+    enum Leg {
+        ORIGIN,
+        DESTINATION
+    }
+
+    /**
+     * Whether the leg of the event has been applied (committed)
+     *
+     * @param eventId the event ID
+     * @param leg the leg
+     * @return true if the leg's balance update is already recorded
+     */
+    boolean isApplied(String eventId, Leg leg);
+
+    /**
+     * Record the leg of the event as applied, within the transaction of its balance update
+     * Fails if the leg is already recorded, rolling that update back
+     *
+     * @param eventId the event ID
+     * @param leg the leg
+     */
+    void markApplied(String eventId, Leg leg);
+}
@@ -2,6 +2,9 @@ package co.cobre.cbmm.accounts.ports.out;
 
 import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Port for CBMM Event persistence operations (Driven Port)
  * Allows storing and retrieving CBMM events
@@ -24,5 +27,23 @@ public interface CBMMEventRepositoryPort {
      * @param retryCount the retry count
      */
     void updateStatus(String eventId, String status, Integer retryCount);
+
+    /**
+     * Take back an event for a redelivery, moving it to RETRYING in one conditional update: a FAILED event, or a
+     * PENDING, PROCESSING or RETRYING one not updated within {@code claimTimeout} (its consumer died mid-flight)
+     *
+     * @param eventId the event ID
+     * @param claimTimeout time after which an in-flight event is considered abandoned
+     * @return the event's retry count after this retry, or empty if there is no such event
+     */
+    Optional<Integer> reclaim(String eventId, Duration claimTimeout);
+
+    /**
+     * Find the status of a stored event
+     *
+     * @param eventId the event ID
+     * @return the event's status, or empty if it is not stored
+     */
+    Optional<String> findStatus(String eventId);
 }
 
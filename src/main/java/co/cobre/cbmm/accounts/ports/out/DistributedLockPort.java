@@ -0,0 +1,61 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driven port for the locks serializing balance updates of an account
+ * Backend selected with lock.provider (redis by default, redis-lease to keep hot account locks per node, jvm for single-instance and perf runs,
+ * row/advisory for PostgreSQL row or advisory locks held until the surrounding transaction ends)
+ */
+public interface DistributedLockPort {
+
+    /** Account locks are keyed {@code account:lock:<accountNumber>} */
+    String ACCOUNT_LOCK_PREFIX = "account:lock:";
+
+    /**
+     * Try to acquire the lock for the current thread
+     *
+     * @param lockKey the lock key
+     * @param waitTime maximum time to wait for the lock
+     * @param leaseTime time after which the lock is released automatically, if the backend supports leases
+     * @param unit time unit of waitTime and leaseTime
+     * @return true if the lock was acquired
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Release the lock if it is held by the current thread
+     * Transaction-scoped backends release on commit/rollback instead and always return false.
+     *
+     * @param lockKey the lock key
+     * @return true if the lock was held and has been released
+     */
+    boolean unlock(String lockKey);
+
+    /**
+     * Try to acquire the lock without blocking the caller, on behalf of {@code ownerId} instead of the current
+     * thread, so that any thread can release it with {@link #unlockAsync}
+     * Owner ids must not collide with thread ids (callers use negative ids).
+     *
+     * @return a future completing with true if the lock was acquired, false on timeout
+     * @throws UnsupportedOperationException if the backend is {@link #transactionScoped()}
+     */
+    CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime, TimeUnit unit);
+
+    /**
+     * Release a lock acquired with {@link #tryLockAsync}
+     *
+     * @return a future completing with true if the lock was held by {@code ownerId} and has been released
+     */
+    CompletableFuture<Boolean> unlockAsync(String lockKey, long ownerId);
+
+    /**
+     * Whether the lock lives in the caller's database transaction: it can only be taken with {@link #tryLock}
+     * inside that transaction, and is released when it ends
+     */
+    default boolean transactionScoped() {
+        return false;
+    }
+}
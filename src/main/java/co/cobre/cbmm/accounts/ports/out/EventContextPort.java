@@ -0,0 +1,42 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Driven port binding the CBMM event being processed to the current thread, so that diagnostics recorded
+ * while processing it (profiling events, SQL statements) can be attributed to its event id
+ */
+public interface EventContextPort {
+
+    /**
+     * Bind {@code eventId} to the current thread until the returned scope is ended; the scope also records
+     * the processing of the event as a whole
+     */
+    EventScope open(String eventId, String eventType);
+
+    /**
+     * Bind {@code eventId} until the current transaction completes, so statements flushed at commit
+     * (after the @Transactional method returned) are still attributed to the event
+     */
+    void bindToCurrentTransaction(String eventId);
+
+    /**
+     * Wrap {@code operation} so that, on whichever thread it runs, it sees the context of the calling thread
+     */
+    <T> Supplier<T> propagate(Supplier<T> operation);
+
+    /**
+     * Processing of one event on the current thread
+     */
+    interface EventScope {
+
+        /**
+         * Longest account lock wait of the event so far, in nanoseconds (its legs wait in parallel, so this is
+         * the part of its latency spent waiting for other events on the same accounts)
+         */
+        long lockWaitNanos();
+
+        /** Unbind the event and record how its processing ended */
+        void end(String outcome);
+    }
+}
@@ -0,0 +1,29 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+/**
+ * Driven port observing account lock waits and holds (latency, per-account contention, profiling events)
+ */
+public interface LockObservationPort {
+
+    /**
+     * Start waiting for the lock {@code lockKey} of {@code accountId}; end the returned wait exactly once
+     */
+    Wait startWait(String accountId, String lockKey);
+
+    /**
+     * Record that the lock of {@code accountId}, held since {@code holdStartNanos} (System.nanoTime), is released now
+     */
+    void recordHold(String accountId, long holdStartNanos);
+
+    /**
+     * A lock wait in progress
+     */
+    interface Wait {
+
+        /** The wait ended with the lock acquired, or timed out */
+        void end(boolean acquired);
+
+        /** The waiting thread was interrupted */
+        void interrupted();
+    }
+}
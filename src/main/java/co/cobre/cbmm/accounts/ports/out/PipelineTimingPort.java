@@ -0,0 +1,40 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Driven port timing the stages of the CBMM event pipeline
+ * Callers take {@code System.nanoTime()} at the start of a stage and call {@link #record} when it ends.
+ */
+public interface PipelineTimingPort {
+
+    /**
+     * Pipeline stages, in processing order
+     */
+    @Getter
+    @RequiredArgsConstructor
+    enum Stage {
+        JSON_PARSE("json_parse"),
+        IDEMPOTENCY_CHECK("idempotency_check"),
+        EVENT_PERSIST("event_persist"),
+        LOCK_WAIT("lock_wait"),
+        LOCK_HOLD("lock_hold"),
+        DB_READ("db_read"),
+        DB_WRITE("db_write"),
+        COMMIT("commit"),
+        EVENT_TOTAL("event_total");
+
+        private final String tagValue;
+    }
+
+    /**
+     * Record a stage that started at {@code startNanos} (System.nanoTime) and ends now
+     */
+    void record(Stage stage, long startNanos);
+
+    /**
+     * Time the commit (flush + commit) of the current transaction, if there is one
+     */
+    void recordCommitOfCurrentTransaction();
+}
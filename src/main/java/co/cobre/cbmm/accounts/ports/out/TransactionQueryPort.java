@@ -0,0 +1,54 @@
+package co.cobre.cbmm.accounts.ports.out;
+
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Driven port for read-only transaction queries
+ * Implementations project rows straight into DTOs, without managed entities or domain mapping
+ */
+public interface TransactionQueryPort {
+
+    /**
+     * Find the transactions of an account with pagination
+     * @param accountId the account ID
+     * @param pageable pagination information (only sorting by createdAt is supported)
+     * @return page of transactions
+     * @throws co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException if the account does not exist
+     */
+    Page<TransactionResponseDTO> findByAccountId(UUID accountId, Pageable pageable);
+
+    /**
+     * Stream the transactions of an account in chronological order, one row at a time
+     * Must be called inside a transaction so the driver can keep a server-side cursor open
+     * @param accountId the account ID
+     * @param from inclusive lower bound on creation date, or null for no bound
+     * @param to exclusive upper bound on creation date, or null for no bound
+     * @param consumer consumer receiving each transaction
+     * @return number of streamed transactions
+     */
+    long streamByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to, Consumer<TransactionResponseDTO> consumer);
+
+    /**
+     * Find the latest transaction of an account created within a range
+     * @param accountId the account ID
+     * @param from inclusive lower bound on creation date, or null for no bound
+     * @param to inclusive upper bound on creation date
+     * @return optional transaction
+     */
+    Optional<TransactionResponseDTO> findLatestBetween(UUID accountId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Find the first transaction of an account created strictly after an instant
+     * @param accountId the account ID
+     * @param after exclusive lower bound on creation date
+     * @return optional transaction
+     */
+    Optional<TransactionResponseDTO> findFirstAfter(UUID accountId, LocalDateTime after);
+}
@@ -1,9 +1,9 @@
 package co.cobre.cbmm.accounts.ports.out;
 
 import co.cobre.cbmm.accounts.domain.model.Transaction;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import co.cobre.cbmm.accounts.domain.model.TransactionWatermark;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,11 +19,10 @@ public interface TransactionRepositoryPort {
     Transaction save(Transaction transaction);
 
     /**
-     * Find all transactions for an account with pagination
+     * Find the watermark (latest transaction) of an account
      * @param accountId the account ID
-     * @param pageable pagination information
-     * @return page of transactions
+     * @return optional watermark, empty if the account has no transactions
      */
-    Page<Transaction> findByAccountIdPaginated(UUID accountId, Pageable pageable);
+    Optional<TransactionWatermark> findLatestWatermark(UUID accountId);
 }
 
@@ -0,0 +1,6 @@
+-- Índice cubriente para resolver la versión de una cuenta sin leer la fila (ETag / conditional GET)
+CREATE INDEX IF NOT EXISTS idx_account_number_version ON cbmm.account(account_number) INCLUDE (version);
+
+-- Índice compuesto para obtener la última transacción de una cuenta (watermark del historial)
+CREATE INDEX IF NOT EXISTS idx_transaction_account_created_at
+    ON cbmm.transaction(account_id, created_at DESC, transaction_id DESC);
@@ -0,0 +1,13 @@
+-- Snapshots diarios de saldo: saldo de la cuenta al cierre de cada día con movimientos
+-- Permite responder "saldo a la fecha T" con el snapshot más cercano + las transacciones de un solo día
+CREATE TABLE cbmm.balance_snapshot (
+                                       account_id           UUID NOT NULL,
+                                       snapshot_date        DATE NOT NULL,
+                                       balance              DECIMAL(18,2) NOT NULL,
+                                       last_transaction_id  UUID NOT NULL,
+                                       last_transaction_at  TIMESTAMP NOT NULL,
+                                       created_at           TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                       PRIMARY KEY (account_id, snapshot_date),
+                                       CONSTRAINT fk_balance_snapshot_account FOREIGN KEY (account_id)
+                                           REFERENCES cbmm.account(account_id)
+);
@@ -0,0 +1,10 @@
+-- Outbox de auditoría (audit.mode=outbox): registro compacto escrito en la misma transacción que el cambio
+-- Un proceso en segundo plano lo traslada a revinfo / *_aud con inserciones por lotes
+CREATE TABLE cbmm.audit_outbox (
+                                   id           BIGSERIAL PRIMARY KEY,
+                                   tx_id        UUID NOT NULL,
+                                   audit_table  VARCHAR(100) NOT NULL,
+                                   revtype      SMALLINT NOT NULL,
+                                   state        JSONB NOT NULL,
+                                   recorded_at  TIMESTAMP NOT NULL
+);
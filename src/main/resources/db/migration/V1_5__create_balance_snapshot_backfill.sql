@@ -0,0 +1,9 @@
+-- Marca de agua del backfill de snapshots: todos los días anteriores a completed_until ya tienen snapshot
+-- locked_until es el reclamo de la instancia que está ejecutando el backfill (solo una a la vez)
+CREATE TABLE cbmm.balance_snapshot_backfill (
+                                                id               SMALLINT PRIMARY KEY,
+                                                completed_until  DATE NOT NULL,
+                                                locked_until     TIMESTAMP
+);
+
+INSERT INTO cbmm.balance_snapshot_backfill (id, completed_until) VALUES (1, DATE '1970-01-01');
@@ -0,0 +1,9 @@
+-- Tramos aplicados de cada evento CBMM (débito de origen, crédito de destino)
+-- Se inserta en la misma transacción que la actualización del saldo: un reintento o reentrega del evento
+-- omite los tramos ya confirmados en lugar de volver a debitar o acreditar la cuenta
+CREATE TABLE cbmm.cbmm_event_leg (
+                                     event_id    VARCHAR(100) NOT NULL,
+                                     leg         VARCHAR(20) NOT NULL,
+                                     applied_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                     PRIMARY KEY (event_id, leg)
+);
@@ -0,0 +1,45 @@
+package co.cobre.cbmm.accounts.base;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.jdbc.QueryProfiler;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query budget assertions for tests: run an action inside a {@link QueryProfiler} scope and fail if it
+ * issues more JDBC statements than allowed. Requires the application DataSource with jdbc.profiling.enabled
+ * (on in the test profile). The failure message lists the statements executed, to spot N+1s and redundant selects.
+ *
+ * <pre>
+ * QueryBudget.assertStatementsAtMost(25, "processCBMMEvent", () -> processCBMMEventPort.processCBMMEvent(event));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Run {@code action} and return the statements, rows and time it used
+     */
+    public static QueryProfiler.Scope measure(String operation, Runnable action) {
+        try (QueryProfiler.Scope scope = QueryProfiler.open(operation)) {
+            action.run();
+            return scope;
+        }
+    }
+
+    /**
+     * Run {@code action} and fail if it executed more than {@code maxStatements} JDBC statements
+     */
+    public static QueryProfiler.Scope assertStatementsAtMost(int maxStatements, String operation, Runnable action) {
+        QueryProfiler.Scope scope = measure(operation, action);
+        if (scope.getStatements() > maxStatements) {
+            fail(String.format("%s issued %d JDBC statements, budget is %d:%n%s",
+                operation, scope.getStatements(), maxStatements,
+                scope.getCapturedSql().stream().map(sql -> "  " + sql).collect(Collectors.joining("\n"))));
+        }
+        return scope;
+    }
+}
@@ -2,16 +2,23 @@ package co.cobre.cbmm.accounts.integration.adapters.in.rest;
 
 import co.cobre.cbmm.accounts.MsAccountsApplication;
 import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.TransactionEntity;
 import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.BalanceSnapshotJpaRepository;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.TransactionJpaRepository;
+import co.cobre.cbmm.accounts.application.service.BalanceSnapshotService;
 import co.cobre.cbmm.accounts.base.BaseContainerTest;
 import co.cobre.cbmm.accounts.domain.model.AccountStatus;
 import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
+import co.cobre.cbmm.accounts.domain.model.TransactionType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -19,9 +26,11 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -42,11 +51,22 @@ class AccountControllerIntegrationTest extends BaseContainerTest {
     @Autowired
     private AccountJpaRepository accountJpaRepository;
 
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private BalanceSnapshotJpaRepository balanceSnapshotJpaRepository;
+
+    @Autowired
+    private BalanceSnapshotService balanceSnapshotService;
+
     private AccountEntity testAccount;
 
 
     @BeforeEach
     void setUp() {
+        balanceSnapshotJpaRepository.deleteAll();
+        transactionJpaRepository.deleteAll();
         accountJpaRepository.deleteAll();
 
         // Create test account
@@ -140,5 +160,102 @@ class AccountControllerIntegrationTest extends BaseContainerTest {
             .andExpect(jsonPath("$.account_number").value("ACC-2024-003"))
             .andExpect(jsonPath("$.currency").value("EUR"));
     }
+
+    @Test
+    @DisplayName("Given matching If-None-Match, when getAccountByNumber, then return 304 without body")
+    void givenMatchingIfNoneMatch_whenGetAccountByNumber_thenReturn304() throws Exception {
+        // Arrange - Fetch the current ETag
+        String etag = mockMvc.perform(get("/api/v1/accounts/{accountNumber}", testAccount.getAccountNumber()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountNumber}", testAccount.getAccountNumber())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Given stale If-None-Match after balance update, when getAccountByNumber, then return 200 with new ETag")
+    void givenStaleIfNoneMatch_whenGetAccountByNumber_thenReturn200WithNewETag() throws Exception {
+        // Arrange - Fetch the current ETag and then modify the account
+        String etag = mockMvc.perform(get("/api/v1/accounts/{accountNumber}", testAccount.getAccountNumber()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        testAccount.setBalance(new BigDecimal("1500.00"));
+        testAccount = accountJpaRepository.save(testAccount);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountNumber}", testAccount.getAccountNumber())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+            .andExpect(jsonPath("$.balance").value(1500.00));
+    }
+
+    @Test
+    @DisplayName("Given snapshot and later transaction, when getBalance as of different instants, then combine snapshot and later transactions")
+    void givenSnapshotAndLaterTransaction_whenGetBalance_thenCombineSnapshotAndLaterTransactions() throws Exception {
+        // Arrange - a credit today, snapshotted, and a debit tomorrow
+        LocalDate today = LocalDate.now();
+        transactionJpaRepository.save(createTransaction(
+            new BigDecimal("100.00"), TransactionType.CREDIT, new BigDecimal("1100.00"), LocalDateTime.now().plusSeconds(1)));
+        balanceSnapshotService.snapshotDay(today);
+        transactionJpaRepository.save(createTransaction(
+            new BigDecimal("50.00"), TransactionType.DEBIT, new BigDecimal("1050.00"), today.plusDays(1).atTime(10, 0)));
+
+        // Act & Assert - before tomorrow's debit: snapshot balance
+        mockMvc.perform(get("/api/v1/accounts/{accountNumber}/balance", testAccount.getAccountNumber())
+                .param("asOf", today.plusDays(1).atTime(9, 0).toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balance").value(1100.00))
+            .andExpect(jsonPath("$.snapshot_date").value(today.toString()));
+
+        // Act & Assert - after tomorrow's debit
+        mockMvc.perform(get("/api/v1/accounts/{accountNumber}/balance", testAccount.getAccountNumber())
+                .param("asOf", today.plusDays(1).atTime(11, 0).toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balance").value(1050.00))
+            .andExpect(jsonPath("$.currency").value("USD"));
+    }
+
+    @Test
+    @DisplayName("Given instant before account creation, when getBalance, then return 400")
+    void givenInstantBeforeAccountCreation_whenGetBalance_thenReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountNumber}/balance", testAccount.getAccountNumber())
+                .param("asOf", LocalDateTime.now().minusDays(1).toString()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Given non-existent account number, when getBalance, then return 404")
+    void givenNonExistentAccountNumber_whenGetBalance_thenReturn404() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountNumber}/balance", "ACC-9999-999"))
+            .andExpect(status().isNotFound());
+    }
+
+    @AfterAll
+    void tearDown() {
+        balanceSnapshotJpaRepository.deleteAll();
+        transactionJpaRepository.deleteAll();
+    }
+
+    private TransactionEntity createTransaction(BigDecimal amount, TransactionType type, BigDecimal balanceAfter,
+                                                LocalDateTime createdAt) {
+        TransactionEntity transaction = new TransactionEntity();
+        transaction.setAccountId(testAccount.getAccountId());
+        transaction.setAmount(amount);
+        transaction.setType(type.name());
+        transaction.setCurrency(Currency.USD.getCode());
+        transaction.setBalanceAfter(balanceAfter);
+        transaction.setCreatedAt(createdAt);
+        transaction.setStatus(TransactionStatus.COMPLETED.name());
+        return transaction;
+    }
 }
 
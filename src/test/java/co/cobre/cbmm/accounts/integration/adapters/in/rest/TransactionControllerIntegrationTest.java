@@ -16,17 +16,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -212,6 +221,136 @@ class TransactionControllerIntegrationTest extends BaseContainerTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Given matching If-None-Match and no new transactions, when getTransactions, then return 304")
+    void givenMatchingIfNoneMatch_whenGetTransactions_thenReturn304() throws Exception {
+        // Arrange
+        transactionJpaRepository.save(createTransaction(
+            new BigDecimal("100.00"), TransactionType.CREDIT, new BigDecimal("1100.00")));
+
+        String etag = mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions", accountId))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions", accountId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Given new transaction after ETag was issued, when getTransactions, then return 200 with new content")
+    void givenNewTransactionAfterETag_whenGetTransactions_thenReturn200() throws Exception {
+        // Arrange
+        transactionJpaRepository.save(createTransaction(
+            new BigDecimal("100.00"), TransactionType.CREDIT, new BigDecimal("1100.00")));
+
+        String etag = mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions", accountId))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        TransactionEntity newer = createTransaction(
+            new BigDecimal("50.00"), TransactionType.DEBIT, new BigDecimal("1050.00"));
+        newer.setCreatedAt(LocalDateTime.now().plusSeconds(1));
+        transactionJpaRepository.save(newer);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions", accountId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("Given account with transactions, when export as NDJSON, then stream one JSON line per transaction in chronological order")
+    void givenAccountWithTransactions_whenExportNdjson_thenStreamOneLinePerTransaction() throws Exception {
+        // Arrange
+        TransactionEntity older = createTransaction(
+            new BigDecimal("100.00"), TransactionType.CREDIT, new BigDecimal("1100.00"));
+        older.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        transactionJpaRepository.save(older);
+        transactionJpaRepository.save(createTransaction(
+            new BigDecimal("50.00"), TransactionType.DEBIT, new BigDecimal("1050.00")));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions/export", accountId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("CREDIT", objectMapper.readTree(lines[0]).get("type").asText());
+        assertEquals("DEBIT", objectMapper.readTree(lines[1]).get("type").asText());
+        assertEquals(accountId.toString(), objectMapper.readTree(lines[0]).get("account_id").asText());
+    }
+
+    @Test
+    @DisplayName("Given date range and gzip accepted, when export as CSV, then stream compressed rows within range")
+    void givenDateRangeAndGzip_whenExportCsv_thenStreamCompressedRowsWithinRange() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        TransactionEntity outOfRange = createTransaction(
+            new BigDecimal("100.00"), TransactionType.CREDIT, new BigDecimal("1100.00"));
+        outOfRange.setCreatedAt(now.minusDays(10));
+        transactionJpaRepository.save(outOfRange);
+        TransactionEntity inRange = createTransaction(
+            new BigDecimal("50.00"), TransactionType.DEBIT, new BigDecimal("1050.00"));
+        inRange.setCreatedAt(now.minusDays(1));
+        transactionJpaRepository.save(inRange);
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions/export", accountId)
+                .param("format", "csv")
+                .param("from", now.minusDays(2).toString())
+                .param("to", now.toString())
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        byte[] compressed = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        String[] lines = gunzip(compressed).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("transaction_id,account_id,amount"));
+        assertTrue(lines[1].contains(",50.00,DEBIT,USD,1050.00,"));
+    }
+
+    @Test
+    @DisplayName("Given non-existent account ID, when export, then return 404 without streaming")
+    void givenNonExistentAccountId_whenExport_thenReturn404() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions/export", UUID.randomUUID()))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Given unsupported format, when export, then return 400")
+    void givenUnsupportedFormat_whenExport_thenReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/accounts/{accountId}/transactions/export", accountId)
+                .param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
     private TransactionEntity createTransaction(BigDecimal amount, TransactionType type, BigDecimal balanceAfter) {
         TransactionEntity transaction = new TransactionEntity();
         transaction.setAccountId(accountId);
@@ -0,0 +1,177 @@
+package co.cobre.cbmm.accounts.integration.adapters.out.audit;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.adapters.out.audit.AuditOutboxRelay;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.base.BaseContainerTest;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventRepositoryPort;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = MsAccountsApplication.class, properties = {
+    "audit.mode=outbox",
+    "audit.outbox.relay-interval=3600000",
+    "audit.outbox.batch-size=1"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+class AuditOutboxIntegrationTest extends BaseContainerTest {
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private AuditOutboxRelay auditOutboxRelay;
+
+    @Autowired
+    private CBMMEventRepositoryPort cbmmEventRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        auditOutboxRelay.relay();
+    }
+
+    @Test
+    @DisplayName("Given outbox audit mode, when account is saved, then audit record is written to the outbox instead of account_aud")
+    void givenOutboxAuditMode_whenAccountSaved_thenAuditRecordWrittenToOutbox() {
+        // Act
+        AccountEntity account = accountJpaRepository.save(newAccount("ACC-AUD-001"));
+
+        // Assert
+        assertEquals(1, countOutbox(account));
+        assertEquals(0, countAudit(account));
+    }
+
+    @Test
+    @DisplayName("Given outbox records, when relay, then audit rows are written with one revision per transaction")
+    void givenOutboxRecords_whenRelay_thenAuditRowsWrittenWithOneRevisionPerTransaction() {
+        // Arrange
+        AccountEntity account = accountJpaRepository.save(newAccount("ACC-AUD-002"));
+        account.setBalance(new BigDecimal("250.50"));
+        account = accountJpaRepository.save(account);
+
+        // Act
+        int relayed = auditOutboxRelay.relay();
+
+        // Assert
+        assertEquals(2, relayed);
+        assertEquals(0, countOutbox(account));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT a.rev, a.revtype, a.balance, a.account_number, a.version, r.revtstmp "
+                + "FROM cbmm.account_aud a JOIN cbmm.revinfo r ON r.rev = a.rev "
+                + "WHERE a.account_id = ? ORDER BY a.rev",
+            account.getAccountId());
+        assertEquals(2, rows.size());
+        assertNotEquals(rows.get(0).get("rev"), rows.get(1).get("rev"));
+        assertEquals(0, ((Number) rows.get(0).get("revtype")).intValue());
+        assertEquals(1, ((Number) rows.get(1).get("revtype")).intValue());
+        assertEquals(0, new BigDecimal("100.00").compareTo((BigDecimal) rows.get(0).get("balance")));
+        assertEquals(0, new BigDecimal("250.50").compareTo((BigDecimal) rows.get(1).get("balance")));
+        assertEquals("ACC-AUD-002", rows.get(1).get("account_number"));
+        assertEquals(1, ((Number) rows.get(1).get("version")).intValue());
+        assertNotNull(rows.get(1).get("revtstmp"));
+    }
+
+    @Test
+    @DisplayName("Given transaction larger than the batch size, when relay, then its records share one revision")
+    void givenTransactionLargerThanBatch_whenRelay_thenRecordsShareOneRevision() {
+        // Arrange
+        List<AccountEntity> accounts = accountJpaRepository.saveAll(
+            List.of(newAccount("ACC-AUD-003"), newAccount("ACC-AUD-004")));
+
+        // Act
+        int relayed = auditOutboxRelay.relay();
+
+        // Assert
+        assertEquals(2, relayed);
+        List<Integer> revisions = jdbcTemplate.queryForList(
+            "SELECT rev FROM cbmm.account_aud WHERE account_id IN (?, ?)", Integer.class,
+            accounts.get(0).getAccountId(), accounts.get(1).getAccountId());
+        assertEquals(2, revisions.size());
+        assertEquals(revisions.get(0), revisions.get(1));
+    }
+
+    @Test
+    @DisplayName("Given a failed event, when reclaimed, then the RETRYING takeover is relayed as an audit revision")
+    void givenFailedEvent_whenReclaimed_thenTakeoverRelayed() {
+        // Arrange
+        String eventId = "cbmm_outbox_reclaim_" + UUID.randomUUID();
+        cbmmEventRepositoryPort.save(new CBMMEventDTO(eventId, "cross_border_money_movement", ZonedDateTime.now(),
+            new CBMMEventDTO.AccountOperationDTO("ACC-AUD-ORIGIN", "USD", new BigDecimal("10.00")),
+            new CBMMEventDTO.AccountOperationDTO("ACC-AUD-DEST", "USD", new BigDecimal("10.00"))));
+        cbmmEventRepositoryPort.updateStatus(eventId, "FAILED", 0);
+
+        // Act
+        Optional<Integer> retryCount = cbmmEventRepositoryPort.reclaim(eventId, Duration.ofMinutes(5));
+        auditOutboxRelay.relay();
+
+        // Assert
+        assertEquals(Optional.of(1), retryCount);
+        List<Map<String, Object>> revisions = jdbcTemplate.queryForList(
+            "SELECT status, retry_count FROM cbmm.cbmm_event_aud WHERE event_id = ? ORDER BY rev", eventId);
+        assertEquals(List.of("PENDING", "FAILED", "RETRYING"),
+            revisions.stream().map(row -> row.get("status")).toList());
+        assertEquals(1, ((Number) revisions.get(2).get("retry_count")).intValue());
+    }
+
+    @Test
+    @DisplayName("Given empty outbox, when relay, then nothing is relayed")
+    void givenEmptyOutbox_whenRelay_thenNothingRelayed() {
+        // Act
+        int relayed = auditOutboxRelay.relay();
+
+        // Assert
+        assertEquals(0, relayed);
+    }
+
+    private AccountEntity newAccount(String accountNumber) {
+        accountJpaRepository.findByAccountNumber(accountNumber).ifPresent(accountJpaRepository::delete);
+        auditOutboxRelay.relay();
+
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(accountNumber);
+        account.setCurrency(Currency.USD.getCode());
+        account.setBalance(new BigDecimal("100.00"));
+        account.setStatus(AccountStatus.ACTIVE.name());
+        return account;
+    }
+
+    private int countOutbox(AccountEntity account) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM cbmm.audit_outbox WHERE audit_table = 'cbmm.account_aud' "
+                + "AND state ->> 'account_id' = ?",
+            Integer.class, account.getAccountId().toString());
+    }
+
+    private int countAudit(AccountEntity account) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM cbmm.account_aud WHERE account_id = ?",
+            Integer.class, account.getAccountId());
+    }
+}
@@ -0,0 +1,184 @@
+package co.cobre.cbmm.accounts.integration.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.base.BaseContainerTest;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
+import co.cobre.cbmm.accounts.ports.in.ProcessTransactionPort;
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = MsAccountsApplication.class, properties = "lock.provider=advisory")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+class PostgresAdvisoryLockIntegrationTest extends BaseContainerTest {
+
+    private static final String LOCK_KEY = DistributedLockPort.ACCOUNT_LOCK_PREFIX + "ACC-ADVISORY-001";
+
+    @Autowired
+    private DistributedLockPort distributedLockPort;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DistributedLockService distributedLockService;
+
+    @Autowired
+    private ProcessTransactionPort processTransactionPort;
+
+    @Autowired
+    private ProcessCBMMEventPort processCBMMEventPort;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Test
+    @DisplayName("Given a transaction holding the advisory lock, when another transaction tries it, then it waits until the holder commits")
+    void givenHeldAdvisoryLock_whenOtherTransactionTries_thenAcquiredOnlyAfterCommit() throws Exception {
+        // Arrange
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Boolean> holder = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            boolean acquired = tryLock(1);
+            locked.countDown();
+            await(commit);
+            return acquired;
+        }));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        // Act
+        Boolean whileHeld = transactionTemplate.execute(status -> tryLock(1));
+        commit.countDown();
+        Boolean afterCommit = transactionTemplate.execute(status -> tryLock(5));
+
+        // Assert
+        assertTrue(holder.get(10, TimeUnit.SECONDS));
+        assertFalse(whileHeld);
+        assertTrue(afterCommit);
+        assertFalse(distributedLockPort.unlock(LOCK_KEY));
+    }
+
+    @Test
+    @DisplayName("Given an event leg holding the account lock, when a REST credit hits the same account, then it waits until the leg commits")
+    void givenEventLegHoldingLock_whenRestCredit_thenWaitsForCommit() throws Exception {
+        // Arrange
+        AccountEntity account = newAccount("ACC-ADV-MIXED-");
+        UUID accountId = account.getAccountId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> leg = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+            distributedLockService.executeWithLock(account.getAccountNumber(), () -> {
+                locked.countDown();
+                await(commit);
+                return null;
+            })));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<?> credit = CompletableFuture.runAsync(
+            () -> processTransactionPort.processCredit(accountId, new BigDecimal("25.00")));
+        Thread.sleep(500);
+        boolean doneWhileHeld = credit.isDone();
+        commit.countDown();
+        leg.get(10, TimeUnit.SECONDS);
+        credit.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(doneWhileHeld, "The REST credit must wait for the advisory lock held by the event leg");
+        assertEquals(0, new BigDecimal("1025.00").compareTo(balance(accountId)));
+    }
+
+    @Test
+    @DisplayName("Given REST credits and CBMM events on the same account at once, when all complete, then no update is lost")
+    void givenConcurrentRestAndEventUpdates_whenAllComplete_thenNoUpdateLost() {
+        // Arrange
+        AccountEntity origin = newAccount("ACC-ADV-HOT-");
+        AccountEntity destination = newAccount("ACC-ADV-DEST-");
+        UUID originId = origin.getAccountId();
+        UUID destinationId = destination.getAccountId();
+        int operations = 10;
+
+        // Act
+        List<CompletableFuture<?>> futures = IntStream.range(0, operations)
+            .<CompletableFuture<?>>mapToObj(i -> i % 2 == 0
+                ? CompletableFuture.runAsync(() -> processTransactionPort.processCredit(originId, new BigDecimal("20.00")))
+                : CompletableFuture.runAsync(() -> processCBMMEventPort.processCBMMEvent(new CBMMEventDTO(
+                    "cbmm_advisory_" + UUID.randomUUID(),
+                    "cross_border_money_movement",
+                    ZonedDateTime.now(),
+                    new CBMMEventDTO.AccountOperationDTO(origin.getAccountNumber(), "USD", new BigDecimal("10.00")),
+                    new CBMMEventDTO.AccountOperationDTO(destination.getAccountNumber(), "USD", new BigDecimal("10.00"))))))
+            .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Assert
+        assertEquals(0, new BigDecimal("1050.00").compareTo(balance(originId)));
+        assertEquals(0, new BigDecimal("1050.00").compareTo(balance(destinationId)));
+    }
+
+    @Test
+    @DisplayName("Given no transaction, when trying the advisory lock, then it is rejected")
+    void givenNoTransaction_whenTryLock_thenRejected() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> tryLock(1));
+    }
+
+    private boolean tryLock(long waitSeconds) {
+        try {
+            return distributedLockPort.tryLock(LOCK_KEY, waitSeconds, 10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AccountEntity newAccount(String accountNumberPrefix) {
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(accountNumberPrefix + UUID.randomUUID().toString().substring(0, 8));
+        account.setCurrency(Currency.USD.getCode());
+        account.setBalance(new BigDecimal("1000.00"));
+        account.setStatus(AccountStatus.ACTIVE.name());
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return accountJpaRepository.save(account);
+    }
+
+    private BigDecimal balance(UUID accountId) {
+        return accountJpaRepository.findById(accountId).orElseThrow().getBalance();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
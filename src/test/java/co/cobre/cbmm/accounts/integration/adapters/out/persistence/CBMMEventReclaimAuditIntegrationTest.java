@@ -0,0 +1,87 @@
+package co.cobre.cbmm.accounts.integration.adapters.out.persistence;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.base.BaseContainerTest;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventRepositoryPort;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Taking back a failed event (CBMMEventRepositoryPort.reclaim) is audited like any other status change (Envers mode)
+ */
+@SpringBootTest(classes = MsAccountsApplication.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+class CBMMEventReclaimAuditIntegrationTest extends BaseContainerTest {
+
+    @Autowired
+    private CBMMEventRepositoryPort cbmmEventRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Given a failed event, when reclaimed, then the RETRYING takeover and its retry count get an audit revision")
+    void givenFailedEvent_whenReclaimed_thenTakeoverAudited() {
+        // Arrange
+        String eventId = "cbmm_reclaim_" + UUID.randomUUID();
+        cbmmEventRepositoryPort.save(event(eventId));
+        cbmmEventRepositoryPort.updateStatus(eventId, "FAILED", 0);
+
+        // Act
+        Optional<Integer> retryCount = cbmmEventRepositoryPort.reclaim(eventId, Duration.ofMinutes(5));
+
+        // Assert
+        assertEquals(Optional.of(1), retryCount);
+        List<Map<String, Object>> revisions = jdbcTemplate.queryForList(
+            "SELECT status, retry_count, revtype FROM cbmm.cbmm_event_aud WHERE event_id = ? ORDER BY rev", eventId);
+        assertEquals(List.of("PENDING", "FAILED", "RETRYING"),
+            revisions.stream().map(row -> row.get("status")).toList());
+        Map<String, Object> takeover = revisions.get(revisions.size() - 1);
+        assertEquals(1, ((Number) takeover.get("retry_count")).intValue());
+        assertEquals(1, ((Number) takeover.get("revtype")).intValue());
+    }
+
+    @Test
+    @DisplayName("Given an event just taken back, when reclaimed again, then the conditional update refuses it and no revision is added")
+    void givenReclaimedEvent_whenReclaimedAgain_thenRefusedWithoutRevision() {
+        // Arrange
+        String eventId = "cbmm_reclaim_" + UUID.randomUUID();
+        cbmmEventRepositoryPort.save(event(eventId));
+        cbmmEventRepositoryPort.updateStatus(eventId, "FAILED", 0);
+        cbmmEventRepositoryPort.reclaim(eventId, Duration.ofMinutes(5));
+
+        // Act
+        Optional<Integer> retryCount = cbmmEventRepositoryPort.reclaim(eventId, Duration.ofMinutes(5));
+
+        // Assert
+        assertTrue(retryCount.isEmpty());
+        assertEquals(3, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM cbmm.cbmm_event_aud WHERE event_id = ?", Integer.class, eventId));
+    }
+
+    private static CBMMEventDTO event(String eventId) {
+        return new CBMMEventDTO(eventId, "cross_border_money_movement", ZonedDateTime.now(),
+            new CBMMEventDTO.AccountOperationDTO("ACC-RECLAIM-ORIGIN", "USD", new BigDecimal("10.00")),
+            new CBMMEventDTO.AccountOperationDTO("ACC-RECLAIM-DEST", "USD", new BigDecimal("10.00")));
+    }
+}
@@ -0,0 +1,101 @@
+package co.cobre.cbmm.accounts.integration.application.usecase;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.adapters.out.inmemory.InMemoryCBMMEventAdapter;
+import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.domain.exception.DuplicateEventException;
+import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The perf profile boots without PostgreSQL, Redis or Kafka and runs the full use-case layer on the
+ * in-memory adapters; no containers needed
+ */
+@SpringBootTest(classes = MsAccountsApplication.class, properties = "perf.accounts.count=10")
+@ActiveProfiles("perf")
+class PerfProfileProcessCBMMEventIntegrationTest {
+
+    @Autowired
+    private ProcessCBMMEventPort processCBMMEventPort;
+
+    @Autowired
+    private AccountQueryPort accountQueryPort;
+
+    @Autowired
+    private TransactionQueryPort transactionQueryPort;
+
+    @Autowired
+    private InMemoryCBMMEventAdapter cbmmEventAdapter;
+
+    @Test
+    @DisplayName("Given perf profile, when event processed, then balances, ledger and event status are updated in memory")
+    void givenPerfProfile_whenEventProcessed_thenStateUpdatedInMemory() {
+        // Arrange
+        BigDecimal originBefore = balance("ACC-PERF-000001");
+        BigDecimal destinationBefore = balance("ACC-PERF-000002");
+        CBMMEventDTO event = event("ACC-PERF-000001", "ACC-PERF-000002", new BigDecimal("25.50"));
+
+        // Act
+        processCBMMEventPort.processCBMMEvent(event);
+
+        // Assert
+        assertEquals(originBefore.subtract(new BigDecimal("25.50")), balance("ACC-PERF-000001"));
+        assertEquals(destinationBefore.add(new BigDecimal("25.50")), balance("ACC-PERF-000002"));
+        UUID originId = accountQueryPort.findAccountByNumber("ACC-PERF-000001").orElseThrow().accountId();
+        assertFalse(transactionQueryPort.findByAccountId(originId, PageRequest.of(0, 10)).isEmpty());
+        assertEquals("COMPLETED", cbmmEventAdapter.find(event.eventId()).orElseThrow().status());
+        assertThrows(DuplicateEventException.class, () -> processCBMMEventPort.processCBMMEvent(event));
+    }
+
+    @Test
+    @DisplayName("Given concurrent events on the same accounts, when processed, then no balance update is lost")
+    void givenConcurrentEventsOnSameAccounts_whenProcessed_thenNoUpdateLost() {
+        // Arrange
+        BigDecimal originBefore = balance("ACC-PERF-000003");
+        BigDecimal destinationBefore = balance("ACC-PERF-000004");
+        int events = 200;
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < events; i++) {
+                CBMMEventDTO event = event("ACC-PERF-000003", "ACC-PERF-000004", BigDecimal.ONE);
+                futures.add(CompletableFuture.runAsync(() -> processCBMMEventPort.processCBMMEvent(event), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        // Assert
+        assertEquals(originBefore.subtract(BigDecimal.valueOf(events)), balance("ACC-PERF-000003"));
+        assertEquals(destinationBefore.add(BigDecimal.valueOf(events)), balance("ACC-PERF-000004"));
+    }
+
+    private BigDecimal balance(String accountNumber) {
+        return accountQueryPort.findAccountByNumber(accountNumber).map(AccountDTO::balance).orElseThrow();
+    }
+
+    private static CBMMEventDTO event(String origin, String destination, BigDecimal amount) {
+        return new CBMMEventDTO("cbmm_perf_" + UUID.randomUUID(), "cross_border_money_movement", ZonedDateTime.now(),
+            new CBMMEventDTO.AccountOperationDTO(origin, "USD", amount),
+            new CBMMEventDTO.AccountOperationDTO(destination, "USD", amount));
+    }
+}
@@ -0,0 +1,78 @@
+package co.cobre.cbmm.accounts.integration.application.usecase;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.adapters.out.metrics.jdbc.QueryProfiler;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.base.BaseContainerTest;
+import co.cobre.cbmm.accounts.base.QueryBudget;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JDBC statement budgets of the main write path; fails when a change adds queries (N+1, redundant selects)
+ */
+@SpringBootTest(classes = MsAccountsApplication.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+class ProcessCBMMEventQueryBudgetIntegrationTest extends BaseContainerTest {
+
+    /** Event row (insert, status reads/updates), two accounts (read, update, transaction insert) and Envers audit rows */
+    private static final int PROCESS_CBMM_EVENT_BUDGET = 25;
+
+    @Autowired
+    private ProcessCBMMEventPort processCBMMEventPort;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Test
+    @DisplayName("Given two active accounts, when processCBMMEvent, then it stays within its JDBC statement budget")
+    void givenTwoActiveAccounts_whenProcessCBMMEvent_thenStaysWithinStatementBudget() {
+        // Arrange
+        accountJpaRepository.save(newAccount("ACC-BUDGET-ORIGIN"));
+        accountJpaRepository.save(newAccount("ACC-BUDGET-DEST"));
+        CBMMEventDTO event = new CBMMEventDTO(
+            "cbmm_budget_" + UUID.randomUUID(),
+            "cross_border_money_movement",
+            ZonedDateTime.now(),
+            new CBMMEventDTO.AccountOperationDTO("ACC-BUDGET-ORIGIN", "USD", new BigDecimal("10.00")),
+            new CBMMEventDTO.AccountOperationDTO("ACC-BUDGET-DEST", "USD", new BigDecimal("10.00")));
+
+        // Act
+        QueryProfiler.Scope scope = QueryBudget.assertStatementsAtMost(PROCESS_CBMM_EVENT_BUDGET, "processCBMMEvent",
+            () -> processCBMMEventPort.processCBMMEvent(event));
+
+        // Assert
+        assertTrue(scope.getStatements() > 0, "JDBC profiling must be active for the budget to mean anything");
+    }
+
+    private AccountEntity newAccount(String accountNumber) {
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(accountNumber);
+        account.setCurrency(Currency.USD.getCode());
+        account.setBalance(new BigDecimal("1000.00"));
+        account.setStatus(AccountStatus.ACTIVE.name());
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        return account;
+    }
+}
@@ -0,0 +1,147 @@
+package co.cobre.cbmm.accounts.integration.application.usecase;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.TransactionJpaRepository;
+import co.cobre.cbmm.accounts.base.BaseContainerTest;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.ports.in.ProcessTransactionPort;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * REST credits and debits under lock.provider=row: the account row must actually be locked
+ */
+@SpringBootTest(classes = MsAccountsApplication.class, properties = "lock.provider=row")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+class ProcessTransactionRowLockIntegrationTest extends BaseContainerTest {
+
+    private static final String ACCOUNT_NUMBER = "ACC-ROW-LOCK-001";
+
+    @Autowired
+    private ProcessTransactionPort processTransactionPort;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        transactionJpaRepository.deleteAll();
+        accountJpaRepository.findByAccountNumber(ACCOUNT_NUMBER).ifPresent(accountJpaRepository::delete);
+
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(ACCOUNT_NUMBER);
+        account.setCurrency(Currency.USD.getCode());
+        account.setBalance(new BigDecimal("1000.00"));
+        account.setStatus(AccountStatus.ACTIVE.name());
+        account.setCreatedAt(LocalDateTime.now());
+        account.setUpdatedAt(LocalDateTime.now());
+        accountId = accountJpaRepository.save(account).getAccountId();
+    }
+
+    @Test
+    @DisplayName("Given another transaction holding the account row, when processCredit, then it waits until that transaction commits")
+    void givenRowLockedElsewhere_whenProcessCredit_thenWaitsForCommit() throws Exception {
+        // Arrange
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT account_id FROM cbmm.account WHERE account_number = ? FOR UPDATE",
+                ACCOUNT_NUMBER);
+            locked.countDown();
+            await(commit);
+        }));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<?> credit = CompletableFuture.runAsync(
+            () -> processTransactionPort.processCredit(accountId, new BigDecimal("50.00")));
+        Thread.sleep(500);
+        boolean doneWhileHeld = credit.isDone();
+        commit.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        credit.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(doneWhileHeld, "processCredit must block on the row lock held by the other transaction");
+        assertEquals(0, new BigDecimal("1050.00").compareTo(balance()));
+    }
+
+    @Test
+    @DisplayName("Given concurrent credits and debits, when processed, then none is lost")
+    void givenConcurrentCreditsAndDebits_whenProcessed_thenNoneLost() {
+        // Arrange
+        int operations = 20;
+
+        // Act
+        List<CompletableFuture<?>> futures = IntStream.range(0, operations)
+            .<CompletableFuture<?>>mapToObj(i -> CompletableFuture.runAsync(() -> {
+                if (i % 2 == 0) {
+                    processTransactionPort.processCredit(accountId, new BigDecimal("30.00"));
+                } else {
+                    processTransactionPort.processDebit(accountId, new BigDecimal("10.00"));
+                }
+            }))
+            .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Assert
+        assertEquals(0, new BigDecimal("1200.00").compareTo(balance()));
+        assertEquals(operations, transactionJpaRepository.count());
+    }
+
+    @Test
+    @DisplayName("Given an unknown account id, when processDebit, then AccountNotFoundException is thrown")
+    void givenUnknownAccount_whenProcessDebit_thenAccountNotFound() {
+        // Act & Assert
+        assertThrows(AccountNotFoundException.class,
+            () -> processTransactionPort.processDebit(UUID.randomUUID(), new BigDecimal("10.00")));
+    }
+
+    private BigDecimal balance() {
+        return accountJpaRepository.findById(accountId).orElseThrow().getBalance();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
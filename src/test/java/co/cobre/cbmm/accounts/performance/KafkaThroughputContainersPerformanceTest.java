@@ -0,0 +1,99 @@
+package co.cobre.cbmm.accounts.performance;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaEventConsumer;
+import co.cobre.cbmm.accounts.adapters.out.persistence.entity.AccountEntity;
+import co.cobre.cbmm.accounts.adapters.out.persistence.repository.AccountJpaRepository;
+import co.cobre.cbmm.accounts.base.BaseContainerTest;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.performance.KafkaThroughputHarness.Config;
+import co.cobre.cbmm.accounts.performance.KafkaThroughputHarness.Report;
+import co.cobre.cbmm.accounts.performance.workload.WorkloadSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Same harness against the real adapters (PostgreSQL, Redis locks, Kafka container); only runs where Docker
+ * is available. Compare its report with {@link KafkaThroughputPerformanceTest} to see the cost of the I/O.
+ */
+@SpringBootTest(
+    classes = MsAccountsApplication.class,
+    properties = "spring.kafka.listener.auto-startup=false"
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+@Tag("performance")
+@EnabledIf("co.cobre.cbmm.accounts.performance.KafkaThroughputHarness#dockerAvailable")
+class KafkaThroughputContainersPerformanceTest extends BaseContainerTest {
+
+    private static final String ACCOUNT_NUMBER_FORMAT = "ACC-HARNESS-%06d";
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.topics.cbmm-events}")
+    private String topic;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Test
+    @DisplayName("Given synthetic events on the Kafka container, when consumed, then all are processed and the lag drains")
+    void givenSyntheticEvents_whenConsumed_thenAllProcessedAndLagDrains() throws InterruptedException {
+        // Arrange
+        WorkloadSpec workload = WorkloadSpec.defaults()
+            .withEvents(200)
+            .withAccounts(100)
+            .withAccountNumberFormat(ACCOUNT_NUMBER_FORMAT)
+            .overriddenBy("harness.", System::getProperty);
+        accountJpaRepository.saveAll(IntStream.range(0, workload.accounts())
+            .filter(i -> accountJpaRepository.findByAccountNumber(workload.accountNumber(i)).isEmpty())
+            .mapToObj(i -> account(workload.accountNumber(i), workload.accountCurrency(i)))
+            .toList());
+        KafkaThroughputHarness harness = new KafkaThroughputHarness(kafkaTemplate, bootstrapServers, topic, groupId);
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(KafkaEventConsumer.LISTENER_ID);
+        harness.attachTo(container);
+        container.start();
+
+        // Act
+        Report report = harness.run(Config.fromSystemProperties(), workload);
+
+        // Assert
+        assertEquals(workload.events(), report.completed(), report::toString);
+        assertEquals(0, report.failed(), report::toString);
+    }
+
+    private static AccountEntity account(String accountNumber, Currency currency) {
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(accountNumber);
+        account.setCurrency(currency.getCode());
+        account.setBalance(new BigDecimal("1000000000.00"));
+        account.setStatus(AccountStatus.ACTIVE.name());
+        return account;
+    }
+}
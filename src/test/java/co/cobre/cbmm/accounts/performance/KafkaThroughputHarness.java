@@ -0,0 +1,242 @@
+package co.cobre.cbmm.accounts.performance;
+
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.performance.workload.CBMMWorkloadGenerator;
+import co.cobre.cbmm.accounts.performance.workload.WorkloadSpec;
+import co.cobre.cbmm.accounts.performance.workload.WorkloadWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.testcontainers.DockerClientFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * End-to-end load harness for the Kafka path: produces synthetic CBMM events at a target rate into the events
+ * topic and measures them on the way out of {@code KafkaEventConsumer}
+ * Latency is taken from a send timestamp header to the listener's success callback (same JVM, so nanoTime is
+ * comparable); consumer lag is sampled from the group's committed offsets while the run is in progress.
+ * Events come from {@link CBMMWorkloadGenerator}; knobs come from system properties
+ * ({@code -Dharness.events=20000 -Dharness.rate=2000 -Dharness.zipf=1.1 ...}, see {@link Config} and {@link WorkloadSpec}).
+ */
+@Slf4j
+public class KafkaThroughputHarness implements RecordInterceptor<String, String> {
+
+    private static final String SENT_NANOS_HEADER = "harness-sent-nanos";
+    private static final AtomicInteger RUNS = new AtomicInteger();
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String bootstrapServers;
+    private final String topic;
+    private final String groupId;
+
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final Set<String> failedRecords = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastCompletionNanos = new AtomicLong();
+
+    public KafkaThroughputHarness(KafkaTemplate<String, String> kafkaTemplate, String bootstrapServers,
+                                  String topic, String groupId) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.bootstrapServers = bootstrapServers;
+        this.topic = topic;
+        this.groupId = groupId;
+    }
+
+    /**
+     * Run parameters (the event stream itself is a {@link WorkloadSpec})
+     *
+     * @param ratePerSecond target produce rate; 0 sends as fast as the producer allows
+     * @param timeout       maximum time to wait for the consumer to drain the run
+     */
+    public record Config(int ratePerSecond, Duration timeout) {
+
+        public static Config fromSystemProperties() {
+            return new Config(
+                Integer.getInteger("harness.rate", 0),
+                Duration.parse(System.getProperty("harness.timeout", "PT2M")));
+        }
+    }
+
+    /**
+     * Outcome of a run; latencies are end to end (produce -> listener done), failed counts distinct records
+     * the listener gave up on (invalid events end up there after the error handler's retries)
+     */
+    public record Report(int events, int completed, int failed, double eventsPerSecond,
+                         double p50Millis, double p99Millis, double maxMillis, long maxLag, long finalLag) {
+
+        @Override
+        public String toString() {
+            return String.format("events=%d completed=%d failed=%d throughput=%.1f events/s "
+                    + "latency p50=%.2fms p99=%.2fms max=%.2fms lag max=%d final=%d",
+                events, completed, failed, eventsPerSecond, p50Millis, p99Millis, maxMillis, maxLag, finalLag);
+        }
+    }
+
+    /**
+     * Hook the harness into the listener container; must be called before the container starts
+     */
+    public void attachTo(MessageListenerContainer container) {
+        if (container.isRunning()) {
+            throw new IllegalStateException("Listener container must be attached before it starts");
+        }
+        @SuppressWarnings("unchecked")
+        var listenerContainer = (AbstractMessageListenerContainer<String, String>) container;
+        listenerContainer.setRecordInterceptor(this);
+    }
+
+    /**
+     * Produce the workload, wait until the consumer has handled all of it and report throughput, latency
+     * percentiles and lag
+     * Event ids get a per-run prefix so repeated runs against the same context are not rejected as duplicates.
+     */
+    public Report run(Config config, WorkloadSpec workload) throws InterruptedException {
+        CBMMWorkloadGenerator generator = new CBMMWorkloadGenerator(
+            workload.withEventIdPrefix(workload.eventIdPrefix() + "_harness" + RUNS.incrementAndGet()));
+        AtomicLong maxLag = new AtomicLong();
+        latencies.clear();
+        completed.set(0);
+        failedRecords.clear();
+
+        ScheduledExecutorService lagSampler = Executors.newSingleThreadScheduledExecutor();
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            lagSampler.scheduleAtFixedRate(() -> maxLag.accumulateAndGet(lag(admin), Math::max),
+                200, 200, TimeUnit.MILLISECONDS);
+
+            long start = System.nanoTime();
+            long intervalNanos = config.ratePerSecond() > 0 ? TimeUnit.SECONDS.toNanos(1) / config.ratePerSecond() : 0;
+            for (int i = 0; generator.hasNext(); i++) {
+                long due = start + i * intervalNanos;
+                while (System.nanoTime() < due) {
+                    LockSupport.parkNanos(due - System.nanoTime());
+                }
+                send(generator.next());
+            }
+            kafkaTemplate.flush();
+            long producedNanos = System.nanoTime() - start;
+
+            long deadline = System.nanoTime() + config.timeout().toNanos();
+            while (completed.get() + failedRecords.size() < workload.events() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            long finalLag = lag(admin);
+            while (finalLag > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(100);
+                finalLag = lag(admin);
+            }
+            lagSampler.shutdownNow();
+
+            Report report = report(workload.events(), start, maxLag.get(), finalLag);
+            log.info("Kafka throughput harness: {} (produced in {} ms, accounts={}, zipf={}, duplicates={}, "
+                    + "invalid={}, seed={}, rate={})",
+                report, TimeUnit.NANOSECONDS.toMillis(producedNanos), workload.accounts(), workload.zipfExponent(),
+                generator.duplicates(), generator.invalid(), workload.seed(),
+                config.ratePerSecond() > 0 ? config.ratePerSecond() + "/s" : "unthrottled");
+            return report;
+        } finally {
+            lagSampler.shutdownNow();
+        }
+    }
+
+    @Override
+    public ConsumerRecord<String, String> intercept(ConsumerRecord<String, String> record,
+                                                    Consumer<String, String> consumer) {
+        return record;
+    }
+
+    @Override
+    public void success(ConsumerRecord<String, String> record, Consumer<String, String> consumer) {
+        Header sent = record.headers().lastHeader(SENT_NANOS_HEADER);
+        long now = System.nanoTime();
+        if (sent != null) {
+            latencies.add(now - ByteBuffer.wrap(sent.value()).getLong());
+        }
+        completed.incrementAndGet();
+        lastCompletionNanos.accumulateAndGet(now, Math::max);
+    }
+
+    @Override
+    public void failure(ConsumerRecord<String, String> record, Exception exception,
+                        Consumer<String, String> consumer) {
+        failedRecords.add(record.partition() + ":" + record.offset());
+        lastCompletionNanos.accumulateAndGet(System.nanoTime(), Math::max);
+    }
+
+    /**
+     * For {@code @EnabledIf} on the container-backed harness tests
+     */
+    public static boolean dockerAvailable() {
+        return DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    private void send(CBMMEventDTO event) {
+        ProducerRecord<String, String> record =
+            new ProducerRecord<>(topic, event.origin().accountId(), WorkloadWriter.toJson(event));
+        record.headers().add(SENT_NANOS_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(System.nanoTime()).array());
+        kafkaTemplate.send(record);
+    }
+
+    private long lag(Admin admin) {
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata().get(5, TimeUnit.SECONDS);
+            Map<TopicPartition, OffsetSpec> latest = admin.describeTopics(List.of(topic)).allTopicNames()
+                .get(5, TimeUnit.SECONDS).get(topic).partitions().stream()
+                .collect(Collectors.toMap(p -> new TopicPartition(topic, p.partition()), p -> OffsetSpec.latest()));
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> ends =
+                admin.listOffsets(latest).all().get(5, TimeUnit.SECONDS);
+
+            long lag = 0;
+            for (var end : ends.entrySet()) {
+                OffsetAndMetadata offset = committed.get(end.getKey());
+                lag += end.getValue().offset() - (offset != null ? offset.offset() : 0);
+            }
+            return lag;
+        } catch (Exception e) {
+            log.debug("Could not sample consumer lag: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private Report report(int events, long startNanos, long maxLag, long finalLag) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long elapsedNanos = Math.max(1, lastCompletionNanos.get() - startNanos);
+        return new Report(events, completed.get(), failedRecords.size(),
+            completed.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+            percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 1.0),
+            maxLag, finalLag);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
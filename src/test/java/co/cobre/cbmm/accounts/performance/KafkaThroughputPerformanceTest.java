@@ -0,0 +1,98 @@
+package co.cobre.cbmm.accounts.performance;
+
+import co.cobre.cbmm.accounts.MsAccountsApplication;
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaEventConsumer;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.performance.KafkaThroughputHarness.Config;
+import co.cobre.cbmm.accounts.performance.KafkaThroughputHarness.Report;
+import co.cobre.cbmm.accounts.performance.workload.WorkloadSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Kafka throughput harness on an embedded broker with the perf profile (in-memory ports, in-JVM locks), so it
+ * runs without Docker and measures the consumer path itself
+ * Defaults are a small smoke run; for a real measurement pass harness, workload and consumer knobs as system
+ * properties: {@code ./mvnw -Pperformance test -Dtest=KafkaThroughputPerformanceTest -Dharness.events=50000 -Dharness.rate=5000
+ * -Dspring.kafka.consumer.max-poll-records=100}
+ */
+@SpringBootTest(
+    classes = MsAccountsApplication.class,
+    properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.listener.auto-startup=false",
+        "perf.accounts.count=${harness.accounts:1000}",
+        "perf.accounts.currencies=${harness.currencies:USD}"
+    }
+)
+@EmbeddedKafka(kraft = true, partitions = KafkaThroughputPerformanceTest.PARTITIONS,
+    topics = "${spring.kafka.topics.cbmm-events}")
+@Tag("performance")
+@ActiveProfiles("perf")
+class KafkaThroughputPerformanceTest {
+
+    static final int PARTITIONS = 3;
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.topics.cbmm-events}")
+    private String topic;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${perf.accounts.count}")
+    private int accountCount;
+
+    @Value("${perf.accounts.number-format}")
+    private String numberFormat;
+
+    @Value("${perf.accounts.currencies}")
+    private List<Currency> currencies;
+
+    @Test
+    @DisplayName("Given synthetic events on the embedded broker, when consumed, then all are processed and the lag drains")
+    void givenSyntheticEvents_whenConsumed_thenAllProcessedAndLagDrains() throws InterruptedException {
+        // Arrange
+        KafkaThroughputHarness harness = new KafkaThroughputHarness(kafkaTemplate, bootstrapServers, topic, groupId);
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(KafkaEventConsumer.LISTENER_ID);
+        harness.attachTo(container);
+        container.start();
+        ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+        WorkloadSpec workload = WorkloadSpec.defaults()
+            .withEvents(500)
+            .withAccounts(accountCount)
+            .withAccountNumberFormat(numberFormat)
+            .withCurrencies(currencies)
+            .overriddenBy("harness.", System::getProperty);
+
+        // Act
+        Report report = harness.run(Config.fromSystemProperties(), workload);
+
+        // Assert
+        assertEquals(workload.events(), report.completed(), report::toString);
+        assertEquals(0, report.failed(), report::toString);
+        assertEquals(0, report.finalLag(), report::toString);
+    }
+}
@@ -0,0 +1,62 @@
+package co.cobre.cbmm.accounts.performance.workload;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+/**
+ * Distribution of event amounts, expressed in USD and converted to each account's currency by the generator
+ * CLI form: {@code fixed:100}, {@code uniform:1:5000}, {@code lognormal:120:1.2} (median, sigma).
+ */
+public sealed interface AmountDistribution {
+
+    BigDecimal sampleUsd(SplittableRandom random);
+
+    record Fixed(BigDecimal amount) implements AmountDistribution {
+        @Override
+        public BigDecimal sampleUsd(SplittableRandom random) {
+            return amount;
+        }
+    }
+
+    record Uniform(double min, double max) implements AmountDistribution {
+        @Override
+        public BigDecimal sampleUsd(SplittableRandom random) {
+            return cents(min + random.nextDouble() * (max - min));
+        }
+    }
+
+    /**
+     * Long-tailed: most payments near the median, a few orders of magnitude larger
+     */
+    record LogNormal(double median, double sigma) implements AmountDistribution {
+        @Override
+        public BigDecimal sampleUsd(SplittableRandom random) {
+            return cents(median * Math.exp(sigma * gaussian(random)));
+        }
+    }
+
+    static AmountDistribution parse(String spec) {
+        String[] parts = spec.split(":");
+        return switch (parts[0].toLowerCase()) {
+            case "fixed" -> new Fixed(new BigDecimal(parts[1]));
+            case "uniform" -> new Uniform(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            case "lognormal" -> new LogNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            default -> throw new IllegalArgumentException("Unknown amount distribution: " + spec
+                + " (expected fixed:<amount>, uniform:<min>:<max> or lognormal:<median>:<sigma>)");
+        };
+    }
+
+    private static BigDecimal cents(double amount) {
+        return BigDecimal.valueOf(Math.max(0.01, amount)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Box-Muller on the generator's own random, so the stream stays deterministic by seed
+     */
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
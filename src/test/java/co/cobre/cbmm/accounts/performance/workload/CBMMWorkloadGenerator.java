@@ -0,0 +1,161 @@
+package co.cobre.cbmm.accounts.performance.workload;
+
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO.AccountOperationDTO;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Deterministic generator of synthetic {@link CBMMEventDTO} streams for benchmarks, the Kafka throughput harness
+ * and batch-file regression runs
+ * Origin and destination accounts are drawn from a Zipf distribution, amounts from the spec's distribution
+ * (converted to each account's currency with fixed synthetic rates), and a configurable share of events are
+ * replays of earlier events or invalid on purpose. One instance is one pass over the stream; it is not thread-safe.
+ */
+public class CBMMWorkloadGenerator implements Iterator<CBMMEventDTO> {
+
+    private static final String EVENT_TYPE = "cross_border_money_movement";
+    private static final int REPLAY_WINDOW = 1024;
+
+    /** Units of each currency per USD; synthetic, only used to keep cross-currency amounts plausible */
+    private static final Map<Currency, BigDecimal> USD_RATES = new EnumMap<>(Map.of(
+        Currency.USD, new BigDecimal("1"),
+        Currency.COP, new BigDecimal("4000"),
+        Currency.MXN, new BigDecimal("17"),
+        Currency.EUR, new BigDecimal("0.92"),
+        Currency.GBP, new BigDecimal("0.79"),
+        Currency.BRL, new BigDecimal("5"),
+        Currency.ARS, new BigDecimal("900"),
+        Currency.CLP, new BigDecimal("900"),
+        Currency.PEN, new BigDecimal("3.7")));
+
+    /**
+     * Ways an invalid event is broken, each rejected by a different check of the processing pipeline
+     */
+    public enum InvalidKind {
+        NON_POSITIVE_AMOUNT,
+        UNKNOWN_ACCOUNT,
+        CURRENCY_MISMATCH,
+        MISSING_DESTINATION
+    }
+
+    private final WorkloadSpec spec;
+    private final SplittableRandom random;
+    private final ZipfSampler accounts;
+    private final List<CBMMEventDTO> replayWindow = new ArrayList<>(REPLAY_WINDOW);
+
+    private int sequence;
+    private int duplicates;
+    private int invalid;
+
+    public CBMMWorkloadGenerator(WorkloadSpec spec) {
+        if (spec.accounts() < 2) {
+            throw new IllegalArgumentException("A workload needs at least two accounts");
+        }
+        this.spec = spec;
+        this.random = new SplittableRandom(spec.seed());
+        this.accounts = new ZipfSampler(spec.accounts(), spec.zipfExponent());
+    }
+
+    /**
+     * The whole stream, lazily generated
+     */
+    public Stream<CBMMEventDTO> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliterator(this, spec.events() - sequence, Spliterator.ORDERED | Spliterator.NONNULL),
+            false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return sequence < spec.events();
+    }
+
+    @Override
+    public CBMMEventDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int current = sequence++;
+        double roll = random.nextDouble();
+        if (roll < spec.duplicateRate() && !replayWindow.isEmpty()) {
+            duplicates++;
+            return replayWindow.get(random.nextInt(replayWindow.size()));
+        }
+        if (roll < spec.duplicateRate() + spec.invalidRate()) {
+            invalid++;
+            return invalidEvent(current, InvalidKind.values()[random.nextInt(InvalidKind.values().length)]);
+        }
+        CBMMEventDTO event = validEvent(current);
+        if (replayWindow.size() < REPLAY_WINDOW) {
+            replayWindow.add(event);
+        } else {
+            replayWindow.set(current % REPLAY_WINDOW, event);
+        }
+        return event;
+    }
+
+    public int duplicates() {
+        return duplicates;
+    }
+
+    public int invalid() {
+        return invalid;
+    }
+
+    private CBMMEventDTO validEvent(int current) {
+        int origin = accounts.sample(random);
+        int destination = accounts.sample(random);
+        if (destination == origin) {
+            destination = (origin + 1) % spec.accounts();
+        }
+        BigDecimal usd = spec.amounts().sampleUsd(random);
+        return event(current, operation(origin, usd), operation(destination, usd));
+    }
+
+    private CBMMEventDTO invalidEvent(int current, InvalidKind kind) {
+        CBMMEventDTO base = validEvent(current);
+        AccountOperationDTO origin = base.origin();
+        return switch (kind) {
+            case NON_POSITIVE_AMOUNT -> event(current,
+                new AccountOperationDTO(origin.accountId(), origin.currency(), BigDecimal.ZERO), base.destination());
+            case UNKNOWN_ACCOUNT -> event(current,
+                new AccountOperationDTO(spec.accountNumber(spec.accounts() + random.nextInt(spec.accounts())),
+                    origin.currency(), origin.amount()),
+                base.destination());
+            case CURRENCY_MISMATCH -> event(current,
+                new AccountOperationDTO(origin.accountId(), otherCurrency(origin.currency()).getCode(), origin.amount()),
+                base.destination());
+            case MISSING_DESTINATION -> event(current, origin, null);
+        };
+    }
+
+    private CBMMEventDTO event(int current, AccountOperationDTO origin, AccountOperationDTO destination) {
+        return new CBMMEventDTO(String.format("%s_%08d", spec.eventIdPrefix(), current), EVENT_TYPE,
+            spec.startTime().plusSeconds(current), origin, destination);
+    }
+
+    private AccountOperationDTO operation(int account, BigDecimal usd) {
+        Currency currency = spec.accountCurrency(account);
+        BigDecimal amount = usd.multiply(USD_RATES.get(currency)).setScale(2, RoundingMode.HALF_UP);
+        return new AccountOperationDTO(spec.accountNumber(account), currency.getCode(), amount);
+    }
+
+    private static Currency otherCurrency(String code) {
+        Currency[] currencies = Currency.values();
+        return currencies[(Currency.fromCode(code).ordinal() + 1) % currencies.length];
+    }
+}
@@ -0,0 +1,58 @@
+package co.cobre.cbmm.accounts.performance.workload;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line entry point of {@link CBMMWorkloadGenerator}
+ * <pre>
+ * ./mvnw -q test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=co.cobre.cbmm.accounts.performance.workload.CBMMWorkloadGeneratorCli \
+ *   -Dexec.args="--events=100000 --accounts=5000 --zipf=1.1 --currencies=USD,MXN,COP --out=target/workload.jsonl.gz"
+ * </pre>
+ * Spec options: see {@link WorkloadSpec#overriddenBy}. Output: {@code --out=<file>} (.json, .jsonl, .ndjson,
+ * optionally .gz), {@code --out=-} for JSON Lines on stdout, or {@code --kafka-bootstrap=<servers> --topic=<topic>}.
+ */
+public final class CBMMWorkloadGeneratorCli {
+
+    private CBMMWorkloadGeneratorCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        WorkloadSpec spec = WorkloadSpec.defaults().overriddenBy("", options::get);
+        CBMMWorkloadGenerator generator = new CBMMWorkloadGenerator(spec);
+
+        String out = options.get("out");
+        String bootstrapServers = options.get("kafka-bootstrap");
+        long written;
+        String target;
+        if (bootstrapServers != null) {
+            String topic = options.getOrDefault("topic", "cbmm-events-topic");
+            target = "topic " + topic;
+            written = WorkloadWriter.sendToKafka(generator.stream(), bootstrapServers, topic);
+        } else if (out == null || out.equals("-")) {
+            target = "stdout";
+            written = WorkloadWriter.writeJsonLines(generator.stream(), System.out);
+        } else {
+            target = out;
+            written = WorkloadWriter.writeFile(generator.stream(), Path.of(out));
+        }
+        System.err.printf("Wrote %d events (%d duplicates, %d invalid) to %s, seed %d%n",
+            written, generator.duplicates(), generator.invalid(), target, spec.seed());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,156 @@
+package co.cobre.cbmm.accounts.performance.workload;
+
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CBMMWorkloadGenerator Unit Tests")
+class CBMMWorkloadGeneratorUnitTest {
+
+    private static final WorkloadSpec SPEC = WorkloadSpec.defaults()
+        .withEvents(2000)
+        .withAccounts(100)
+        .withCurrencies(List.of(Currency.USD, Currency.MXN, Currency.COP));
+
+    private static List<CBMMEventDTO> generate(WorkloadSpec spec) {
+        return new CBMMWorkloadGenerator(spec).stream().toList();
+    }
+
+    @Nested
+    @DisplayName("Stream shape")
+    class StreamShape {
+
+        @Test
+        @DisplayName("Given same spec and seed, when generated twice, then streams are identical")
+        void givenSameSpecAndSeed_whenGeneratedTwice_thenStreamsIdentical() {
+            // Act & Assert
+            assertEquals(generate(SPEC), generate(SPEC));
+            assertNotEquals(generate(SPEC), generate(SPEC.withSeed(7)));
+        }
+
+        @Test
+        @DisplayName("Given Zipf skew, when generated, then the hottest account takes a large share of origins")
+        void givenZipfSkew_whenGenerated_thenHotAccountDominates() {
+            // Act
+            Map<String, Long> skewed = originCounts(generate(SPEC.withZipfExponent(1.2)));
+            Map<String, Long> uniform = originCounts(generate(SPEC.withZipfExponent(0)));
+
+            // Assert
+            assertTrue(skewed.get(SPEC.accountNumber(0)) > 5 * uniform.get(SPEC.accountNumber(0)));
+        }
+
+        @Test
+        @DisplayName("Given multiple currencies, when generated, then each side uses its account's currency")
+        void givenMultipleCurrencies_whenGenerated_thenSidesMatchAccountCurrency() {
+            // Act
+            List<CBMMEventDTO> events = generate(SPEC);
+
+            // Assert
+            Map<String, String> currencyByAccount = new HashMap<>();
+            for (int i = 0; i < SPEC.accounts(); i++) {
+                currencyByAccount.put(SPEC.accountNumber(i), SPEC.accountCurrency(i).getCode());
+            }
+            for (CBMMEventDTO event : events) {
+                assertEquals(currencyByAccount.get(event.origin().accountId()), event.origin().currency());
+                assertEquals(currencyByAccount.get(event.destination().accountId()), event.destination().currency());
+                assertNotEquals(event.origin().accountId(), event.destination().accountId());
+                assertTrue(event.origin().amount().compareTo(BigDecimal.ZERO) > 0);
+            }
+        }
+
+        @Test
+        @DisplayName("Given duplicate and invalid rates, when generated, then replays and broken events appear at about those rates")
+        void givenDuplicateAndInvalidRates_whenGenerated_thenRatesRespected() {
+            // Arrange
+            CBMMWorkloadGenerator generator = new CBMMWorkloadGenerator(SPEC.withDuplicateRate(0.1).withInvalidRate(0.05));
+
+            // Act
+            List<CBMMEventDTO> events = generator.stream().toList();
+
+            // Assert
+            Set<String> ids = new HashSet<>();
+            long replays = events.stream().filter(event -> !ids.add(event.eventId())).count();
+            assertEquals(generator.duplicates(), replays);
+            assertEquals(200, generator.duplicates(), 60);
+            assertEquals(100, generator.invalid(), 40);
+        }
+    }
+
+    @Nested
+    @DisplayName("Output")
+    class Output {
+
+        private final ObjectMapper mapper = WorkloadWriter.MAPPER;
+
+        @Test
+        @DisplayName("Given a .json file, when written, then it reads back as the batch upload array")
+        void givenJsonFile_whenWritten_thenReadsBackAsArray(@TempDir Path dir) throws Exception {
+            // Arrange
+            Path file = dir.resolve("workload.json");
+
+            // Act
+            long written = WorkloadWriter.writeFile(new CBMMWorkloadGenerator(SPEC).stream(), file);
+
+            // Assert
+            CBMMEventDTO[] events = mapper.readValue(file.toFile(), CBMMEventDTO[].class);
+            assertEquals(SPEC.events(), written);
+            assertEquals(json(generate(SPEC)), json(List.of(events)));
+        }
+
+        @Test
+        @DisplayName("Given a .jsonl.gz file, when written, then it is gzip-compressed JSON Lines")
+        void givenGzipJsonLinesFile_whenWritten_thenReadsBackLineByLine(@TempDir Path dir) throws Exception {
+            // Arrange
+            Path file = dir.resolve("workload.jsonl.gz");
+
+            // Act
+            WorkloadWriter.writeFile(new CBMMWorkloadGenerator(SPEC).stream(), file);
+
+            // Assert
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                List<CBMMEventDTO> events = reader.lines().map(this::read).toList();
+                assertEquals(json(generate(SPEC)), json(events));
+            }
+        }
+
+        private CBMMEventDTO read(String line) {
+            try {
+                return mapper.readValue(line, CBMMEventDTO.class);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static List<String> json(List<CBMMEventDTO> events) {
+        return events.stream().map(WorkloadWriter::toJson).toList();
+    }
+
+    private static Map<String, Long> originCounts(List<CBMMEventDTO> events) {
+        return events.stream()
+            .map(event -> event.origin().accountId())
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
@@ -0,0 +1,98 @@
+package co.cobre.cbmm.accounts.performance.workload;
+
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import lombok.With;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Parameters of a synthetic CBMM workload; the same spec and seed always yield the same event stream
+ *
+ * @param events              events to generate, duplicates and invalid events included
+ * @param accounts            account count; account i is {@code String.format(accountNumberFormat, i)}
+ * @param accountNumberFormat same format as perf.accounts.number-format, so the stream matches the perf profile
+ * @param currencies          account i holds {@code currencies[i % size]} (perf.accounts.currencies does the same),
+ *                            so every origin/destination pair is a valid currency pair
+ * @param zipfExponent        skew of the account choice (0 = uniform, ~1 = a few hot accounts)
+ * @param amounts             amount distribution, in USD
+ * @param duplicateRate       fraction of events that replay an earlier event (same event_id)
+ * @param invalidRate         fraction of events the service must reject (see {@link CBMMWorkloadGenerator.InvalidKind})
+ * @param seed                random seed
+ * @param eventIdPrefix       event ids are {@code <prefix>_<seq>}; change it to replay a stream without duplicates
+ * @param startTime           operation_date of the first event; each next one is a second later
+ */
+@With
+public record WorkloadSpec(
+    int events,
+    int accounts,
+    String accountNumberFormat,
+    List<Currency> currencies,
+    double zipfExponent,
+    AmountDistribution amounts,
+    double duplicateRate,
+    double invalidRate,
+    long seed,
+    String eventIdPrefix,
+    ZonedDateTime startTime
+) {
+
+    public static WorkloadSpec defaults() {
+        return new WorkloadSpec(1000, 1000, "ACC-PERF-%06d", List.of(Currency.USD), 1.0,
+            new AmountDistribution.LogNormal(120, 1.0), 0.0, 0.0, 42L, "cbmm_wl",
+            ZonedDateTime.parse("2025-01-01T00:00:00Z"));
+    }
+
+    public String accountNumber(int account) {
+        return String.format(accountNumberFormat, account);
+    }
+
+    public Currency accountCurrency(int account) {
+        return currencies.get(account % currencies.size());
+    }
+
+    /**
+     * Override fields from {@code <prefix>events}, {@code <prefix>accounts}, {@code <prefix>zipf}, ... lookups
+     * (system properties for the harness, {@code --key=value} arguments for the CLI); absent keys keep this spec
+     */
+    public WorkloadSpec overriddenBy(String prefix, Function<String, String> lookup) {
+        WorkloadSpec spec = this;
+        String value;
+        if ((value = lookup.apply(prefix + "events")) != null) {
+            spec = spec.withEvents(Integer.parseInt(value));
+        }
+        if ((value = lookup.apply(prefix + "accounts")) != null) {
+            spec = spec.withAccounts(Integer.parseInt(value));
+        }
+        if ((value = lookup.apply(prefix + "account-format")) != null) {
+            spec = spec.withAccountNumberFormat(value);
+        }
+        if ((value = lookup.apply(prefix + "currencies")) != null) {
+            spec = spec.withCurrencies(Arrays.stream(value.split(",")).map(String::trim).map(Currency::fromCode).toList());
+        }
+        if ((value = lookup.apply(prefix + "zipf")) != null) {
+            spec = spec.withZipfExponent(Double.parseDouble(value));
+        }
+        if ((value = lookup.apply(prefix + "amounts")) != null) {
+            spec = spec.withAmounts(AmountDistribution.parse(value));
+        }
+        if ((value = lookup.apply(prefix + "duplicate-rate")) != null) {
+            spec = spec.withDuplicateRate(Double.parseDouble(value));
+        }
+        if ((value = lookup.apply(prefix + "invalid-rate")) != null) {
+            spec = spec.withInvalidRate(Double.parseDouble(value));
+        }
+        if ((value = lookup.apply(prefix + "seed")) != null) {
+            spec = spec.withSeed(Long.parseLong(value));
+        }
+        if ((value = lookup.apply(prefix + "event-id-prefix")) != null) {
+            spec = spec.withEventIdPrefix(value);
+        }
+        if ((value = lookup.apply(prefix + "start-time")) != null) {
+            spec = spec.withStartTime(ZonedDateTime.parse(value));
+        }
+        return spec;
+    }
+}
@@ -0,0 +1,112 @@
+package co.cobre.cbmm.accounts.performance.workload;
+
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Output targets of a generated workload: the batch upload formats (.json array, .jsonl/.ndjson lines),
+ * optionally gzip-compressed (.gz suffix), or a Kafka topic keyed by origin account
+ */
+public final class WorkloadWriter {
+
+    /** Same wire format as the events the service consumes (ISO-8601 operation_date) */
+    public static final ObjectMapper MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private WorkloadWriter() {
+    }
+
+    /**
+     * Write to a file, picking the format from its name: {@code .json}, {@code .jsonl}, {@code .ndjson},
+     * each optionally followed by {@code .gz}
+     *
+     * @return events written
+     */
+    public static long writeFile(Stream<CBMMEventDTO> events, Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase();
+        boolean gzip = name.endsWith(".gz");
+        String format = gzip ? name.substring(0, name.length() - 3) : name;
+        if (!format.endsWith(".json") && !format.endsWith(".jsonl") && !format.endsWith(".ndjson")) {
+            throw new IllegalArgumentException("Unsupported workload file " + path
+                + " (expected .json, .jsonl or .ndjson, optionally .gz)");
+        }
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(path));
+             OutputStream out = gzip ? new GZIPOutputStream(file, 64 * 1024) : file) {
+            return format.endsWith(".json") ? writeJsonArray(events, out) : writeJsonLines(events, out);
+        }
+    }
+
+    public static long writeJsonArray(Stream<CBMMEventDTO> events, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.writeStartArray();
+            for (Iterator<CBMMEventDTO> it = events.iterator(); it.hasNext(); count++) {
+                MAPPER.writeValue(generator, it.next());
+            }
+            generator.writeEndArray();
+        }
+        return count;
+    }
+
+    public static long writeJsonLines(Stream<CBMMEventDTO> events, OutputStream out) throws IOException {
+        long count = 0;
+        byte[] newline = "\n".getBytes(StandardCharsets.UTF_8);
+        for (Iterator<CBMMEventDTO> it = events.iterator(); it.hasNext(); count++) {
+            out.write(MAPPER.writeValueAsBytes(it.next()));
+            out.write(newline);
+        }
+        out.flush();
+        return count;
+    }
+
+    /**
+     * Produce every event to {@code topic}, keyed by origin account like the upstream producer
+     */
+    public static long sendToKafka(Stream<CBMMEventDTO> events, String bootstrapServers, String topic) {
+        Map<String, Object> config = Map.of(
+            ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+            ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+            ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+            ProducerConfig.LINGER_MS_CONFIG, 5);
+        long count = 0;
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(config)) {
+            for (Iterator<CBMMEventDTO> it = events.iterator(); it.hasNext(); count++) {
+                CBMMEventDTO event = it.next();
+                producer.send(new ProducerRecord<>(topic, event.origin().accountId(), toJson(event)));
+            }
+            producer.flush();
+        }
+        return count;
+    }
+
+    public static String toJson(CBMMEventDTO event) {
+        try {
+            return MAPPER.writeValueAsString(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize event " + event.eventId(), e);
+        }
+    }
+}
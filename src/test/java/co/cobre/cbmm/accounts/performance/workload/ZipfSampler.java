@@ -0,0 +1,33 @@
+package co.cobre.cbmm.accounts.performance.workload;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf(s) sampler over [0, n): rank k is drawn with probability proportional to 1 / (k + 1)^s
+ * Exponent 0 is uniform; around 1 a handful of low ranks (hot accounts) take most of the draws.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Zipf sampler needs at least one rank");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,169 @@
+package co.cobre.cbmm.accounts.unit.adapters.config;
+
+import co.cobre.cbmm.accounts.adapters.config.AdmissionControlledExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlledExecutorUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControlledExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new AdmissionControlledExecutor("test", 2, 3, meterRegistry);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Nested
+    @DisplayName("Admission tests")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Given more tasks than permits, when execute, then only permits run concurrently and the rest queue")
+        void givenMoreTasksThanPermits_whenExecute_thenOnlyPermitsRunConcurrently() throws Exception {
+            // Arrange
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(5);
+
+            Runnable task = () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                await(release);
+                running.decrementAndGet();
+                done.countDown();
+            };
+
+            // Act
+            executor.execute(task);
+            executor.execute(task);
+            waitUntil(() -> executor.getInFlight() == 2);
+            for (int i = 0; i < 3; i++) {
+                executor.execute(task);
+            }
+            waitUntil(() -> executor.getInFlight() == 2 && executor.getQueued() == 3);
+
+            // Assert
+            assertEquals(3.0, meterRegistry.get("db.admission.queued").gauge().value());
+            assertEquals(2.0, meterRegistry.get("db.admission.in_flight").gauge().value());
+            assertEquals(0.0, meterRegistry.get("db.admission.permits").gauge().value());
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(2, maxRunning.get());
+            assertEquals(5, meterRegistry.get("db.admission.wait").timer().count());
+        }
+
+        @Test
+        @DisplayName("Given full admission queue, when execute, then reject task and count it")
+        void givenFullAdmissionQueue_whenExecute_thenRejectTask() throws Exception {
+            // Arrange
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+            waitUntil(() -> executor.getInFlight() == 2);
+            for (int i = 0; i < 3; i++) {
+                executor.execute(() -> await(release));
+            }
+
+            // Act & Assert
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+            assertEquals(1.0, meterRegistry.get("db.admission.rejected").counter().count());
+            assertEquals(3, executor.getQueued());
+        }
+
+        @Test
+        @DisplayName("Given failing task, when execute, then permit is released")
+        void givenFailingTask_whenExecute_thenPermitReleased() throws Exception {
+            // Arrange
+            CountDownLatch done = new CountDownLatch(1);
+
+            // Act
+            executor.execute(() -> {
+                throw new IllegalStateException("boom");
+            });
+            executor.execute(() -> { });
+            executor.execute(done::countDown);
+
+            // Assert
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            waitUntil(() -> executor.getInFlight() == 0);
+            assertEquals(2.0, meterRegistry.get("db.admission.permits").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Given a shared executor, when legs of two sources run through one admission, then permits cap them together and close leaves the executor running")
+        void givenSharedExecutor_whenTasksRun_thenPermitsCapAllSourcesAndCloseKeepsExecutor() throws Exception {
+            // Arrange
+            ExecutorService shared = Executors.newVirtualThreadPerTaskExecutor();
+            AdmissionControlledExecutor legs = new AdmissionControlledExecutor("legs", 1, Integer.MAX_VALUE,
+                meterRegistry, shared);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(4);
+            Runnable leg = () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                done.countDown();
+            };
+
+            // Act
+            for (int i = 0; i < 4; i++) {
+                legs.execute(leg);
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            legs.close();
+
+            // Assert
+            assertEquals(1, maxRunning.get());
+            assertFalse(shared.isShutdown());
+            shared.close();
+        }
+
+        @Test
+        @DisplayName("Given zero permits, when create executor, then throw IllegalArgumentException")
+        void givenZeroPermits_whenCreateExecutor_thenThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionControlledExecutor("invalid", 0, 10, meterRegistry));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package co.cobre.cbmm.accounts.unit.adapters.config;
+
+import co.cobre.cbmm.accounts.adapters.config.AsyncCallerTaggingPostProcessor;
+import co.cobre.cbmm.accounts.adapters.config.InstrumentedExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.AsyncExecutionInterceptor;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedExecutorUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new InstrumentedExecutor("test", Executors.newVirtualThreadPerTaskExecutor(), meterRegistry, true, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.close();
+    }
+
+    /**
+     * Stand-in for an @Async service method
+     */
+    public static class ReportService {
+        @Async
+        public CompletableFuture<String> buildReport() {
+            return CompletableFuture.completedFuture("report");
+        }
+    }
+
+    @Nested
+    @DisplayName("Task metrics tests")
+    class TaskMetricsTests {
+
+        @Test
+        @DisplayName("Given @Async proxy, when method called, then task metrics are tagged with the proxied method")
+        void givenAsyncProxy_whenMethodCalled_thenMetricsTaggedWithProxiedMethod() throws Exception {
+            // Arrange
+            ProxyFactory proxyFactory = new ProxyFactory(new ReportService());
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvice(new AsyncExecutionInterceptor(executor));
+            ReportService proxy = (ReportService) new AsyncCallerTaggingPostProcessor()
+                .postProcessAfterInitialization(proxyFactory.getProxy(), "reportService");
+
+            // Act
+            String report = proxy.buildReport().get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals("report", report);
+            String caller = "ReportService.buildReport";
+            assertEquals(1.0, meterRegistry.get("cbmm.accounts.executor.submitted")
+                .tags("executor", "test", "caller", caller).counter().count());
+            assertEquals(1, meterRegistry.get("cbmm.accounts.executor.queue.wait")
+                .tags("executor", "test", "caller", caller).timer().count());
+            waitUntil(() -> meterRegistry.get("cbmm.accounts.executor.task.duration")
+                .tags("executor", "test", "caller", caller).timer().count() == 1);
+            assertEquals(0.0, meterRegistry.get("cbmm.accounts.executor.in_flight")
+                .tags("executor", "test", "caller", caller).gauge().value());
+        }
+
+        @Test
+        @DisplayName("Given running task, when submitted directly, then in-flight counts it under the direct caller")
+        void givenRunningTask_whenSubmittedDirectly_thenInFlightCountsIt() throws Exception {
+            // Arrange
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+
+            // Act
+            executor.execute(() -> {
+                await(release);
+                done.countDown();
+            });
+
+            // Assert
+            String caller = "direct";
+            assertEquals(1.0, meterRegistry.get("cbmm.accounts.executor.in_flight")
+                .tag("caller", caller).gauge().value());
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            waitUntil(() -> meterRegistry.get("cbmm.accounts.executor.in_flight").tag("caller", caller).gauge().value() == 0.0);
+        }
+
+        @Test
+        @DisplayName("Given workload views, when a dispatched record submits its account legs, then each workload is tagged separately")
+        void givenWorkloadViews_whenDispatchedRecordSubmitsLegs_thenTaggedSeparately() throws Exception {
+            // Arrange
+            Executor eventDispatch = executor.tagged("event-dispatch");
+            Executor accountLeg = executor.tagged("account-leg");
+
+            // Act
+            CompletableFuture.runAsync(() -> CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> { }, accountLeg),
+                    CompletableFuture.runAsync(() -> { }, accountLeg)).join(), eventDispatch)
+                .get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(1.0, meterRegistry.get("cbmm.accounts.executor.submitted")
+                .tags("executor", "test", "caller", "event-dispatch").counter().count());
+            assertEquals(2.0, meterRegistry.get("cbmm.accounts.executor.submitted")
+                .tags("executor", "test", "caller", "account-leg").counter().count());
+            assertTrue(meterRegistry.find("cbmm.accounts.executor.submitted").tag("caller", "direct").counters().isEmpty());
+            waitUntil(() -> meterRegistry.get("cbmm.accounts.executor.task.duration")
+                .tags("executor", "test", "caller", "account-leg").timer().count() == 2);
+        }
+
+        @Test
+        @DisplayName("Given a workload view, when submitting from an @Async call, then the workload tag wins")
+        void givenWorkloadView_whenSubmittingFromAsyncCall_thenWorkloadTagWins() throws Exception {
+            // Arrange
+            Executor accountLeg = executor.tagged("account-leg");
+            ProxyFactory proxyFactory = new ProxyFactory(new ReportService());
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvice((MethodInterceptor) invocation ->
+                CompletableFuture.supplyAsync(() -> "leg", accountLeg));
+            ReportService proxy = (ReportService) new AsyncCallerTaggingPostProcessor()
+                .postProcessAfterInitialization(proxyFactory.getProxy(), "reportService");
+
+            // Act
+            proxy.buildReport().get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(1.0, meterRegistry.get("cbmm.accounts.executor.submitted")
+                .tags("executor", "test", "caller", "account-leg").counter().count());
+            assertTrue(meterRegistry.find("cbmm.accounts.executor.submitted")
+                .tag("caller", "ReportService.buildReport").counters().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Given rejecting delegate, when execute, then count rejection and rethrow")
+        void givenRejectingDelegate_whenExecute_thenCountRejection() {
+            // Arrange
+            Executor rejecting = task -> {
+                throw new RejectedExecutionException("full");
+            };
+            InstrumentedExecutor instrumented = new InstrumentedExecutor("rejecting", rejecting, meterRegistry, false, 10);
+
+            // Act & Assert
+            assertThrows(RejectedExecutionException.class, () -> instrumented.execute(() -> { }));
+            assertEquals(1.0, meterRegistry.get("cbmm.accounts.executor.rejected")
+                .tags("executor", "rejecting", "caller", "unknown").counter().count());
+            assertEquals(0.0, meterRegistry.get("cbmm.accounts.executor.in_flight")
+                .tags("executor", "rejecting").gauge().value());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package co.cobre.cbmm.accounts.unit.adapters.in.actuator;
+
+import co.cobre.cbmm.accounts.adapters.in.actuator.PipelineLatencyEndpoint;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineLatencyEndpointUnitTest {
+
+    private PipelineMetricsService pipelineMetricsService;
+    private PipelineLatencyEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        pipelineMetricsService = new PipelineMetricsService(new SimpleMeterRegistry());
+        endpoint = new PipelineLatencyEndpoint(pipelineMetricsService);
+    }
+
+    @Test
+    @DisplayName("Given recorded stages, when pipeline, then return per-stage breakdown with share of event time")
+    @SuppressWarnings("unchecked")
+    void givenRecordedStages_whenPipeline_thenReturnPerStageBreakdown() {
+        // Arrange
+        pipelineMetricsService.getTimer(Stage.EVENT_TOTAL).record(100, TimeUnit.MILLISECONDS);
+        pipelineMetricsService.getTimer(Stage.LOCK_WAIT).record(25, TimeUnit.MILLISECONDS);
+
+        // Act
+        Map<String, Object> response = endpoint.pipeline();
+
+        // Assert
+        Map<String, Map<String, Object>> stages = (Map<String, Map<String, Object>>) response.get("stages");
+        assertEquals(Stage.values().length, stages.size());
+
+        Map<String, Object> lockWait = stages.get("lock_wait");
+        assertEquals(1L, lockWait.get("count"));
+        assertEquals(25.0, lockWait.get("total_ms"));
+        assertEquals(25.0, lockWait.get("share_pct"));
+        assertTrue(lockWait.containsKey("p99_ms"));
+
+        assertEquals(0L, stages.get("db_write").get("count"));
+        assertEquals(100.0, stages.get("event_total").get("share_pct"));
+    }
+}
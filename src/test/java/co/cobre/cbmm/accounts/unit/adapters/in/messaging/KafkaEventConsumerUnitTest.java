@@ -1,16 +1,23 @@
 package co.cobre.cbmm.accounts.unit.adapters.in.messaging;
 
 import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaEventConsumer;
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership;
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership.Claim;
+import co.cobre.cbmm.accounts.adapters.in.messaging.ParallelEventDispatcher;
 import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
 import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
 import co.cobre.cbmm.accounts.domain.exception.DuplicateEventException;
 import co.cobre.cbmm.accounts.domain.exception.EventProcessingException;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService.OwnershipScope;
 import co.cobre.cbmm.accounts.ports.in.ProcessCBMMEventPort;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,9 +25,12 @@ import org.springframework.kafka.support.Acknowledgment;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +47,18 @@ class KafkaEventConsumerUnitTest {
     @Mock
     private ErrorMetricsService errorMetricsService;
 
+    @Mock
+    private PipelineMetricsService pipelineMetricsService;
+
+    @Mock
+    private KafkaPartitionOwnership partitionOwnership;
+
+    @Mock
+    private ParallelEventDispatcher parallelEventDispatcher;
+
+    @Mock
+    private Claim claim;
+
     @Mock
     private Acknowledgment acknowledgment;
 
@@ -48,6 +70,8 @@ class KafkaEventConsumerUnitTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(partitionOwnership.claim(anyString(), anyInt())).thenReturn(claim);
+
         validJsonMessage = """
             {
                 "event_id": "cbmm_20250909_000123",
@@ -83,7 +107,7 @@ class KafkaEventConsumerUnitTest {
         doNothing().when(processCBMMEventPort).processCBMMEvent(any(CBMMEventDTO.class));
 
         // Act
-        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, acknowledgment);
+        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, "ACC123456789", acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(validJsonMessage, CBMMEventDTO.class);
@@ -101,7 +125,7 @@ class KafkaEventConsumerUnitTest {
             .when(processCBMMEventPort).processCBMMEvent(any(CBMMEventDTO.class));
 
         // Act
-        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, acknowledgment);
+        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, "ACC123456789", acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(validJsonMessage, CBMMEventDTO.class);
@@ -120,7 +144,7 @@ class KafkaEventConsumerUnitTest {
 
         // Act & Assert
         assertThrows(EventProcessingException.class, () ->
-            kafkaEventConsumer.consumeCBMMEvent(invalidJson, "cbmm-events", 0, 123L, acknowledgment)
+            kafkaEventConsumer.consumeCBMMEvent(invalidJson, "cbmm-events", 0, 123L, "ACC123456789", acknowledgment)
         );
 
         verify(objectMapper).readValue(invalidJson, CBMMEventDTO.class);
@@ -139,7 +163,7 @@ class KafkaEventConsumerUnitTest {
 
         // Act & Assert
         assertThrows(EventProcessingException.class, () ->
-            kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, acknowledgment)
+            kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, "ACC123456789", acknowledgment)
         );
 
         verify(objectMapper).readValue(validJsonMessage, CBMMEventDTO.class);
@@ -157,7 +181,7 @@ class KafkaEventConsumerUnitTest {
 
         // Act
         assertDoesNotThrow(() ->
-            kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, null)
+            kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, "ACC123456789", null)
         );
 
         // Assert
@@ -176,7 +200,7 @@ class KafkaEventConsumerUnitTest {
 
         // Act
         assertDoesNotThrow(() ->
-            kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, null)
+            kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 0, 123L, "ACC123456789", null)
         );
 
         // Assert
@@ -193,7 +217,7 @@ class KafkaEventConsumerUnitTest {
         doNothing().when(processCBMMEventPort).processCBMMEvent(any(CBMMEventDTO.class));
 
         // Act
-        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 5, 999L, acknowledgment);
+        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 5, 999L, "ACC123456789", acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(validJsonMessage, CBMMEventDTO.class);
@@ -209,12 +233,79 @@ class KafkaEventConsumerUnitTest {
         doNothing().when(processCBMMEventPort).processCBMMEvent(any(CBMMEventDTO.class));
 
         // Act
-        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events-v2", 0, 123L, acknowledgment);
+        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events-v2", 0, 123L, "ACC123456789", acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(validJsonMessage, CBMMEventDTO.class);
         verify(processCBMMEventPort).processCBMMEvent(validEvent);
         verify(acknowledgment).acknowledge();
     }
+
+    @Test
+    @DisplayName("Given a keyed record, when consumeCBMMEvent, then it is claimed while processed and acknowledged after")
+    void givenKeyedRecord_whenConsumeCBMMEvent_thenOriginClaimedDuringProcessing() throws Exception {
+        // Arrange
+        OwnershipScope ownership = mock(OwnershipScope.class);
+        when(objectMapper.readValue(validJsonMessage, CBMMEventDTO.class)).thenReturn(validEvent);
+        when(claim.ownOrigin("ACC123456789", validEvent)).thenReturn(ownership);
+
+        // Act
+        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 3, 42L, "ACC123456789", acknowledgment);
+
+        // Assert
+        InOrder inOrder = inOrder(partitionOwnership, claim, processCBMMEventPort, ownership, acknowledgment);
+        inOrder.verify(partitionOwnership).claim("cbmm-events", 3);
+        inOrder.verify(claim).ownOrigin("ACC123456789", validEvent);
+        inOrder.verify(processCBMMEventPort).processCBMMEvent(validEvent);
+        inOrder.verify(ownership).close();
+        inOrder.verify(claim).close();
+        inOrder.verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Given parallel mode, when consumeCBMMEvent, then the record is dispatched on its origin account and processed by the dispatcher's handler")
+    @SuppressWarnings("unchecked")
+    void givenParallelMode_whenConsumeCBMMEvent_thenDispatchedOnOriginAccount() throws Exception {
+        // Arrange
+        when(parallelEventDispatcher.isEnabled()).thenReturn(true);
+        when(objectMapper.readValue(validJsonMessage, CBMMEventDTO.class)).thenReturn(validEvent);
+        ArgumentCaptor<Consumer<Claim>> handler = ArgumentCaptor.forClass(Consumer.class);
+
+        // Act - the producer keyed the record by something other than the origin account
+        kafkaEventConsumer.consumeCBMMEvent(validJsonMessage, "cbmm-events", 3, 42L, "ORDER-42", acknowledgment);
+
+        // Assert
+        verify(parallelEventDispatcher).dispatch(eq("cbmm-events"), eq(3), eq(42L), eq("ACC123456789"),
+            eq(acknowledgment), handler.capture());
+        verifyNoInteractions(processCBMMEventPort, acknowledgment);
+        verify(partitionOwnership, never()).claim(anyString(), anyInt());
+
+        handler.getValue().accept(claim);
+        verify(processCBMMEventPort).processCBMMEvent(validEvent);
+        verify(objectMapper, times(1)).readValue(validJsonMessage, CBMMEventDTO.class);
+        verifyNoInteractions(acknowledgment);
+    }
+
+    @Test
+    @DisplayName("Given parallel mode and invalid JSON, when consumeCBMMEvent, then it is dispatched without account and its handler fails")
+    @SuppressWarnings("unchecked")
+    void givenParallelModeAndInvalidJson_whenConsumeCBMMEvent_thenDispatchedWithoutAccountAndHandlerFails() throws Exception {
+        // Arrange
+        String invalidJson = "{ invalid json }";
+        when(parallelEventDispatcher.isEnabled()).thenReturn(true);
+        when(objectMapper.readValue(invalidJson, CBMMEventDTO.class))
+            .thenThrow(new RuntimeException("Invalid JSON format"));
+        ArgumentCaptor<Consumer<Claim>> handler = ArgumentCaptor.forClass(Consumer.class);
+
+        // Act
+        kafkaEventConsumer.consumeCBMMEvent(invalidJson, "cbmm-events", 3, 42L, "ACC123456789", acknowledgment);
+
+        // Assert
+        verify(parallelEventDispatcher).dispatch(eq("cbmm-events"), eq(3), eq(42L), isNull(),
+            eq(acknowledgment), handler.capture());
+        assertThrows(EventProcessingException.class, () -> handler.getValue().accept(claim));
+        verify(processCBMMEventPort, never()).processCBMMEvent(any());
+        verify(errorMetricsService).recordKafkaError(eq("cbmm-events"), eq("unknown"), any(Exception.class));
+    }
 }
 
@@ -0,0 +1,175 @@
+package co.cobre.cbmm.accounts.unit.adapters.in.messaging;
+
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership;
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership.Claim;
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContextAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockObservationAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService.OwnershipScope;
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KafkaPartitionOwnership Unit Tests")
+class KafkaPartitionOwnershipUnitTest {
+
+    private static final String TOPIC = "cbmm-events-topic";
+    private static final String ORIGIN = "ACC123456789";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DistributedLockPort lockPort = mock(DistributedLockPort.class);
+    private final DistributedLockService lockService = new DistributedLockService(lockPort,
+        new ErrorMetricsService(registry, 100, 50),
+        new LockObservationAdapter(new PipelineMetricsService(registry), new LockContentionMetricsService(10)),
+        new JfrEventContextAdapter());
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final CBMMEventDTO event = new CBMMEventDTO(
+        "cbmm_20250909_000123",
+        "cross_border_money_movement",
+        ZonedDateTime.parse("2025-09-09T15:32:10Z"),
+        new CBMMEventDTO.AccountOperationDTO(ORIGIN, "COP", new BigDecimal("15000.50")),
+        new CBMMEventDTO.AccountOperationDTO("ACC987654321", "USD", new BigDecimal("880.25"))
+    );
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private KafkaPartitionOwnership ownership(boolean enabled, Duration drainTimeout) {
+        KafkaPartitionOwnership ownership = new KafkaPartitionOwnership(registry, enabled, drainTimeout);
+        ownership.onPartitionsAssigned(mock(Consumer.class), List.of(PARTITION));
+        when(lockPort.tryLockAsync(anyString(), anyLong(), anyLong(), anyLong(), any()))
+            .thenReturn(CompletableFuture.completedFuture(true));
+        when(lockPort.unlockAsync(anyString(), anyLong())).thenReturn(CompletableFuture.completedFuture(true));
+        return ownership;
+    }
+
+    private void claimAndDebit(KafkaPartitionOwnership ownership, String key) throws Exception {
+        try (Claim claim = ownership.claim(TOPIC, 0); OwnershipScope ignored = claim.ownOrigin(key, event)) {
+            debitOrigin();
+        }
+    }
+
+    private void debitOrigin() throws Exception {
+        lockService.executeWithLockUnlessOwnedAsync(ORIGIN, () -> "debited", executor).get(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("ownOrigin")
+    class OwnOrigin {
+
+        @Test
+        @DisplayName("Given an owned partition and a record keyed by its origin, when the origin is debited, then no lock is taken")
+        void givenOwnedPartitionAndOriginKey_whenDebited_thenNoLock() throws Exception {
+            // Arrange
+            KafkaPartitionOwnership ownership = ownership(true, Duration.ofSeconds(1));
+
+            // Act
+            try (Claim claim = ownership.claim(TOPIC, 0); OwnershipScope ignored = claim.ownOrigin(ORIGIN, event)) {
+                assertEquals(1, ownership.inFlight(PARTITION));
+                debitOrigin();
+            }
+
+            // Assert
+            verify(lockPort, never()).tryLockAsync(anyString(), anyLong(), anyLong(), anyLong(), any());
+            assertEquals(0, ownership.inFlight(PARTITION));
+            assertEquals(1, registry.counter("cbmm.accounts.kafka.affinity.debits.total", "lock", "skipped").count());
+        }
+
+        @Test
+        @DisplayName("Given a record keyed by another account, when the origin is debited, then the lock is taken")
+        void givenOtherKey_whenDebited_thenLocked() throws Exception {
+            // Arrange
+            KafkaPartitionOwnership ownership = ownership(true, Duration.ofSeconds(1));
+
+            // Act
+            claimAndDebit(ownership, "ACC987654321");
+
+            // Assert
+            verify(lockPort).tryLockAsync(eq(DistributedLockPort.ACCOUNT_LOCK_PREFIX + ORIGIN), anyLong(), anyLong(), anyLong(), any());
+            assertEquals(1, registry.counter("cbmm.accounts.kafka.affinity.debits.total", "lock", "taken").count());
+        }
+
+        @Test
+        @DisplayName("Given key affinity is disabled, when the origin is debited, then the lock is taken")
+        void givenDisabled_whenDebited_thenLocked() throws Exception {
+            // Arrange
+            KafkaPartitionOwnership ownership = ownership(false, Duration.ofSeconds(1));
+
+            // Act
+            claimAndDebit(ownership, ORIGIN);
+
+            // Assert
+            verify(lockPort).tryLockAsync(anyString(), anyLong(), anyLong(), anyLong(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebalance")
+    class Rebalance {
+
+        @Test
+        @DisplayName("Given claimed work on a partition, when it is revoked, then revocation waits for the work and later records lock")
+        void givenClaimedWork_whenRevoked_thenDrainsFirst() throws Exception {
+            // Arrange
+            KafkaPartitionOwnership ownership = ownership(true, Duration.ofSeconds(10));
+            Claim claim = ownership.claim(TOPIC, 0);
+            List<TopicPartition> notified = new CopyOnWriteArrayList<>();
+            ownership.addRevocationListener(notified::addAll);
+
+            // Act
+            CompletableFuture<Void> revocation = CompletableFuture.runAsync(
+                () -> ownership.onPartitionsRevokedBeforeCommit(mock(Consumer.class), List.of(PARTITION)), executor);
+            Thread.sleep(100);
+            boolean revokedBeforeDrain = revocation.isDone();
+            claim.close();
+            revocation.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertFalse(revokedBeforeDrain);
+            assertEquals(List.of(PARTITION), notified);
+            claimAndDebit(ownership, ORIGIN);
+            verify(lockPort).tryLockAsync(anyString(), anyLong(), anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Given claimed work that never finishes, when the partition is revoked, then revocation gives up after the drain timeout")
+        void givenStuckWork_whenRevoked_thenGivesUpAfterTimeout() {
+            // Arrange
+            KafkaPartitionOwnership ownership = ownership(true, Duration.ofMillis(50));
+
+            // Act & Assert
+            try (Claim ignored = ownership.claim(TOPIC, 0)) {
+                assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> ownership.onPartitionsRevokedBeforeCommit(mock(Consumer.class), List.of(PARTITION)));
+                assertEquals(1, ownership.inFlight(PARTITION));
+            }
+        }
+    }
+}
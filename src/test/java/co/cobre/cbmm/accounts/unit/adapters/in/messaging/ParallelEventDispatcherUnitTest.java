@@ -0,0 +1,311 @@
+package co.cobre.cbmm.accounts.unit.adapters.in.messaging;
+
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaEventConsumer;
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership;
+import co.cobre.cbmm.accounts.adapters.in.messaging.KafkaPartitionOwnership.Claim;
+import co.cobre.cbmm.accounts.adapters.in.messaging.ParallelEventDispatcher;
+import co.cobre.cbmm.accounts.domain.exception.EventProcessingException;
+import co.cobre.cbmm.accounts.domain.exception.InsufficientBalanceException;
+import com.fasterxml.jackson.core.JsonParseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ParallelEventDispatcher Unit Tests")
+class ParallelEventDispatcherUnitTest {
+
+    private static final String TOPIC = "cbmm-events-topic";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final KafkaPartitionOwnership ownership = new KafkaPartitionOwnership(registry, false, Duration.ofSeconds(1));
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final KafkaListenerEndpointRegistry endpointRegistry = mock(KafkaListenerEndpointRegistry.class);
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+
+    @BeforeEach
+    void setUp() {
+        when(endpointRegistry.getListenerContainer(KafkaEventConsumer.LISTENER_ID)).thenReturn(container);
+        when(container.isRunning()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private ParallelEventDispatcher dispatcher(int maxInFlightPerPartition) {
+        return new ParallelEventDispatcher(ownership, endpointRegistry, registry, executor, "parallel",
+            maxInFlightPerPartition, Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    private static java.util.function.Consumer<Claim> awaiting(CountDownLatch release) {
+        return claim -> {
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private double givenUp(String reason) {
+        return registry.get("cbmm.accounts.kafka.parallel.given_up").tag("reason", reason).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Offset commits")
+    class OffsetCommits {
+
+        @Test
+        @DisplayName("Given records finishing out of order, when earlier ones are pending, then only the highest contiguous offset is acknowledged")
+        void givenOutOfOrderCompletion_whenEarlierPending_thenContiguousAck() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            List<CountDownLatch> releases = List.of(new CountDownLatch(1), new CountDownLatch(1), new CountDownLatch(1));
+            List<Acknowledgment> acks = List.of(mock(Acknowledgment.class), mock(Acknowledgment.class), mock(Acknowledgment.class));
+            for (int offset = 0; offset < 3; offset++) {
+                dispatcher.dispatch(TOPIC, 0, offset, "ACC-" + offset, acks.get(offset), awaiting(releases.get(offset)));
+            }
+
+            // Act
+            releases.get(2).countDown();
+            releases.get(1).countDown();
+
+            // Assert
+            verify(acks.get(2), after(200).never()).acknowledge();
+            assertEquals(2, gauge("cbmm.accounts.kafka.parallel.completed_uncommitted"));
+            assertEquals(3, gauge("cbmm.accounts.kafka.parallel.in_flight"));
+
+            releases.get(0).countDown();
+            verify(acks.get(2), timeout(5000)).acknowledge();
+            verify(acks.get(0), never()).acknowledge();
+            verify(acks.get(1), never()).acknowledge();
+            assertEquals(0, gauge("cbmm.accounts.kafka.parallel.completed_uncommitted"));
+            assertEquals(0, gauge("cbmm.accounts.kafka.parallel.in_flight"));
+            assertEquals(0, ownership.inFlight(PARTITION));
+        }
+
+        @Test
+        @DisplayName("Given a record that keeps failing, when retries are exhausted, then it is given up on and acknowledged")
+        void givenFailingRecord_whenRetriesExhausted_thenAcknowledged() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // Act
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", ack, claim -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("boom");
+            });
+
+            // Assert
+            verify(ack, timeout(5000)).acknowledge();
+            assertEquals(10, attempts.get());
+            assertEquals(1, givenUp("retries_exhausted"));
+        }
+
+        @Test
+        @DisplayName("Given a record rejected by a business rule, when it fails, then it is given up on at once and counted")
+        void givenBusinessRejection_whenFails_thenGivenUpWithoutRetries() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // Act
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", ack, claim -> {
+                attempts.incrementAndGet();
+                throw new EventProcessingException("unknown", "rejected",
+                    new InsufficientBalanceException("ACC-0", BigDecimal.ZERO, BigDecimal.TEN));
+            });
+
+            // Assert
+            verify(ack, timeout(5000)).acknowledge();
+            assertEquals(1, attempts.get());
+            assertEquals(1, givenUp("not_retryable"));
+        }
+
+        @Test
+        @DisplayName("Given a new dispatcher, when created, then one given-up counter per reason is registered without exception tag")
+        void givenNewDispatcher_whenCreated_thenGivenUpCountersPreRegistered() {
+            // Act
+            dispatcher(10);
+
+            // Assert
+            assertEquals(2, registry.get("cbmm.accounts.kafka.parallel.given_up").counters().size());
+            assertEquals(0, givenUp("not_retryable"));
+            assertEquals(0, givenUp("retries_exhausted"));
+            assertTrue(registry.get("cbmm.accounts.kafka.parallel.given_up").counters().stream()
+                .allMatch(counter -> counter.getId().getTag("exception") == null));
+        }
+
+        @Test
+        @DisplayName("Given a malformed record, when it fails to parse, then it is given up on at once")
+        void givenMalformedRecord_whenParseFails_thenGivenUpWithoutRetries() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // Act
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", ack, claim -> {
+                attempts.incrementAndGet();
+                throw new EventProcessingException("unknown", "bad json", new JsonParseException(null, "bad json"));
+            });
+
+            // Assert
+            verify(ack, timeout(5000)).acknowledge();
+            assertEquals(1, attempts.get());
+            assertEquals(1, givenUp("not_retryable"));
+        }
+
+        @Test
+        @DisplayName("Given an acknowledgment that throws, when the next record with the same key finishes, then it is still run and acknowledged")
+        void givenThrowingAck_whenSameKeyFollows_thenNextRecordStillRuns() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            Acknowledgment failingAck = mock(Acknowledgment.class);
+            doThrow(new IllegalStateException("consumer closed")).when(failingAck).acknowledge();
+            Acknowledgment ack = mock(Acknowledgment.class);
+
+            // Act
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", failingAck, claim -> { });
+            dispatcher.dispatch(TOPIC, 0, 1, "ACC-0", ack, claim -> { });
+
+            // Assert
+            verify(ack, timeout(5000)).acknowledge();
+            assertEquals(0, gauge("cbmm.accounts.kafka.parallel.in_flight"));
+            assertEquals(0, ownership.inFlight(PARTITION));
+        }
+
+        @Test
+        @DisplayName("Given an executor that rejects work, when a record is dispatched, then the rejection reaches the container and nothing stays in flight")
+        void givenRejectingExecutor_whenDispatched_thenUndone() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = new ParallelEventDispatcher(ownership, endpointRegistry, registry,
+                command -> { throw new RejectedExecutionException("shutting down"); }, "parallel", 10,
+                Duration.ofMillis(1), Duration.ofMillis(5));
+            Acknowledgment ack = mock(Acknowledgment.class);
+
+            // Act & Assert
+            assertThrows(RejectedExecutionException.class,
+                () -> dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", ack, claim -> { }));
+            verify(ack, never()).acknowledge();
+            assertEquals(0, gauge("cbmm.accounts.kafka.parallel.in_flight"));
+            assertEquals(0, ownership.inFlight(PARTITION));
+        }
+
+        @Test
+        @DisplayName("Given a partition is lost, when its pending records finish, then they are not acknowledged")
+        void givenLostPartition_whenRecordsFinish_thenNotAcknowledged() throws Exception {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            CountDownLatch release = new CountDownLatch(1);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", ack, awaiting(release));
+
+            // Act
+            ownership.onPartitionsLost(mock(Consumer.class), List.of(PARTITION));
+            release.countDown();
+
+            // Assert
+            verify(ack, after(200).never()).acknowledge();
+            assertEquals(0, gauge("cbmm.accounts.kafka.parallel.in_flight"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering and bounds")
+    class OrderingAndBounds {
+
+        @Test
+        @DisplayName("Given two records of the same origin account, when the first is running, then the second waits for it")
+        void givenSameAccount_whenFirstRunning_thenSecondWaits() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger secondStarted = new AtomicInteger();
+            Acknowledgment ack = mock(Acknowledgment.class);
+
+            // Act
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", mock(Acknowledgment.class), awaiting(release));
+            dispatcher.dispatch(TOPIC, 0, 1, "ACC-0", ack, claim -> secondStarted.incrementAndGet());
+
+            // Assert
+            verify(ack, after(200).never()).acknowledge();
+            assertEquals(0, secondStarted.get());
+            release.countDown();
+            verify(ack, timeout(5000)).acknowledge();
+            assertEquals(1, secondStarted.get());
+        }
+
+        @Test
+        @DisplayName("Given two records of the same origin account on different partitions, when the first is running, then the second waits for it")
+        void givenSameAccountOnDifferentPartitions_whenFirstRunning_thenSecondWaits() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(10);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger secondStarted = new AtomicInteger();
+            Acknowledgment ack = mock(Acknowledgment.class);
+
+            // Act
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", mock(Acknowledgment.class), awaiting(release));
+            dispatcher.dispatch(TOPIC, 1, 0, "ACC-0", ack, claim -> secondStarted.incrementAndGet());
+
+            // Assert
+            verify(ack, after(200).never()).acknowledge();
+            assertEquals(0, secondStarted.get());
+            release.countDown();
+            verify(ack, timeout(5000)).acknowledge();
+            assertEquals(1, secondStarted.get());
+        }
+
+        @Test
+        @DisplayName("Given a partition reaching its in-flight limit, when records are dispatched, then the partition is paused without blocking and resumed after a commit")
+        void givenInFlightLimit_whenDispatched_thenPausedUntilCommit() {
+            // Arrange
+            ParallelEventDispatcher dispatcher = dispatcher(2);
+            CountDownLatch release = new CountDownLatch(1);
+            dispatcher.dispatch(TOPIC, 0, 0, "ACC-0", mock(Acknowledgment.class), awaiting(release));
+
+            // Act
+            dispatcher.dispatch(TOPIC, 0, 1, "ACC-1", mock(Acknowledgment.class), awaiting(release));
+            dispatcher.dispatch(TOPIC, 0, 2, "ACC-2", mock(Acknowledgment.class), awaiting(release));
+
+            // Assert
+            verify(container).pausePartition(PARTITION);
+            verify(container, never()).resumePartition(PARTITION);
+            assertEquals(3, gauge("cbmm.accounts.kafka.parallel.in_flight"));
+            release.countDown();
+            verify(container, timeout(5000)).resumePartition(PARTITION);
+            verify(container, times(1)).pausePartition(PARTITION);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.jfr;
+
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContext;
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrRecordingService;
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrStatementListener;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecordingServiceUnitTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrRecordingService jfrRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        jfrRecordingService = new JfrRecordingService(directory, "default", Duration.ofMinutes(5),
+            DataSize.ofMegabytes(16), Duration.ZERO, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrRecordingService.stop();
+    }
+
+    @Nested
+    @DisplayName("Recording lifecycle tests")
+    class RecordingLifecycleTests {
+
+        @Test
+        @DisplayName("Given running recording, when dump, then file contains CBMM events tagged with the event id")
+        void givenRunningRecording_whenDump_thenFileContainsCbmmEvents() throws Exception {
+            // Arrange
+            jfrRecordingService.start();
+            PipelineMetricsService pipelineMetricsService = new PipelineMetricsService(new SimpleMeterRegistry());
+            JfrStatementListener statementListener = new JfrStatementListener();
+
+            try (JfrEventContext.Scope ignored = JfrEventContext.bind("EVT-JFR-1")) {
+                pipelineMetricsService.record(Stage.DB_READ, System.nanoTime() - 1_000_000L);
+                new JfrStatementListener.SqlCapture().inspect("select * from cbmm.account where account_number=?");
+                statementListener.jdbcExecuteStatementStart();
+                statementListener.jdbcExecuteStatementEnd();
+            }
+
+            // Act
+            Map<String, Object> response = jfrRecordingService.dump();
+
+            // Assert
+            Path file = Path.of((String) response.get("file"));
+            assertTrue(Files.exists(file));
+            assertEquals("RUNNING", response.get("state"));
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("co.cobre.cbmm."))
+                .toList();
+            RecordedEvent stage = events.stream()
+                .filter(event -> event.getEventType().getName().equals("co.cobre.cbmm.PipelineStage"))
+                .findFirst().orElseThrow();
+            assertEquals("EVT-JFR-1", stage.getString("eventId"));
+            assertEquals("db_read", stage.getString("stage"));
+
+            RecordedEvent statement = events.stream()
+                .filter(event -> event.getEventType().getName().equals("co.cobre.cbmm.DbStatement"))
+                .findFirst().orElseThrow();
+            assertEquals("EVT-JFR-1", statement.getString("eventId"));
+            assertTrue(statement.getString("sql").contains("cbmm.account"));
+        }
+
+        @Test
+        @DisplayName("Given more dumps than max-dumps, when dump, then only the newest ones are kept")
+        void givenMoreDumpsThanLimit_whenDump_thenOldestDeleted() throws Exception {
+            // Arrange
+            jfrRecordingService.start();
+            Path first = Path.of((String) jfrRecordingService.dump().get("file"));
+            Thread.sleep(5);
+            Path second = Path.of((String) jfrRecordingService.dump().get("file"));
+            Thread.sleep(5);
+
+            // Act
+            Path third = Path.of((String) jfrRecordingService.dump().get("file"));
+
+            // Assert
+            assertFalse(Files.exists(first));
+            assertTrue(Files.exists(second));
+            assertTrue(Files.exists(third));
+            try (var files = Files.list(directory)) {
+                assertEquals(2, files.count());
+            }
+        }
+
+        @Test
+        @DisplayName("Given no recording, when dump, then throw IllegalStateException")
+        void givenNoRecording_whenDump_thenThrowIllegalStateException() {
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> jfrRecordingService.dump());
+            assertEquals("CLOSED", jfrRecordingService.status().get("state"));
+        }
+
+        @Test
+        @DisplayName("Given running recording, when stop, then recording is closed")
+        void givenRunningRecording_whenStop_thenRecordingClosed() {
+            // Arrange
+            jfrRecordingService.start();
+
+            // Act
+            Map<String, Object> status = jfrRecordingService.stop();
+
+            // Assert
+            assertEquals("CLOSED", status.get("state"));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.adapters.out.lock.AccountRowLockAdapter;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountRowLockAdapter Unit Tests")
+class AccountRowLockAdapterUnitTest {
+
+    private static final String LOCK_KEY = "account:lock:ACC-2024-001";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AccountRowLockAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Nested
+    @DisplayName("tryLock")
+    class TryLock {
+
+        @Test
+        @DisplayName("Given an active transaction, when the row is locked, then the lock is acquired")
+        void givenActiveTransaction_whenRowLocked_thenAcquired() {
+            // Arrange
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenReturn(true);
+
+            // Act
+            boolean acquired = adapter.tryLock(LOCK_KEY, 5, 10, TimeUnit.SECONDS);
+
+            // Assert
+            assertTrue(acquired);
+            verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+        }
+
+        @Test
+        @DisplayName("Given no account with that number, when locking, then it fails instead of locking nothing")
+        void givenUnknownAccount_whenLocking_thenAccountNotFound() {
+            // Arrange
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenReturn(false);
+
+            // Act & Assert
+            AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
+                () -> adapter.tryLock(LOCK_KEY, 5, 10, TimeUnit.SECONDS));
+            assertTrue(exception.getMessage().contains("ACC-2024-001"));
+        }
+
+        @Test
+        @DisplayName("Given a lock wait timeout, when locking, then the lock is not acquired")
+        void givenLockWaitTimeout_whenLocking_thenNotAcquired() {
+            // Arrange
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+            // Act
+            boolean acquired = adapter.tryLock(LOCK_KEY, 5, 10, TimeUnit.SECONDS);
+
+            // Assert
+            assertFalse(acquired);
+        }
+
+        @Test
+        @DisplayName("Given no transaction, when locking, then it fails instead of locking nothing")
+        void givenNoTransaction_whenLocking_thenThrows() {
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> adapter.tryLock(LOCK_KEY, 5, 10, TimeUnit.SECONDS));
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+
+    @Test
+    @DisplayName("Given a row lock, when unlocking, then nothing is released before the transaction ends")
+    void givenRowLock_whenUnlocking_thenNothingReleased() {
+        // Act & Assert
+        assertFalse(adapter.unlock(LOCK_KEY));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,49 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.adapters.out.lock.InJvmLockAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InJvmLockAdapter Unit Tests")
+class InJvmLockAdapterUnitTest {
+
+    private static final String LOCK_KEY = "account:lock:ACC-2024-001";
+
+    private final InJvmLockAdapter adapter = new InJvmLockAdapter();
+
+    @Test
+    @DisplayName("Given a lock held by the current thread, when locked again, then it is reentrant and needs as many unlocks")
+    void givenHeldByCurrentThread_whenLockedAgain_thenReentrant() throws Exception {
+        // Act
+        assertTrue(adapter.tryLock(LOCK_KEY, 1, 10, TimeUnit.SECONDS));
+        assertTrue(adapter.tryLock(LOCK_KEY, 1, 10, TimeUnit.SECONDS));
+
+        // Assert
+        assertTrue(adapter.unlock(LOCK_KEY));
+        assertFalse(adapter.tryLockAsync(LOCK_KEY, -1L, 0, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+        assertTrue(adapter.unlock(LOCK_KEY));
+        assertFalse(adapter.unlock(LOCK_KEY));
+    }
+
+    @Test
+    @DisplayName("Given an async owner, when waiting and releasing from other threads, then the waiter gets the lock after the release")
+    void givenAsyncOwner_whenReleasedFromAnotherThread_thenWaiterAcquires() throws Exception {
+        // Arrange
+        assertTrue(adapter.tryLockAsync(LOCK_KEY, -1L, 0, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<Boolean> waiter = adapter.tryLockAsync(LOCK_KEY, -2L, 5, 10, TimeUnit.SECONDS);
+        boolean releasedElsewhere = CompletableFuture.supplyAsync(() -> adapter.unlockAsync(LOCK_KEY, -1L).join()).join();
+
+        // Assert
+        assertTrue(releasedElsewhere);
+        assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        assertFalse(adapter.unlock(LOCK_KEY));
+        assertTrue(adapter.unlockAsync(LOCK_KEY, -2L).get());
+    }
+}
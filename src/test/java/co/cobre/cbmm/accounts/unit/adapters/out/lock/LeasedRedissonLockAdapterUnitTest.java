@@ -0,0 +1,179 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.adapters.out.lock.LeasedRedissonLockAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RLock;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LeasedRedissonLockAdapter Unit Tests")
+class LeasedRedissonLockAdapterUnitTest {
+
+    private static final String LOCK_KEY = "account:lock:ACC-2024-001";
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    private final RLock lock = mock(RLock.class);
+    private final RTopic topic = mock(RTopic.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(redissonClient.getTopic(LeasedRedissonLockAdapter.RELEASE_REQUEST_TOPIC)).thenReturn(topic);
+        when(lock.unlockAsync(anyLong())).thenReturn(new CompletableFutureWrapper<>((Void) null));
+    }
+
+    private LeasedRedissonLockAdapter adapter(Duration idleRelease) {
+        LeasedRedissonLockAdapter adapter = new LeasedRedissonLockAdapter(redissonClient, registry, idleRelease,
+            Duration.ofMinutes(1), Duration.ZERO);
+        adapter.start();
+        return adapter;
+    }
+
+    private void redisLockAvailable() {
+        when(lock.tryLockAsync(anyLong(), eq(-1L), any(TimeUnit.class), anyLong()))
+            .thenReturn(new CompletableFutureWrapper<>(true));
+    }
+
+    @Nested
+    @DisplayName("Local grants")
+    class LocalGrants {
+
+        @Test
+        @DisplayName("Given consecutive operations on one account, when locking and unlocking, then Redis is locked once for all of them")
+        void givenConsecutiveOperations_whenLocked_thenOneRedisAcquisition() throws Exception {
+            // Arrange
+            redisLockAvailable();
+            LeasedRedissonLockAdapter adapter = adapter(Duration.ofMinutes(1));
+
+            // Act
+            for (long ownerId = -1; ownerId >= -3; ownerId--) {
+                assertTrue(adapter.tryLockAsync(LOCK_KEY, ownerId, 1, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+                assertTrue(adapter.unlockAsync(LOCK_KEY, ownerId).get());
+            }
+
+            // Assert
+            verify(lock, times(1)).tryLockAsync(anyLong(), eq(-1L), any(TimeUnit.class), anyLong());
+            verify(lock, never()).unlockAsync(anyLong());
+            assertEquals(1, registry.counter("cbmm.accounts.lock.lease.acquisitions.total").count());
+            assertEquals(3, registry.counter("cbmm.accounts.lock.lease.grants.total").count());
+        }
+
+        @Test
+        @DisplayName("Given a local holder, when another caller locks, then it waits until the holder unlocks")
+        void givenLocalHolder_whenAnotherCallerLocks_thenSerialized() throws Exception {
+            // Arrange
+            redisLockAvailable();
+            LeasedRedissonLockAdapter adapter = adapter(Duration.ofMinutes(1));
+            assertTrue(adapter.tryLockAsync(LOCK_KEY, -1L, 1, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+
+            // Act
+            CompletableFuture<Boolean> waiter = adapter.tryLockAsync(LOCK_KEY, -2L, 5, 10, TimeUnit.SECONDS);
+            boolean grantedBeforeRelease = waiter.isDone();
+            adapter.unlockAsync(LOCK_KEY, -1L).get();
+
+            // Assert
+            assertFalse(grantedBeforeRelease);
+            assertTrue(waiter.get(5, TimeUnit.SECONDS));
+            assertFalse(adapter.unlockAsync(LOCK_KEY, -1L).get());
+            assertTrue(adapter.unlockAsync(LOCK_KEY, -2L).get());
+        }
+
+        @Test
+        @DisplayName("Given a local holder, when another caller's wait time elapses, then its lock attempt fails")
+        void givenLocalHolder_whenWaitElapses_thenTimesOut() throws Exception {
+            // Arrange
+            redisLockAvailable();
+            LeasedRedissonLockAdapter adapter = adapter(Duration.ofMinutes(1));
+            assertTrue(adapter.tryLock(LOCK_KEY, 1, 10, TimeUnit.SECONDS));
+
+            // Act
+            CompletableFuture<Boolean> waiter = adapter.tryLockAsync(LOCK_KEY, -2L, 50, 10, TimeUnit.MILLISECONDS);
+
+            // Assert
+            assertFalse(waiter.get(5, TimeUnit.SECONDS));
+            assertTrue(adapter.unlock(LOCK_KEY));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lease release")
+    class LeaseRelease {
+
+        @Test
+        @DisplayName("Given an idle lease, when the idle time elapses, then the Redis lock is released")
+        void givenIdleLease_whenIdleTimeElapses_thenReleased() throws Exception {
+            // Arrange
+            redisLockAvailable();
+            LeasedRedissonLockAdapter adapter = adapter(Duration.ofMillis(20));
+
+            // Act
+            assertTrue(adapter.tryLockAsync(LOCK_KEY, -1L, 1, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+            adapter.unlockAsync(LOCK_KEY, -1L).get();
+
+            // Assert
+            verify(lock, timeout(5000)).unlockAsync(anyLong());
+            assertEquals(1, registry.counter("cbmm.accounts.lock.lease.releases.total", "reason", "idle").count());
+        }
+
+        @Test
+        @DisplayName("Given another node requests the lock, when the local holder unlocks, then the lease is released")
+        void givenReleaseRequest_whenHolderUnlocks_thenReleased() throws Exception {
+            // Arrange
+            redisLockAvailable();
+            LeasedRedissonLockAdapter adapter = adapter(Duration.ofMinutes(1));
+            MessageListener<String> listener = releaseRequestListener();
+            assertTrue(adapter.tryLockAsync(LOCK_KEY, -1L, 1, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+
+            // Act
+            listener.onMessage(LeasedRedissonLockAdapter.RELEASE_REQUEST_TOPIC, "other-node " + LOCK_KEY);
+            verify(lock, never()).unlockAsync(anyLong());
+            adapter.unlockAsync(LOCK_KEY, -1L).get();
+
+            // Assert
+            verify(lock, timeout(5000)).unlockAsync(anyLong());
+            assertEquals(1, registry.counter("cbmm.accounts.lock.lease.releases.total", "reason", "contention").count());
+        }
+
+        @Test
+        @DisplayName("Given the lock is leased by another node, when locking, then a release request is published and the lock is awaited")
+        void givenLeasedElsewhere_whenLocking_thenRequestsRelease() throws Exception {
+            // Arrange
+            when(lock.tryLockAsync(eq(0L), eq(-1L), any(TimeUnit.class), anyLong()))
+                .thenReturn(new CompletableFutureWrapper<>(false));
+            when(lock.tryLockAsync(longThat(wait -> wait > 0), eq(-1L), any(TimeUnit.class), anyLong()))
+                .thenReturn(new CompletableFutureWrapper<>(true));
+            when(topic.publishAsync(any())).thenReturn(new CompletableFutureWrapper<>(1L));
+            LeasedRedissonLockAdapter adapter = adapter(Duration.ofMinutes(1));
+
+            // Act
+            boolean acquired = adapter.tryLockAsync(LOCK_KEY, -1L, 1, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertTrue(acquired);
+            verify(topic).publishAsync(argThat(message -> message.toString().endsWith(" " + LOCK_KEY)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageListener<String> releaseRequestListener() {
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+        return listener.getValue();
+    }
+}
@@ -0,0 +1,67 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.lock;
+
+import co.cobre.cbmm.accounts.adapters.out.lock.PostgresAdvisoryLockAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresAdvisoryLockAdapter Unit Tests")
+class PostgresAdvisoryLockAdapterUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @InjectMocks
+    private PostgresAdvisoryLockAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Given an account lock key, when locking, then a transaction-level advisory lock on the account number is taken within the wait time")
+    void givenAccountLockKey_whenLocking_thenAdvisoryXactLockOnAccountNumber() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class))).thenReturn(true);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+
+        // Act
+        boolean acquired = adapter.tryLock("account:lock:ACC-2024-001", 2500, 10000, TimeUnit.MILLISECONDS);
+
+        // Assert
+        assertTrue(acquired);
+        verify(jdbcTemplate).query(creator.capture(), any(ResultSetExtractor.class));
+        creator.getValue().createPreparedStatement(connection);
+        verify(connection).prepareStatement("SELECT pg_advisory_xact_lock(hashtext(?))");
+        verify(statement).setString(1, "ACC-2024-001");
+        verify(statement).setQueryTimeout(3);
+    }
+}
@@ -0,0 +1,76 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import co.cobre.cbmm.accounts.adapters.out.logging.SuccessPathSamplingFilter;
+import co.cobre.cbmm.accounts.application.logging.LogMarkers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuccessPathSamplingFilterUnitTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private SuccessPathSamplingFilter filter;
+    private Logger hotPathLogger;
+    private Logger otherLogger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SuccessPathSamplingFilter();
+        filter.setLoggers(" co.cobre.cbmm.accounts.application.usecase,\n co.cobre.cbmm.accounts.adapters.out.persistence ");
+        filter.setRate(0.0);
+        hotPathLogger = loggerContext.getLogger("co.cobre.cbmm.accounts.application.usecase.ProcessCBMMEventUseCase");
+        otherLogger = loggerContext.getLogger("co.cobre.cbmm.accounts.adapters.in.rest.AccountController");
+    }
+
+    @Nested
+    @DisplayName("Sampling decision tests")
+    class SamplingDecisionTests {
+
+        @Test
+        @DisplayName("Given rate zero, when INFO on a sampled logger, then deny")
+        void givenRateZero_whenInfoOnSampledLogger_thenDeny() {
+            // Act
+            FilterReply reply = filter.decide(null, hotPathLogger, Level.INFO, "CBMM event processed", null, null);
+
+            // Assert
+            assertEquals(FilterReply.DENY, reply);
+        }
+
+        @Test
+        @DisplayName("Given rate zero, when WARN, throwable, ALWAYS marker or other logger, then keep")
+        void givenRateZero_whenWarnThrowableAlwaysOrOtherLogger_thenKeep() {
+            // Act & Assert
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, hotPathLogger, Level.WARN, "slow", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, hotPathLogger, Level.INFO, "failed", null,
+                new IllegalStateException("boom")));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(LogMarkers.ALWAYS, hotPathLogger, Level.INFO, "rejected", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, otherLogger, Level.INFO, "request", null, null));
+        }
+
+        @Test
+        @DisplayName("Given rate 0.25, when many INFO lines, then keep roughly a quarter")
+        void givenPartialRate_whenManyInfoLines_thenKeepRoughlyThatFraction() {
+            // Arrange
+            filter.setRate(0.25);
+            int total = 20_000;
+
+            // Act
+            int kept = 0;
+            for (int i = 0; i < total; i++) {
+                if (filter.decide(null, hotPathLogger, Level.INFO, "line", null, null) == FilterReply.NEUTRAL) {
+                    kept++;
+                }
+            }
+
+            // Assert
+            assertEquals(0.25, (double) kept / total, 0.02);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.metrics;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService.AccountLockStats;
+import co.cobre.cbmm.accounts.adapters.out.metrics.SpaceSavingTopK;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockContentionMetricsServiceUnitTest {
+
+    private LockContentionMetricsService lockContentionMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        lockContentionMetricsService = new LockContentionMetricsService(3);
+    }
+
+    @Nested
+    @DisplayName("Contention tracking tests")
+    class ContentionTrackingTests {
+
+        @Test
+        @DisplayName("Given waits, holds and timeouts, when hottestAccounts, then report per-account stats")
+        void givenWaitsHoldsAndTimeouts_whenHottestAccounts_thenReportPerAccountStats() {
+            // Arrange
+            for (int i = 0; i < 99; i++) {
+                lockContentionMetricsService.recordWait("ACC-HOT", TimeUnit.MILLISECONDS.toNanos(1), true);
+                lockContentionMetricsService.recordHold("ACC-HOT", TimeUnit.MILLISECONDS.toNanos(4));
+            }
+            lockContentionMetricsService.recordWait("ACC-HOT", TimeUnit.SECONDS.toNanos(5), false);
+            lockContentionMetricsService.recordWait("ACC-COLD", TimeUnit.MILLISECONDS.toNanos(1), true);
+
+            // Act
+            List<SpaceSavingTopK.Entry<String, AccountLockStats>> hottest = lockContentionMetricsService.hottestAccounts(10);
+
+            // Assert
+            assertEquals(2, hottest.size());
+            assertEquals("ACC-HOT", hottest.get(0).key());
+            assertEquals(100, hottest.get(0).count());
+
+            AccountLockStats stats = hottest.get(0).value();
+            assertEquals(1, stats.getTimeouts());
+            assertTrue(stats.waitPercentileMillis(0.5) >= 1.0 && stats.waitPercentileMillis(0.5) <= 1.25);
+            assertTrue(stats.waitPercentileMillis(0.99) <= 1.25);
+            assertEquals(5_000.0, stats.maxWaitMillis());
+            assertEquals(5_000.0, stats.waitPercentileMillis(1.0));
+            assertTrue(stats.holdPercentileMillis(0.99) >= 4.0 && stats.holdPercentileMillis(0.99) <= 5.0);
+            assertEquals(101, lockContentionMetricsService.getTotalLockAttempts());
+        }
+
+        @Test
+        @DisplayName("Given more accounts than capacity, when record, then tracked accounts stay bounded")
+        void givenMoreAccountsThanCapacity_whenRecord_thenTrackedAccountsStayBounded() {
+            // Act
+            for (int i = 0; i < 1_000; i++) {
+                lockContentionMetricsService.recordWait("ACC-" + i, 1_000L, true);
+            }
+            lockContentionMetricsService.recordHold("ACC-0", 1_000L);
+
+            // Assert
+            assertEquals(3, lockContentionMetricsService.hottestAccounts(100).size());
+            assertEquals(3, lockContentionMetricsService.getTrackedCapacity());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.metrics;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.PinningAggregator;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PinningAggregator.PinningSite;
+import co.cobre.cbmm.accounts.adapters.out.metrics.SpaceSavingTopK;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PinningAggregatorUnitTest {
+
+    private static final List<String> REDIS_STACK = List.of(
+        "java.lang.VirtualThread.parkOnCarrierThread:675",
+        "java.util.concurrent.locks.LockSupport.park:219",
+        "org.redisson.RedissonLock.tryLock:220",
+        "co.cobre.cbmm.accounts.domain.service.DistributedLockService.executeWithLock:52");
+
+    /** Eight JDK frames of a virtual thread parked on a Semaphore while pinned */
+    private static final List<String> SEMAPHORE_PARK = List.of(
+        "java.lang.VirtualThread.parkOnCarrierThread:675",
+        "java.lang.VirtualThread.park:582",
+        "java.lang.System$2.parkVirtualThread:2643",
+        "jdk.internal.misc.VirtualThreads.park:54",
+        "java.util.concurrent.locks.LockSupport.park:219",
+        "java.util.concurrent.locks.AbstractQueuedSynchronizer.acquire:754",
+        "java.util.concurrent.locks.AbstractQueuedSynchronizer.acquireSharedInterruptibly:1079",
+        "java.util.concurrent.Semaphore.acquire:318");
+
+    private SimpleMeterRegistry meterRegistry;
+    private PinningAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new PinningAggregator(10, 5, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Given pinned events with same stack, when record, then aggregate into one site labelled by first non-JDK frame")
+    void givenPinnedEventsWithSameStack_whenRecord_thenAggregateIntoOneSite() {
+        // Act
+        aggregator.record(REDIS_STACK, Duration.ofMillis(30));
+        aggregator.record(REDIS_STACK, Duration.ofMillis(50));
+        aggregator.record(List.of("java.lang.Object.wait0:-1", "org.postgresql.core.v3.QueryExecutorImpl.execute:350"),
+            Duration.ofMillis(5));
+
+        // Assert
+        List<SpaceSavingTopK.Entry<String, PinningSite>> sites = aggregator.topSites(10);
+        assertEquals(2, sites.size());
+        PinningSite redis = sites.get(0).value();
+        assertEquals("org.redisson.RedissonLock.tryLock:220", redis.getLabel());
+        assertEquals(2, redis.getCount());
+        assertEquals(80.0, redis.getTotalMillis());
+        assertEquals(50.0, redis.getMaxMillis());
+        assertEquals(REDIS_STACK, redis.getFrames());
+
+        assertEquals(3, aggregator.getTotalPinnedEvents());
+        assertEquals(2, meterRegistry.get(PinningAggregator.TIMER_NAME)
+            .tag("site", "org.redisson.RedissonLock.tryLock:220").timer().count());
+    }
+
+    @Test
+    @DisplayName("Given stacks deeper in the JDK than a site, when record, then application sites stay apart and are labelled by their own frame")
+    void givenDeepJdkStacks_whenRecord_thenApplicationSitesStayApart() {
+        // Arrange
+        List<String> ledger = new ArrayList<>(SEMAPHORE_PARK);
+        ledger.add("co.cobre.cbmm.accounts.application.service.Ledger.append:42");
+        List<String> snapshot = new ArrayList<>(SEMAPHORE_PARK);
+        snapshot.add("co.cobre.cbmm.accounts.application.service.Snapshots.take:17");
+
+        // Act
+        aggregator.record(ledger, Duration.ofMillis(10));
+        aggregator.record(snapshot, Duration.ofMillis(20));
+
+        // Assert
+        List<SpaceSavingTopK.Entry<String, PinningSite>> sites = aggregator.topSites(10);
+        assertEquals(2, sites.size());
+        assertEquals(Set.of("co.cobre.cbmm.accounts.application.service.Ledger.append:42",
+                "co.cobre.cbmm.accounts.application.service.Snapshots.take:17"),
+            sites.stream().map(entry -> entry.value().getLabel()).collect(Collectors.toSet()));
+        sites.forEach(entry -> assertTrue(entry.value().getFrames().contains(entry.value().getLabel())));
+        assertEquals(ledger, sites.stream().map(entry -> entry.value())
+            .filter(site -> site.getLabel().contains("Ledger")).findFirst().orElseThrow().getFrames());
+    }
+}
@@ -0,0 +1,123 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.metrics;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort.Stage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineMetricsServiceUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PipelineMetricsService pipelineMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipelineMetricsService = new PipelineMetricsService(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Stage timer tests")
+    class StageTimerTests {
+
+        @Test
+        @DisplayName("Given new service, when created, then every stage timer is pre-registered")
+        void givenNewService_whenCreated_thenEveryStageTimerPreRegistered() {
+            // Assert
+            assertEquals(Stage.values().length,
+                meterRegistry.get("cbmm.accounts.pipeline.stage.duration").timers().size());
+            for (Stage stage : Stage.values()) {
+                assertNotNull(meterRegistry.get("cbmm.accounts.pipeline.stage.duration")
+                    .tag("stage", stage.getTagValue()).timer());
+            }
+        }
+
+        @Test
+        @DisplayName("Given stage start time, when record, then stage timer records elapsed time")
+        void givenStageStartTime_whenRecord_thenStageTimerRecordsElapsedTime() {
+            // Arrange
+            long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5);
+
+            // Act
+            pipelineMetricsService.record(Stage.LOCK_WAIT, start);
+
+            // Assert
+            Timer timer = pipelineMetricsService.getTimer(Stage.LOCK_WAIT);
+            assertEquals(1, timer.count());
+            assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 5);
+            assertEquals(0, pipelineMetricsService.getTimer(Stage.LOCK_HOLD).count());
+        }
+
+        @Test
+        @DisplayName("Given microsecond stage, when record, then it lands in a histogram bucket below 1ms")
+        void givenMicrosecondStage_whenRecord_thenLandsInBucketBelowOneMillisecond() {
+            // Arrange
+            long start = System.nanoTime() - TimeUnit.MICROSECONDS.toNanos(20);
+
+            // Act
+            pipelineMetricsService.record(Stage.JSON_PARSE, start);
+
+            // Assert
+            CountAtBucket firstFilled = Arrays.stream(pipelineMetricsService.getTimer(Stage.JSON_PARSE)
+                    .takeSnapshot().histogramCounts())
+                .filter(bucket -> bucket.count() > 0)
+                .findFirst()
+                .orElseThrow();
+            assertTrue(firstFilled.bucket(TimeUnit.MICROSECONDS) < 1_000,
+                "bucket upper bound was " + firstFilled.bucket(TimeUnit.MICROSECONDS) + "us");
+        }
+    }
+
+    @Nested
+    @DisplayName("Commit timing tests")
+    class CommitTimingTests {
+
+        @Test
+        @DisplayName("Given active transaction, when transaction commits, then commit stage is recorded")
+        void givenActiveTransaction_whenTransactionCommits_thenCommitStageRecorded() {
+            // Arrange
+            TransactionSynchronizationManager.initSynchronization();
+
+            // Act
+            pipelineMetricsService.recordCommitOfCurrentTransaction();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.beforeCommit(false);
+                synchronization.afterCommit();
+            }
+
+            // Assert
+            assertEquals(1, pipelineMetricsService.getTimer(Stage.COMMIT).count());
+        }
+
+        @Test
+        @DisplayName("Given no transaction, when recordCommitOfCurrentTransaction, then nothing is registered")
+        void givenNoTransaction_whenRecordCommitOfCurrentTransaction_thenNothingRegistered() {
+            // Act
+            pipelineMetricsService.recordCommitOfCurrentTransaction();
+
+            // Assert
+            assertFalse(TransactionSynchronizationManager.isSynchronizationActive());
+            assertEquals(0, pipelineMetricsService.getTimer(Stage.COMMIT).count());
+        }
+    }
+}
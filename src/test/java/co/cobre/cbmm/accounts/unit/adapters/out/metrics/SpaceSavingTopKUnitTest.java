@@ -0,0 +1,99 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.metrics;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.SpaceSavingTopK;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceSavingTopKUnitTest {
+
+    @Nested
+    @DisplayName("Heavy hitter tests")
+    class HeavyHitterTests {
+
+        @Test
+        @DisplayName("Given skewed stream with many rare keys, when offer, then heavy hitters stay tracked")
+        void givenSkewedStream_whenOffer_thenHeavyHittersStayTracked() {
+            // Arrange
+            SpaceSavingTopK<String, Object> topK = new SpaceSavingTopK<>(10, Object::new);
+
+            // Act
+            for (int i = 0; i < 1_000; i++) {
+                topK.offer("hot-1");
+                if (i % 2 == 0) {
+                    topK.offer("hot-2");
+                }
+                topK.offer("rare-" + i);
+            }
+
+            // Assert
+            List<SpaceSavingTopK.Entry<String, Object>> top = topK.top(2);
+            assertEquals("hot-1", top.get(0).key());
+            assertEquals("hot-2", top.get(1).key());
+            assertTrue(top.get(0).count() >= 1_000);
+            assertTrue(top.get(0).count() - top.get(0).error() <= 1_000);
+            assertEquals(2_500, topK.getTotal());
+        }
+
+        @Test
+        @DisplayName("Given full tracker, when new key offered, then minimum key is evicted and its count inherited")
+        void givenFullTracker_whenNewKeyOffered_thenMinimumEvictedAndCountInherited() {
+            // Arrange
+            AtomicInteger created = new AtomicInteger();
+            SpaceSavingTopK<String, Integer> topK = new SpaceSavingTopK<>(2, created::incrementAndGet);
+            topK.offer("a");
+            topK.offer("a");
+            topK.offer("b");
+
+            // Act
+            Integer value = topK.offer("c");
+
+            // Assert
+            assertFalse(topK.contains("b"));
+            assertNull(topK.peek("b"));
+            assertEquals(3, value);
+            SpaceSavingTopK.Entry<String, Integer> entry = topK.top(2).get(1);
+            assertEquals("c", entry.key());
+            assertEquals(2, entry.count());
+            assertEquals(1, entry.error());
+        }
+
+        @Test
+        @DisplayName("Given many evictions, when top, then counts stay ordered and add up to the total")
+        void givenManyEvictions_whenTop_thenCountsStayOrderedAndAddUpToTotal() {
+            // Arrange
+            SpaceSavingTopK<String, Object> topK = new SpaceSavingTopK<>(8, Object::new);
+
+            // Act
+            for (int i = 0; i < 5_000; i++) {
+                topK.offer("key-" + (i * 7919 % 37));
+            }
+
+            // Assert
+            List<SpaceSavingTopK.Entry<String, Object>> top = topK.top(Integer.MAX_VALUE);
+            assertEquals(8, top.size());
+            long sum = 0;
+            for (int i = 0; i < top.size(); i++) {
+                if (i > 0) {
+                    assertTrue(top.get(i - 1).count() >= top.get(i).count());
+                }
+                assertTrue(top.get(i).error() < top.get(i).count());
+                assertTrue(topK.contains(top.get(i).key()));
+                sum += top.get(i).count();
+            }
+            assertEquals(topK.getTotal(), sum);
+        }
+
+        @Test
+        @DisplayName("Given zero capacity, when create tracker, then throw IllegalArgumentException")
+        void givenZeroCapacity_whenCreateTracker_thenThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> new SpaceSavingTopK<>(0, Object::new));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.metrics;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.TagCardinalityLimiter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.TagCardinalityLimiter.DimensionSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagCardinalityLimiterUnitTest {
+
+    private static final String METRIC = "cbmm.accounts.lock.failures.total";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TagCardinalityLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new TagCardinalityLimiter(3, 5, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Cardinality limit tests")
+    class CardinalityLimitTests {
+
+        @Test
+        @DisplayName("Given values under the cap, when limit, then keep values as-is")
+        void givenValuesUnderCap_whenLimit_thenKeepValues() {
+            // Act & Assert
+            assertEquals("account:lock:1", limiter.limit(METRIC, "lock.key", "account:lock:1"));
+            assertEquals("account:lock:2", limiter.limit(METRIC, "lock.key", "account:lock:2"));
+            assertEquals("account:lock:1", limiter.limit(METRIC, "lock.key", "account:lock:1"));
+            assertEquals("timeout", limiter.limit(METRIC, "reason", "timeout"));
+        }
+
+        @Test
+        @DisplayName("Given cap reached, when limit new value, then fold into other, count overflow and sketch value")
+        void givenCapReached_whenLimitNewValue_thenFoldIntoOther() {
+            // Arrange
+            for (int i = 0; i < 3; i++) {
+                limiter.limit(METRIC, "lock.key", "account:lock:" + i);
+            }
+
+            // Act
+            String hot = null;
+            for (int i = 0; i < 10; i++) {
+                hot = limiter.limit(METRIC, "lock.key", "account:lock:hot");
+            }
+            String cold = limiter.limit(METRIC, "lock.key", "account:lock:cold");
+
+            // Assert
+            assertEquals(TagCardinalityLimiter.OTHER, hot);
+            assertEquals(TagCardinalityLimiter.OTHER, cold);
+            assertEquals("account:lock:0", limiter.limit(METRIC, "lock.key", "account:lock:0"));
+            assertEquals(11.0, meterRegistry.get("cbmm.accounts.metrics.cardinality.overflow")
+                .tag("metric", METRIC).tag("tag", "lock.key").counter().count());
+
+            DimensionSnapshot snapshot = limiter.snapshot(1).get(0);
+            assertTrue(snapshot.overflowed());
+            assertEquals(3, snapshot.distinctValues());
+            assertEquals(11, snapshot.sketchedTotal());
+            assertEquals("account:lock:hot", snapshot.heavyHitters().get(0).key());
+            assertEquals(10, snapshot.heavyHitters().get(0).count());
+        }
+
+        @Test
+        @DisplayName("Given observed identifiers, when observe, then only the sketch is updated")
+        void givenObservedIdentifiers_whenObserve_thenOnlySketchUpdated() {
+            // Act
+            limiter.observe("cbmm.accounts.errors.total", "account.number", "ACC-1");
+            limiter.observe("cbmm.accounts.errors.total", "account.number", "ACC-1");
+            limiter.observe("cbmm.accounts.errors.total", "account.number", null);
+
+            // Assert
+            DimensionSnapshot snapshot = limiter.snapshot(5).get(0);
+            assertFalse(snapshot.overflowed());
+            assertEquals(0, snapshot.distinctValues());
+            assertEquals(2, snapshot.heavyHitters().get(0).count());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package co.cobre.cbmm.accounts.unit.adapters.out.metrics.jdbc;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.jdbc.ProfilingJdbcProxies;
+import co.cobre.cbmm.accounts.adapters.out.metrics.jdbc.QueryProfiler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilingJdbcProxiesUnitTest {
+
+    private static final String SELECT_SQL = "select * from cbmm.account where account_number=?";
+    private static final String UPDATE_SQL = "update cbmm.account set balance=? where account_id=?";
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement select;
+
+    @Mock
+    private PreparedStatement update;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private Connection profiled;
+
+    @BeforeEach
+    void setUp() {
+        profiled = ProfilingJdbcProxies.connection(connection);
+    }
+
+    @Nested
+    @DisplayName("Statement profiling tests")
+    class StatementProfilingTests {
+
+        @Test
+        @DisplayName("Given active scope, when statements execute, then count statements, rows and SQL")
+        void givenActiveScope_whenStatementsExecute_thenCountStatementsRowsAndSql() throws SQLException {
+            // Arrange
+            when(connection.prepareStatement(SELECT_SQL)).thenReturn(select);
+            when(connection.prepareStatement(UPDATE_SQL)).thenReturn(update);
+            when(select.executeQuery()).thenReturn(resultSet);
+            when(resultSet.next()).thenReturn(true, true, false);
+            when(update.executeUpdate()).thenReturn(1);
+
+            // Act
+            QueryProfiler.Scope scope;
+            try (QueryProfiler.Scope opened = QueryProfiler.open("processCBMMEvent")) {
+                ResultSet rows = profiled.prepareStatement(SELECT_SQL).executeQuery();
+                while (rows.next()) {
+                    // read all rows
+                }
+                profiled.prepareStatement(UPDATE_SQL).executeUpdate();
+                scope = opened;
+            }
+
+            // Assert
+            assertEquals(2, scope.getStatements());
+            assertEquals(3, scope.getRows());
+            assertEquals(List.of(SELECT_SQL, UPDATE_SQL), scope.getCapturedSql());
+        }
+
+        @Test
+        @DisplayName("Given nested scopes and propagated virtual thread work, when statements execute, then parent and child both count them")
+        void givenNestedScopes_whenStatementsExecute_thenParentAndChildCount() throws Exception {
+            // Arrange
+            when(connection.prepareStatement(UPDATE_SQL)).thenReturn(update);
+            when(update.executeUpdate()).thenReturn(1);
+
+            // Act
+            QueryProfiler.Scope parent = QueryProfiler.open("KafkaEventConsumer.consumeCBMMEvent");
+            QueryProfiler.Scope child = QueryProfiler.open("ProcessCBMMEventUseCase.processCBMMEvent");
+            Supplier<Integer> work = QueryProfiler.propagate(() -> {
+                try {
+                    return profiled.prepareStatement(UPDATE_SQL).executeUpdate();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                executor.submit(work::get).get();
+                // Not propagated: a thread started inside the scope does not inherit it
+                executor.submit(() -> profiled.prepareStatement(UPDATE_SQL).executeUpdate()).get();
+            }
+            child.close();
+            profiled.prepareStatement(UPDATE_SQL).executeUpdate();
+            parent.close();
+            profiled.prepareStatement(UPDATE_SQL).executeUpdate();
+
+            // Assert
+            assertEquals(1, child.getStatements());
+            assertEquals(2, parent.getStatements());
+            assertEquals(2, parent.getRows());
+        }
+
+        @Test
+        @DisplayName("Given no scope, when statement executes, then delegate without recording")
+        void givenNoScope_whenStatementExecutes_thenDelegateWithoutRecording() throws SQLException {
+            // Arrange
+            when(connection.prepareStatement(UPDATE_SQL)).thenReturn(update);
+            when(update.executeUpdate()).thenReturn(4);
+
+            // Act
+            int updated = profiled.prepareStatement(UPDATE_SQL).executeUpdate();
+
+            // Assert
+            assertEquals(4, updated);
+            verify(update).executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package co.cobre.cbmm.accounts.unit.application.service;
+
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.application.service.AccountBalanceUpdateService;
+import co.cobre.cbmm.accounts.domain.model.Account;
+import co.cobre.cbmm.accounts.domain.model.AccountStatus;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.domain.model.Transaction;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import co.cobre.cbmm.accounts.ports.out.AccountRepositoryPort;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventLegRepositoryPort;
+import co.cobre.cbmm.accounts.ports.out.CBMMEventLegRepositoryPort.Leg;
+import co.cobre.cbmm.accounts.ports.out.EventContextPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceUpdateServiceUnitTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepository;
+
+    @Mock
+    private TransactionRepositoryPort transactionRepository;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Mock
+    private ErrorMetricsService errorMetricsService;
+
+    @Mock
+    private PipelineTimingPort pipelineTimingPort;
+
+    @Mock
+    private EventContextPort eventContextPort;
+
+    @Mock
+    private CBMMEventLegRepositoryPort eventLegRepository;
+
+    @InjectMocks
+    private AccountBalanceUpdateService accountBalanceUpdateService;
+
+    private CBMMEventDTO event;
+    private Account origin;
+    private Account destination;
+
+    @BeforeEach
+    void setUp() {
+        event = new CBMMEventDTO(
+            "cbmm_20250101_000001",
+            "cross_border_money_movement",
+            ZonedDateTime.now(),
+            new CBMMEventDTO.AccountOperationDTO("ACC-ORIGIN-001", "USD", new BigDecimal("100.00")),
+            new CBMMEventDTO.AccountOperationDTO("ACC-DEST-001", "USD", new BigDecimal("100.00"))
+        );
+        origin = account("ACC-ORIGIN-001");
+        destination = account("ACC-DEST-001");
+        when(distributedLockService.executeWithLock(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    private static Account account(String accountNumber) {
+        return new Account(UUID.randomUUID(), accountNumber, Currency.USD, new BigDecimal("500.00"),
+            AccountStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now(), 0);
+    }
+
+    @Nested
+    @DisplayName("Leg tracking tests")
+    class LegTrackingTests {
+
+        @Test
+        @DisplayName("Given origin leg not applied, when debitOrigin, then debit and record the leg in the same transaction")
+        void givenOriginLegNotApplied_whenDebitOrigin_thenDebitAndRecordLeg() {
+            // Arrange
+            when(accountRepository.findByAccountNumber("ACC-ORIGIN-001")).thenReturn(Optional.of(origin));
+            when(eventLegRepository.isApplied(event.eventId(), Leg.ORIGIN)).thenReturn(false);
+
+            // Act
+            UUID accountId = accountBalanceUpdateService.debitOrigin(event);
+
+            // Assert
+            assertEquals(origin.accountId(), accountId);
+            verify(accountRepository).save(argThat(account -> account.balance().compareTo(new BigDecimal("400.00")) == 0));
+            verify(transactionRepository).save(any(Transaction.class));
+            verify(eventLegRepository).markApplied(event.eventId(), Leg.ORIGIN);
+        }
+
+        @Test
+        @DisplayName("Given origin leg already applied, when debitOrigin, then the account is not debited again")
+        void givenOriginLegApplied_whenDebitOrigin_thenNotDebitedAgain() {
+            // Arrange
+            when(accountRepository.findByAccountNumber("ACC-ORIGIN-001")).thenReturn(Optional.of(origin));
+            when(eventLegRepository.isApplied(event.eventId(), Leg.ORIGIN)).thenReturn(true);
+
+            // Act
+            UUID accountId = accountBalanceUpdateService.debitOrigin(event);
+
+            // Assert
+            assertEquals(origin.accountId(), accountId);
+            verify(accountRepository, never()).save(any());
+            verify(transactionRepository, never()).save(any());
+            verify(eventLegRepository, never()).markApplied(any(), any());
+        }
+
+        @Test
+        @DisplayName("Given destination leg already applied, when creditDestination, then the account is not credited again")
+        void givenDestinationLegApplied_whenCreditDestination_thenNotCreditedAgain() {
+            // Arrange
+            when(accountRepository.findByAccountNumber("ACC-DEST-001")).thenReturn(Optional.of(destination));
+            when(eventLegRepository.isApplied(event.eventId(), Leg.DESTINATION)).thenReturn(true);
+
+            // Act
+            UUID accountId = accountBalanceUpdateService.creditDestination(event);
+
+            // Assert
+            assertEquals(destination.accountId(), accountId);
+            verify(accountRepository, never()).save(any());
+            verify(transactionRepository, never()).save(any());
+            verify(eventLegRepository, never()).markApplied(any(), any());
+        }
+    }
+}
+
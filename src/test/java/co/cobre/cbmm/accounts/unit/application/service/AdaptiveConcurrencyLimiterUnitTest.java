@@ -0,0 +1,186 @@
+package co.cobre.cbmm.accounts.unit.application.service;
+
+import co.cobre.cbmm.accounts.application.service.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter("test",
+            new AdaptiveConcurrencyLimiter.Settings(4, 1, 10, 0.5, 2.0, Duration.ofMillis(50)),
+            meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Limit adjustment tests")
+    class LimitAdjustmentTests {
+
+        @Test
+        @DisplayName("Given utilized limit, when calls succeed, then limit increases additively up to max")
+        void givenUtilizedLimit_whenCallsSucceed_thenLimitIncreasesUpToMax() {
+            // Act - fill the limit with calls at a stable 1ms latency, then complete them
+            for (int round = 0; round < 10; round++) {
+                int concurrency = limiter.getLimit();
+                for (int i = 0; i < concurrency; i++) {
+                    limiter.acquire();
+                }
+                for (int i = 0; i < concurrency; i++) {
+                    limiter.release(System.nanoTime() - 1_000_000L, false);
+                }
+            }
+
+            // Assert
+            assertEquals(10, limiter.getLimit());
+            assertEquals(10.0, meterRegistry.get("cbmm.accounts.concurrency.limit").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Given low utilization, when calls succeed, then limit does not grow")
+        void givenLowUtilization_whenCallsSucceed_thenLimitDoesNotGrow() {
+            // Act
+            for (int i = 0; i < 20; i++) {
+                limiter.acquire();
+                limiter.release(System.nanoTime() - 1_000_000L, false);
+            }
+
+            // Assert
+            assertEquals(4, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Given dropped call, when release, then limit decreases multiplicatively down to min")
+        void givenDroppedCall_whenRelease_thenLimitDecreasesDownToMin() {
+            // Act
+            limiter.release(limiter.acquire(), true);
+            int afterOneDrop = limiter.getLimit();
+            for (int i = 0; i < 5; i++) {
+                limiter.release(limiter.acquire(), true);
+            }
+
+            // Assert
+            assertEquals(2, afterOneDrop);
+            assertEquals(1, limiter.getLimit());
+            assertEquals(6.0, meterRegistry.get("cbmm.accounts.concurrency.dropped.total").counter().count());
+        }
+
+        @Test
+        @DisplayName("Given latency above tolerance of baseline, when release, then limit decreases")
+        void givenLatencyAboveTolerance_whenRelease_thenLimitDecreases() {
+            // Arrange - establish a 1ms baseline
+            long now = System.nanoTime();
+            limiter.acquire();
+            limiter.release(now - 1_000_000L, false);
+
+            // Act - a 10ms call
+            limiter.acquire();
+            limiter.release(System.nanoTime() - 10_000_000L, false);
+
+            // Assert
+            assertEquals(2, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Given slow call that waited for account locks, when release with its lock wait, then limit is kept")
+        void givenSlowCallWaitingForLocks_whenReleaseWithLockWait_thenLimitKept() {
+            // Arrange - establish a 1ms baseline
+            limiter.acquire();
+            limiter.release(System.nanoTime() - 1_000_000L, false);
+
+            // Act - a 500ms call, all but ~1ms of it waiting for a hot account lock
+            limiter.acquire();
+            limiter.release(System.nanoTime() - 500_000_000L, 499_000_000L, false);
+
+            // Assert
+            assertEquals(4, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Given calls started before a decrease, when they are released slow or dropped, then limit decreases only once")
+        void givenCallsStartedBeforeDecrease_whenReleasedSlowOrDropped_thenLimitDecreasesOnce() {
+            // Arrange - establish a 1ms baseline, then start three calls together
+            limiter.acquire();
+            limiter.release(System.nanoTime() - 1_000_000L, false);
+            long start = System.nanoTime() - 10_000_000L;
+            for (int i = 0; i < 3; i++) {
+                limiter.acquire();
+            }
+
+            // Act - all three end slow or dropped within the same latency window
+            limiter.release(start, false);
+            limiter.release(start, true);
+            limiter.release(start, false);
+            int afterWindow = limiter.getLimit();
+            limiter.release(limiter.acquire(), true);
+
+            // Assert - a call started after the decrease can decrease again
+            assertEquals(2, afterWindow);
+            assertEquals(1, limiter.getLimit());
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission tests")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Given saturated limit, when acquire, then reject after max wait")
+        void givenSaturatedLimit_whenAcquire_thenRejectAfterMaxWait() {
+            // Arrange
+            for (int i = 0; i < 4; i++) {
+                limiter.acquire();
+            }
+
+            // Act & Assert
+            assertThrows(RejectedExecutionException.class, limiter::acquire);
+            assertEquals(4, limiter.getInFlight());
+            assertEquals(1.0, meterRegistry.get("cbmm.accounts.concurrency.rejected.total").counter().count());
+        }
+
+        @Test
+        @DisplayName("Given saturation changes, when acquire and release, then listeners are notified")
+        void givenSaturationChanges_whenAcquireAndRelease_thenListenersNotified() {
+            // Arrange
+            List<Boolean> notifications = new ArrayList<>();
+            limiter.addSaturationListener(notifications::add);
+            List<Long> starts = new ArrayList<>();
+
+            // Act
+            for (int i = 0; i < 4; i++) {
+                starts.add(limiter.acquire());
+            }
+            boolean saturated = limiter.isSaturated();
+            limiter.release(starts.get(0), false);
+
+            // Assert
+            assertTrue(saturated);
+            assertFalse(limiter.isSaturated());
+            assertEquals(List.of(true, false), notifications);
+        }
+
+        @Test
+        @DisplayName("Given invalid settings, when create limiter, then throw IllegalArgumentException")
+        void givenInvalidSettings_whenCreateLimiter_thenThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter.Settings(20, 1, 10, 0.9, 2.0, Duration.ofSeconds(1)));
+            assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter.Settings(5, 1, 10, 1.5, 2.0, Duration.ofSeconds(1)));
+        }
+    }
+}
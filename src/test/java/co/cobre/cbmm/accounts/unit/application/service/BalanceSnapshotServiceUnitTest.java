@@ -0,0 +1,134 @@
+package co.cobre.cbmm.accounts.unit.application.service;
+
+import co.cobre.cbmm.accounts.application.service.BalanceSnapshotService;
+import co.cobre.cbmm.accounts.domain.model.BalanceSnapshot;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.BalanceSnapshotPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceSnapshotServiceUnitTest {
+
+    @Mock
+    private BalanceSnapshotPort balanceSnapshotPort;
+
+    @Mock
+    private AccountQueryPort accountQueryPort;
+
+    @InjectMocks
+    private BalanceSnapshotService balanceSnapshotService;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(balanceSnapshotService, "backfillParallelism", 2);
+        ReflectionTestUtils.setField(balanceSnapshotService, "backfillClaimTimeout", Duration.ofHours(1));
+        today = LocalDate.now();
+    }
+
+    @Nested
+    @DisplayName("Backfill tests")
+    class BackfillTests {
+
+        @Test
+        @DisplayName("Given backfill up to date or claimed elsewhere, when backfill, then no account is scanned")
+        void givenNoClaim_whenBackfill_thenNothingScanned() {
+            // Arrange
+            when(balanceSnapshotPort.claimBackfill(today, Duration.ofHours(1))).thenReturn(Optional.empty());
+
+            // Act
+            int written = balanceSnapshotService.backfill();
+
+            // Assert
+            assertEquals(0, written);
+            verifyNoInteractions(accountQueryPort);
+            verify(balanceSnapshotPort, never()).snapshotDay(any());
+            verify(balanceSnapshotPort, never()).completeBackfill(any());
+        }
+
+        @Test
+        @DisplayName("Given watermark, when backfill, then only the missing days are snapshotted and the watermark moves")
+        void givenWatermark_whenBackfill_thenMissingDaysSnapshotted() {
+            // Arrange
+            when(balanceSnapshotPort.claimBackfill(today, Duration.ofHours(1)))
+                .thenReturn(Optional.of(today.minusDays(2)));
+            when(balanceSnapshotPort.snapshotDay(any())).thenReturn(3);
+
+            // Act
+            int written = balanceSnapshotService.backfill();
+
+            // Assert
+            assertEquals(6, written);
+            verify(balanceSnapshotPort).snapshotDay(today.minusDays(2));
+            verify(balanceSnapshotPort).snapshotDay(today.minusDays(1));
+            verify(balanceSnapshotPort, never()).snapshotDay(today);
+            verifyNoInteractions(accountQueryPort);
+            verify(balanceSnapshotPort).completeBackfill(today);
+        }
+
+        @Test
+        @DisplayName("Given first backfill, when backfill, then every account catches up from its latest snapshot")
+        void givenFirstBackfill_whenBackfill_thenAccountsCaughtUp() {
+            // Arrange
+            UUID withSnapshot = UUID.randomUUID();
+            UUID withoutSnapshot = UUID.randomUUID();
+            LocalDate lastSnapshot = today.minusDays(5);
+            when(balanceSnapshotPort.claimBackfill(today, Duration.ofHours(1))).thenReturn(Optional.of(LocalDate.EPOCH));
+            when(accountQueryPort.findAllAccountIds()).thenReturn(List.of(withSnapshot, withoutSnapshot));
+            when(balanceSnapshotPort.findLatestBefore(withSnapshot, today)).thenReturn(Optional.of(
+                new BalanceSnapshot(withSnapshot, lastSnapshot, BigDecimal.TEN, UUID.randomUUID(), lastSnapshot.atTime(12, 0))));
+            when(balanceSnapshotPort.findLatestBefore(withoutSnapshot, today)).thenReturn(Optional.empty());
+            when(balanceSnapshotPort.snapshotAccountDays(any(), any(), eq(today))).thenReturn(1);
+
+            // Act
+            int written = balanceSnapshotService.backfill();
+
+            // Assert
+            assertEquals(2, written);
+            verify(balanceSnapshotPort).snapshotAccountDays(withSnapshot, lastSnapshot.plusDays(1), today);
+            verify(balanceSnapshotPort).snapshotAccountDays(withoutSnapshot, LocalDate.EPOCH, today);
+            verify(balanceSnapshotPort).completeBackfill(today);
+        }
+
+        @Test
+        @DisplayName("Given failing account, when backfill, then the watermark does not move")
+        void givenFailingAccount_whenBackfill_thenWatermarkKept() {
+            // Arrange
+            UUID accountId = UUID.randomUUID();
+            when(balanceSnapshotPort.claimBackfill(today, Duration.ofHours(1))).thenReturn(Optional.of(LocalDate.EPOCH));
+            when(accountQueryPort.findAllAccountIds()).thenReturn(List.of(accountId));
+            when(balanceSnapshotPort.findLatestBefore(accountId, today)).thenReturn(Optional.empty());
+            when(balanceSnapshotPort.snapshotAccountDays(accountId, LocalDate.EPOCH, today))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+            // Act
+            int written = balanceSnapshotService.backfill();
+
+            // Assert
+            assertEquals(0, written);
+            verify(balanceSnapshotPort, never()).completeBackfill(any());
+        }
+    }
+}
+
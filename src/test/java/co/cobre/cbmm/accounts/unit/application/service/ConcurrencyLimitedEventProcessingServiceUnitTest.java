@@ -0,0 +1,127 @@
+package co.cobre.cbmm.accounts.unit.application.service;
+
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContext;
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContextAdapter;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.application.service.AdaptiveConcurrencyLimiter;
+import co.cobre.cbmm.accounts.application.service.ConcurrencyLimitedEventProcessingService;
+import co.cobre.cbmm.accounts.application.usecase.ProcessCBMMEventUseCase;
+import co.cobre.cbmm.accounts.domain.exception.InsufficientBalanceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedEventProcessingServiceUnitTest {
+
+    @Mock
+    private ProcessCBMMEventUseCase processCBMMEventUseCase;
+
+    @Mock
+    private AdaptiveConcurrencyLimiter eventProcessingLimiter;
+
+    private ConcurrencyLimitedEventProcessingService service;
+    private CBMMEventDTO event;
+
+    @BeforeEach
+    void setUp() {
+        service = new ConcurrencyLimitedEventProcessingService(processCBMMEventUseCase, eventProcessingLimiter,
+            new JfrEventContextAdapter(), Duration.ofSeconds(1));
+        event = new CBMMEventDTO(
+            "cbmm_20250101_000001",
+            "cross_border_money_movement",
+            ZonedDateTime.now(),
+            new CBMMEventDTO.AccountOperationDTO("ACC-ORIGIN-001", "USD", new BigDecimal("100.00")),
+            new CBMMEventDTO.AccountOperationDTO("ACC-DEST-001", "USD", new BigDecimal("100.00"))
+        );
+        when(eventProcessingLimiter.acquire()).thenReturn(42L);
+    }
+
+    @Nested
+    @DisplayName("Process CBMM event tests")
+    class ProcessCBMMEventTests {
+
+        @Test
+        @DisplayName("Given successful processing, when processCBMMEvent, then release slot as success")
+        void givenSuccessfulProcessing_whenProcessCBMMEvent_thenReleaseAsSuccess() {
+            // Act
+            service.processCBMMEvent(event);
+
+            // Assert
+            verify(processCBMMEventUseCase).processCBMMEvent(event);
+            verify(eventProcessingLimiter).release(42L, 0L, false);
+        }
+
+        @Test
+        @DisplayName("Given account lock waits during processing, when processCBMMEvent, then release with the longest wait")
+        void givenLockWaits_whenProcessCBMMEvent_thenReleaseWithLongestWait() {
+            // Arrange - the two legs wait for their account locks in parallel
+            doAnswer(invocation -> {
+                JfrEventContext.currentLockWait().accumulate(3_000_000L);
+                JfrEventContext.currentLockWait().accumulate(5_000_000L);
+                return null;
+            }).when(processCBMMEventUseCase).processCBMMEvent(event);
+
+            // Act
+            service.processCBMMEvent(event);
+
+            // Assert
+            verify(eventProcessingLimiter).release(42L, 5_000_000L, false);
+            assertNull(JfrEventContext.currentLockWait());
+        }
+
+        @Test
+        @DisplayName("Given wrapped business exception, when processCBMMEvent, then release slot as success and rethrow")
+        void givenWrappedBusinessException_whenProcessCBMMEvent_thenReleaseAsSuccessAndRethrow() {
+            // Arrange
+            CompletionException failure = new CompletionException(
+                new InsufficientBalanceException("ACC-ORIGIN-001", BigDecimal.ONE, BigDecimal.TEN));
+            doThrow(failure).when(processCBMMEventUseCase).processCBMMEvent(event);
+
+            // Act & Assert
+            assertSame(failure, assertThrows(CompletionException.class, () -> service.processCBMMEvent(event)));
+            verify(eventProcessingLimiter).release(42L, 0L, false);
+        }
+
+        @Test
+        @DisplayName("Given infrastructure failure, when processCBMMEvent, then release slot as dropped and rethrow")
+        void givenInfrastructureFailure_whenProcessCBMMEvent_thenReleaseAsDroppedAndRethrow() {
+            // Arrange
+            doThrow(new CannotCreateTransactionException("Connection is not available, request timed out"))
+                .when(processCBMMEventUseCase).processCBMMEvent(event);
+
+            // Act & Assert
+            assertThrows(CannotCreateTransactionException.class, () -> service.processCBMMEvent(event));
+            verify(eventProcessingLimiter).release(42L, 0L, true);
+        }
+
+        @Test
+        @DisplayName("Given limit rejection, when processCBMMEvent, then do not process nor release")
+        void givenLimitRejection_whenProcessCBMMEvent_thenDoNotProcessNorRelease() {
+            // Arrange
+            when(eventProcessingLimiter.acquire())
+                .thenThrow(new java.util.concurrent.RejectedExecutionException("limit reached"));
+
+            // Act & Assert
+            assertThrows(java.util.concurrent.RejectedExecutionException.class, () -> service.processCBMMEvent(event));
+            verify(processCBMMEventUseCase, never()).processCBMMEvent(eq(event));
+            verify(eventProcessingLimiter, never()).release(anyLong(), anyLong(), anyBoolean());
+        }
+    }
+}
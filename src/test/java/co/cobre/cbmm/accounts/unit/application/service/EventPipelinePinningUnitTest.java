@@ -0,0 +1,182 @@
+package co.cobre.cbmm.accounts.unit.application.service;
+
+import co.cobre.cbmm.accounts.adapters.out.inmemory.InMemoryAccountAdapter;
+import co.cobre.cbmm.accounts.adapters.out.inmemory.InMemoryCBMMEventAdapter;
+import co.cobre.cbmm.accounts.adapters.out.inmemory.InMemoryCBMMEventLegAdapter;
+import co.cobre.cbmm.accounts.adapters.out.inmemory.InMemoryIdempotencyAdapter;
+import co.cobre.cbmm.accounts.adapters.out.inmemory.InMemoryTransactionAdapter;
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContextAdapter;
+import co.cobre.cbmm.accounts.adapters.out.lock.InJvmLockAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockObservationAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PinningAggregator;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PinningAggregator.PinningSite;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.application.dto.CBMMEventDTO;
+import co.cobre.cbmm.accounts.application.service.AccountBalanceUpdateService;
+import co.cobre.cbmm.accounts.application.service.AsyncAccountProcessingService;
+import co.cobre.cbmm.accounts.application.usecase.ProcessCBMMEventUseCase;
+import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the CBMM event pipeline (use case -> account processing -> distributed lock) on virtual threads
+ * against the perf-profile in-memory adapters and in-JVM locks with contended accounts, streams
+ * jdk.VirtualThreadPinned and fails if any pinning site goes through application code. Two deliberate pins are the
+ * positive controls: a shallow one (sleep inside synchronized) and one parked deep in the JDK (Semaphore.acquire
+ * inside synchronized), which must still be attributed to its application frame.
+ */
+class EventPipelinePinningUnitTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "co.cobre.cbmm.accounts.";
+
+    /** Pinning sites (PinningSite labels) accepted as known; add here only with a justification */
+    private static final Set<String> KNOWN_PINNING_SITES = Set.of();
+
+    private static final Object CONTROL_MONITOR = new Object();
+    private static final String SHALLOW_CONTROL = EventPipelinePinningUnitTest.class.getName() + ".pinOnPurpose:";
+    private static final String DEEP_CONTROL = EventPipelinePinningUnitTest.class.getName() + ".pinOnPurposeThroughSemaphore:";
+
+    @Test
+    @DisplayName("Given contended event pipeline on virtual threads, when processing events, then no new pinning sites")
+    void givenContendedEventPipeline_whenProcessingEvents_thenNoNewPinningSites() throws Exception {
+        // Arrange
+        PinningAggregator aggregator = new PinningAggregator(100, 20, new SimpleMeterRegistry());
+        ProcessCBMMEventUseCase useCase = pipeline(3);
+
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent(PINNED_EVENT, aggregator::record);
+            stream.startAsync();
+
+            // Act
+            List<Future<?>> processed = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 300; i++) {
+                    CBMMEventDTO event = event("cbmm_pin_" + i, "ACC-" + (i % 3), "ACC-" + ((i + 1) % 3));
+                    processed.add(executor.submit(() -> useCase.processCBMMEvent(event)));
+                }
+            }
+            Thread.ofVirtual().start(EventPipelinePinningUnitTest::pinOnPurpose).join();
+            pinOnPurposeThroughSemaphoreOnVirtualThread();
+
+            // Assert
+            // A pipeline failing early would never reach the locks, so no pinning would prove nothing
+            for (Future<?> event : processed) {
+                assertDoesNotThrow(() -> event.get());
+            }
+            awaitControlSite(aggregator, SHALLOW_CONTROL);
+            PinningSite deepControl = awaitControlSite(aggregator, DEEP_CONTROL);
+            assertTrue(deepControl.getFrames().stream().anyMatch(frame -> frame.startsWith("java.util.concurrent.Semaphore.")),
+                "The deep control must pin inside Semaphore.acquire: " + deepControl.getFrames());
+        }
+
+        Map<String, List<String>> newSites = aggregator.topSites(100).stream()
+            .map(entry -> entry.value())
+            .filter(site -> !site.getLabel().contains("pinOnPurpose"))
+            .filter(site -> site.getFrames().stream().anyMatch(frame -> frame.startsWith(APPLICATION_PACKAGE)))
+            .filter(site -> !KNOWN_PINNING_SITES.contains(site.getLabel()))
+            .collect(Collectors.toMap(PinningSite::getLabel, PinningSite::getFrames, (a, b) -> a));
+        assertTrue(newSites.isEmpty(), "New virtual thread pinning sites: " + newSites);
+    }
+
+    private static void pinOnPurpose() {
+        synchronized (CONTROL_MONITOR) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Pin while parked in Semaphore.acquire, several JDK frames below the application frame holding the monitor
+     */
+    private static void pinOnPurposeThroughSemaphoreOnVirtualThread() throws InterruptedException {
+        Semaphore permit = new Semaphore(0);
+        Thread pinned = Thread.ofVirtual().start(() -> pinOnPurposeThroughSemaphore(permit));
+        while (pinned.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(20);
+        permit.release();
+        pinned.join();
+    }
+
+    private static void pinOnPurposeThroughSemaphore(Semaphore permit) {
+        synchronized (CONTROL_MONITOR) {
+            try {
+                permit.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static PinningSite awaitControlSite(PinningAggregator aggregator, String label) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (true) {
+            Optional<PinningSite> site = aggregator.topSites(100).stream()
+                .map(entry -> entry.value())
+                .filter(value -> value.getLabel().startsWith(label))
+                .findFirst();
+            if (site.isPresent()) {
+                return site.get();
+            }
+            if (System.nanoTime() > deadline) {
+                fail("Control pinning event " + label + " was not observed; JFR streaming or site attribution is not working");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static ProcessCBMMEventUseCase pipeline(int accountCount) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ErrorMetricsService errorMetricsService = new ErrorMetricsService(meterRegistry, 100, 50);
+        PipelineMetricsService pipelineMetricsService = new PipelineMetricsService(meterRegistry);
+        JfrEventContextAdapter eventContext = new JfrEventContextAdapter();
+
+        InMemoryAccountAdapter accounts = new InMemoryAccountAdapter(accountCount, "ACC-%d", List.of(Currency.USD),
+            new BigDecimal("1000000"));
+
+        DistributedLockService lockService = new DistributedLockService(new InJvmLockAdapter(), errorMetricsService,
+            new LockObservationAdapter(pipelineMetricsService, new LockContentionMetricsService(10)), eventContext);
+        AccountBalanceUpdateService balanceUpdates = new AccountBalanceUpdateService(accounts,
+            new InMemoryTransactionAdapter(accounts), lockService, errorMetricsService, pipelineMetricsService,
+            eventContext, new InMemoryCBMMEventLegAdapter());
+        AsyncAccountProcessingService accountProcessing = new AsyncAccountProcessingService(balanceUpdates, lockService,
+            Executors.newVirtualThreadPerTaskExecutor());
+        return new ProcessCBMMEventUseCase(new InMemoryIdempotencyAdapter(), accountProcessing,
+            new InMemoryCBMMEventAdapter(), pipelineMetricsService);
+    }
+
+    private static CBMMEventDTO event(String eventId, String origin, String destination) {
+        return new CBMMEventDTO(eventId, "cross_border_money_movement", ZonedDateTime.now(),
+            new CBMMEventDTO.AccountOperationDTO(origin, "USD", BigDecimal.ONE),
+            new CBMMEventDTO.AccountOperationDTO(destination, "USD", BigDecimal.ONE));
+    }
+}
@@ -0,0 +1,155 @@
+package co.cobre.cbmm.accounts.unit.application.usecase;
+
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.application.usecase.ExportTransactionsUseCase;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
+import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportTransactionsUseCaseUnitTest {
+
+    @Mock
+    private AccountQueryPort accountQueryPort;
+
+    @Mock
+    private TransactionQueryPort transactionQueryPort;
+
+    @InjectMocks
+    private ExportTransactionsUseCase exportTransactionsUseCase;
+
+    private UUID accountId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setUp() {
+        accountId = UUID.randomUUID();
+        from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        to = LocalDateTime.of(2025, 1, 1, 0, 0);
+    }
+
+    @Nested
+    @DisplayName("Validate export tests")
+    class ValidateExportTests {
+
+        @Test
+        @DisplayName("Given existing account and valid range, when validateExport, then do not throw")
+        void givenExistingAccountAndValidRange_whenValidateExport_thenDoNotThrow() {
+            // Arrange
+            when(accountQueryPort.existsById(accountId)).thenReturn(true);
+
+            // Act & Assert
+            assertDoesNotThrow(() -> exportTransactionsUseCase.validateExport(accountId, from, to));
+            verify(accountQueryPort).existsById(accountId);
+        }
+
+        @Test
+        @DisplayName("Given non-existent account, when validateExport, then throw AccountNotFoundException")
+        void givenNonExistentAccount_whenValidateExport_thenThrowAccountNotFoundException() {
+            // Arrange
+            when(accountQueryPort.existsById(accountId)).thenReturn(false);
+
+            // Act & Assert
+            AccountNotFoundException exception = assertThrows(
+                AccountNotFoundException.class,
+                () -> exportTransactionsUseCase.validateExport(accountId, null, null)
+            );
+
+            assertTrue(exception.getMessage().contains(accountId.toString()));
+        }
+
+        @Test
+        @DisplayName("Given range start not before end, when validateExport, then throw IllegalArgumentException")
+        void givenEmptyRange_whenValidateExport_thenThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> exportTransactionsUseCase.validateExport(accountId, to, from));
+            assertThrows(IllegalArgumentException.class,
+                () -> exportTransactionsUseCase.validateExport(accountId, from, from));
+            verifyNoInteractions(accountQueryPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Export transactions tests")
+    class ExportTransactionsTests {
+
+        @Test
+        @DisplayName("Given streamed transactions, when exportTransactions, then forward each row to the sink")
+        void givenStreamedTransactions_whenExportTransactions_thenForwardRowsToSink() {
+            // Arrange
+            TransactionResponseDTO row = new TransactionResponseDTO(
+                UUID.randomUUID(),
+                accountId,
+                new BigDecimal("100.00"),
+                TransactionType.CREDIT,
+                "USD",
+                new BigDecimal("1100.00"),
+                from.plusDays(1),
+                TransactionStatus.COMPLETED
+            );
+            when(transactionQueryPort.streamByAccountId(eq(accountId), eq(from), eq(to), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<TransactionResponseDTO> consumer = invocation.getArgument(3);
+                    consumer.accept(row);
+                    consumer.accept(row);
+                    return 2L;
+                });
+            List<TransactionResponseDTO> exported = new ArrayList<>();
+
+            // Act
+            long count = exportTransactionsUseCase.exportTransactions(accountId, from, to, exported::add);
+
+            // Assert
+            assertEquals(2, count);
+            assertEquals(List.of(row, row), exported);
+        }
+
+        @Test
+        @DisplayName("Given open range, when exportTransactions, then stream without bounds")
+        void givenOpenRange_whenExportTransactions_thenStreamWithoutBounds() {
+            // Arrange
+            when(transactionQueryPort.streamByAccountId(eq(accountId), isNull(), isNull(), any()))
+                .thenReturn(0L);
+
+            // Act
+            long count = exportTransactionsUseCase.exportTransactions(accountId, null, null, row -> fail());
+
+            // Assert
+            assertEquals(0, count);
+            verify(transactionQueryPort).streamByAccountId(eq(accountId), isNull(), isNull(), any());
+        }
+
+        @Test
+        @DisplayName("Given invalid range, when exportTransactions, then throw before streaming")
+        void givenInvalidRange_whenExportTransactions_thenThrowBeforeStreaming() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> exportTransactionsUseCase.exportTransactions(accountId, to, from, row -> fail()));
+            verifyNoInteractions(transactionQueryPort);
+        }
+    }
+}
@@ -3,9 +3,7 @@ package co.cobre.cbmm.accounts.unit.application.usecase;
 import co.cobre.cbmm.accounts.application.dto.AccountDTO;
 import co.cobre.cbmm.accounts.application.usecase.GetAccountUseCase;
 import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
-import co.cobre.cbmm.accounts.domain.model.Account;
-import co.cobre.cbmm.accounts.domain.model.AccountStatus;
-import co.cobre.cbmm.accounts.domain.model.Currency;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
 import co.cobre.cbmm.accounts.ports.out.AccountRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,18 +20,22 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetAccountUseCaseUnitTest {
 
+    @Mock
+    private AccountQueryPort accountQueryPort;
+
     @Mock
     private AccountRepositoryPort accountRepositoryPort;
 
     @InjectMocks
     private GetAccountUseCase getAccountUseCase;
 
-    private Account testAccount;
+    private AccountDTO testAccount;
     private String accountNumber;
     private UUID accountId;
 
@@ -41,12 +43,12 @@ class GetAccountUseCaseUnitTest {
     void setUp() {
         accountId = UUID.randomUUID();
         accountNumber = "ACC-2024-001";
-        testAccount = new Account(
+        testAccount = new AccountDTO(
             accountId,
             accountNumber,
-            Currency.USD,
+            "USD",
             new BigDecimal("1000.00"),
-            AccountStatus.ACTIVE,
+            "ACTIVE",
             LocalDateTime.now(),
             LocalDateTime.now(),
             1
@@ -61,7 +63,7 @@ class GetAccountUseCaseUnitTest {
         @DisplayName("Given valid account number, when getAccountByNumber, then return account DTO")
         void givenValidAccountNumber_whenGetAccountByNumber_thenReturnAccountDTO() {
             // Arrange
-            when(accountRepositoryPort.findByAccountNumber(accountNumber))
+            when(accountQueryPort.findAccountByNumber(accountNumber))
                 .thenReturn(Optional.of(testAccount));
 
             // Act
@@ -78,7 +80,7 @@ class GetAccountUseCaseUnitTest {
             assertNotNull(result.updatedAt());
             assertEquals(1, result.version());
 
-            verify(accountRepositoryPort).findByAccountNumber(accountNumber);
+            verify(accountQueryPort).findAccountByNumber(accountNumber);
         }
 
         @Test
@@ -86,7 +88,7 @@ class GetAccountUseCaseUnitTest {
         void givenNonExistentAccountNumber_whenGetAccountByNumber_thenThrowAccountNotFoundException() {
             // Arrange
             String nonExistentAccountNumber = "ACC-9999-999";
-            when(accountRepositoryPort.findByAccountNumber(nonExistentAccountNumber))
+            when(accountQueryPort.findAccountByNumber(nonExistentAccountNumber))
                 .thenReturn(Optional.empty());
 
             // Act & Assert
@@ -96,24 +98,24 @@ class GetAccountUseCaseUnitTest {
             );
 
             assertTrue(exception.getMessage().contains(nonExistentAccountNumber));
-            verify(accountRepositoryPort).findByAccountNumber(nonExistentAccountNumber);
+            verify(accountQueryPort).findAccountByNumber(nonExistentAccountNumber);
         }
 
         @Test
         @DisplayName("Given account with zero balance, when getAccountByNumber, then return account DTO with zero balance")
         void givenAccountWithZeroBalance_whenGetAccountByNumber_thenReturnAccountDTOWithZeroBalance() {
             // Arrange
-            Account zeroBalanceAccount = new Account(
+            AccountDTO zeroBalanceAccount = new AccountDTO(
                 accountId,
                 accountNumber,
-                Currency.USD,
+                "USD",
                 BigDecimal.ZERO,
-                AccountStatus.ACTIVE,
+                "ACTIVE",
                 LocalDateTime.now(),
                 LocalDateTime.now(),
                 1
             );
-            when(accountRepositoryPort.findByAccountNumber(accountNumber))
+            when(accountQueryPort.findAccountByNumber(accountNumber))
                 .thenReturn(Optional.of(zeroBalanceAccount));
 
             // Act
@@ -122,24 +124,24 @@ class GetAccountUseCaseUnitTest {
             // Assert
             assertNotNull(result);
             assertEquals(BigDecimal.ZERO, result.balance());
-            verify(accountRepositoryPort).findByAccountNumber(accountNumber);
+            verify(accountQueryPort).findAccountByNumber(accountNumber);
         }
 
         @Test
         @DisplayName("Given inactive account, when getAccountByNumber, then return account DTO with inactive status")
         void givenInactiveAccount_whenGetAccountByNumber_thenReturnAccountDTOWithInactiveStatus() {
             // Arrange
-            Account inactiveAccount = new Account(
+            AccountDTO inactiveAccount = new AccountDTO(
                 accountId,
                 accountNumber,
-                Currency.USD,
+                "USD",
                 new BigDecimal("1000.00"),
-                AccountStatus.INACTIVE,
+                "INACTIVE",
                 LocalDateTime.now(),
                 LocalDateTime.now(),
                 1
             );
-            when(accountRepositoryPort.findByAccountNumber(accountNumber))
+            when(accountQueryPort.findAccountByNumber(accountNumber))
                 .thenReturn(Optional.of(inactiveAccount));
 
             // Act
@@ -148,7 +150,42 @@ class GetAccountUseCaseUnitTest {
             // Assert
             assertNotNull(result);
             assertEquals("INACTIVE", result.status());
-            verify(accountRepositoryPort).findByAccountNumber(accountNumber);
+            verify(accountQueryPort).findAccountByNumber(accountNumber);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get account version tests")
+    class GetAccountVersionTests {
+
+        @Test
+        @DisplayName("Given existing account, when getAccountVersion, then return version without loading the account")
+        void givenExistingAccount_whenGetAccountVersion_thenReturnVersionWithoutLoadingAccount() {
+            // Arrange
+            when(accountRepositoryPort.findVersionByAccountNumber(accountNumber))
+                .thenReturn(Optional.of(3));
+
+            // Act
+            Optional<Integer> result = getAccountUseCase.getAccountVersion(accountNumber);
+
+            // Assert
+            assertEquals(Optional.of(3), result);
+            verify(accountRepositoryPort).findVersionByAccountNumber(accountNumber);
+            verify(accountQueryPort, never()).findAccountByNumber(any());
+        }
+
+        @Test
+        @DisplayName("Given non-existent account, when getAccountVersion, then return empty")
+        void givenNonExistentAccount_whenGetAccountVersion_thenReturnEmpty() {
+            // Arrange
+            when(accountRepositoryPort.findVersionByAccountNumber("ACC-9999-999"))
+                .thenReturn(Optional.empty());
+
+            // Act
+            Optional<Integer> result = getAccountUseCase.getAccountVersion("ACC-9999-999");
+
+            // Assert
+            assertTrue(result.isEmpty());
         }
     }
 }
@@ -0,0 +1,226 @@
+package co.cobre.cbmm.accounts.unit.application.usecase;
+
+import co.cobre.cbmm.accounts.application.dto.AccountDTO;
+import co.cobre.cbmm.accounts.application.dto.BalanceDTO;
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
+import co.cobre.cbmm.accounts.application.usecase.GetBalanceUseCase;
+import co.cobre.cbmm.accounts.domain.exception.AccountNotFoundException;
+import co.cobre.cbmm.accounts.domain.model.BalanceSnapshot;
+import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
+import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import co.cobre.cbmm.accounts.ports.out.AccountQueryPort;
+import co.cobre.cbmm.accounts.ports.out.BalanceSnapshotPort;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetBalanceUseCaseUnitTest {
+
+    @Mock
+    private AccountQueryPort accountQueryPort;
+
+    @Mock
+    private BalanceSnapshotPort balanceSnapshotPort;
+
+    @Mock
+    private TransactionQueryPort transactionQueryPort;
+
+    @InjectMocks
+    private GetBalanceUseCase getBalanceUseCase;
+
+    private UUID accountId;
+    private String accountNumber;
+    private AccountDTO account;
+    private LocalDateTime asOf;
+
+    @BeforeEach
+    void setUp() {
+        accountId = UUID.randomUUID();
+        accountNumber = "ACC-2024-001";
+        asOf = LocalDateTime.of(2024, 6, 30, 15, 0);
+        account = new AccountDTO(
+            accountId,
+            accountNumber,
+            "USD",
+            new BigDecimal("2000.00"),
+            "ACTIVE",
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 7, 1, 0, 0),
+            5
+        );
+        lenient().when(accountQueryPort.findAccountByNumber(accountNumber)).thenReturn(Optional.of(account));
+    }
+
+    private TransactionResponseDTO transaction(TransactionType type, String amount, String balanceAfter, LocalDateTime createdAt) {
+        return new TransactionResponseDTO(
+            UUID.randomUUID(),
+            accountId,
+            new BigDecimal(amount),
+            type,
+            "USD",
+            new BigDecimal(balanceAfter),
+            createdAt,
+            TransactionStatus.COMPLETED
+        );
+    }
+
+    @Nested
+    @DisplayName("Balance from snapshot tests")
+    class BalanceFromSnapshotTests {
+
+        private BalanceSnapshot snapshot;
+
+        @BeforeEach
+        void setUp() {
+            snapshot = new BalanceSnapshot(
+                accountId, LocalDate.of(2024, 6, 28), new BigDecimal("1500.00"),
+                UUID.randomUUID(), LocalDateTime.of(2024, 6, 28, 18, 0));
+            when(balanceSnapshotPort.findLatestBefore(accountId, asOf.toLocalDate())).thenReturn(Optional.of(snapshot));
+        }
+
+        @Test
+        @DisplayName("Given snapshot and later transactions, when getBalanceAsOf, then return balance after the latest one, scanning only after the snapshot day")
+        void givenSnapshotAndLaterTransactions_whenGetBalanceAsOf_thenReturnLatestBalanceAfter() {
+            // Arrange
+            when(transactionQueryPort.findLatestBetween(accountId, LocalDateTime.of(2024, 6, 29, 0, 0), asOf))
+                .thenReturn(Optional.of(transaction(TransactionType.DEBIT, "100.00", "1400.00", asOf.minusHours(1))));
+
+            // Act
+            BalanceDTO result = getBalanceUseCase.getBalanceAsOf(accountNumber, asOf);
+
+            // Assert
+            assertEquals(new BigDecimal("1400.00"), result.balance());
+            assertEquals(snapshot.snapshotDate(), result.snapshotDate());
+            assertEquals(asOf, result.asOf());
+            assertEquals("USD", result.currency());
+            verify(transactionQueryPort, never()).findFirstAfter(any(), any());
+        }
+
+        @Test
+        @DisplayName("Given snapshot and no later transactions, when getBalanceAsOf, then return snapshot balance")
+        void givenSnapshotAndNoLaterTransactions_whenGetBalanceAsOf_thenReturnSnapshotBalance() {
+            // Arrange
+            when(transactionQueryPort.findLatestBetween(accountId, LocalDateTime.of(2024, 6, 29, 0, 0), asOf))
+                .thenReturn(Optional.empty());
+
+            // Act
+            BalanceDTO result = getBalanceUseCase.getBalanceAsOf(accountNumber, asOf);
+
+            // Assert
+            assertEquals(new BigDecimal("1500.00"), result.balance());
+            assertEquals(snapshot.snapshotDate(), result.snapshotDate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Balance without snapshot tests")
+    class BalanceWithoutSnapshotTests {
+
+        @BeforeEach
+        void setUp() {
+            when(balanceSnapshotPort.findLatestBefore(accountId, asOf.toLocalDate())).thenReturn(Optional.empty());
+        }
+
+        @Test
+        @DisplayName("Given earlier transactions and no snapshot, when getBalanceAsOf, then scan the whole history up to asOf")
+        void givenEarlierTransactionsAndNoSnapshot_whenGetBalanceAsOf_thenScanWholeHistory() {
+            // Arrange
+            when(transactionQueryPort.findLatestBetween(accountId, null, asOf))
+                .thenReturn(Optional.of(transaction(TransactionType.CREDIT, "200.00", "1200.00", asOf.minusDays(3))));
+
+            // Act
+            BalanceDTO result = getBalanceUseCase.getBalanceAsOf(accountNumber, asOf);
+
+            // Assert
+            assertEquals(new BigDecimal("1200.00"), result.balance());
+            assertNull(result.snapshotDate());
+        }
+
+        @Test
+        @DisplayName("Given only a later credit, when getBalanceAsOf, then return the balance before that credit")
+        void givenOnlyLaterCredit_whenGetBalanceAsOf_thenReturnBalanceBeforeCredit() {
+            // Arrange
+            when(transactionQueryPort.findLatestBetween(accountId, null, asOf)).thenReturn(Optional.empty());
+            when(transactionQueryPort.findFirstAfter(accountId, asOf))
+                .thenReturn(Optional.of(transaction(TransactionType.CREDIT, "300.00", "1300.00", asOf.plusDays(1))));
+
+            // Act
+            BalanceDTO result = getBalanceUseCase.getBalanceAsOf(accountNumber, asOf);
+
+            // Assert
+            assertEquals(new BigDecimal("1000.00"), result.balance());
+        }
+
+        @Test
+        @DisplayName("Given only a later debit, when getBalanceAsOf, then return the balance before that debit")
+        void givenOnlyLaterDebit_whenGetBalanceAsOf_thenReturnBalanceBeforeDebit() {
+            // Arrange
+            when(transactionQueryPort.findLatestBetween(accountId, null, asOf)).thenReturn(Optional.empty());
+            when(transactionQueryPort.findFirstAfter(accountId, asOf))
+                .thenReturn(Optional.of(transaction(TransactionType.DEBIT, "300.00", "700.00", asOf.plusDays(1))));
+
+            // Act
+            BalanceDTO result = getBalanceUseCase.getBalanceAsOf(accountNumber, asOf);
+
+            // Assert
+            assertEquals(new BigDecimal("1000.00"), result.balance());
+        }
+
+        @Test
+        @DisplayName("Given account without transactions, when getBalanceAsOf, then return current balance")
+        void givenAccountWithoutTransactions_whenGetBalanceAsOf_thenReturnCurrentBalance() {
+            // Arrange
+            when(transactionQueryPort.findLatestBetween(accountId, null, asOf)).thenReturn(Optional.empty());
+            when(transactionQueryPort.findFirstAfter(accountId, asOf)).thenReturn(Optional.empty());
+
+            // Act
+            BalanceDTO result = getBalanceUseCase.getBalanceAsOf(accountNumber, asOf);
+
+            // Assert
+            assertEquals(new BigDecimal("2000.00"), result.balance());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid request tests")
+    class InvalidRequestTests {
+
+        @Test
+        @DisplayName("Given non-existent account, when getBalanceAsOf, then throw AccountNotFoundException")
+        void givenNonExistentAccount_whenGetBalanceAsOf_thenThrowAccountNotFoundException() {
+            // Arrange
+            when(accountQueryPort.findAccountByNumber("ACC-9999-999")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(AccountNotFoundException.class,
+                () -> getBalanceUseCase.getBalanceAsOf("ACC-9999-999", asOf));
+            verifyNoInteractions(balanceSnapshotPort, transactionQueryPort);
+        }
+
+        @Test
+        @DisplayName("Given instant before account creation, when getBalanceAsOf, then throw IllegalArgumentException")
+        void givenInstantBeforeAccountCreation_whenGetBalanceAsOf_thenThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> getBalanceUseCase.getBalanceAsOf(accountNumber, LocalDateTime.of(2023, 12, 31, 23, 59)));
+            verifyNoInteractions(balanceSnapshotPort, transactionQueryPort);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package co.cobre.cbmm.accounts.unit.application.usecase;
 
+import co.cobre.cbmm.accounts.application.dto.TransactionResponseDTO;
 import co.cobre.cbmm.accounts.application.usecase.GetTransactionsUseCase;
 import co.cobre.cbmm.accounts.domain.model.Currency;
 import co.cobre.cbmm.accounts.domain.model.Transaction;
 import co.cobre.cbmm.accounts.domain.model.TransactionStatus;
 import co.cobre.cbmm.accounts.domain.model.TransactionType;
+import co.cobre.cbmm.accounts.domain.model.TransactionWatermark;
+import co.cobre.cbmm.accounts.ports.out.TransactionQueryPort;
 import co.cobre.cbmm.accounts.ports.out.TransactionRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +39,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class GetTransactionsUseCaseUnitTest {
 
+    @Mock
+    private TransactionQueryPort transactionQueryPort;
+
     @Mock
     private TransactionRepositoryPort transactionRepository;
 
@@ -42,14 +49,14 @@ class GetTransactionsUseCaseUnitTest {
     private GetTransactionsUseCase getTransactionsUseCase;
 
     private UUID accountId;
-    private Transaction transaction1;
-    private Transaction transaction2;
+    private TransactionResponseDTO transaction1;
+    private TransactionResponseDTO transaction2;
 
     @BeforeEach
     void setUp() {
         accountId = UUID.randomUUID();
 
-        transaction1 = new Transaction(
+        transaction1 = TransactionResponseDTO.from(new Transaction(
             UUID.randomUUID(),
             accountId,
             new BigDecimal("100.00"),
@@ -58,9 +65,9 @@ class GetTransactionsUseCaseUnitTest {
             new BigDecimal("1100.00"),
             LocalDateTime.now(),
             TransactionStatus.COMPLETED
-        );
+        ));
 
-        transaction2 = new Transaction(
+        transaction2 = TransactionResponseDTO.from(new Transaction(
             UUID.randomUUID(),
             accountId,
             new BigDecimal("50.00"),
@@ -69,7 +76,7 @@ class GetTransactionsUseCaseUnitTest {
             new BigDecimal("1050.00"),
             LocalDateTime.now(),
             TransactionStatus.COMPLETED
-        );
+        ));
     }
 
     @Nested
@@ -81,14 +88,14 @@ class GetTransactionsUseCaseUnitTest {
         void givenAccountWithTransactions_whenGetTransactionsByAccountId_thenReturnPaginatedTransactions() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
-            List<Transaction> transactions = Arrays.asList(transaction1, transaction2);
-            Page<Transaction> expectedPage = new PageImpl<>(transactions, pageable, 2);
+            List<TransactionResponseDTO> transactions = Arrays.asList(transaction1, transaction2);
+            Page<TransactionResponseDTO> expectedPage = new PageImpl<>(transactions, pageable, 2);
 
-            when(transactionRepository.findByAccountIdPaginated(accountId, pageable))
+            when(transactionQueryPort.findByAccountId(accountId, pageable))
                 .thenReturn(expectedPage);
 
             // Act
-            Page<Transaction> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
+            Page<TransactionResponseDTO> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
 
             // Assert
             assertNotNull(result);
@@ -96,7 +103,7 @@ class GetTransactionsUseCaseUnitTest {
             assertEquals(2, result.getTotalElements());
             assertTrue(result.getContent().contains(transaction1));
             assertTrue(result.getContent().contains(transaction2));
-            verify(transactionRepository).findByAccountIdPaginated(accountId, pageable);
+            verify(transactionQueryPort).findByAccountId(accountId, pageable);
         }
 
         @Test
@@ -104,19 +111,19 @@ class GetTransactionsUseCaseUnitTest {
         void givenAccountWithNoTransactions_whenGetTransactionsByAccountId_thenReturnEmptyPage() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 20);
-            Page<Transaction> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<TransactionResponseDTO> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(transactionRepository.findByAccountIdPaginated(accountId, pageable))
+            when(transactionQueryPort.findByAccountId(accountId, pageable))
                 .thenReturn(emptyPage);
 
             // Act
-            Page<Transaction> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
+            Page<TransactionResponseDTO> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
 
             // Assert
             assertNotNull(result);
             assertTrue(result.getContent().isEmpty());
             assertEquals(0, result.getTotalElements());
-            verify(transactionRepository).findByAccountIdPaginated(accountId, pageable);
+            verify(transactionQueryPort).findByAccountId(accountId, pageable);
         }
 
         @Test
@@ -124,14 +131,14 @@ class GetTransactionsUseCaseUnitTest {
         void givenCustomPageable_whenGetTransactionsByAccountId_thenReturnCorrectPage() {
             // Arrange
             Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.ASC, "createdAt"));
-            List<Transaction> transactions = Collections.singletonList(transaction1);
-            Page<Transaction> expectedPage = new PageImpl<>(transactions, pageable, 15);
+            List<TransactionResponseDTO> transactions = Collections.singletonList(transaction1);
+            Page<TransactionResponseDTO> expectedPage = new PageImpl<>(transactions, pageable, 15);
 
-            when(transactionRepository.findByAccountIdPaginated(accountId, pageable))
+            when(transactionQueryPort.findByAccountId(accountId, pageable))
                 .thenReturn(expectedPage);
 
             // Act
-            Page<Transaction> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
+            Page<TransactionResponseDTO> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
 
             // Assert
             assertNotNull(result);
@@ -139,7 +146,7 @@ class GetTransactionsUseCaseUnitTest {
             assertEquals(11, result.getTotalElements());
             assertEquals(1, result.getNumber());
             assertEquals(10, result.getSize());
-            verify(transactionRepository).findByAccountIdPaginated(accountId, pageable);
+            verify(transactionQueryPort).findByAccountId(accountId, pageable);
         }
 
         @Test
@@ -147,14 +154,14 @@ class GetTransactionsUseCaseUnitTest {
         void givenMultiplePagesOfTransactions_whenGetTransactionsByAccountId_thenReturnFirstPage() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 1);
-            List<Transaction> transactions = Collections.singletonList(transaction1);
-            Page<Transaction> expectedPage = new PageImpl<>(transactions, pageable, 2);
+            List<TransactionResponseDTO> transactions = Collections.singletonList(transaction1);
+            Page<TransactionResponseDTO> expectedPage = new PageImpl<>(transactions, pageable, 2);
 
-            when(transactionRepository.findByAccountIdPaginated(accountId, pageable))
+            when(transactionQueryPort.findByAccountId(accountId, pageable))
                 .thenReturn(expectedPage);
 
             // Act
-            Page<Transaction> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
+            Page<TransactionResponseDTO> result = getTransactionsUseCase.getTransactionsByAccountId(accountId, pageable);
 
             // Assert
             assertNotNull(result);
@@ -162,7 +169,7 @@ class GetTransactionsUseCaseUnitTest {
             assertEquals(2, result.getTotalElements());
             assertEquals(2, result.getTotalPages());
             assertFalse(result.isLast());
-            verify(transactionRepository).findByAccountIdPaginated(accountId, pageable);
+            verify(transactionQueryPort).findByAccountId(accountId, pageable);
         }
 
         @Test
@@ -171,17 +178,54 @@ class GetTransactionsUseCaseUnitTest {
             // Arrange
             UUID anotherAccountId = UUID.randomUUID();
             Pageable pageable = PageRequest.of(0, 20);
-            Page<Transaction> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<TransactionResponseDTO> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(transactionRepository.findByAccountIdPaginated(anotherAccountId, pageable))
+            when(transactionQueryPort.findByAccountId(anotherAccountId, pageable))
                 .thenReturn(emptyPage);
 
             // Act
             getTransactionsUseCase.getTransactionsByAccountId(anotherAccountId, pageable);
 
             // Assert
-            verify(transactionRepository).findByAccountIdPaginated(eq(anotherAccountId), eq(pageable));
-            verify(transactionRepository, never()).findByAccountIdPaginated(eq(accountId), any());
+            verify(transactionQueryPort).findByAccountId(eq(anotherAccountId), eq(pageable));
+            verify(transactionQueryPort, never()).findByAccountId(eq(accountId), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get latest watermark tests")
+    class GetLatestWatermarkTests {
+
+        @Test
+        @DisplayName("Given account with transactions, when getLatestWatermark, then return latest transaction watermark")
+        void givenAccountWithTransactions_whenGetLatestWatermark_thenReturnWatermark() {
+            // Arrange
+            TransactionWatermark watermark = new TransactionWatermark(
+                transaction2.transactionId(), transaction2.createdAt());
+            when(transactionRepository.findLatestWatermark(accountId))
+                .thenReturn(Optional.of(watermark));
+
+            // Act
+            Optional<TransactionWatermark> result = getTransactionsUseCase.getLatestWatermark(accountId);
+
+            // Assert
+            assertEquals(Optional.of(watermark), result);
+            verify(transactionRepository).findLatestWatermark(accountId);
+            verify(transactionQueryPort, never()).findByAccountId(any(), any());
+        }
+
+        @Test
+        @DisplayName("Given account without transactions, when getLatestWatermark, then return empty")
+        void givenAccountWithoutTransactions_whenGetLatestWatermark_thenReturnEmpty() {
+            // Arrange
+            when(transactionRepository.findLatestWatermark(accountId))
+                .thenReturn(Optional.empty());
+
+            // Act
+            Optional<TransactionWatermark> result = getTransactionsUseCase.getLatestWatermark(accountId);
+
+            // Assert
+            assertTrue(result.isEmpty());
         }
     }
 }
@@ -7,6 +7,7 @@ import co.cobre.cbmm.accounts.domain.exception.DuplicateEventException;
 import co.cobre.cbmm.accounts.domain.exception.EventPersistenceException;
 import co.cobre.cbmm.accounts.ports.out.CBMMEventRepositoryPort;
 import co.cobre.cbmm.accounts.ports.out.IdempotencyPort;
+import co.cobre.cbmm.accounts.ports.out.PipelineTimingPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,9 +16,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -37,6 +41,9 @@ class ProcessCBMMEventUseCaseUnitTest {
     @Mock
     private CBMMEventRepositoryPort cbmmEventRepositoryPort;
 
+    @Mock
+    private PipelineTimingPort pipelineTimingPort;
+
     @InjectMocks
     private ProcessCBMMEventUseCase processCBMMEventUseCase;
 
@@ -46,6 +53,7 @@ class ProcessCBMMEventUseCaseUnitTest {
     @BeforeEach
     void setUp() {
         eventId = "cbmm_20250101_000001";
+        ReflectionTestUtils.setField(processCBMMEventUseCase, "claimTimeout", Duration.ofMinutes(5));
 
         CBMMEventDTO.AccountOperationDTO origin = new CBMMEventDTO.AccountOperationDTO(
             "ACC-ORIGIN-001",
@@ -100,6 +108,38 @@ class ProcessCBMMEventUseCaseUnitTest {
             verify(idempotencyPort).markEventAsProcessed(eq(eventId), anyLong());
         }
 
+        @Test
+        @DisplayName("Given a self-transfer, when processCBMMEvent, then the destination leg starts only after the origin leg")
+        void givenSelfTransfer_whenProcessCBMMEvent_thenLegsRunOneAfterTheOther() {
+            // Arrange
+            CBMMEventDTO selfTransfer = new CBMMEventDTO(
+                eventId,
+                "cross_border_money_movement",
+                ZonedDateTime.now(),
+                validEvent.origin(),
+                new CBMMEventDTO.AccountOperationDTO("ACC-ORIGIN-001", "USD", new BigDecimal("100.00"))
+            );
+            CompletableFuture<UUID> origin = new CompletableFuture<>();
+            UUID accountId = UUID.randomUUID();
+
+            when(idempotencyPort.isEventProcessed(eventId)).thenReturn(false);
+            when(asyncAccountProcessingService.processOriginAccountAsync(selfTransfer)).thenReturn(origin);
+            when(asyncAccountProcessingService.processDestinationAccountAsync(selfTransfer))
+                .thenReturn(CompletableFuture.completedFuture(accountId));
+
+            // Act
+            CompletableFuture<Void> processing = CompletableFuture.runAsync(
+                () -> processCBMMEventUseCase.processCBMMEvent(selfTransfer));
+
+            // Assert
+            verify(asyncAccountProcessingService, timeout(5000)).processOriginAccountAsync(selfTransfer);
+            verify(asyncAccountProcessingService, after(200).never()).processDestinationAccountAsync(any());
+            origin.complete(accountId);
+            processing.join();
+            verify(asyncAccountProcessingService).processDestinationAccountAsync(selfTransfer);
+            verify(cbmmEventRepositoryPort).updateStatus(eventId, "COMPLETED", 0);
+        }
+
         @Test
         @DisplayName("Given already processed event, when processCBMMEvent, then throw DuplicateEventException")
         void givenAlreadyProcessedEvent_whenProcessCBMMEvent_thenThrowDuplicateEventException() {
@@ -127,7 +167,68 @@ class ProcessCBMMEventUseCaseUnitTest {
                 () -> processCBMMEventUseCase.processCBMMEvent(validEvent));
 
             verify(cbmmEventRepositoryPort).save(validEvent);
+            verify(cbmmEventRepositoryPort).reclaim(eventId, Duration.ofMinutes(5));
+            verify(asyncAccountProcessingService, never()).processOriginAccountAsync(any());
+        }
+
+        @Test
+        @DisplayName("Given a redelivered event that failed before, when processCBMMEvent, then it is taken back and processed with its retry count")
+        void givenRedeliveredFailedEvent_whenProcessCBMMEvent_thenRetried() {
+            // Arrange
+            when(idempotencyPort.isEventProcessed(eventId)).thenReturn(false);
+            doThrow(new RuntimeException("duplicate key")).when(cbmmEventRepositoryPort).save(validEvent);
+            when(cbmmEventRepositoryPort.reclaim(eventId, Duration.ofMinutes(5))).thenReturn(Optional.of(1));
+            when(asyncAccountProcessingService.processOriginAccountAsync(validEvent))
+                .thenReturn(CompletableFuture.completedFuture(UUID.randomUUID()));
+            when(asyncAccountProcessingService.processDestinationAccountAsync(validEvent))
+                .thenReturn(CompletableFuture.completedFuture(UUID.randomUUID()));
+
+            // Act
+            processCBMMEventUseCase.processCBMMEvent(validEvent);
+
+            // Assert
+            verify(cbmmEventRepositoryPort).updateStatus(eventId, "PROCESSING", 1);
+            verify(cbmmEventRepositoryPort).updateStatus(eventId, "COMPLETED", 1);
+            verify(idempotencyPort).markEventAsProcessed(eq(eventId), anyLong());
+        }
+
+        @Test
+        @DisplayName("Given a redelivered event left PROCESSING by a crashed consumer, when processCBMMEvent, then it is taken back and processed")
+        void givenRedeliveredAbandonedProcessingEvent_whenProcessCBMMEvent_thenRetried() {
+            // Arrange
+            when(idempotencyPort.isEventProcessed(eventId)).thenReturn(false);
+            doThrow(new RuntimeException("duplicate key")).when(cbmmEventRepositoryPort).save(validEvent);
+            // The adapter takes back a PROCESSING row once it is older than the claim timeout
+            when(cbmmEventRepositoryPort.reclaim(eventId, Duration.ofMinutes(5))).thenReturn(Optional.of(1));
+            when(asyncAccountProcessingService.processOriginAccountAsync(validEvent))
+                .thenReturn(CompletableFuture.completedFuture(UUID.randomUUID()));
+            when(asyncAccountProcessingService.processDestinationAccountAsync(validEvent))
+                .thenReturn(CompletableFuture.completedFuture(UUID.randomUUID()));
+
+            // Act
+            processCBMMEventUseCase.processCBMMEvent(validEvent);
+
+            // Assert
+            verify(cbmmEventRepositoryPort, never()).findStatus(any());
+            verify(asyncAccountProcessingService).processOriginAccountAsync(validEvent);
+            verify(cbmmEventRepositoryPort).updateStatus(eventId, "COMPLETED", 1);
+        }
+
+        @Test
+        @DisplayName("Given a redelivered event already COMPLETED, when processCBMMEvent, then throw DuplicateEventException")
+        void givenRedeliveredCompletedEvent_whenProcessCBMMEvent_thenThrowDuplicateEventException() {
+            // Arrange
+            when(idempotencyPort.isEventProcessed(eventId)).thenReturn(false);
+            doThrow(new RuntimeException("duplicate key")).when(cbmmEventRepositoryPort).save(validEvent);
+            when(cbmmEventRepositoryPort.reclaim(eventId, Duration.ofMinutes(5))).thenReturn(Optional.empty());
+            when(cbmmEventRepositoryPort.findStatus(eventId)).thenReturn(Optional.of("COMPLETED"));
+
+            // Act & Assert
+            assertThrows(DuplicateEventException.class,
+                () -> processCBMMEventUseCase.processCBMMEvent(validEvent));
+
             verify(asyncAccountProcessingService, never()).processOriginAccountAsync(any());
+            verify(cbmmEventRepositoryPort, never()).updateStatus(any(), any(), any());
         }
 
         @Test
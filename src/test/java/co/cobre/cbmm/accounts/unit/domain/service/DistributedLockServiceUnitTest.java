@@ -0,0 +1,203 @@
+package co.cobre.cbmm.accounts.unit.domain.service;
+
+import co.cobre.cbmm.accounts.adapters.out.jfr.JfrEventContextAdapter;
+import co.cobre.cbmm.accounts.adapters.out.lock.InJvmLockAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.ErrorMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockContentionMetricsService;
+import co.cobre.cbmm.accounts.adapters.out.metrics.LockObservationAdapter;
+import co.cobre.cbmm.accounts.adapters.out.metrics.PipelineMetricsService;
+import co.cobre.cbmm.accounts.domain.service.DistributedLockService;
+import co.cobre.cbmm.accounts.ports.out.DistributedLockPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DistributedLockService Unit Tests")
+class DistributedLockServiceUnitTest {
+
+    private static final String ACCOUNT = "ACC-2024-001";
+    private static final String LOCK_KEY = DistributedLockPort.ACCOUNT_LOCK_PREFIX + ACCOUNT;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private static DistributedLockService service(DistributedLockPort port) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        return new DistributedLockService(port, new ErrorMetricsService(registry, 100, 50),
+            new LockObservationAdapter(new PipelineMetricsService(registry), new LockContentionMetricsService(10)),
+            new JfrEventContextAdapter());
+    }
+
+    @Nested
+    @DisplayName("executeWithLockAsync")
+    class ExecuteWithLockAsync {
+
+        @Test
+        @DisplayName("Given a free lock, when executed, then the operation runs with the lock held and it is released after completion")
+        void givenFreeLock_whenExecuted_thenRunsUnderLockAndReleasesAfter() throws Exception {
+            // Arrange
+            InJvmLockAdapter port = new InJvmLockAdapter();
+            DistributedLockService service = service(port);
+
+            // Act
+            CompletableFuture<Boolean> heldDuringOperation = service.executeWithLockAsync(ACCOUNT,
+                () -> !port.tryLockAsync(LOCK_KEY, -1_000_000L, 0, 10, TimeUnit.SECONDS).join(), executor);
+
+            // Assert
+            assertTrue(heldDuringOperation.get(5, TimeUnit.SECONDS));
+            assertTrue(port.tryLockAsync(LOCK_KEY, -1_000_001L, 1, 10, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Given the lock is held by the operation, when it calls executeWithLock for the same account, then it runs without locking again")
+        void givenHeldLock_whenNestedExecuteWithLock_thenRunsDirectly() throws Exception {
+            // Arrange
+            DistributedLockPort port = mock(DistributedLockPort.class);
+            when(port.tryLockAsync(eq(LOCK_KEY), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+            when(port.unlockAsync(eq(LOCK_KEY), anyLong())).thenReturn(CompletableFuture.completedFuture(true));
+            DistributedLockService service = service(port);
+
+            // Act
+            String result = service.executeWithLockAsync(ACCOUNT,
+                () -> service.executeWithLock(ACCOUNT, () -> "updated"), executor).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals("updated", result);
+            verify(port, never()).tryLock(anyString(), anyLong(), anyLong(), any());
+            verify(port).unlockAsync(eq(LOCK_KEY), longThat(ownerId -> ownerId < 0));
+        }
+
+        @Test
+        @DisplayName("Given concurrent operations on one account, when executed, then they never overlap")
+        void givenConcurrentOperations_whenExecuted_thenSerialized() throws Exception {
+            // Arrange
+            DistributedLockService service = service(new InJvmLockAdapter());
+            List<String> trace = new CopyOnWriteArrayList<>();
+            CountDownLatch firstStarted = new CountDownLatch(1);
+
+            // Act
+            CompletableFuture<Integer> first = service.executeWithLockAsync(ACCOUNT, () -> {
+                trace.add("first:start");
+                firstStarted.countDown();
+                sleep(100);
+                trace.add("first:end");
+                return 1;
+            }, executor);
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Integer> second = service.executeWithLockAsync(ACCOUNT, () -> {
+                trace.add("second:start");
+                return 2;
+            }, executor);
+
+            // Assert
+            assertEquals(2, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of("first:start", "first:end", "second:start"), trace);
+        }
+
+        @Test
+        @DisplayName("Given the caller owns the account, when executed, then no lock is taken and nested executeWithLock runs directly")
+        void givenOwnedAccount_whenExecuted_thenRunsWithoutLock() throws Exception {
+            // Arrange
+            DistributedLockPort port = mock(DistributedLockPort.class);
+            DistributedLockService service = service(port);
+
+            // Act
+            String result;
+            try (DistributedLockService.OwnershipScope ignored = DistributedLockService.ownAccount(ACCOUNT)) {
+                result = service.executeWithLockUnlessOwnedAsync(ACCOUNT,
+                    () -> service.executeWithLock(ACCOUNT, () -> "debited"), executor).get(5, TimeUnit.SECONDS);
+            }
+
+            // Assert
+            assertEquals("debited", result);
+            verifyNoInteractions(port);
+        }
+
+        @Test
+        @DisplayName("Given the caller owns the account, when another update of it is executed, then it still takes the lock")
+        void givenOwnedAccount_whenOtherUpdateExecuted_thenLocks() throws Exception {
+            // Arrange
+            DistributedLockPort port = mock(DistributedLockPort.class);
+            when(port.tryLockAsync(eq(LOCK_KEY), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+            when(port.unlockAsync(eq(LOCK_KEY), anyLong())).thenReturn(CompletableFuture.completedFuture(true));
+            DistributedLockService service = service(port);
+
+            // Act
+            String result;
+            try (DistributedLockService.OwnershipScope ignored = DistributedLockService.ownAccount(ACCOUNT)) {
+                result = service.executeWithLockAsync(ACCOUNT, () -> "credited", executor).get(5, TimeUnit.SECONDS);
+            }
+
+            // Assert
+            assertEquals("credited", result);
+            verify(port).tryLockAsync(eq(LOCK_KEY), anyLong(), anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Given the lock times out, when executed, then the future fails and the operation never runs")
+        void givenLockTimeout_whenExecuted_thenFailsWithoutRunning() {
+            // Arrange
+            DistributedLockPort port = mock(DistributedLockPort.class);
+            when(port.tryLockAsync(eq(LOCK_KEY), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+            DistributedLockService service = service(port);
+
+            // Act
+            CompletableFuture<String> future = service.executeWithLockAsync(ACCOUNT, () -> fail("must not run"), executor);
+
+            // Assert
+            CompletionException error = assertThrows(CompletionException.class, future::join);
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            verify(port, never()).unlockAsync(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Given a transaction-scoped backend, when executed, then the operation takes the lock itself inside its transaction")
+        void givenTransactionScopedBackend_whenExecuted_thenLockTakenByOperation() throws Exception {
+            // Arrange
+            DistributedLockPort port = mock(DistributedLockPort.class);
+            when(port.transactionScoped()).thenReturn(true);
+            when(port.tryLock(eq(LOCK_KEY), anyLong(), anyLong(), any())).thenReturn(true);
+            DistributedLockService service = service(port);
+
+            // Act
+            String result = service.executeWithLockAsync(ACCOUNT,
+                () -> service.executeWithLock(ACCOUNT, () -> "updated"), executor).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals("updated", result);
+            verify(port, never()).tryLockAsync(anyString(), anyLong(), anyLong(), anyLong(), any());
+            verify(port).tryLock(eq(LOCK_KEY), anyLong(), anyLong(), any());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}